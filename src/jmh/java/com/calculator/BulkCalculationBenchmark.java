@@ -0,0 +1,87 @@
+package com.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing the bulk array API of Calculator against
+ * calling the scalar calculate method once per element, and a two-step
+ * formula {@code left op right + addend} computed in two bulk passes
+ * through an intermediate array against the fused single-pass form.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkCalculationBenchmark {
+    
+    @Param({"+", "*", "/"})
+    public String operator;
+    
+    @Param({"100000"})
+    public int size;
+    
+    private double[] left;
+    private double[] right;
+    private double[] addends;
+    private double[] intermediate;
+    private double[] results;
+    private Calculator calculator;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        left = new double[size];
+        right = new double[size];
+        addends = new double[size];
+        intermediate = new double[size];
+        results = new double[size];
+        for (int i = 0; i < size; i++) {
+            left[i] = random.nextDouble() * 1000;
+            right[i] = random.nextDouble() * 1000 + 1;
+            addends[i] = random.nextDouble() * 1000;
+        }
+        calculator = new Calculator();
+    }
+    
+    @Benchmark
+    public double[] scalarLoop() {
+        for (int i = 0; i < size; i++) {
+            results[i] = calculator.calculate(left[i], operator, right[i]);
+        }
+        return results;
+    }
+    
+    @Benchmark
+    public double[] bulk() {
+        calculator.calculate(left, operator, right, results);
+        return results;
+    }
+    
+    @Benchmark
+    public double[] twoPass() {
+        calculator.calculate(left, operator, right, intermediate);
+        calculator.calculate(intermediate, "+", addends, results);
+        return results;
+    }
+    
+    @Benchmark
+    public double[] fused() {
+        calculator.calculate(left, operator, right, "+", addends, results);
+        return results;
+    }
+}
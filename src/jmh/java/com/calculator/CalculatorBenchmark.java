@@ -0,0 +1,121 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.factory.OperationFactory;
+import com.calculator.operation.Operation;
+import com.calculator.util.ArgumentParser;
+import com.calculator.util.InputValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks for the parse, validate, factory, execute and format stages
+ * of a single calculation, measured separately and end-to-end, plus the
+ * exact integer calculation.
+ * Runs single-threaded; see {@link ConcurrentCalculatorBenchmark} for the
+ * multi-threaded variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class CalculatorBenchmark {
+    
+    @Param({"+", "-", "*", "/"})
+    public String operator;
+    
+    private String[] args;
+    private double leftOperand;
+    private double rightOperand;
+    private double result;
+    
+    private Calculator calculator;
+    private OperationFactory operationFactory;
+    private ArgumentParser argumentParser;
+    private InputValidator inputValidator;
+    private CalculatorApp calculatorApp;
+    private ParsedInputCache parsedInputCache;
+    
+    @Setup
+    public void setUp() {
+        args = new String[] {"10.5", operator, "3"};
+        leftOperand = 10.5;
+        rightOperand = 3;
+        result = 31.5;
+        
+        calculator = new Calculator();
+        operationFactory = new OperationFactory();
+        argumentParser = new ArgumentParser();
+        inputValidator = new InputValidator();
+        calculatorApp = new CalculatorApp();
+        parsedInputCache = ParsedInputCache.shared();
+    }
+    
+    @Benchmark
+    public ArgumentParser.ParsedArguments parse() throws InvalidArgumentException {
+        return argumentParser.parse(args);
+    }
+    
+    @Benchmark
+    public void validate() throws InvalidInputException {
+        inputValidator.validateCalculation(leftOperand, operator, rightOperand);
+    }
+    
+    @Benchmark
+    public Operation createOperation() {
+        return operationFactory.createOperation(operator);
+    }
+    
+    @Benchmark
+    public double calculate() {
+        return calculator.calculate(leftOperand, operator, rightOperand);
+    }
+    
+    @Benchmark
+    public Number calculateExact() {
+        return calculator.calculateExact(10, operator, 3);
+    }
+    
+    @Benchmark
+    public String formatResult() {
+        return calculatorApp.formatResult(result);
+    }
+    
+    @Benchmark
+    public String endToEnd() throws InvalidArgumentException, InvalidInputException {
+        ArgumentParser.ParsedArguments parsedArgs = argumentParser.parse(args);
+        inputValidator.validateCalculation(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand()
+        );
+        double value = calculator.calculate(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand()
+        );
+        return calculatorApp.formatResult(value);
+    }
+    
+    @Benchmark
+    public String endToEndCached() throws InvalidArgumentException, InvalidInputException {
+        ResolvedCalculation calculation = parsedInputCache.resolve(args[0], args[1], args[2]);
+        return calculatorApp.formatResult(calculation.calculate());
+    }
+}
@@ -0,0 +1,11 @@
+package com.calculator;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Multi-threaded variant of {@link CalculatorBenchmark}.
+ * All threads share the same Calculator, parser, validator and factory instances.
+ */
+@Threads(Threads.MAX)
+public class ConcurrentCalculatorBenchmark extends CalculatorBenchmark {
+}
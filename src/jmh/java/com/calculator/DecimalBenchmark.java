@@ -0,0 +1,111 @@
+package com.calculator;
+
+import com.calculator.operation.DecimalValue;
+import com.calculator.operation.RationalValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing {@link DecimalCalculator} on reused values and
+ * {@link FixedPointCalculator} at scale 4 with plain BigDecimal arithmetic
+ * and with double arithmetic, for operands that fit in a scaled long, plus
+ * an {@link AdaptiveCalculator} that stays in double at the default tolerance
+ * and a {@link RationalCalculator} on the same values as fractions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalBenchmark {
+    
+    @Param({"+", "*", "/"})
+    public String operator;
+    
+    private final MathContext mathContext = MathContext.DECIMAL64;
+    private DecimalCalculator decimalCalculator;
+    private FixedPointCalculator fixedPointCalculator;
+    private AdaptiveCalculator adaptiveCalculator;
+    private RationalCalculator rationalCalculator;
+    private Calculator calculator;
+    private DecimalValue left;
+    private DecimalValue right;
+    private DecimalValue result;
+    private BigDecimal bigLeft;
+    private BigDecimal bigRight;
+    private RationalValue rationalLeft;
+    private RationalValue rationalRight;
+    private RationalValue rationalResult;
+    
+    @Setup
+    public void setUp() {
+        decimalCalculator = new DecimalCalculator(mathContext);
+        fixedPointCalculator = new FixedPointCalculator(4);
+        adaptiveCalculator = new AdaptiveCalculator(1e-12);
+        calculator = new Calculator();
+        left = DecimalValue.parse("1234.56");
+        right = DecimalValue.parse("7.5");
+        result = new DecimalValue();
+        bigLeft = new BigDecimal("1234.56");
+        bigRight = new BigDecimal("7.5");
+        rationalCalculator = new RationalCalculator();
+        rationalLeft = RationalValue.parse("1234.56");
+        rationalRight = RationalValue.parse("7.5");
+        rationalResult = new RationalValue();
+    }
+    
+    @Benchmark
+    public DecimalValue decimal() {
+        decimalCalculator.calculate(left, operator, right, result);
+        return result;
+    }
+    
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        switch (operator) {
+            case "+": return bigLeft.add(bigRight, mathContext);
+            case "*": return bigLeft.multiply(bigRight, mathContext);
+            default: return bigLeft.divide(bigRight, mathContext);
+        }
+    }
+    
+    @Benchmark
+    public long fixedPoint() {
+        return fixedPointCalculator.calculate(12_345_600L, operator, 75_000L);
+    }
+    
+    @Benchmark
+    public double adaptive() {
+        return adaptiveCalculator.calculate(left, operator, right);
+    }
+    
+    @Benchmark
+    public RationalValue rational() {
+        rationalCalculator.calculate(rationalLeft, operator, rationalRight, rationalResult);
+        return rationalResult;
+    }
+    
+    @Benchmark
+    public double binary() {
+        return calculator.calculate(1234.56, operator, 7.5);
+    }
+    
+    @Benchmark
+    public String decimalEndToEnd() throws Exception {
+        return decimalCalculator.calculate("1234.56", operator, "7.5").toPlainString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.calculator;
+
+import com.calculator.util.FastDoubleParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing {@link FastDoubleParser} on strings, byte arrays and
+ * direct buffers against {@link Double#parseDouble(String)}.
+ * Each invocation parses the same list of newline-separated numbers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DoubleParsingBenchmark {
+    
+    /**
+     * "short" numbers take Clinger's fast path; "full" numbers are random
+     * doubles printed with all their digits and mostly need Eisel-Lemire.
+     */
+    @Param({"short", "full"})
+    public String numbers;
+    
+    @Param({"1000"})
+    public int count;
+    
+    private String[] strings;
+    private byte[] bytes;
+    private ByteBuffer buffer;
+    private int[] offsets;
+    private FastDoubleParser parser;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        strings = new String[count];
+        offsets = new int[count + 1];
+        StringBuilder all = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            strings[i] = "short".equals(numbers)
+                ? Integer.toString(random.nextInt(100_000)) + '.' + random.nextInt(100)
+                : Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+            offsets[i] = all.length();
+            all.append(strings[i]).append('\n');
+        }
+        offsets[count] = all.length();
+        bytes = all.toString().getBytes(StandardCharsets.US_ASCII);
+        buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        parser = new FastDoubleParser();
+    }
+    
+    @Benchmark
+    public double jdkParseDouble() {
+        double sum = 0;
+        for (String text : strings) {
+            sum += Double.parseDouble(text);
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    public double fastCharSequence() {
+        double sum = 0;
+        for (String text : strings) {
+            sum += parser.parse(text);
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    public double fastByteArray() {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += parser.parse(bytes, offsets[i], offsets[i + 1] - 1);
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    public double fastDirectBuffer() {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += parser.parse(buffer, offsets[i], offsets[i + 1] - 1);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,73 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.expression.CompiledExpression;
+import com.calculator.expression.Expression;
+import com.calculator.expression.ExpressionCompiler;
+import com.calculator.expression.ExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing the tree-walking interpreter with expressions
+ * compiled to hidden classes, plus the cost of parsing and compiling.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark {
+    
+    @Param({"a * b + c / (a - 2.5) - b * 3", "(a + b) * (a - b) * (c + 1) / (c * c + 1) - a / 7 + b * 0.5"})
+    public String formula;
+    
+    private ExpressionParser parser;
+    private ExpressionCompiler compiler;
+    private Expression interpreted;
+    private CompiledExpression compiled;
+    private double[] variables;
+    
+    @Setup
+    public void setUp() throws InvalidArgumentException {
+        parser = new ExpressionParser();
+        compiler = new ExpressionCompiler();
+        interpreted = parser.parse(formula);
+        compiled = compiler.compile(interpreted);
+        variables = new double[] {12.5, -3.25, 7.0};
+    }
+    
+    @Benchmark
+    public double interpret() {
+        variables[0] += 1e-9;
+        return interpreted.evaluate(variables);
+    }
+    
+    @Benchmark
+    public double compiled() {
+        variables[0] += 1e-9;
+        return compiled.evaluate(variables);
+    }
+    
+    @Benchmark
+    public Expression parse() throws InvalidArgumentException {
+        return parser.parse(formula);
+    }
+    
+    @Benchmark
+    public CompiledExpression parseAndCompile() throws InvalidArgumentException {
+        return compiler.compile(parser.parse(formula));
+    }
+}
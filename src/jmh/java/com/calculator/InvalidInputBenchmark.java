@@ -0,0 +1,73 @@
+package com.calculator;
+
+import com.calculator.util.ArgumentParser;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.ErrorHandler;
+import com.calculator.util.InputValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing the cost of rejecting an invalid batch line through
+ * exceptions against the non-throwing {@link CalculationResult} path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InvalidInputBenchmark {
+    
+    @Param({"abc + 2", "5 ^ 2", "5 / 0", "5 +"})
+    public String line;
+    
+    private ArgumentParser argumentParser;
+    private InputValidator inputValidator;
+    private ErrorHandler errorHandler;
+    private CalculationResult result;
+    
+    @Setup
+    public void setUp() {
+        argumentParser = new ArgumentParser();
+        inputValidator = new InputValidator();
+        errorHandler = new ErrorHandler();
+        result = new CalculationResult();
+    }
+    
+    @Benchmark
+    public String throwing() {
+        try {
+            ArgumentParser.ParsedArguments parsedArgs = argumentParser.parseLine(line);
+            inputValidator.validateCalculation(
+                parsedArgs.getLeftOperand(),
+                parsedArgs.getOperator(),
+                parsedArgs.getRightOperand()
+            );
+            return null;
+        } catch (Exception e) {
+            return errorHandler.handleBatchError(e);
+        }
+    }
+    
+    @Benchmark
+    public String resultCode() {
+        ArgumentParser.ParsedArguments parsedArgs = argumentParser.tryParseLine(line, result);
+        if (parsedArgs == null || inputValidator.tryValidateCalculation(
+                parsedArgs.getLeftOperand(), parsedArgs.getOperator(), parsedArgs.getRightOperand(), result) == null) {
+            return errorHandler.handleBatchError(result);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.util.ArgumentParser;
+import com.calculator.util.InputValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks measuring the cost of the shared {@link CalculatorMetrics}
+ * registry on the calculation path, with recording disabled and enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsOverheadBenchmark {
+    
+    @Param({"false", "true"})
+    public boolean enabled;
+    
+    private String[] args;
+    private Calculator calculator;
+    private ArgumentParser argumentParser;
+    private InputValidator inputValidator;
+    
+    @Setup
+    public void setUp() {
+        CalculatorMetrics.shared().setEnabled(enabled);
+        args = new String[] {"10.5", "*", "3"};
+        calculator = new Calculator();
+        argumentParser = new ArgumentParser();
+        inputValidator = new InputValidator();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        CalculatorMetrics.shared().setEnabled(false);
+        CalculatorMetrics.shared().reset();
+    }
+    
+    @Benchmark
+    public double calculate() {
+        return calculator.calculate(10.5, "*", 3);
+    }
+    
+    @Benchmark
+    public double endToEnd() throws InvalidArgumentException, InvalidInputException {
+        ArgumentParser.ParsedArguments parsedArgs = argumentParser.parseCalculation(args[0], args[1], args[2]);
+        inputValidator.validateCalculation(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand()
+        );
+        return calculator.calculate(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand()
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.calculator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing the compensated {@link Reducer} sum, on one thread
+ * and on the common pool, with summing through the scalar calculate method and
+ * with a plain uncompensated loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReductionBenchmark {
+    
+    @Param({"1000000"})
+    public int size;
+    
+    private double[] values;
+    private Calculator calculator;
+    private ForkJoinPool singleThreadPool;
+    private Reducer sequentialReducer;
+    private Reducer parallelReducer;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextDouble() * 1000;
+        }
+        calculator = new Calculator();
+        singleThreadPool = new ForkJoinPool(1);
+        sequentialReducer = new Reducer(singleThreadPool);
+        parallelReducer = new Reducer();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        singleThreadPool.shutdown();
+    }
+    
+    @Benchmark
+    public double scalarLoop() {
+        double sum = 0;
+        for (double value : values) {
+            sum = calculator.calculate(sum, "+", value);
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    public double plainLoop() {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+    
+    @Benchmark
+    public double sequentialSum() {
+        return sequentialReducer.reduce(values, Reducer.Reduction.SUM);
+    }
+    
+    @Benchmark
+    public double parallelSum() {
+        return parallelReducer.reduce(values, Reducer.Reduction.SUM);
+    }
+}
@@ -0,0 +1,79 @@
+package com.calculator;
+
+import com.calculator.util.ResultFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks comparing formatting results into a reusable byte array
+ * against creating a String per result and encoding it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultFormattingBenchmark {
+    
+    /**
+     * "whole" results print as integers; "fraction" results need the shortest decimal.
+     */
+    @Param({"whole", "fraction"})
+    public String results;
+    
+    @Param({"1000"})
+    public int count;
+    
+    private double[] values;
+    private byte[] output;
+    private ResultFormatter formatter;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        values = new double[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = "whole".equals(results)
+                ? random.nextInt(1_000_000)
+                : random.nextDouble() * 1000 / 3;
+        }
+        output = new byte[count * (ResultFormatter.MAX_LENGTH + 1)];
+        formatter = new ResultFormatter();
+    }
+    
+    @Benchmark
+    public int stringPerResult() {
+        int length = 0;
+        for (double value : values) {
+            byte[] bytes = formatter.format(value).getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(bytes, 0, output, length, bytes.length);
+            length += bytes.length;
+            output[length++] = '\n';
+        }
+        return length;
+    }
+    
+    @Benchmark
+    public int intoByteArray() {
+        int length = 0;
+        for (double value : values) {
+            length = formatter.format(value, output, length);
+            output[length++] = '\n';
+        }
+        return length;
+    }
+}
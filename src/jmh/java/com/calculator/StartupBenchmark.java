@@ -0,0 +1,73 @@
+package com.calculator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Startup benchmark for one-shot command line use.
+ * Launches a fresh JVM per run and measures the wall-clock time until the
+ * process has printed its result and exited, for the default JVM settings,
+ * the AppCDS archive, and the AppCDS archive with the launcher's one-shot
+ * compiler settings. JMH measures code inside a running JVM, so startup is
+ * measured here with plain process launches.
+ * 
+ * <p>Arguments: java executable, application jar, AppCDS archive, runs per configuration.
+ */
+public class StartupBenchmark {
+    
+    private static final String[] CALCULATION = {"com.calculator.CalculatorApp", "10.5", "/", "3"};
+    private static final int WARMUP_RUNS = 3;
+    
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 4) {
+            System.err.println("Usage: StartupBenchmark <java> <jar> <archive> <runs>");
+            System.exit(1);
+        }
+        String java = args[0];
+        String jar = args[1];
+        String archive = args[2];
+        int runs = Integer.parseInt(args[3]);
+        
+        System.out.printf("%-28s %10s %10s %10s%n", "Configuration", "mean ms", "median ms", "min ms");
+        report("default", runs, List.of(java, "-cp", jar));
+        report("appcds", runs, List.of(java, "-XX:SharedArchiveFile=" + archive, "-cp", jar));
+        report("appcds+launcher", runs, List.of(java, "-XX:SharedArchiveFile=" + archive,
+            "-XX:TieredStopAtLevel=1", "-XX:+UseSerialGC", "-cp", jar));
+    }
+    
+    private static void report(String name, int runs, List<String> jvm) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(jvm);
+        command.addAll(Arrays.asList(CALCULATION));
+        
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            launch(command);
+        }
+        double[] millis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            millis[i] = launch(command);
+        }
+        Arrays.sort(millis);
+        
+        double mean = Arrays.stream(millis).average().orElse(Double.NaN);
+        System.out.printf("%-28s %10.1f %10.1f %10.1f%n", name, mean, millis[runs / 2], millis[0]);
+    }
+    
+    /**
+     * Runs the command to completion and returns its wall-clock time in milliseconds.
+     */
+    private static double launch(List<String> command) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.INHERIT)
+            .start();
+        int exitCode = process.waitFor();
+        long elapsed = System.nanoTime() - start;
+        if (exitCode != 0) {
+            throw new IllegalStateException("Run failed with exit code " + exitCode + ": " + command);
+        }
+        return elapsed / 1e6;
+    }
+}
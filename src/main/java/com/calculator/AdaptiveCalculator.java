@@ -0,0 +1,333 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.factory.OperationFactory;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ComputeEvent;
+import com.calculator.operation.DecimalOperation;
+import com.calculator.operation.DecimalValue;
+import com.calculator.operation.DoubleDouble;
+import com.calculator.util.ErrorCategory;
+import com.calculator.util.InputValidator;
+
+import java.math.MathContext;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Calculator that evaluates in double while tracking an error bound, and
+ * escalates to double-double and then to BigDecimal only when the bound
+ * exceeds a relative tolerance.
+ * The bound covers both the rounding of decimal operands to binary and the
+ * rounding of the operation, so it is a bound on the error relative to the
+ * exact decimal result. Typical data is accepted at the first level; only
+ * calculations suffering cancellation or needing more digits than the
+ * tolerance allows are recomputed. Results are always doubles, so the
+ * tolerance cannot be below the precision of double.
+ */
+public class AdaptiveCalculator {
+    
+    /**
+     * The higher precision a calculation was recomputed in.
+     */
+    public enum Escalation { DOUBLE_DOUBLE, DECIMAL }
+    
+    /**
+     * The smallest supported tolerance, {@code 2^-52}: a BigDecimal result rounded
+     * to double is within half of it.
+     */
+    public static final double MIN_TOLERANCE = 0x1p-52;
+    
+    private static final double U = DoubleDouble.UNIT_ROUNDOFF;
+    
+    // Slack for the rounding of the bound computation itself
+    private static final double BOUND_SLACK = 1 + 8 * U;
+    
+    private static final double[] TEN_POWERS = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    private final double tolerance;
+    private final OperationFactory operationFactory;
+    private final InputValidator inputValidator;
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    private final Map<Escalation, LongAdder> escalations = new EnumMap<>(Escalation.class);
+    
+    /**
+     * Constructs an AdaptiveCalculator with the default operation factory and validator.
+     * 
+     * @param tolerance the largest accepted relative error, at least {@link #MIN_TOLERANCE}
+     * @throws IllegalArgumentException if the tolerance is smaller than {@link #MIN_TOLERANCE} or not finite
+     */
+    public AdaptiveCalculator(double tolerance) {
+        this(tolerance, new OperationFactory(), new InputValidator());
+    }
+    
+    /**
+     * Constructs an AdaptiveCalculator with custom dependencies.
+     * 
+     * @param tolerance the largest accepted relative error, at least {@link #MIN_TOLERANCE}
+     * @param operationFactory the factory to create the decimal operations of the last level
+     * @param inputValidator the validator for operators
+     * @throws IllegalArgumentException if the tolerance is smaller than {@link #MIN_TOLERANCE} or not finite
+     */
+    public AdaptiveCalculator(double tolerance, OperationFactory operationFactory, InputValidator inputValidator) {
+        if (!(tolerance >= MIN_TOLERANCE) || Double.isInfinite(tolerance)) {
+            throw new IllegalArgumentException("Tolerance must be a finite number of at least 2^-52: " + tolerance);
+        }
+        this.tolerance = tolerance;
+        this.operationFactory = operationFactory;
+        this.inputValidator = inputValidator;
+        for (Escalation escalation : Escalation.values()) {
+            escalations.put(escalation, new LongAdder());
+        }
+    }
+    
+    /**
+     * Parses, validates and performs a calculation given as text.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @return the result, within the tolerance of the exact decimal result
+     * @throws InvalidArgumentException if an operand is not a valid decimal number
+     * @throws InvalidInputException if the operator is not supported or the divisor is zero
+     */
+    public double calculate(String left, String operator, String right)
+            throws InvalidArgumentException, InvalidInputException {
+        DecimalValue leftOperand;
+        DecimalValue rightOperand;
+        try {
+            leftOperand = DecimalValue.parse(left);
+            rightOperand = DecimalValue.parse(right);
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+        }
+        
+        inputValidator.validateOperator(operator);
+        if (rightOperand.isZero() && "/".equals(operationFactory.createDecimalOperation(operator).getSymbol())) {
+            throw new InvalidInputException("Division by zero is not allowed");
+        }
+        
+        return calculate(leftOperand, operator, rightOperand);
+    }
+    
+    /**
+     * Performs a calculation on decimal operands, escalating the precision as needed.
+     * 
+     * @param leftOperand the left operand
+     * @param operator the operator symbol (+, -, *, /)
+     * @param rightOperand the right operand
+     * @return the result, within the tolerance of the exact decimal result
+     * @throws IllegalArgumentException if the operator is not supported
+     * @throws ArithmeticException if division by zero occurs
+     */
+    public double calculate(DecimalValue leftOperand, String operator, DecimalValue rightOperand) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            DecimalOperation operation = operationFactory.createDecimalOperation(operator);
+            double result = compute(leftOperand, operation, rightOperand);
+            metrics.recordCompute(operation.getSymbol(), start);
+            event.complete(operator, null);
+            return result;
+        } catch (ArithmeticException e) {
+            // Checked here so the cold call is not compiled in while the event is disabled,
+            // which would keep the event from being scalar-replaced on the success path
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.ARITHMETIC);
+            }
+            throw e;
+        } catch (IllegalArgumentException e) {
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.INVALID_INPUT);
+            }
+            throw e;
+        }
+    }
+    
+    private double compute(DecimalValue leftOperand, DecimalOperation operation, DecimalValue rightOperand) {
+        char symbol = operation.getSymbol().charAt(0);
+        if (symbol == '/' && rightOperand.isZero()) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        boolean convertible = isConvertible(leftOperand) && isConvertible(rightOperand);
+        
+        // Level 1: double, with operands rounded once from decimal
+        double a = toDouble(leftOperand, convertible);
+        double b = toDouble(rightOperand, convertible);
+        double errorA = conversionError(leftOperand, a, convertible);
+        double errorB = conversionError(rightOperand, b, convertible);
+        double result = apply(symbol, a, b);
+        if (relativeBound(symbol, a, errorA, b, errorB, result, U) <= tolerance) {
+            return result;
+        }
+        
+        // Level 2: double-double, exact or within 2u^2 for the operands
+        if (convertible) {
+            DoubleDouble left = new DoubleDouble().setDecimal(leftOperand.getUnscaled(), leftOperand.getScale());
+            DoubleDouble right = new DoubleDouble().setDecimal(rightOperand.getUnscaled(), rightOperand.getScale());
+            DoubleDouble sum = apply(symbol, left, right, new DoubleDouble());
+            double leftError = leftOperand.getScale() <= 0 ? 0 : 2 * U * U * Math.abs(left.getHigh());
+            double rightError = rightOperand.getScale() <= 0 ? 0 : 2 * U * U * Math.abs(right.getHigh());
+            double bound = relativeBound(symbol, left.getHigh(), leftError, right.getHigh(), rightError,
+                sum.getHigh(), operationError(symbol));
+            // Rounding the double-double to its high part adds at most u
+            if (bound + U <= tolerance) {
+                escalations.get(Escalation.DOUBLE_DOUBLE).increment();
+                return sum.getHigh();
+            }
+        }
+        
+        // Level 3: BigDecimal rounded to 34 digits, then once more to double
+        DecimalValue exact = new DecimalValue();
+        operation.execute(leftOperand, rightOperand, MathContext.DECIMAL128, exact);
+        escalations.get(Escalation.DECIMAL).increment();
+        return exact.toBigDecimal().doubleValue();
+    }
+    
+    private static boolean isConvertible(DecimalValue value) {
+        return value.isCompact() && DoubleDouble.isConvertible(value.getUnscaled(), value.getScale());
+    }
+    
+    private static double toDouble(DecimalValue value, boolean convertible) {
+        if (!convertible) {
+            return value.toBigDecimal().doubleValue();
+        }
+        // A single operation on exact doubles is correctly rounded
+        int scale = value.getScale();
+        double unscaled = value.getUnscaled();
+        return scale <= 0 ? unscaled * TEN_POWERS[-scale] : unscaled / TEN_POWERS[scale];
+    }
+    
+    /**
+     * Bounds the absolute error of a decimal operand rounded to double: zero if
+     * the conversion was exact, half an ulp if the double is normal, and
+     * infinite if the operand underflowed or overflowed.
+     */
+    private static double conversionError(DecimalValue value, double converted, boolean convertible) {
+        if (convertible) {
+            int scale = value.getScale();
+            double unscaled = value.getUnscaled();
+            boolean exact = scale <= 0
+                ? Math.fma(unscaled, TEN_POWERS[-scale], -converted) == 0
+                : Math.fma(converted, TEN_POWERS[scale], -unscaled) == 0;
+            return exact ? 0 : U * Math.abs(converted);
+        }
+        if (value.isZero()) {
+            return 0;
+        }
+        double magnitude = Math.abs(converted);
+        return magnitude >= Double.MIN_NORMAL && magnitude <= Double.MAX_VALUE ? U * magnitude : Double.POSITIVE_INFINITY;
+    }
+    
+    private static double apply(char symbol, double a, double b) {
+        switch (symbol) {
+            case '+': return a + b;
+            case '-': return a - b;
+            case '*': return a * b;
+            default: return a / b;
+        }
+    }
+    
+    private static DoubleDouble apply(char symbol, DoubleDouble a, DoubleDouble b, DoubleDouble result) {
+        switch (symbol) {
+            case '+': return result.add(a, b);
+            case '-': return result.subtract(a, b);
+            case '*': return result.multiply(a, b);
+            default: return result.divide(a, b);
+        }
+    }
+    
+    private static double operationError(char symbol) {
+        switch (symbol) {
+            case '+':
+            case '-':
+                return DoubleDouble.ADD_ERROR;
+            case '*':
+                return DoubleDouble.MULTIPLY_ERROR;
+            default:
+                return DoubleDouble.DIVIDE_ERROR;
+        }
+    }
+    
+    /**
+     * Bounds the error of a computed result relative to the exact result, to first order.
+     * 
+     * @param symbol the operator symbol
+     * @param a the computed left operand
+     * @param errorA the bound on the absolute error of {@code a}
+     * @param b the computed right operand
+     * @param errorB the bound on the absolute error of {@code b}
+     * @param result the computed result
+     * @param rounding the relative error of the operation itself
+     * @return the relative error bound, infinite if the result may be zero, denormal or not finite
+     */
+    static double relativeBound(char symbol, double a, double errorA, double b, double errorB,
+                                double result, double rounding) {
+        if (result == 0 && isExactZero(symbol, a, errorA, b, errorB)) {
+            return 0;
+        }
+        double magnitude = Math.abs(result);
+        if (!(magnitude >= Double.MIN_NORMAL) || Double.isInfinite(magnitude)) {
+            // Relative bounds do not hold with gradual underflow or overflow
+            return Double.POSITIVE_INFINITY;
+        }
+        double error;
+        switch (symbol) {
+            case '+':
+            case '-':
+                error = errorA + errorB;
+                break;
+            case '*':
+                error = Math.abs(a) * errorB + Math.abs(b) * errorA + errorA * errorB;
+                break;
+            default:
+                double divisor = Math.abs(b) - errorB;
+                if (!(divisor > 0)) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                error = (errorA + magnitude * errorB) / divisor;
+                break;
+        }
+        error = (error + rounding * magnitude) * BOUND_SLACK;
+        // Relative to the exact result, which may be smaller than the computed one
+        double exactMagnitude = magnitude - error;
+        return exactMagnitude > 0 ? error / exactMagnitude : Double.POSITIVE_INFINITY;
+    }
+    
+    /**
+     * Returns whether a zero result is exactly zero rather than an underflow or a
+     * cancellation of inexact operands.
+     */
+    private static boolean isExactZero(char symbol, double a, double errorA, double b, double errorB) {
+        if (symbol == '+' || symbol == '-') {
+            return errorA == 0 && errorB == 0;
+        }
+        return (a == 0 && errorA == 0) || (symbol == '*' && b == 0 && errorB == 0);
+    }
+    
+    /**
+     * Returns the number of calculations that were recomputed in a higher precision.
+     * Calculations accepted in double are not counted, to keep that path cheap.
+     * 
+     * @param escalation the precision the calculations were finally computed in
+     * @return the number of calculations
+     */
+    public long getEscalationCount(Escalation escalation) {
+        return escalations.get(escalation).sum();
+    }
+    
+    /**
+     * Returns the largest accepted relative error.
+     * 
+     * @return the tolerance
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+}
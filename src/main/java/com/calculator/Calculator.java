@@ -1,7 +1,11 @@
 package com.calculator;
 
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ComputeEvent;
+import com.calculator.operation.FusedOperation;
 import com.calculator.operation.Operation;
 import com.calculator.factory.OperationFactory;
+import com.calculator.util.ErrorCategory;
 
 /**
  * Core Calculator class that performs arithmetic operations.
@@ -10,6 +14,9 @@ import com.calculator.factory.OperationFactory;
 public class Calculator {
     
     private final OperationFactory operationFactory;
+    private static final String MULTIPLY_ADD_SYMBOL = "*+";
+    
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
     
     /**
      * Constructs a Calculator with the default operation factory.
@@ -38,7 +45,136 @@ public class Calculator {
      * @throws ArithmeticException if division by zero occurs
      */
     public double calculate(double leftOperand, String operator, double rightOperand) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            Operation operation = operationFactory.createOperation(operator);
+            double result = operation.execute(leftOperand, rightOperand);
+            metrics.recordCompute(operation.getSymbol(), start);
+            event.complete(operator, null);
+            return result;
+        } catch (ArithmeticException e) {
+            event.complete(operator, ErrorCategory.ARITHMETIC);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            event.complete(operator, ErrorCategory.INVALID_INPUT);
+            throw e;
+        }
+    }
+    
+    /**
+     * Computes {@code a * b + c} with a single rounding, using {@link Math#fma(double, double, double)}.
+     * The result is the exact value of the expression rounded once, which may differ
+     * in the last bit from multiplying and then adding with two calculate calls.
+     * 
+     * @param a the multiplicand
+     * @param b the multiplier
+     * @param c the addend
+     * @return the fused product and sum
+     */
+    public double multiplyAdd(double a, double b, double c) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        double result = Math.fma(a, b, c);
+        metrics.recordCompute(MULTIPLY_ADD_SYMBOL, start);
+        event.complete(MULTIPLY_ADD_SYMBOL, null);
+        return result;
+    }
+    
+    /**
+     * Performs a calculation exactly on two integer operands.
+     * Sums, differences, products and exact quotients are computed with long
+     * arithmetic; results beyond the range of long are returned as a BigInteger,
+     * and inexact quotients as a Double.
+     * 
+     * @param leftOperand the left operand
+     * @param operator the operator symbol (+, -, *, /)
+     * @param rightOperand the right operand
+     * @return the result of the calculation as a Long, BigInteger or Double
+     * @throws IllegalArgumentException if the operator is not supported
+     * @throws ArithmeticException if division by zero occurs
+     * @see Operation#executeExact(long, long)
+     */
+    public Number calculateExact(long leftOperand, String operator, long rightOperand) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            Operation operation = operationFactory.createOperation(operator);
+            Number result = operation.executeExact(leftOperand, rightOperand);
+            metrics.recordCompute(operation.getSymbol(), start);
+            event.complete(operator, null);
+            return result;
+        } catch (ArithmeticException e) {
+            event.complete(operator, ErrorCategory.ARITHMETIC);
+            throw e;
+        } catch (IllegalArgumentException e) {
+            event.complete(operator, ErrorCategory.INVALID_INPUT);
+            throw e;
+        }
+    }
+    
+    /**
+     * Performs a calculation element-wise over arrays of operands,
+     * storing {@code leftOperands[i] operator rightOperands[i]} into {@code results[i]}.
+     * The operator is resolved once for the whole array.
+     * 
+     * @param leftOperands the left operands
+     * @param operator the operator symbol (+, -, *, /)
+     * @param rightOperands the right operands
+     * @param results the array receiving the results
+     * @throws IllegalArgumentException if the operator is not supported or the array lengths differ
+     * @throws ArithmeticException if division by zero occurs for any element
+     */
+    public void calculate(double[] leftOperands, String operator, double[] rightOperands, double[] results) {
+        if (leftOperands.length != rightOperands.length || leftOperands.length != results.length) {
+            throw new IllegalArgumentException("Operand and result arrays must have the same length");
+        }
         Operation operation = operationFactory.createOperation(operator);
-        return operation.execute(leftOperand, rightOperand);
+        operation.execute(leftOperands, rightOperands, results, 0, results.length);
+    }
+    
+    /**
+     * Computes {@code a[i] * b[i] + c[i]} element-wise with a single rounding each,
+     * in one pass over the arrays.
+     * 
+     * @param a the multiplicands
+     * @param b the multipliers
+     * @param c the addends
+     * @param results the array receiving the results; may be one of the operand arrays
+     * @throws IllegalArgumentException if the array lengths differ
+     * @see #multiplyAdd(double, double, double)
+     */
+    public void multiplyAdd(double[] a, double[] b, double[] c, double[] results) {
+        calculate(a, "*", b, "+", c, results);
+    }
+    
+    /**
+     * Performs two calculations element-wise over arrays of operands in one pass,
+     * storing {@code (first[i] firstOperator second[i]) secondOperator third[i]} into
+     * {@code results[i]} without materializing the intermediate array.
+     * A multiplication followed by an addition or subtraction is fused with
+     * {@link Math#fma(double, double, double)} and rounded once.
+     * 
+     * @param first the first operands
+     * @param firstOperator the operator applied to the first and second operands
+     * @param second the second operands
+     * @param secondOperator the operator applied to that result and the third operands
+     * @param third the third operands
+     * @param results the array receiving the results; may be one of the operand arrays
+     * @throws IllegalArgumentException if an operator is not supported or the array lengths differ
+     * @throws ArithmeticException if division by zero occurs for any element, in which case
+     *         no result is written, or if another operation fails for an element, in which
+     *         case earlier results may have been written
+     */
+    public void calculate(double[] first, String firstOperator, double[] second, String secondOperator,
+                          double[] third, double[] results) {
+        if (first.length != second.length || first.length != third.length || first.length != results.length) {
+            throw new IllegalArgumentException("Operand and result arrays must have the same length");
+        }
+        FusedOperation operation = operationFactory.createFusedOperation(firstOperator, secondOperator);
+        operation.execute(first, second, third, results, 0, results.length);
     }
 }
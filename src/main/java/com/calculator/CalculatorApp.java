@@ -1,36 +1,74 @@
 package com.calculator;
 
+import com.calculator.batch.BatchProcessor;
+import com.calculator.batch.MappedBatchProcessor;
+import com.calculator.expression.Expression;
+import com.calculator.expression.ExpressionParser;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.server.CalculatorDaemon;
+import com.calculator.server.CalculatorHttpServer;
 import com.calculator.util.ArgumentParser;
 import com.calculator.util.ErrorHandler;
 import com.calculator.util.HelpDisplay;
 import com.calculator.util.VersionDisplay;
 import com.calculator.util.InputValidator;
+import com.calculator.util.ResultFormatter;
 import com.calculator.exception.InvalidArgumentException;
 import com.calculator.exception.InvalidInputException;
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
 /**
  * Main application class for the CLI Calculator.
  * Handles command line arguments, coordinates operations, and manages output.
  */
 public class CalculatorApp {
     
-    private final Calculator calculator;
     private final ArgumentParser argumentParser;
-    private final ErrorHandler errorHandler;
-    private final HelpDisplay helpDisplay;
-    private final VersionDisplay versionDisplay;
-    private final InputValidator inputValidator;
+    private final ResultFormatter resultFormatter;
+    private final ParsedInputCache parsedInputCache;
+    
+    // Created on first use, so one-shot runs only load what their path needs.
+    // The instances are stateless, so a racy duplicate creation is harmless.
+    private Calculator calculator;
+    private ErrorHandler errorHandler;
+    private HelpDisplay helpDisplay;
+    private VersionDisplay versionDisplay;
+    private InputValidator inputValidator;
+    
+    private static final int BATCH_BUFFER_SIZE = 1 << 16;
     
     /**
      * Constructs a CalculatorApp with default dependencies.
+     * Calculations are parsed on every run, which suits one-shot command line use.
      */
     public CalculatorApp() {
-        this.calculator = new Calculator();
+        this(null);
+    }
+    
+    /**
+     * Constructs a CalculatorApp that resolves calculations through a parsed-input cache.
+     * Suits long-lived embeddings that run many calculations.
+     * 
+     * @param parsedInputCache the cache resolving calculations, or null to parse on every run
+     */
+    public CalculatorApp(ParsedInputCache parsedInputCache) {
         this.argumentParser = new ArgumentParser();
-        this.errorHandler = new ErrorHandler();
-        this.helpDisplay = new HelpDisplay();
-        this.versionDisplay = new VersionDisplay();
-        this.inputValidator = new InputValidator();
+        this.resultFormatter = new ResultFormatter();
+        this.parsedInputCache = parsedInputCache;
     }
     
     /**
@@ -41,7 +79,10 @@ public class CalculatorApp {
     public static void main(String[] args) {
         CalculatorApp app = new CalculatorApp();
         int exitCode = app.run(args);
-        System.exit(exitCode);
+        // Returning normally exits with status 0 and skips the exit logging that System.exit initializes
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
     }
     
     /**
@@ -51,58 +92,389 @@ public class CalculatorApp {
      * @return exit code (0 for success, 1 for error)
      */
     public int run(String[] args) {
+        return run(args, System.in, System.out, System.err);
+    }
+    
+    /**
+     * Runs the calculator application with the given arguments and streams.
+     * Instances hold no per-run state, so concurrent runs on separate streams
+     * are independent.
+     * 
+     * @param args command line arguments
+     * @param in the standard input, read by batch mode without a file
+     * @param out the standard output
+     * @param err the standard error
+     * @return exit code (0 for success, 1 for error)
+     */
+    public int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        return run(args, Path.of(""), in, out, err);
+    }
+    
+    /**
+     * Runs the calculator application with the given arguments and streams,
+     * resolving relative file paths against a working directory.
+     * 
+     * @param args command line arguments
+     * @param workingDirectory the directory relative file paths are resolved against
+     * @param in the standard input, read by batch mode without a file
+     * @param out the standard output
+     * @param err the standard error
+     * @return exit code (0 for success, 1 for error)
+     */
+    public int run(String[] args, Path workingDirectory, InputStream in, PrintStream out, PrintStream err) {
         try {
+            if (parsedInputCache != null && argumentParser.isCalculation(args)) {
+                // Repeated calculations are resolved from the cache
+                ResolvedCalculation calculation = parsedInputCache.resolve(args[0], args[1], args[2]);
+                out.println(formatResult(calculation.calculateExact()));
+                return 0;
+            }
+            
             ArgumentParser.ParsedArguments parsedArgs = argumentParser.parse(args);
             
             if (parsedArgs.isHelpRequest()) {
-                System.out.println(helpDisplay.getHelpMessage());
+                out.println(helpDisplay().getHelpMessage());
                 return 0;
             }
             
             if (parsedArgs.isVersionRequest()) {
-                System.out.println(versionDisplay.getVersionMessage());
+                out.println(versionDisplay().getVersionMessage());
+                return 0;
+            }
+            
+            if (parsedArgs.isExpressionRequest()) {
+                out.println(formatResult(evaluateExpression(parsedArgs.getExpression())));
+                return 0;
+            }
+            
+            if (parsedArgs.isServeRequest()) {
+                return runServer(parsedArgs.getServePort(), parsedArgs.getServeAddress(), out);
+            }
+            
+            if (parsedArgs.isDaemonRequest()) {
+                return runDaemon(parsedArgs.getSocketPath(), out);
+            }
+            
+            if (parsedArgs.isParallelBatch()) {
+                return runParallelBatch(workingDirectory.resolve(parsedArgs.getBatchFile()), out);
+            }
+            
+            if (parsedArgs.isBatchRequest()) {
+                return runBatch(parsedArgs, workingDirectory, in, out);
+            }
+            
+            if (parsedArgs.isDecimalRequest()) {
+                DecimalCalculator decimalCalculator = new DecimalCalculator(parsedArgs.getMathContext());
+                out.println(resultFormatter.format(decimalCalculator.calculate(
+                    parsedArgs.getLeftText(),
+                    parsedArgs.getOperator(),
+                    parsedArgs.getRightText()
+                )));
+                return 0;
+            }
+            
+            if (parsedArgs.isFixedPointRequest()) {
+                FixedPointCalculator fixedPointCalculator = new FixedPointCalculator(parsedArgs.getScale());
+                out.println(resultFormatter.formatFixedPoint(fixedPointCalculator.calculate(
+                    parsedArgs.getLeftText(),
+                    parsedArgs.getOperator(),
+                    parsedArgs.getRightText()
+                ), parsedArgs.getScale()));
+                return 0;
+            }
+            
+            if (parsedArgs.isAdaptiveRequest()) {
+                AdaptiveCalculator adaptiveCalculator = new AdaptiveCalculator(parsedArgs.getTolerance());
+                out.println(formatResult(adaptiveCalculator.calculate(
+                    parsedArgs.getLeftText(),
+                    parsedArgs.getOperator(),
+                    parsedArgs.getRightText()
+                )));
+                return 0;
+            }
+            
+            if (parsedArgs.isRationalRequest()) {
+                RationalCalculator rationalCalculator = new RationalCalculator();
+                out.println(resultFormatter.format(rationalCalculator.calculate(
+                    parsedArgs.getLeftText(),
+                    parsedArgs.getOperator(),
+                    parsedArgs.getRightText()
+                )));
+                return 0;
+            }
+            
+            if (parsedArgs.isMultiplyAddRequest()) {
+                inputValidator().validateNumber(parsedArgs.getLeftOperand());
+                inputValidator().validateNumber(parsedArgs.getRightOperand());
+                inputValidator().validateNumber(parsedArgs.getAddend());
+                out.println(formatResult(calculator().multiplyAdd(
+                    parsedArgs.getLeftOperand(),
+                    parsedArgs.getRightOperand(),
+                    parsedArgs.getAddend()
+                )));
                 return 0;
             }
             
             // Validate input before calculation
-            inputValidator.validateCalculation(
+            inputValidator().validateCalculation(
                 parsedArgs.getLeftOperand(),
                 parsedArgs.getOperator(),
                 parsedArgs.getRightOperand()
             );
             
+            // Integer operands are computed exactly, without going through double
+            if (parsedArgs.isIntegral()) {
+                out.println(formatResult(calculator().calculateExact(
+                    parsedArgs.getLeftInteger(),
+                    parsedArgs.getOperator(),
+                    parsedArgs.getRightInteger()
+                )));
+                return 0;
+            }
+            
             // Perform calculation
-            double result = calculator.calculate(
+            double result = calculator().calculate(
                 parsedArgs.getLeftOperand(),
                 parsedArgs.getOperator(),
                 parsedArgs.getRightOperand()
             );
             
             // Output result
-            System.out.println(formatResult(result));
+            out.println(formatResult(result));
             return 0;
             
         } catch (InvalidArgumentException | InvalidInputException e) {
-            System.err.println(errorHandler.handleError(e));
+            err.println(errorHandler().handleError(e));
             return 1;
         } catch (Exception e) {
-            System.err.println(errorHandler.handleError(e));
+            err.println(errorHandler().handleError(e));
             return 1;
         }
     }
     
+    /**
+     * Parses and evaluates a multi-term expression.
+     * 
+     * @param text the expression text
+     * @return the value of the expression
+     * @throws InvalidArgumentException if the expression is invalid or contains variables
+     */
+    private double evaluateExpression(String text) throws InvalidArgumentException {
+        Expression expression = new ExpressionParser().parse(text);
+        if (!expression.getVariableNames().isEmpty()) {
+            throw new InvalidArgumentException("Invalid expression: unknown names " + expression.getVariableNames());
+        }
+        return expression.evaluate();
+    }
+    
+    /**
+     * Runs batch mode, evaluating one expression per line from a file or stdin.
+     * 
+     * Lines are calculated in the arithmetic mode selected by the arguments,
+     * or in double if none is.
+     * 
+     * @param parsedArgs the batch request, holding the input file path or null to read from stdin
+     * @param workingDirectory the directory a relative input file path is resolved against
+     * @param in the standard input
+     * @param out the standard output
+     * @return exit code (0 if every line succeeded, 1 otherwise)
+     * @throws InvalidArgumentException if the input file cannot be read
+     */
+    private int runBatch(ArgumentParser.ParsedArguments parsedArgs, Path workingDirectory, InputStream in, PrintStream out)
+            throws InvalidArgumentException {
+        String batchFile = parsedArgs.getBatchFile();
+        BatchProcessor batchProcessor;
+        if (parsedArgs.getMathContext() != null) {
+            batchProcessor = new BatchProcessor(new DecimalCalculator(parsedArgs.getMathContext()), errorHandler());
+        } else if (parsedArgs.getScale() != null) {
+            batchProcessor = new BatchProcessor(new FixedPointCalculator(parsedArgs.getScale()), errorHandler());
+        } else if (parsedArgs.getTolerance() != null) {
+            batchProcessor = new BatchProcessor(new AdaptiveCalculator(parsedArgs.getTolerance()), errorHandler());
+        } else if (parsedArgs.isRational()) {
+            batchProcessor = new BatchProcessor(new RationalCalculator(), errorHandler());
+        } else {
+            batchProcessor = new BatchProcessor(
+                parsedInputCache != null ? parsedInputCache : ParsedInputCache.shared(), errorHandler());
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+        
+        try (BufferedReader reader = openBatchInput(batchFile, workingDirectory, in)) {
+            long failures = batchProcessor.process(reader, writer);
+            return failures == 0 ? 0 : 1;
+        } catch (IOException e) {
+            throw new InvalidArgumentException("Cannot read batch input: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Runs parallel batch mode over a memory-mapped file.
+     * 
+     * @param batchFile the input file path
+     * @param out the standard output
+     * @return exit code (0 if every line succeeded, 1 otherwise)
+     * @throws InvalidArgumentException if the input file cannot be read
+     */
+    private int runParallelBatch(Path batchFile, PrintStream out) throws InvalidArgumentException {
+        MappedBatchProcessor processor = new MappedBatchProcessor();
+        BufferedOutputStream output = new BufferedOutputStream(out, BATCH_BUFFER_SIZE);
+        
+        try {
+            long failures = processor.process(batchFile, output);
+            return failures == 0 ? 0 : 1;
+        } catch (IOException e) {
+            throw new InvalidArgumentException("Cannot read batch input: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Runs daemon mode, serving calculator invocations over a Unix domain socket
+     * until the process is terminated.
+     * 
+     * @param socketPath the socket file path, or null for the default path
+     * @param out the standard output
+     * @return exit code (0 after a clean shutdown)
+     * @throws InvalidArgumentException if the socket cannot be bound
+     */
+    private int runDaemon(String socketPath, PrintStream out) throws InvalidArgumentException {
+        Path path = socketPath == null ? CalculatorDaemon.defaultSocketPath() : Path.of(socketPath);
+        
+        CalculatorApp residentApp = parsedInputCache != null ? this : new CalculatorApp(ParsedInputCache.shared());
+        enableMetrics();
+        try (CalculatorDaemon daemon = CalculatorDaemon.bind(path, residentApp)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(daemon::close));
+            out.println("Calculator daemon listening on " + path);
+            out.flush();
+            daemon.serve();
+            return 0;
+        } catch (IOException e) {
+            throw new InvalidArgumentException("Cannot start daemon: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Runs the HTTP calculation service until the process is terminated.
+     * 
+     * @param port the port to listen on, or null for the default port
+     * @param address the address to listen on, or null for the loopback address
+     * @param out the standard output
+     * @return exit code (0 after a clean shutdown)
+     * @throws InvalidArgumentException if the address cannot be resolved or the port cannot be bound
+     */
+    private int runServer(String port, String address, PrintStream out) throws InvalidArgumentException {
+        enableMetrics();
+        CountDownLatch stopped = new CountDownLatch(1);
+        CalculatorHttpServer server;
+        try {
+            server = CalculatorHttpServer.start(
+                address == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(address),
+                port == null ? CalculatorHttpServer.DEFAULT_PORT : Integer.parseInt(port));
+        } catch (IOException e) {
+            throw new InvalidArgumentException("Cannot start server: " + e.getMessage(), e);
+        }
+        
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }));
+        out.println("Calculator server listening on " + server.getUrl());
+        out.flush();
+        try {
+            stopped.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            server.close();
+        }
+        return 0;
+    }
+    
+    /**
+     * Enables the shared metrics registry and publishes it as a platform MXBean,
+     * for the long-running modes where it can be inspected with a JMX client.
+     */
+    private static void enableMetrics() {
+        CalculatorMetrics metrics = CalculatorMetrics.shared();
+        metrics.setEnabled(true);
+        metrics.registerMBean();
+    }
+    
+    /**
+     * Opens the batch input source.
+     * 
+     * @param batchFile the input file path, or null for stdin
+     * @param workingDirectory the directory a relative file path is resolved against
+     * @param in the standard input
+     * @return buffered reader over the input
+     * @throws IOException if the file cannot be opened
+     */
+    private BufferedReader openBatchInput(String batchFile, Path workingDirectory, InputStream in) throws IOException {
+        if (batchFile == null || "-".equals(batchFile)) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+        }
+        return Files.newBufferedReader(workingDirectory.resolve(batchFile), StandardCharsets.UTF_8);
+    }
+    
+    private Calculator calculator() {
+        Calculator instance = calculator;
+        if (instance == null) {
+            instance = new Calculator();
+            calculator = instance;
+        }
+        return instance;
+    }
+    
+    private ErrorHandler errorHandler() {
+        ErrorHandler instance = errorHandler;
+        if (instance == null) {
+            instance = new ErrorHandler();
+            errorHandler = instance;
+        }
+        return instance;
+    }
+    
+    private HelpDisplay helpDisplay() {
+        HelpDisplay instance = helpDisplay;
+        if (instance == null) {
+            instance = new HelpDisplay();
+            helpDisplay = instance;
+        }
+        return instance;
+    }
+    
+    private VersionDisplay versionDisplay() {
+        VersionDisplay instance = versionDisplay;
+        if (instance == null) {
+            instance = new VersionDisplay();
+            versionDisplay = instance;
+        }
+        return instance;
+    }
+    
+    private InputValidator inputValidator() {
+        InputValidator instance = inputValidator;
+        if (instance == null) {
+            instance = new InputValidator();
+            inputValidator = instance;
+        }
+        return instance;
+    }
+    
     /**
      * Formats the calculation result for output.
      * 
      * @param result the calculation result
      * @return formatted result string
      */
-    private String formatResult(double result) {
-        // Check if the result is a whole number
-        if (result == Math.floor(result) && !Double.isInfinite(result)) {
-            return String.valueOf((long) result);
-        } else {
-            return String.valueOf(result);
-        }
+    String formatResult(double result) {
+        return resultFormatter.format(result);
+    }
+    
+    /**
+     * Formats an exactly computed calculation result for output.
+     * 
+     * @param result the calculation result
+     * @return formatted result string
+     */
+    String formatResult(Number result) {
+        return resultFormatter.format(result);
     }
 }
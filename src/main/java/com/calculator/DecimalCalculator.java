@@ -0,0 +1,125 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.factory.OperationFactory;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ComputeEvent;
+import com.calculator.operation.DecimalDivisionOperation;
+import com.calculator.operation.DecimalOperation;
+import com.calculator.operation.DecimalValue;
+import com.calculator.util.ErrorCategory;
+import com.calculator.util.InputValidator;
+
+import java.math.MathContext;
+
+/**
+ * Calculator performing arithmetic on decimal numbers at a fixed precision.
+ * Results are exact up to the precision of its MathContext and rounded beyond
+ * it, like BigDecimal arithmetic. Operands that fit in a scaled long are
+ * computed without allocating a BigDecimal.
+ */
+public class DecimalCalculator {
+    
+    private final MathContext mathContext;
+    private final OperationFactory operationFactory;
+    private final InputValidator inputValidator;
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    
+    /**
+     * Constructs a DecimalCalculator with the default operation factory and validator.
+     * 
+     * @param mathContext the precision and rounding of results
+     */
+    public DecimalCalculator(MathContext mathContext) {
+        this(mathContext, new OperationFactory(), new InputValidator());
+    }
+    
+    /**
+     * Constructs a DecimalCalculator with custom dependencies.
+     * 
+     * @param mathContext the precision and rounding of results
+     * @param operationFactory the factory to create decimal operations
+     * @param inputValidator the validator for operators
+     */
+    public DecimalCalculator(MathContext mathContext, OperationFactory operationFactory, InputValidator inputValidator) {
+        this.mathContext = mathContext;
+        this.operationFactory = operationFactory;
+        this.inputValidator = inputValidator;
+    }
+    
+    /**
+     * Parses, validates and performs a calculation given as text.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @return the result of the calculation
+     * @throws InvalidArgumentException if an operand is not a valid decimal number
+     * @throws InvalidInputException if the operator is not supported or the divisor is zero
+     * @throws ArithmeticException if the precision is unlimited and a quotient does not terminate
+     */
+    public DecimalValue calculate(String left, String operator, String right)
+            throws InvalidArgumentException, InvalidInputException {
+        DecimalValue leftOperand;
+        DecimalValue rightOperand;
+        try {
+            leftOperand = DecimalValue.parse(left);
+            rightOperand = DecimalValue.parse(right);
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+        }
+        
+        inputValidator.validateOperator(operator);
+        if (rightOperand.isZero() && operationFactory.createDecimalOperation(operator) instanceof DecimalDivisionOperation) {
+            throw new InvalidInputException("Division by zero is not allowed");
+        }
+        
+        calculate(leftOperand, operator, rightOperand, leftOperand);
+        return leftOperand;
+    }
+    
+    /**
+     * Performs a calculation on decimal operands.
+     * 
+     * @param leftOperand the left operand
+     * @param operator the operator symbol (+, -, *, /)
+     * @param rightOperand the right operand
+     * @param result receives the result; may be the same instance as either operand
+     * @throws IllegalArgumentException if the operator is not supported
+     * @throws ArithmeticException if division by zero occurs, or the precision is
+     *         unlimited and a quotient does not terminate
+     */
+    public void calculate(DecimalValue leftOperand, String operator, DecimalValue rightOperand, DecimalValue result) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            DecimalOperation operation = operationFactory.createDecimalOperation(operator);
+            operation.execute(leftOperand, rightOperand, mathContext, result);
+            metrics.recordCompute(operation.getSymbol(), start);
+            event.complete(operator, null);
+        } catch (ArithmeticException e) {
+            // Checked here so the cold call is not compiled in while the event is disabled,
+            // which would keep the event from being scalar-replaced on the success path
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.ARITHMETIC);
+            }
+            throw e;
+        } catch (IllegalArgumentException e) {
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.INVALID_INPUT);
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Returns the precision and rounding of results.
+     * 
+     * @return the math context
+     */
+    public MathContext getMathContext() {
+        return mathContext;
+    }
+}
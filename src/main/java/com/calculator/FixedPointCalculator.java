@@ -0,0 +1,126 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.factory.OperationFactory;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ComputeEvent;
+import com.calculator.operation.FixedPoint;
+import com.calculator.operation.FixedPointDivisionOperation;
+import com.calculator.operation.FixedPointOperation;
+import com.calculator.util.ErrorCategory;
+import com.calculator.util.InputValidator;
+
+/**
+ * Calculator performing arithmetic on fixed-point numbers with a fixed number
+ * of decimal places, such as money amounts. Values are unscaled longs, so
+ * results are exact in base 10 and computed without allocating; division
+ * and multiplication round half-even to the scale, and results that do not
+ * fit in a long are reported instead of wrapping.
+ */
+public class FixedPointCalculator {
+    
+    private final int scale;
+    private final OperationFactory operationFactory;
+    private final InputValidator inputValidator;
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    
+    /**
+     * Constructs a FixedPointCalculator with the default operation factory and validator.
+     * 
+     * @param scale the number of decimal places, between 0 and {@link FixedPoint#MAX_SCALE}
+     * @throws IllegalArgumentException if the scale is not supported
+     */
+    public FixedPointCalculator(int scale) {
+        this(scale, new OperationFactory(), new InputValidator());
+    }
+    
+    /**
+     * Constructs a FixedPointCalculator with custom dependencies.
+     * 
+     * @param scale the number of decimal places, between 0 and {@link FixedPoint#MAX_SCALE}
+     * @param operationFactory the factory to create fixed-point operations
+     * @param inputValidator the validator for operators
+     * @throws IllegalArgumentException if the scale is not supported
+     */
+    public FixedPointCalculator(int scale, OperationFactory operationFactory, InputValidator inputValidator) {
+        this.scale = FixedPoint.checkScale(scale);
+        this.operationFactory = operationFactory;
+        this.inputValidator = inputValidator;
+    }
+    
+    /**
+     * Parses, validates and performs a calculation given as text.
+     * Operands with more decimal places than the scale are rounded half-even.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @return the unscaled result
+     * @throws InvalidArgumentException if an operand is not a plain decimal number
+     * @throws InvalidInputException if the operator is not supported or the divisor is zero
+     * @throws ArithmeticException if an operand or the result does not fit in a long at the scale
+     */
+    public long calculate(String left, String operator, String right)
+            throws InvalidArgumentException, InvalidInputException {
+        long leftOperand;
+        long rightOperand;
+        try {
+            leftOperand = FixedPoint.parse(left, scale);
+            rightOperand = FixedPoint.parse(right, scale);
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+        }
+        
+        inputValidator.validateOperator(operator);
+        if (rightOperand == 0 && operationFactory.createFixedPointOperation(operator) instanceof FixedPointDivisionOperation) {
+            throw new InvalidInputException("Division by zero is not allowed");
+        }
+        
+        return calculate(leftOperand, operator, rightOperand);
+    }
+    
+    /**
+     * Performs a calculation on unscaled operands at the scale of this calculator.
+     * 
+     * @param leftOperand the unscaled left operand
+     * @param operator the operator symbol (+, -, *, /)
+     * @param rightOperand the unscaled right operand
+     * @return the unscaled result
+     * @throws IllegalArgumentException if the operator is not supported
+     * @throws ArithmeticException if division by zero occurs or the result does not fit in a long
+     */
+    public long calculate(long leftOperand, String operator, long rightOperand) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            FixedPointOperation operation = operationFactory.createFixedPointOperation(operator);
+            long result = operation.execute(leftOperand, rightOperand, scale);
+            metrics.recordCompute(operation.getSymbol(), start);
+            event.complete(operator, null);
+            return result;
+        } catch (ArithmeticException e) {
+            // Checked here so the cold call is not compiled in while the event is disabled,
+            // which would keep the event from being scalar-replaced on the success path
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.ARITHMETIC);
+            }
+            throw e;
+        } catch (IllegalArgumentException e) {
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.INVALID_INPUT);
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Returns the number of decimal places of operands and results.
+     * 
+     * @return the scale
+     */
+    public int getScale() {
+        return scale;
+    }
+}
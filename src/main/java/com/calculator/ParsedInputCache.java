@@ -0,0 +1,167 @@
+package com.calculator;
+
+import com.calculator.cache.BoundedCache;
+import com.calculator.operation.Operation;
+import com.calculator.util.ArgumentParser;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.InputValidator;
+
+/**
+ * Cache of parsed and validated calculation inputs.
+ * Maps normalized input text to its {@link ResolvedCalculation}, so repeated
+ * inputs skip tokenizing, number parsing, operator lookup and validation.
+ * Invalid inputs are cached too, together with their failure. Inputs are
+ * resolved through the non-throwing parse and validation methods, so a
+ * malformed input costs no exception even on a miss.
+ * A single {@link #shared() shared} instance is used by every part of the
+ * application, so all embeddings benefit from each other's lookups.
+ */
+public class ParsedInputCache {
+    
+    private static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    
+    private static final ParsedInputCache SHARED = new ParsedInputCache(DEFAULT_MAXIMUM_SIZE);
+    
+    private final BoundedCache<String, ResolvedCalculation> cache;
+    private final ArgumentParser argumentParser;
+    private final InputValidator inputValidator;
+    
+    /**
+     * Constructs a cache with the given capacity, backed by the default operator registry.
+     * 
+     * @param maximumSize the maximum number of cached inputs
+     */
+    public ParsedInputCache(int maximumSize) {
+        this.cache = new BoundedCache<>(maximumSize);
+        this.argumentParser = new ArgumentParser();
+        this.inputValidator = new InputValidator();
+    }
+    
+    /**
+     * Returns the cache shared by the whole application.
+     * 
+     * @return the shared cache
+     */
+    public static ParsedInputCache shared() {
+        return SHARED;
+    }
+    
+    /**
+     * Resolves a calculation given as three tokens.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @return the resolved calculation, possibly holding a failure
+     */
+    public ResolvedCalculation resolve(String left, String operator, String right) {
+        if (isToken(left) && isToken(operator) && isToken(right)) {
+            return cache.get(left + ' ' + operator + ' ' + right, this::load);
+        }
+        // Tokens with embedded whitespace have no unambiguous key and are resolved uncached
+        CalculationResult result = new CalculationResult();
+        return validate(argumentParser.tryParseCalculation(left, operator, right, result), result);
+    }
+    
+    /**
+     * Resolves a calculation given as one line of whitespace-separated tokens.
+     * 
+     * @param line the expression line
+     * @return the resolved calculation, possibly holding a failure
+     */
+    public ResolvedCalculation resolveLine(String line) {
+        return cache.get(normalize(line), this::load);
+    }
+    
+    /**
+     * Parses and validates a normalized input.
+     */
+    private ResolvedCalculation load(String normalized) {
+        CalculationResult result = new CalculationResult();
+        return validate(argumentParser.tryParseLine(normalized, result), result);
+    }
+    
+    /**
+     * Validates parsed arguments and resolves their operation.
+     * The arguments are null if parsing failed, with the failure recorded in the result.
+     */
+    private ResolvedCalculation validate(ArgumentParser.ParsedArguments parsedArgs, CalculationResult result) {
+        if (parsedArgs == null) {
+            return ResolvedCalculation.invalid(result);
+        }
+        Operation operation = inputValidator.tryValidateCalculation(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand(),
+            result
+        );
+        if (operation == null) {
+            return ResolvedCalculation.invalid(result);
+        }
+        if (parsedArgs.isIntegral()) {
+            return ResolvedCalculation.validIntegers(parsedArgs.getLeftInteger(), operation, parsedArgs.getRightInteger());
+        }
+        return ResolvedCalculation.valid(parsedArgs.getLeftOperand(), operation, parsedArgs.getRightOperand());
+    }
+    
+    private static boolean isToken(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Collapses runs of whitespace to single spaces and strips the ends.
+     * Returns the line itself when it is already normalized.
+     */
+    static String normalize(String line) {
+        int length = line.length();
+        boolean normalized = length > 0
+            && !Character.isWhitespace(line.charAt(0))
+            && !Character.isWhitespace(line.charAt(length - 1));
+        for (int i = 0; normalized && i < length; i++) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c) && (c != ' ' || Character.isWhitespace(line.charAt(i + 1)))) {
+                normalized = false;
+            }
+        }
+        if (normalized) {
+            return line;
+        }
+        
+        StringBuilder builder = new StringBuilder(length);
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            char c = line.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = builder.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    builder.append(' ');
+                    pendingSpace = false;
+                }
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Returns the number of cached inputs.
+     * 
+     * @return the number of entries
+     */
+    public int size() {
+        return cache.size();
+    }
+    
+    public long getHitCount() { return cache.getHitCount(); }
+    public long getMissCount() { return cache.getMissCount(); }
+    public long getEvictionCount() { return cache.getEvictionCount(); }
+}
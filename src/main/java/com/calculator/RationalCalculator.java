@@ -0,0 +1,106 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.factory.OperationFactory;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ComputeEvent;
+import com.calculator.operation.RationalDivisionOperation;
+import com.calculator.operation.RationalOperation;
+import com.calculator.operation.RationalValue;
+import com.calculator.util.ErrorCategory;
+import com.calculator.util.InputValidator;
+
+/**
+ * Calculator performing exact arithmetic on rational numbers.
+ * Every result, including every quotient, is an exact fraction in lowest terms,
+ * so chained divisions accumulate no rounding error. Operands whose numerator
+ * and denominator fit in longs are computed without allocating a BigInteger.
+ */
+public class RationalCalculator {
+    
+    private final OperationFactory operationFactory;
+    private final InputValidator inputValidator;
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    
+    /**
+     * Constructs a RationalCalculator with the default operation factory and validator.
+     */
+    public RationalCalculator() {
+        this(new OperationFactory(), new InputValidator());
+    }
+    
+    /**
+     * Constructs a RationalCalculator with custom dependencies.
+     * 
+     * @param operationFactory the factory to create rational operations
+     * @param inputValidator the validator for operators
+     */
+    public RationalCalculator(OperationFactory operationFactory, InputValidator inputValidator) {
+        this.operationFactory = operationFactory;
+        this.inputValidator = inputValidator;
+    }
+    
+    /**
+     * Parses, validates and performs a calculation given as text.
+     * Operands may be integers, decimals or fractions such as {@code 1/3}.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @return the result of the calculation
+     * @throws InvalidArgumentException if an operand is not a valid rational number
+     * @throws InvalidInputException if the operator is not supported or the divisor is zero
+     */
+    public RationalValue calculate(String left, String operator, String right)
+            throws InvalidArgumentException, InvalidInputException {
+        RationalValue leftOperand;
+        RationalValue rightOperand;
+        try {
+            leftOperand = RationalValue.parse(left);
+            rightOperand = RationalValue.parse(right);
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+        }
+        
+        inputValidator.validateOperator(operator);
+        if (rightOperand.isZero() && operationFactory.createRationalOperation(operator) instanceof RationalDivisionOperation) {
+            throw new InvalidInputException("Division by zero is not allowed");
+        }
+        
+        calculate(leftOperand, operator, rightOperand, leftOperand);
+        return leftOperand;
+    }
+    
+    /**
+     * Performs a calculation on rational operands.
+     * 
+     * @param leftOperand the left operand
+     * @param operator the operator symbol (+, -, *, /)
+     * @param rightOperand the right operand
+     * @param result receives the result; may be the same instance as either operand
+     * @throws IllegalArgumentException if the operator is not supported
+     * @throws ArithmeticException if division by zero occurs
+     */
+    public void calculate(RationalValue leftOperand, String operator, RationalValue rightOperand, RationalValue result) {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            RationalOperation operation = operationFactory.createRationalOperation(operator);
+            operation.execute(leftOperand, rightOperand, result);
+            metrics.recordCompute(operation.getSymbol(), start);
+            event.complete(operator, null);
+        } catch (ArithmeticException e) {
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.ARITHMETIC);
+            }
+            throw e;
+        } catch (IllegalArgumentException e) {
+            if (event.shouldCommit()) {
+                event.complete(operator, ErrorCategory.INVALID_INPUT);
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.calculator;
+
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Folds an associative operation over an array or an off-heap column of doubles
+ * with fork-join parallelism.
+ * Sums are compensated with Neumaier's variant of Kahan summation, so their
+ * error does not grow with the number of elements as a plain loop does.
+ * Ranges are always split in halves down to leaves of a fixed size, and partial
+ * results are combined in the order of the split, so the shape of the computation
+ * depends only on the number of elements. Results are therefore bit-for-bit
+ * identical whatever the parallelism of the pool and whichever thread ran which
+ * leaf, and identical for an array and a column holding the same values.
+ */
+public class Reducer {
+    
+    /**
+     * The reductions, each starting from its identity for an empty range.
+     */
+    public enum Reduction {
+        /** Compensated sum; 0 for no elements. */
+        SUM(0.0),
+        /** Product; 1 for no elements. */
+        PRODUCT(1.0),
+        /** Smallest element as by {@link Math#min(double, double)}; positive infinity for no elements. */
+        MIN(Double.POSITIVE_INFINITY),
+        /** Largest element as by {@link Math#max(double, double)}; negative infinity for no elements. */
+        MAX(Double.NEGATIVE_INFINITY);
+        
+        private final double identity;
+        
+        Reduction(double identity) {
+            this.identity = identity;
+        }
+        
+        /**
+         * Returns the reduction folding an operator, for the associative operators.
+         * 
+         * @param operator the operator symbol (+ or *)
+         * @return the corresponding reduction
+         * @throws IllegalArgumentException if the operator is not associative
+         */
+        public static Reduction forOperator(String operator) {
+            if (operator == null) {
+                throw new IllegalArgumentException("Operator cannot be null");
+            }
+            return switch (operator.trim()) {
+                case "+" -> SUM;
+                case "*" -> PRODUCT;
+                default -> throw new IllegalArgumentException("Operator cannot be used as a reduction: " + operator);
+            };
+        }
+    }
+    
+    private static final int DEFAULT_LEAF_SIZE = 1 << 13;
+    private static final int BLOCK_SIZE = 4096;
+    private static final int LANES = 4;
+    
+    private final ForkJoinPool pool;
+    private final int leafSize;
+    
+    /**
+     * Constructs a Reducer running on the common fork-join pool.
+     */
+    public Reducer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_LEAF_SIZE);
+    }
+    
+    /**
+     * Constructs a Reducer running on a given fork-join pool.
+     * 
+     * @param pool the pool running the leaves
+     */
+    public Reducer(ForkJoinPool pool) {
+        this(pool, DEFAULT_LEAF_SIZE);
+    }
+    
+    Reducer(ForkJoinPool pool, int leafSize) {
+        if (leafSize <= 0) {
+            throw new IllegalArgumentException("Leaf size must be positive: " + leafSize);
+        }
+        this.pool = pool;
+        this.leafSize = leafSize;
+    }
+    
+    /**
+     * Folds an operator over all elements of an array.
+     * 
+     * @param values the values
+     * @param operator the operator symbol (+ or *)
+     * @return the sum or product of the values
+     * @throws IllegalArgumentException if the operator is not associative
+     */
+    public double reduce(double[] values, String operator) {
+        return reduce(values, Reduction.forOperator(operator));
+    }
+    
+    /**
+     * Reduces all elements of an array.
+     * 
+     * @param values the values
+     * @param reduction the reduction
+     * @return the result of the reduction
+     */
+    public double reduce(double[] values, Reduction reduction) {
+        return reduce(values, 0, values.length, reduction);
+    }
+    
+    /**
+     * Reduces the elements of an array in {@code [from, to)}.
+     * 
+     * @param values the values
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     * @param reduction the reduction
+     * @return the result of the reduction
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    public double reduce(double[] values, int from, int to, Reduction reduction) {
+        Objects.checkFromToIndex(from, to, values.length);
+        return invoke(new ReduceTask(values, null, from, to, reduction, leafSize));
+    }
+    
+    /**
+     * Reduces the remaining elements of a column. The buffer position is not modified.
+     * 
+     * @param column the column, for example one allocated by {@code ColumnEvaluator.allocateColumn}
+     * @param reduction the reduction
+     * @return the result of the reduction
+     */
+    public double reduce(DoubleBuffer column, Reduction reduction) {
+        return invoke(new ReduceTask(null, column, column.position(), column.limit(), reduction, leafSize));
+    }
+    
+    private double invoke(ReduceTask task) {
+        if (task.to - task.from <= leafSize) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        return task.result();
+    }
+    
+    /**
+     * Reduces a range, splitting it in halves until it is at most a leaf long.
+     * A leaf folds its elements into four interleaved lanes, which shortens the
+     * dependency chain of the compensated sum, and then combines the lanes in order.
+     */
+    private static final class ReduceTask extends RecursiveAction {
+        
+        // Tasks are never serialized; RecursiveAction is Serializable only by inheritance
+        private static final long serialVersionUID = 1L;
+        
+        private final double[] values;
+        private final transient DoubleBuffer column;
+        private final int from;
+        private final int to;
+        private final Reduction reduction;
+        private final int leafSize;
+        
+        // The partial result, with the running compensation of a sum
+        private double value;
+        private double compensation;
+        
+        // Running lane sums and compensations of a leaf
+        private double sum0;
+        private double sum1;
+        private double sum2;
+        private double sum3;
+        private double compensation0;
+        private double compensation1;
+        private double compensation2;
+        private double compensation3;
+        
+        ReduceTask(double[] values, DoubleBuffer column, int from, int to, Reduction reduction, int leafSize) {
+            this.values = values;
+            this.column = column;
+            this.from = from;
+            this.to = to;
+            this.reduction = reduction;
+            this.leafSize = leafSize;
+            this.value = reduction.identity;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= leafSize) {
+                computeLeaf();
+                return;
+            }
+            int middle = from + ((to - from) >>> 1);
+            ReduceTask left = new ReduceTask(values, column, from, middle, reduction, leafSize);
+            ReduceTask right = new ReduceTask(values, column, middle, to, reduction, leafSize);
+            right.fork();
+            left.compute();
+            right.join();
+            
+            value = left.value;
+            compensation = left.compensation;
+            combine(right.value, right.compensation);
+        }
+        
+        private void computeLeaf() {
+            if (values != null) {
+                accumulate(values, from, to);
+            } else {
+                // Columns are copied through a block; blocks are a multiple of the lane
+                // count long, so every element falls into the same lane as in an array
+                double[] block = new double[Math.min(BLOCK_SIZE, to - from)];
+                for (int offset = from; offset < to; offset += block.length) {
+                    int count = Math.min(block.length, to - offset);
+                    column.get(offset, block, 0, count);
+                    accumulate(block, 0, count);
+                }
+            }
+            if (reduction == Reduction.SUM) {
+                value = sum0;
+                compensation = compensation0;
+                combine(sum1, compensation1);
+                combine(sum2, compensation2);
+                combine(sum3, compensation3);
+            }
+        }
+        
+        private void accumulate(double[] block, int start, int end) {
+            switch (reduction) {
+                case SUM -> sum(block, start, end);
+                case PRODUCT -> {
+                    double product = value;
+                    for (int i = start; i < end; i++) {
+                        product *= block[i];
+                    }
+                    value = product;
+                }
+                case MIN -> {
+                    double min = value;
+                    for (int i = start; i < end; i++) {
+                        min = Math.min(min, block[i]);
+                    }
+                    value = min;
+                }
+                case MAX -> {
+                    double max = value;
+                    for (int i = start; i < end; i++) {
+                        max = Math.max(max, block[i]);
+                    }
+                    value = max;
+                }
+            }
+        }
+        
+        private void sum(double[] block, int start, int end) {
+            double s0 = sum0, s1 = sum1, s2 = sum2, s3 = sum3;
+            double c0 = compensation0, c1 = compensation1, c2 = compensation2, c3 = compensation3;
+            int i = start;
+            for (; i + LANES <= end; i += LANES) {
+                double x0 = block[i];
+                double t0 = s0 + x0;
+                c0 += roundingError(s0, x0, t0);
+                s0 = t0;
+                double x1 = block[i + 1];
+                double t1 = s1 + x1;
+                c1 += roundingError(s1, x1, t1);
+                s1 = t1;
+                double x2 = block[i + 2];
+                double t2 = s2 + x2;
+                c2 += roundingError(s2, x2, t2);
+                s2 = t2;
+                double x3 = block[i + 3];
+                double t3 = s3 + x3;
+                c3 += roundingError(s3, x3, t3);
+                s3 = t3;
+            }
+            sum0 = s0;
+            sum1 = s1;
+            sum2 = s2;
+            sum3 = s3;
+            compensation0 = c0;
+            compensation1 = c1;
+            compensation2 = c2;
+            compensation3 = c3;
+            // Only the last block of a leaf can leave fewer elements than lanes
+            for (int lane = 0; i < end; i++, lane++) {
+                addToLane(lane, block[i]);
+            }
+        }
+        
+        private void addToLane(int lane, double x) {
+            switch (lane) {
+                case 0 -> {
+                    double t = sum0 + x;
+                    compensation0 += roundingError(sum0, x, t);
+                    sum0 = t;
+                }
+                case 1 -> {
+                    double t = sum1 + x;
+                    compensation1 += roundingError(sum1, x, t);
+                    sum1 = t;
+                }
+                default -> {
+                    double t = sum2 + x;
+                    compensation2 += roundingError(sum2, x, t);
+                    sum2 = t;
+                }
+            }
+        }
+        
+        /**
+         * Folds another partial result into this one.
+         */
+        private void combine(double otherValue, double otherCompensation) {
+            switch (reduction) {
+                case SUM -> {
+                    double t = value + otherValue;
+                    compensation += otherCompensation + roundingError(value, otherValue, t);
+                    value = t;
+                }
+                case PRODUCT -> value *= otherValue;
+                case MIN -> value = Math.min(value, otherValue);
+                case MAX -> value = Math.max(value, otherValue);
+            }
+        }
+        
+        /**
+         * Returns the rounding error of {@code sum = a + b}, exactly, as in Neumaier's algorithm.
+         */
+        private static double roundingError(double a, double b, double sum) {
+            return Math.abs(a) >= Math.abs(b) ? (a - sum) + b : (b - sum) + a;
+        }
+        
+        double result() {
+            if (reduction != Reduction.SUM) {
+                return value;
+            }
+            double result = value + compensation;
+            // Once the running sum has overflowed, the compensation is NaN and meaningless
+            return Double.isNaN(result) && Double.isInfinite(value) ? value : result;
+        }
+    }
+}
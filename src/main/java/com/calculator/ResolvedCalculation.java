@@ -0,0 +1,196 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ComputeEvent;
+import com.calculator.operation.Operation;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.ErrorCategory;
+
+/**
+ * Parsed and validated form of a "number operator number" input.
+ * Holds either the operands and the resolved operation, or the category and
+ * message of the parse or validation failure of the input. Operands written as
+ * integers are also kept as longs, so the calculation can be performed exactly. Instances are
+ * immutable and can be cached and shared between threads.
+ */
+public final class ResolvedCalculation {
+    
+    private static final CalculatorMetrics METRICS = CalculatorMetrics.shared();
+    
+    private final double leftOperand;
+    private final Operation operation;
+    private final double rightOperand;
+    private final boolean integral;
+    private final long leftInteger;
+    private final long rightInteger;
+    private final ErrorCategory errorCategory;
+    private final String errorMessage;
+    
+    private ResolvedCalculation(double leftOperand, Operation operation, double rightOperand,
+                                ErrorCategory errorCategory, String errorMessage) {
+        this.leftOperand = leftOperand;
+        this.operation = operation;
+        this.rightOperand = rightOperand;
+        this.integral = false;
+        this.leftInteger = 0;
+        this.rightInteger = 0;
+        this.errorCategory = errorCategory;
+        this.errorMessage = errorMessage;
+    }
+    
+    private ResolvedCalculation(long leftInteger, Operation operation, long rightInteger) {
+        this.leftOperand = leftInteger;
+        this.operation = operation;
+        this.rightOperand = rightInteger;
+        this.integral = true;
+        this.leftInteger = leftInteger;
+        this.rightInteger = rightInteger;
+        this.errorCategory = null;
+        this.errorMessage = null;
+    }
+    
+    /**
+     * Creates a successfully resolved calculation.
+     * 
+     * @param leftOperand the left operand
+     * @param operation the resolved operation
+     * @param rightOperand the right operand
+     * @return the resolved calculation
+     */
+    public static ResolvedCalculation valid(double leftOperand, Operation operation, double rightOperand) {
+        return new ResolvedCalculation(leftOperand, operation, rightOperand, null, null);
+    }
+    
+    /**
+     * Creates a successfully resolved calculation on integer operands.
+     * 
+     * @param leftOperand the left operand
+     * @param operation the resolved operation
+     * @param rightOperand the right operand
+     * @return the resolved calculation
+     */
+    public static ResolvedCalculation validIntegers(long leftOperand, Operation operation, long rightOperand) {
+        return new ResolvedCalculation(leftOperand, operation, rightOperand);
+    }
+    
+    /**
+     * Creates a calculation whose input failed parsing or validation.
+     * 
+     * @param errorCategory INVALID_ARGUMENT for parse failures, INVALID_INPUT for validation failures
+     * @param errorMessage the error message
+     * @return the failed calculation
+     */
+    public static ResolvedCalculation invalid(ErrorCategory errorCategory, String errorMessage) {
+        return new ResolvedCalculation(0, null, 0, errorCategory, errorMessage);
+    }
+    
+    /**
+     * Creates a calculation from the failure recorded in a result.
+     * 
+     * @param result a failed result
+     * @return the failed calculation
+     */
+    public static ResolvedCalculation invalid(CalculationResult result) {
+        return invalid(result.getErrorCategory(), result.getErrorMessage());
+    }
+    
+    /**
+     * Performs the calculation in double arithmetic, or throws the failure of an invalid input.
+     * 
+     * @return the result of the calculation
+     * @throws InvalidArgumentException if the input could not be parsed
+     * @throws InvalidInputException if the input failed validation
+     */
+    public double calculate() throws InvalidArgumentException, InvalidInputException {
+        checkValid();
+        return compute();
+    }
+    
+    /**
+     * Performs the calculation, exactly if both operands are integers, or throws
+     * the failure of an invalid input.
+     * 
+     * @return the result of the calculation as a Long, BigInteger or Double
+     * @throws InvalidArgumentException if the input could not be parsed
+     * @throws InvalidInputException if the input failed validation
+     * @see Operation#executeExact(long, long)
+     */
+    public Number calculateExact() throws InvalidArgumentException, InvalidInputException {
+        checkValid();
+        if (integral) {
+            return computeExact();
+        }
+        return compute();
+    }
+    
+    /**
+     * Performs the calculation without throwing for invalid inputs, exactly if
+     * both operands are integers.
+     * An ArithmeticException from the operation is reported as an ARITHMETIC error.
+     * 
+     * @param result receives the value or the failure
+     * @return true if the calculation succeeded
+     */
+    public boolean evaluate(CalculationResult result) {
+        if (errorCategory != null) {
+            return result.failure(errorCategory, errorMessage);
+        }
+        try {
+            if (integral) {
+                return result.success(computeExact());
+            }
+            return result.success(compute());
+        } catch (ArithmeticException e) {
+            return result.failure(ErrorCategory.ARITHMETIC, e.getMessage());
+        }
+    }
+    
+    private void checkValid() throws InvalidArgumentException, InvalidInputException {
+        if (errorCategory == ErrorCategory.INVALID_ARGUMENT) {
+            throw new InvalidArgumentException(errorMessage);
+        }
+        if (errorCategory != null) {
+            throw new InvalidInputException(errorMessage);
+        }
+    }
+    
+    private double compute() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = METRICS.startTimer();
+        try {
+            double result = operation.execute(leftOperand, rightOperand);
+            METRICS.recordCompute(operation.getSymbol(), start);
+            event.complete(operation.getSymbol(), null);
+            return result;
+        } catch (ArithmeticException e) {
+            event.complete(operation.getSymbol(), ErrorCategory.ARITHMETIC);
+            throw e;
+        }
+    }
+    
+    private Number computeExact() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        long start = METRICS.startTimer();
+        try {
+            Number result = operation.executeExact(leftInteger, rightInteger);
+            METRICS.recordCompute(operation.getSymbol(), start);
+            event.complete(operation.getSymbol(), null);
+            return result;
+        } catch (ArithmeticException e) {
+            event.complete(operation.getSymbol(), ErrorCategory.ARITHMETIC);
+            throw e;
+        }
+    }
+    
+    public boolean isValid() { return errorCategory == null; }
+    public double getLeftOperand() { return leftOperand; }
+    public Operation getOperation() { return operation; }
+    public double getRightOperand() { return rightOperand; }
+    public boolean isIntegral() { return integral; }
+    public ErrorCategory getErrorCategory() { return errorCategory; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,252 @@
+package com.calculator.batch;
+
+import com.calculator.AdaptiveCalculator;
+import com.calculator.Calculator;
+import com.calculator.DecimalCalculator;
+import com.calculator.FixedPointCalculator;
+import com.calculator.ParsedInputCache;
+import com.calculator.RationalCalculator;
+import com.calculator.operation.Operation;
+import com.calculator.util.ArgumentParser;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.ErrorHandler;
+import com.calculator.util.InputValidator;
+import com.calculator.util.ResultFormatter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Evaluates a stream of expressions, one "number operator number" per line.
+ * Lines are read and written one at a time, so memory use does not depend on
+ * the size of the input. Each input line produces exactly one output line,
+ * either the result or an error message, in input order. Blank lines are
+ * echoed as blank lines. Invalid lines are reported through
+ * {@link CalculationResult} rather than exceptions, so inputs with many bad
+ * rows are processed as fast as valid ones. In the decimal, fixed-point,
+ * adaptive and rational modes, lines are calculated with a
+ * {@link DecimalCalculator}, {@link FixedPointCalculator},
+ * {@link AdaptiveCalculator} or {@link RationalCalculator} instead.
+ */
+public class BatchProcessor {
+    
+    private final Calculator calculator;
+    private final ArgumentParser argumentParser;
+    private final InputValidator inputValidator;
+    private final ErrorHandler errorHandler;
+    private final ResultFormatter resultFormatter;
+    private final ParsedInputCache parsedInputCache;
+    private final TextCalculation textCalculation;
+    
+    /**
+     * Calculation of a line's operand and operator tokens in one of the
+     * alternative arithmetic modes, producing the formatted result.
+     */
+    @FunctionalInterface
+    private interface TextCalculation {
+        String calculate(String left, String operator, String right, ResultFormatter formatter) throws Exception;
+    }
+    
+    /**
+     * Constructs a BatchProcessor with default dependencies and the shared parsed-input cache.
+     */
+    public BatchProcessor() {
+        this(ParsedInputCache.shared(), new ErrorHandler());
+    }
+    
+    /**
+     * Constructs a BatchProcessor that resolves lines through a parsed-input cache.
+     * Repeated lines skip parsing, validation and operator lookup.
+     * 
+     * @param parsedInputCache the cache resolving expression lines
+     * @param errorHandler the handler formatting per-line errors
+     */
+    public BatchProcessor(ParsedInputCache parsedInputCache, ErrorHandler errorHandler) {
+        this.calculator = null;
+        this.argumentParser = null;
+        this.inputValidator = null;
+        this.errorHandler = errorHandler;
+        this.resultFormatter = new ResultFormatter();
+        this.parsedInputCache = parsedInputCache;
+        this.textCalculation = null;
+    }
+    
+    /**
+     * Constructs a BatchProcessor with custom dependencies.
+     * Lines are parsed and validated on every occurrence, without caching.
+     * 
+     * @param calculator the calculator performing the operations
+     * @param argumentParser the parser for expression lines
+     * @param inputValidator the validator for parsed expressions
+     * @param errorHandler the handler formatting per-line errors
+     */
+    public BatchProcessor(Calculator calculator, ArgumentParser argumentParser,
+                          InputValidator inputValidator, ErrorHandler errorHandler) {
+        this.calculator = calculator;
+        this.argumentParser = argumentParser;
+        this.inputValidator = inputValidator;
+        this.errorHandler = errorHandler;
+        this.resultFormatter = new ResultFormatter();
+        this.parsedInputCache = null;
+        this.textCalculation = null;
+    }
+    
+    /**
+     * Constructs a BatchProcessor calculating every line with decimal arithmetic.
+     * 
+     * @param decimalCalculator the calculator performing the decimal operations
+     * @param errorHandler the handler formatting per-line errors
+     */
+    public BatchProcessor(DecimalCalculator decimalCalculator, ErrorHandler errorHandler) {
+        this((left, operator, right, formatter) ->
+            formatter.format(decimalCalculator.calculate(left, operator, right)), errorHandler);
+    }
+    
+    /**
+     * Constructs a BatchProcessor calculating every line with fixed-point arithmetic.
+     * 
+     * @param fixedPointCalculator the calculator performing the fixed-point operations
+     * @param errorHandler the handler formatting per-line errors
+     */
+    public BatchProcessor(FixedPointCalculator fixedPointCalculator, ErrorHandler errorHandler) {
+        this((left, operator, right, formatter) -> formatter.formatFixedPoint(
+            fixedPointCalculator.calculate(left, operator, right), fixedPointCalculator.getScale()), errorHandler);
+    }
+    
+    /**
+     * Constructs a BatchProcessor calculating every line with adaptive precision.
+     * Only lines whose double result exceeds the tolerance are recomputed in higher precision.
+     * 
+     * @param adaptiveCalculator the calculator performing the operations
+     * @param errorHandler the handler formatting per-line errors
+     */
+    public BatchProcessor(AdaptiveCalculator adaptiveCalculator, ErrorHandler errorHandler) {
+        this((left, operator, right, formatter) ->
+            formatter.format(adaptiveCalculator.calculate(left, operator, right)), errorHandler);
+    }
+    
+    /**
+     * Constructs a BatchProcessor calculating every line with exact rational arithmetic.
+     * 
+     * @param rationalCalculator the calculator performing the rational operations
+     * @param errorHandler the handler formatting per-line errors
+     */
+    public BatchProcessor(RationalCalculator rationalCalculator, ErrorHandler errorHandler) {
+        this((left, operator, right, formatter) ->
+            formatter.format(rationalCalculator.calculate(left, operator, right)), errorHandler);
+    }
+    
+    private BatchProcessor(TextCalculation textCalculation, ErrorHandler errorHandler) {
+        this.calculator = null;
+        this.argumentParser = new ArgumentParser();
+        this.inputValidator = null;
+        this.errorHandler = errorHandler;
+        this.resultFormatter = new ResultFormatter();
+        this.parsedInputCache = null;
+        this.textCalculation = textCalculation;
+    }
+    
+    /**
+     * Processes all lines from the reader and writes one output line per input line.
+     * The writer is flushed but not closed.
+     * 
+     * @param reader the source of expression lines
+     * @param writer the destination for results and errors
+     * @return the number of lines that failed
+     * @throws IOException if reading or writing fails
+     */
+    public long process(BufferedReader reader, Writer writer) throws IOException {
+        CalculationResult result = new CalculationResult();
+        long failures = 0;
+        String line;
+        
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                // Echoed as a blank line to keep output aligned with input
+            } else if (textCalculation != null) {
+                if (!writeTextCalculation(line, writer)) {
+                    failures++;
+                }
+            } else {
+                try {
+                    if (evaluate(line, result)) {
+                        Number exactValue = result.getExactValue();
+                        writer.write(exactValue != null
+                            ? resultFormatter.format(exactValue)
+                            : resultFormatter.format(result.getValue()));
+                    } else {
+                        writer.write(errorHandler.handleBatchError(result));
+                        failures++;
+                    }
+                } catch (RuntimeException e) {
+                    writer.write(errorHandler.handleBatchError(e));
+                    failures++;
+                }
+            }
+            writer.write('\n');
+        }
+        
+        writer.flush();
+        return failures;
+    }
+    
+    /**
+     * Calculates a single expression line in an alternative arithmetic mode
+     * and writes its result or error.
+     * 
+     * @return true if the line was calculated successfully
+     */
+    private boolean writeTextCalculation(String line, Writer writer) throws IOException {
+        try {
+            String[] tokens = argumentParser.splitLine(line);
+            writer.write(textCalculation.calculate(tokens[0], tokens[1], tokens[2], resultFormatter));
+            return true;
+        } catch (Exception e) {
+            writer.write(errorHandler.handleBatchError(e));
+            return false;
+        }
+    }
+    
+    /**
+     * Evaluates a single expression line.
+     * 
+     * @param line the expression line
+     * @param result receives the value, or the failure if the line cannot be parsed,
+     *        validated or calculated
+     * @return true if the line was evaluated successfully
+     */
+    private boolean evaluate(String line, CalculationResult result) {
+        if (parsedInputCache != null) {
+            return parsedInputCache.resolveLine(line).evaluate(result);
+        }
+        
+        ArgumentParser.ParsedArguments parsedArgs = argumentParser.tryParseLine(line, result);
+        if (parsedArgs == null) {
+            return false;
+        }
+        
+        Operation operation = inputValidator.tryValidateCalculation(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand(),
+            result
+        );
+        if (operation == null) {
+            return false;
+        }
+        
+        if (parsedArgs.isIntegral()) {
+            return result.success(calculator.calculateExact(
+                parsedArgs.getLeftInteger(),
+                parsedArgs.getOperator(),
+                parsedArgs.getRightInteger()
+            ));
+        }
+        return result.success(calculator.calculate(
+            parsedArgs.getLeftOperand(),
+            parsedArgs.getOperator(),
+            parsedArgs.getRightOperand()
+        ));
+    }
+}
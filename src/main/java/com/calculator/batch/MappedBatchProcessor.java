@@ -0,0 +1,350 @@
+package com.calculator.batch;
+
+import com.calculator.Calculator;
+import com.calculator.factory.OperatorRegistry;
+import com.calculator.operation.Operation;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.ErrorHandler;
+import com.calculator.util.FastDoubleParser;
+import com.calculator.util.InputValidator;
+import com.calculator.util.IntegerParser;
+import com.calculator.util.ResultFormatter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Evaluates large expression files in parallel.
+ * The file is memory-mapped in newline-aligned chunks and each chunk is parsed
+ * and evaluated on a worker thread straight from the mapped bytes, without
+ * creating a String per line; results are formatted straight into the output
+ * buffer, and invalid lines are reported without throwing exceptions. As in
+ * {@link BatchProcessor}, lines whose operands are both integers are calculated
+ * exactly, so results are written in the original line order and match its
+ * output line for line.
+ * Only a bounded number of chunks is in flight at any time, so memory use does
+ * not depend on the size of the file.
+ */
+public class MappedBatchProcessor {
+    
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final int PROBE_SIZE = 4096;
+    
+    private static final String INVALID_ARGUMENT_COUNT_ERROR =
+        "Error: Invalid number of arguments. Expected format: <number> <operator> <number>";
+    
+    private final Calculator calculator;
+    private final OperatorRegistry registry;
+    private final InputValidator inputValidator;
+    private final ErrorHandler errorHandler;
+    private final ResultFormatter resultFormatter;
+    private final FastDoubleParser doubleParser;
+    private final int chunkSize;
+    private final int parallelism;
+    
+    /**
+     * Constructs a MappedBatchProcessor with default dependencies,
+     * using one worker per available processor.
+     */
+    public MappedBatchProcessor() {
+        this(new Calculator(), OperatorRegistry.getDefault(), new InputValidator(), new ErrorHandler(),
+            DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+    
+    /**
+     * Constructs a MappedBatchProcessor with custom dependencies.
+     * 
+     * @param calculator the calculator performing the operations
+     * @param registry the registry resolving operator characters
+     * @param inputValidator the validator for parsed expressions
+     * @param errorHandler the handler formatting per-line errors
+     * @param chunkSize the target number of bytes per chunk
+     * @param parallelism the number of worker threads
+     */
+    public MappedBatchProcessor(Calculator calculator, OperatorRegistry registry, InputValidator inputValidator,
+                                ErrorHandler errorHandler, int chunkSize, int parallelism) {
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be positive");
+        }
+        this.calculator = calculator;
+        this.registry = registry;
+        this.inputValidator = inputValidator;
+        this.errorHandler = errorHandler;
+        this.resultFormatter = new ResultFormatter();
+        this.doubleParser = new FastDoubleParser();
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+    
+    /**
+     * Processes the file and writes one output line per input line.
+     * The output stream is flushed but not closed.
+     * 
+     * @param input the expression file
+     * @param output the destination for results and errors
+     * @return the number of lines that failed
+     * @throws IOException if reading or writing fails
+     */
+    public long process(Path input, OutputStream output) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "calculator-mapped-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int window = parallelism * 2;
+            Deque<Future<ChunkResult>> pending = new ArrayDeque<>();
+            long failures = 0;
+            long start = 0;
+            
+            while (start < size) {
+                long end = findChunkEnd(channel, start, size);
+                MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                pending.addLast(executor.submit(() -> evaluateChunk(chunk)));
+                start = end;
+                
+                if (pending.size() >= window) {
+                    failures += writeResult(pending.removeFirst(), output);
+                }
+            }
+            while (!pending.isEmpty()) {
+                failures += writeResult(pending.removeFirst(), output);
+            }
+            
+            output.flush();
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Finds the end of the chunk starting at the given offset: the position just
+     * after the first newline at or beyond the target chunk size, or the end of file.
+     */
+    private long findChunkEnd(FileChannel channel, long start, long size) throws IOException {
+        long position = start + chunkSize;
+        if (position >= size) {
+            return size;
+        }
+        
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+    
+    private long writeResult(Future<ChunkResult> future, OutputStream output) throws IOException {
+        try {
+            ChunkResult result = future.get();
+            output.write(result.bytes, 0, result.length);
+            return result.failures;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while evaluating chunk", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to evaluate chunk", e.getCause());
+        }
+    }
+    
+    /**
+     * Evaluates every line of a chunk into an output buffer.
+     */
+    private ChunkResult evaluateChunk(ByteBuffer chunk) {
+        ChunkResult result = new ChunkResult(chunk.limit());
+        int[] tokens = new int[6];
+        CalculationResult calculation = new CalculationResult();
+        int limit = chunk.limit();
+        int lineStart = 0;
+        
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chunk.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            evaluateLine(chunk, lineStart, lineEnd, tokens, calculation, result);
+            result.write((byte) '\n');
+            lineStart = lineEnd + 1;
+        }
+        return result;
+    }
+    
+    /**
+     * Evaluates a single line, writing either the result or an error message.
+     * The token array receives the start and end offsets of the three tokens;
+     * the calculation result is scratch space reused across the lines of a chunk.
+     */
+    private void evaluateLine(ByteBuffer chunk, int from, int to, int[] tokens,
+                              CalculationResult calculation, ChunkResult result) {
+        int count = 0;
+        int index = from;
+        
+        while (index < to) {
+            while (index < to && isWhitespace(chunk.get(index))) {
+                index++;
+            }
+            if (index == to) {
+                break;
+            }
+            int start = index;
+            while (index < to && !isWhitespace(chunk.get(index))) {
+                index++;
+            }
+            if (count == tokens.length) {
+                fail(result, INVALID_ARGUMENT_COUNT_ERROR);
+                return;
+            }
+            tokens[count++] = start;
+            tokens[count++] = index;
+        }
+        
+        if (count == 0) {
+            return;
+        }
+        if (count != tokens.length) {
+            fail(result, INVALID_ARGUMENT_COUNT_ERROR);
+            return;
+        }
+        
+        boolean integral = IntegerParser.isInteger(chunk, tokens[0], tokens[1])
+            && IntegerParser.isInteger(chunk, tokens[4], tokens[5]);
+        long leftInteger = 0;
+        long rightInteger = 0;
+        double leftOperand;
+        double rightOperand;
+        if (integral) {
+            leftInteger = IntegerParser.parse(chunk, tokens[0], tokens[1]);
+            rightInteger = IntegerParser.parse(chunk, tokens[4], tokens[5]);
+            leftOperand = leftInteger;
+            rightOperand = rightInteger;
+        } else {
+            if (!doubleParser.parse(chunk, tokens[0], tokens[1], calculation)) {
+                fail(result, errorHandler.handleBatchError(calculation));
+                return;
+            }
+            leftOperand = calculation.getValue();
+            if (!doubleParser.parse(chunk, tokens[4], tokens[5], calculation)) {
+                fail(result, errorHandler.handleBatchError(calculation));
+                return;
+            }
+            rightOperand = calculation.getValue();
+        }
+        
+        Operation operation = tokens[3] - tokens[2] == 1 ? registry.lookup((char) chunk.get(tokens[2])) : null;
+        String operator = operation != null ? operation.getSymbol() : decode(chunk, tokens[2], tokens[3]);
+        
+        if (inputValidator.tryValidateCalculation(leftOperand, operator, rightOperand, calculation) == null) {
+            fail(result, errorHandler.handleBatchError(calculation));
+            return;
+        }
+        try {
+            if (integral) {
+                result.write(calculator.calculateExact(leftInteger, operator, rightInteger), resultFormatter);
+            } else {
+                result.write(calculator.calculate(leftOperand, operator, rightOperand), resultFormatter);
+            }
+        } catch (RuntimeException e) {
+            fail(result, errorHandler.handleBatchError(e));
+        }
+    }
+    
+    private static void fail(ChunkResult result, String message) {
+        result.write(message);
+        result.failures++;
+    }
+    
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+    }
+    
+    private static String decode(ByteBuffer chunk, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        chunk.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Output bytes and failure count of one evaluated chunk.
+     */
+    private static final class ChunkResult {
+        private byte[] bytes;
+        private int length;
+        private long failures;
+        
+        ChunkResult(int expectedSize) {
+            this.bytes = new byte[Math.max(16, expectedSize / 2)];
+        }
+        
+        void write(byte b) {
+            ensureCapacity(1);
+            bytes[length++] = b;
+        }
+        
+        void write(String text) {
+            int size = text.length();
+            ensureCapacity(size);
+            for (int i = 0; i < size; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) {
+                    // Rare non-ASCII error text: encode the whole string properly
+                    byte[] encoded = text.substring(i).getBytes(StandardCharsets.UTF_8);
+                    ensureCapacity(encoded.length);
+                    System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                    length += encoded.length;
+                    return;
+                }
+                bytes[length++] = (byte) c;
+            }
+        }
+        
+        void write(double value, ResultFormatter formatter) {
+            ensureCapacity(ResultFormatter.MAX_LENGTH);
+            length = formatter.format(value, bytes, length);
+        }
+        
+        void write(Number value, ResultFormatter formatter) {
+            if (value instanceof Long) {
+                ensureCapacity(ResultFormatter.MAX_LENGTH);
+                length = formatter.format(value.longValue(), bytes, length);
+            } else if (value instanceof BigInteger) {
+                // Beyond the range of long, so longer than the fixed-size formats
+                write(formatter.format(value));
+            } else {
+                write(value.doubleValue(), formatter);
+            }
+        }
+        
+        private void ensureCapacity(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.calculator.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Concurrent, size-bounded cache with W-TinyLFU eviction.
+ * New entries enter a small LRU admission window. Entries leaving the window
+ * compete with the least recently used entry of the main segmented LRU, and
+ * the one seen less often according to a {@link FrequencySketch} is evicted.
+ * This keeps frequently used entries resident even under scans of one-off keys.
+ * Reads are served from a concurrent map without locking. Accesses are recorded
+ * in a small lossy buffer and applied to the eviction policy in batches, so the
+ * policy lock is taken once per batch instead of once per read.
+ * 
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BoundedCache<K, V> {
+    
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    
+    private static final int READ_BUFFER_SIZE = 32;
+    
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicInteger readBufferWrites = new AtomicInteger();
+    
+    private final int maximumSize;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    
+    // Access-ordered queues, least recently used first
+    private final Node<K, V> window = Node.sentinel();
+    private final Node<K, V> probation = Node.sentinel();
+    private final Node<K, V> protectedQueue = Node.sentinel();
+    private int windowSize;
+    private int probationSize;
+    private int protectedSize;
+    
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    
+    /**
+     * Constructs a cache holding at most the given number of entries.
+     * 
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public BoundedCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (int) ((maximumSize - windowMaximum) * 0.8);
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+    
+    /**
+     * Returns the cached value for a key, or null if it is not cached.
+     * 
+     * @param key the key
+     * @return the cached value, or null
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            recordMiss(key);
+            return null;
+        }
+        hitCount.increment();
+        recordHit(node);
+        return node.value;
+    }
+    
+    /**
+     * Returns the cached value for a key, computing and caching it on a miss.
+     * The loader runs outside any lock and may run more than once for the
+     * same key under contention; the first value stored wins.
+     * 
+     * @param key the key
+     * @param loader computes the value for a missing key; must not return null
+     * @return the cached or computed value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hitCount.increment();
+            recordHit(node);
+            return node.value;
+        }
+        
+        missCount.increment();
+        V value = loader.apply(key);
+        if (value == null) {
+            throw new NullPointerException("Loader returned null for key: " + key);
+        }
+        return put(key, value);
+    }
+    
+    /**
+     * Stores a value unless the key is already cached.
+     * 
+     * @return the value now cached for the key
+     */
+    private V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        policyLock.lock();
+        try {
+            // Drain before publishing: once the node is in the map, readers may buffer
+            // hits on it, which must not be applied until it is linked into a queue
+            drainReadBuffer();
+            Node<K, V> existing = data.putIfAbsent(key, node);
+            if (existing != null) {
+                return existing.value;
+            }
+            sketch.increment(key);
+            node.queue = WINDOW;
+            linkLast(window, node);
+            windowSize++;
+            evict();
+            return value;
+        } finally {
+            policyLock.unlock();
+        }
+    }
+    
+    private void recordMiss(K key) {
+        if (policyLock.tryLock()) {
+            try {
+                sketch.increment(key);
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+    
+    private void recordHit(Node<K, V> node) {
+        int index = readBufferWrites.getAndIncrement();
+        if (index < READ_BUFFER_SIZE) {
+            readBuffer.lazySet(index, node);
+            if (index < READ_BUFFER_SIZE - 1) {
+                return;
+            }
+        }
+        // Accesses arriving while the buffer is full or being drained are dropped;
+        // that only makes the policy slightly less precise
+        if (policyLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+    
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node<K, V> node = readBuffer.getAndSet(i, null);
+            if (node != null) {
+                applyHit(node);
+            }
+        }
+        readBufferWrites.set(0);
+    }
+    
+    private void applyHit(Node<K, V> node) {
+        if (node.queue < 0) {
+            return;  // Evicted concurrently
+        }
+        sketch.increment(node.key);
+        if (node.queue == WINDOW) {
+            moveToEnd(window, node);
+        } else if (node.queue == PROBATION) {
+            unlink(node);
+            probationSize--;
+            node.queue = PROTECTED;
+            linkLast(protectedQueue, node);
+            protectedSize++;
+            demoteProtected();
+        } else {
+            moveToEnd(protectedQueue, node);
+        }
+    }
+    
+    /**
+     * Moves protected entries over the protected limit back to probation.
+     */
+    private void demoteProtected() {
+        while (protectedSize > protectedMaximum) {
+            Node<K, V> demoted = protectedQueue.next;
+            unlink(demoted);
+            protectedSize--;
+            demoted.queue = PROBATION;
+            linkLast(probation, demoted);
+            probationSize++;
+        }
+    }
+    
+    /**
+     * Moves entries leaving the window into the main space and evicts
+     * entries until the cache is within its maximum size.
+     */
+    private void evict() {
+        while (windowSize > windowMaximum) {
+            Node<K, V> candidate = window.next;
+            unlink(candidate);
+            windowSize--;
+            candidate.queue = PROBATION;
+            linkLast(probation, candidate);
+            probationSize++;
+            
+            if (windowSize + probationSize + protectedSize > maximumSize) {
+                Node<K, V> victim = probation.next;
+                // The newcomer is admitted only if it is used more often than the victim
+                if (victim != candidate && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                    remove(victim);
+                } else {
+                    remove(candidate);
+                }
+            }
+        }
+    }
+    
+    private void remove(Node<K, V> node) {
+        unlink(node);
+        if (node.queue == PROBATION) {
+            probationSize--;
+        } else if (node.queue == PROTECTED) {
+            protectedSize--;
+        } else {
+            windowSize--;
+        }
+        node.queue = -1;
+        data.remove(node.key, node);
+        evictionCount.increment();
+    }
+    
+    /**
+     * Returns the number of cached entries.
+     * 
+     * @return the number of entries
+     */
+    public int size() {
+        return data.size();
+    }
+    
+    /**
+     * Returns the maximum number of entries.
+     * 
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+    
+    /**
+     * Returns the number of lookups that found a cached value.
+     * 
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+    
+    /**
+     * Returns the number of lookups that did not find a cached value.
+     * 
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+    
+    /**
+     * Returns the number of entries evicted to stay within the maximum size.
+     * 
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+    
+    private static <K, V> void linkLast(Node<K, V> queue, Node<K, V> node) {
+        Node<K, V> last = queue.prev;
+        node.prev = last;
+        node.next = queue;
+        last.next = node;
+        queue.prev = node;
+    }
+    
+    private static <K, V> void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+    
+    private static <K, V> void moveToEnd(Node<K, V> queue, Node<K, V> node) {
+        unlink(node);
+        linkLast(queue, node);
+    }
+    
+    /**
+     * Cache entry, linked into the queue of its current segment.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+        private int queue;
+        
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+        
+        static <K, V> Node<K, V> sentinel() {
+            Node<K, V> sentinel = new Node<>(null, null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+    }
+}
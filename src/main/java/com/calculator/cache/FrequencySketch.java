@@ -0,0 +1,82 @@
+package com.calculator.cache;
+
+/**
+ * Count-min sketch with 4-bit counters estimating how often keys were seen.
+ * Counters are halved once the number of increments reaches a sample size
+ * proportional to the cache capacity, so old popularity fades over time.
+ * Not thread-safe; callers must synchronize.
+ */
+final class FrequencySketch {
+    
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int[] SEEDS = {0x97CB3127, 0xB4D4E1A9, 0x7E3B8C5D, 0xE6546B64};
+    
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+    
+    FrequencySketch(int capacity) {
+        int length = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.table = new long[Math.max(8, length)];
+        this.tableMask = table.length - 1;
+        this.sampleSize = Math.max(10, 10 * capacity);
+    }
+    
+    /**
+     * Returns the estimated frequency of a key, between 0 and 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < DEPTH; i++) {
+            frequency = Math.min(frequency, counter(hash, i));
+        }
+        return frequency;
+    }
+    
+    /**
+     * Records one occurrence of a key.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            int h = indexHash(hash, i);
+            int index = h & tableMask;
+            int shift = ((h >>> 28) & 0xF) << 2;
+            if (((table[index] >>> shift) & 0xF) < MAX_COUNT) {
+                table[index] += 1L << shift;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+    
+    private int counter(int hash, int depth) {
+        int h = indexHash(hash, depth);
+        int shift = ((h >>> 28) & 0xF) << 2;
+        return (int) ((table[h & tableMask] >>> shift) & 0xF);
+    }
+    
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size /= 2;
+    }
+    
+    private static int indexHash(int hash, int depth) {
+        int h = hash * SEEDS[depth];
+        return h ^ (h >>> 16);
+    }
+    
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 15);
+    }
+}
@@ -0,0 +1,222 @@
+package com.calculator.column;
+
+import com.calculator.factory.OperationFactory;
+import com.calculator.operation.FusedOperation;
+import com.calculator.operation.Operation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Evaluates operations over off-heap columns of doubles.
+ * Columns are {@link DoubleBuffer}s backed by direct memory or by memory-mapped
+ * files, so the operand data never lives on the Java heap. Elements are moved
+ * through small reusable blocks and processed with the bulk
+ * {@link Operation#execute(double[], double[], double[], int, int)} kernels,
+ * so there is no per-element allocation.
+ * Column files hold raw IEEE 754 doubles in native byte order and are mapped
+ * in windows, so they may be far larger than both the heap and 2 GB.
+ */
+public class ColumnEvaluator {
+    
+    private static final int BLOCK_SIZE = 4096;
+    private static final long DEFAULT_WINDOW_ELEMENTS = 1L << 24;
+    
+    private final OperationFactory operationFactory;
+    private final long windowElements;
+    
+    /**
+     * Constructs a ColumnEvaluator with the default operation factory.
+     */
+    public ColumnEvaluator() {
+        this(new OperationFactory(), DEFAULT_WINDOW_ELEMENTS);
+    }
+    
+    /**
+     * Constructs a ColumnEvaluator with a custom operation factory.
+     * 
+     * @param operationFactory the factory resolving operators
+     */
+    public ColumnEvaluator(OperationFactory operationFactory) {
+        this(operationFactory, DEFAULT_WINDOW_ELEMENTS);
+    }
+    
+    ColumnEvaluator(OperationFactory operationFactory, long windowElements) {
+        this.operationFactory = operationFactory;
+        this.windowElements = windowElements;
+    }
+    
+    /**
+     * Allocates a direct, native-order column outside the Java heap.
+     * Direct memory is limited by -XX:MaxDirectMemorySize, which defaults to the
+     * maximum heap size; use column files for larger data sets.
+     * 
+     * @param length the number of elements
+     * @return a new zero-filled column
+     */
+    public static DoubleBuffer allocateColumn(int length) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(length, Double.BYTES))
+            .order(ByteOrder.nativeOrder())
+            .asDoubleBuffer();
+    }
+    
+    /**
+     * Evaluates {@code left[i] operator right[i]} into {@code results[i]} for the
+     * remaining elements of each buffer. Buffer positions are not modified.
+     * 
+     * @param left the left operand column
+     * @param operator the operator symbol (+, -, *, /)
+     * @param right the right operand column
+     * @param results the result column
+     * @throws IllegalArgumentException if the operator is not supported or the columns differ in length
+     * @throws ArithmeticException if division by zero occurs; earlier blocks may already be written
+     */
+    public void evaluate(DoubleBuffer left, String operator, DoubleBuffer right, DoubleBuffer results) {
+        evaluate(left, operationFactory.createOperation(operator), right, results);
+    }
+    
+    /**
+     * Evaluates an operation over the remaining elements of each buffer.
+     * Buffer positions are not modified.
+     * 
+     * @param left the left operand column
+     * @param operation the operation to apply
+     * @param right the right operand column
+     * @param results the result column
+     * @throws IllegalArgumentException if the columns differ in length
+     * @throws ArithmeticException if the operation fails; earlier blocks may already be written
+     */
+    public void evaluate(DoubleBuffer left, Operation operation, DoubleBuffer right, DoubleBuffer results) {
+        int length = left.remaining();
+        if (right.remaining() != length || results.remaining() != length) {
+            throw new IllegalArgumentException("Columns must have the same length");
+        }
+        
+        int blockSize = Math.min(BLOCK_SIZE, length);
+        double[] leftBlock = new double[blockSize];
+        double[] rightBlock = new double[blockSize];
+        double[] resultBlock = new double[blockSize];
+        
+        for (int offset = 0; offset < length; offset += blockSize) {
+            int count = Math.min(blockSize, length - offset);
+            left.get(left.position() + offset, leftBlock, 0, count);
+            right.get(right.position() + offset, rightBlock, 0, count);
+            operation.execute(leftBlock, rightBlock, resultBlock, 0, count);
+            results.put(results.position() + offset, resultBlock, 0, count);
+        }
+    }
+    
+    /**
+     * Evaluates {@code (first[i] firstOperator second[i]) secondOperator third[i]} into
+     * {@code results[i]} for the remaining elements of each buffer, in one pass.
+     * Each block of the columns is read once and the intermediate values never
+     * leave the block, so a two-step formula costs one pass over the columns
+     * instead of two. A multiplication followed by an addition or subtraction is
+     * fused with {@link Math#fma(double, double, double)}. Buffer positions are not modified.
+     * 
+     * @param first the first operand column
+     * @param firstOperator the operator applied to the first and second operands
+     * @param second the second operand column
+     * @param secondOperator the operator applied to that result and the third operands
+     * @param third the third operand column
+     * @param results the result column
+     * @throws IllegalArgumentException if an operator is not supported or the columns differ in length
+     * @throws ArithmeticException if division by zero occurs; earlier blocks may already be written
+     */
+    public void evaluate(DoubleBuffer first, String firstOperator, DoubleBuffer second, String secondOperator,
+                         DoubleBuffer third, DoubleBuffer results) {
+        FusedOperation operation = operationFactory.createFusedOperation(firstOperator, secondOperator);
+        int length = first.remaining();
+        if (second.remaining() != length || third.remaining() != length || results.remaining() != length) {
+            throw new IllegalArgumentException("Columns must have the same length");
+        }
+        
+        int blockSize = Math.min(BLOCK_SIZE, length);
+        double[] firstBlock = new double[blockSize];
+        double[] secondBlock = new double[blockSize];
+        double[] thirdBlock = new double[blockSize];
+        
+        for (int offset = 0; offset < length; offset += blockSize) {
+            int count = Math.min(blockSize, length - offset);
+            first.get(first.position() + offset, firstBlock, 0, count);
+            second.get(second.position() + offset, secondBlock, 0, count);
+            third.get(third.position() + offset, thirdBlock, 0, count);
+            operation.execute(firstBlock, secondBlock, thirdBlock, firstBlock, 0, count);
+            results.put(results.position() + offset, firstBlock, 0, count);
+        }
+    }
+    
+    /**
+     * Evaluates an operator over two column files, writing a result column file.
+     * The inputs are validated before the result file is opened, so an invalid
+     * call leaves an existing result file untouched; it is then created or
+     * truncated to the length of the inputs.
+     * 
+     * @param left the left operand column file
+     * @param operator the operator symbol (+, -, *, /)
+     * @param right the right operand column file
+     * @param results the result column file, which must not be either operand file
+     * @return the number of elements evaluated
+     * @throws IOException if a file cannot be read or written
+     * @throws IllegalArgumentException if the operator is not supported, the files differ in length,
+     *         or the result file is an operand file
+     * @throws ArithmeticException if division by zero occurs
+     */
+    public long evaluate(Path left, String operator, Path right, Path results) throws IOException {
+        Operation operation = operationFactory.createOperation(operator);
+        
+        try (FileChannel leftChannel = FileChannel.open(left, StandardOpenOption.READ);
+             FileChannel rightChannel = FileChannel.open(right, StandardOpenOption.READ)) {
+            
+            long size = leftChannel.size();
+            if (size % Double.BYTES != 0) {
+                throw new IllegalArgumentException("Column file size is not a multiple of 8 bytes: " + left);
+            }
+            if (rightChannel.size() != size) {
+                throw new IllegalArgumentException("Columns must have the same length");
+            }
+            // Truncating an operand file would destroy the input before it is read
+            if (Files.exists(results) && (Files.isSameFile(results, left) || Files.isSameFile(results, right))) {
+                throw new IllegalArgumentException("Result column file must differ from the operand files: " + results);
+            }
+            
+            try (FileChannel resultChannel = FileChannel.open(results, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                return evaluateWindows(leftChannel, operation, rightChannel, resultChannel, size / Double.BYTES);
+            }
+        }
+    }
+    
+    /**
+     * Evaluates an operation over open column files, one mapped window at a time.
+     */
+    private long evaluateWindows(FileChannel leftChannel, Operation operation, FileChannel rightChannel,
+                                 FileChannel resultChannel, long elements) throws IOException {
+        for (long start = 0; start < elements; start += windowElements) {
+            long count = Math.min(windowElements, elements - start);
+            long offset = start * Double.BYTES;
+            long bytes = count * Double.BYTES;
+            
+            evaluate(
+                map(leftChannel, FileChannel.MapMode.READ_ONLY, offset, bytes),
+                operation,
+                map(rightChannel, FileChannel.MapMode.READ_ONLY, offset, bytes),
+                map(resultChannel, FileChannel.MapMode.READ_WRITE, offset, bytes)
+            );
+        }
+        return elements;
+    }
+    
+    private static DoubleBuffer map(FileChannel channel, FileChannel.MapMode mode, long offset, long bytes)
+            throws IOException {
+        MappedByteBuffer buffer = channel.map(mode, offset, bytes);
+        return buffer.order(ByteOrder.nativeOrder()).asDoubleBuffer();
+    }
+}
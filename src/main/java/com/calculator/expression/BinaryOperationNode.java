@@ -0,0 +1,48 @@
+package com.calculator.expression;
+
+import com.calculator.operation.Operation;
+
+/**
+ * Binary operation node, dispatching to an existing {@link Operation}.
+ */
+final class BinaryOperationNode implements ExpressionNode {
+    
+    private final Operation operation;
+    private final ExpressionNode left;
+    private final ExpressionNode right;
+    private final int depth;
+    
+    BinaryOperationNode(Operation operation, ExpressionNode left, ExpressionNode right) {
+        this.operation = operation;
+        this.left = left;
+        this.right = right;
+        this.depth = Math.max(left.depth(), right.depth()) + 1;
+    }
+    
+    Operation getOperation() {
+        return operation;
+    }
+    
+    ExpressionNode getLeft() {
+        return left;
+    }
+    
+    ExpressionNode getRight() {
+        return right;
+    }
+    
+    @Override
+    public int depth() {
+        return depth;
+    }
+    
+    @Override
+    public double evaluate(double[] variables) {
+        return operation.execute(left.evaluate(variables), right.evaluate(variables));
+    }
+    
+    @Override
+    public String toString() {
+        return "(" + left + " " + operation.getSymbol() + " " + right + ")";
+    }
+}
@@ -0,0 +1,17 @@
+package com.calculator.expression;
+
+/**
+ * Expression compiled to bytecode by {@link ExpressionCompiler}.
+ */
+public interface CompiledExpression {
+    
+    /**
+     * Evaluates the expression with the given variable values.
+     * 
+     * @param variables the variable values, in the order of {@link Expression#getVariableNames()};
+     *        passing fewer values than there are variables throws ArrayIndexOutOfBoundsException
+     * @return the value of the expression
+     * @throws ArithmeticException if an operation cannot be performed (e.g., division by zero)
+     */
+    double evaluate(double... variables);
+}
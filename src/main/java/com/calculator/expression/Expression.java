@@ -0,0 +1,84 @@
+package com.calculator.expression;
+
+import java.util.List;
+
+/**
+ * Compiled, immutable arithmetic expression.
+ * An expression is parsed once by {@link ExpressionParser} and can then be
+ * evaluated any number of times, from any number of threads, without
+ * re-parsing and without allocation. Variables are bound by position, in the
+ * order returned by {@link #getVariableNames()}.
+ */
+public final class Expression {
+    
+    private static final double[] NO_VARIABLES = new double[0];
+    
+    private final String source;
+    private final ExpressionNode root;
+    private final List<String> variableNames;
+    
+    Expression(String source, ExpressionNode root, List<String> variableNames) {
+        this.source = source;
+        this.root = root;
+        this.variableNames = List.copyOf(variableNames);
+    }
+    
+    /**
+     * Evaluates an expression that has no variables.
+     * 
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the expression has variables
+     * @throws ArithmeticException if an operation cannot be performed (e.g., division by zero)
+     */
+    public double evaluate() {
+        return evaluate(NO_VARIABLES);
+    }
+    
+    /**
+     * Evaluates the expression with the given variable values.
+     * 
+     * @param variables the variable values, in the order of {@link #getVariableNames()}
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the number of values does not match the number of variables
+     * @throws ArithmeticException if an operation cannot be performed (e.g., division by zero)
+     */
+    public double evaluate(double... variables) {
+        if (variables.length != variableNames.size()) {
+            throw new IllegalArgumentException("Expected " + variableNames.size()
+                + " variable value(s) for " + variableNames + ", got " + variables.length);
+        }
+        return root.evaluate(variables);
+    }
+    
+    /**
+     * Returns the variable names in slot order.
+     * 
+     * @return unmodifiable list of variable names
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+    
+    /**
+     * Returns the source text this expression was parsed from.
+     * 
+     * @return the source text
+     */
+    public String getSource() {
+        return source;
+    }
+    
+    ExpressionNode getRoot() {
+        return root;
+    }
+    
+    /**
+     * Returns the fully parenthesized form of the expression.
+     * 
+     * @return parenthesized expression text
+     */
+    @Override
+    public String toString() {
+        return root.toString();
+    }
+}
@@ -0,0 +1,371 @@
+package com.calculator.expression;
+
+import com.calculator.operation.AdditionOperation;
+import com.calculator.operation.DivisionOperation;
+import com.calculator.operation.MultiplicationOperation;
+import com.calculator.operation.Operation;
+import com.calculator.operation.SubtractionOperation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles expressions to bytecode for JIT-speed repeated evaluation.
+ * Each expression becomes a hidden class whose evaluate method contains the
+ * whole tree as straight-line bytecode: the built-in +, -, * are emitted as
+ * the corresponding double instructions and / calls
+ * {@link DivisionOperation#divide(double, double)}, so there are no virtual
+ * calls left for the built-in operators and the division-by-zero semantics
+ * are unchanged. Other registered operators are invoked through their
+ * {@link Operation} instance.
+ * Expressions too large for a single method fall back to the tree-walking
+ * interpreter. Generated classes are unloaded once they become unreachable.
+ */
+public class ExpressionCompiler {
+    
+    private static final String CLASS_NAME = "com/calculator/expression/GeneratedExpression";
+    private static final String OPERATION_CLASS = "com/calculator/operation/Operation";
+    private static final String OPERATIONS_FIELD = "operations";
+    private static final String OPERATIONS_DESCRIPTOR = "[L" + OPERATION_CLASS + ";";
+    
+    // Class file limits
+    private static final int CLASS_FILE_VERSION = 65;  // Java 21
+    private static final int MAX_CODE_LENGTH = 65535;
+    private static final int MAX_STACK = 65535;
+    private static final int MAX_CONSTANT_POOL_COUNT = 65535;
+    
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    
+    /**
+     * Compiles an expression to a hidden class.
+     * 
+     * @param expression the parsed expression
+     * @return the compiled expression
+     */
+    public CompiledExpression compile(Expression expression) {
+        ClassWriter writer = new ClassWriter();
+        byte[] classBytes = writer.generate(expression.getRoot());
+        if (classBytes == null) {
+            return expression::evaluate;
+        }
+        
+        try {
+            MethodHandles.Lookup generated = lookup.defineHiddenClass(classBytes, true);
+            return (CompiledExpression) generated
+                .findConstructor(generated.lookupClass(), MethodType.methodType(void.class, Operation[].class))
+                .invoke((Object) writer.operations.toArray(new Operation[0]));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to compile expression: " + expression.getSource(), e);
+        }
+    }
+    
+    /**
+     * Builds the class file for one expression.
+     */
+    private static final class ClassWriter {
+        private final ConstantPool constantPool = new ConstantPool();
+        private final List<Operation> operations = new ArrayList<>();
+        private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+        private int stack;
+        private int maxStack;
+        
+        /**
+         * Generates the class file, or returns null if the expression is too large.
+         */
+        byte[] generate(ExpressionNode root) {
+            emitNode(root);
+            emit(0xAF, -2);  // dreturn
+            if (code.size() > MAX_CODE_LENGTH || maxStack > MAX_STACK) {
+                return null;
+            }
+            
+            try {
+                byte[] classBytes = writeClass();
+                return constantPool.count <= MAX_CONSTANT_POOL_COUNT ? classBytes : null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        private void emitNode(ExpressionNode node) {
+            if (node instanceof NumberNode) {
+                emitConstant(((NumberNode) node).getValue());
+            } else if (node instanceof VariableNode) {
+                emit(0x2B, 1);  // aload_1
+                emitInt(((VariableNode) node).getSlot());
+                emit(0x31, 0);  // daload: pops array and index, pushes a double
+            } else if (node instanceof NegationNode) {
+                emitNode(((NegationNode) node).getOperand());
+                emit(0x77, 0);  // dneg
+            } else if (node instanceof BinaryOperationNode) {
+                emitBinary((BinaryOperationNode) node);
+            } else {
+                throw new IllegalArgumentException("Unsupported expression node: " + node);
+            }
+        }
+        
+        private void emitBinary(BinaryOperationNode node) {
+            Class<?> type = node.getOperation().getClass();
+            if (type == AdditionOperation.class || type == SubtractionOperation.class
+                    || type == MultiplicationOperation.class) {
+                emitNode(node.getLeft());
+                emitNode(node.getRight());
+                int opcode = type == AdditionOperation.class ? 0x63      // dadd
+                    : type == SubtractionOperation.class ? 0x67          // dsub
+                    : 0x6B;                                              // dmul
+                emit(opcode, -2);
+            } else if (type == DivisionOperation.class) {
+                emitNode(node.getLeft());
+                emitNode(node.getRight());
+                emit(0xB8, -2);  // invokestatic
+                emitShort(constantPool.methodRef("com/calculator/operation/DivisionOperation", "divide", "(DD)D"));
+            } else {
+                int index = operations.indexOf(node.getOperation());
+                if (index < 0) {
+                    index = operations.size();
+                    operations.add(node.getOperation());
+                }
+                emit(0x2A, 1);  // aload_0
+                emit(0xB4, 0);  // getfield
+                emitShort(constantPool.fieldRef(CLASS_NAME, OPERATIONS_FIELD, OPERATIONS_DESCRIPTOR));
+                emitInt(index);
+                emit(0x32, -1);  // aaload
+                emitNode(node.getLeft());
+                emitNode(node.getRight());
+                emit(0xB9, -3);  // invokeinterface: pops receiver and two doubles, pushes a double
+                emitShort(constantPool.interfaceMethodRef(OPERATION_CLASS, "execute", "(DD)D"));
+                code.write(5);  // argument slots including the receiver
+                code.write(0);
+            }
+        }
+        
+        private void emitConstant(double value) {
+            if (Double.doubleToRawLongBits(value) == 0L) {
+                emit(0x0E, 2);  // dconst_0
+            } else if (value == 1.0) {
+                emit(0x0F, 2);  // dconst_1
+            } else {
+                emit(0x14, 2);  // ldc2_w
+                emitShort(constantPool.doubleConstant(value));
+            }
+        }
+        
+        private void emitInt(int value) {
+            if (value <= 5) {
+                emit(0x03 + value, 1);  // iconst_<n>
+            } else if (value <= Byte.MAX_VALUE) {
+                emit(0x10, 1);  // bipush
+                code.write(value);
+            } else if (value <= Short.MAX_VALUE) {
+                emit(0x11, 1);  // sipush
+                emitShort(value);
+            } else {
+                emit(0x13, 1);  // ldc_w
+                emitShort(constantPool.integerConstant(value));
+            }
+        }
+        
+        /**
+         * Emits an opcode and tracks the operand stack depth in slots.
+         */
+        private void emit(int opcode, int stackDelta) {
+            code.write(opcode);
+            stack += stackDelta;
+            maxStack = Math.max(maxStack, stack);
+        }
+        
+        private void emitShort(int value) {
+            code.write(value >>> 8);
+            code.write(value);
+        }
+        
+        private byte[] writeClass() throws IOException {
+            int thisClass = constantPool.classRef(CLASS_NAME);
+            int superClass = constantPool.classRef("java/lang/Object");
+            int interfaceClass = constantPool.classRef("com/calculator/expression/CompiledExpression");
+            int fieldName = constantPool.utf8(OPERATIONS_FIELD);
+            int fieldDescriptor = constantPool.utf8(OPERATIONS_DESCRIPTOR);
+            int fieldRef = constantPool.fieldRef(CLASS_NAME, OPERATIONS_FIELD, OPERATIONS_DESCRIPTOR);
+            int objectInit = constantPool.methodRef("java/lang/Object", "<init>", "()V");
+            int initName = constantPool.utf8("<init>");
+            int initDescriptor = constantPool.utf8("(" + OPERATIONS_DESCRIPTOR + ")V");
+            int evaluateName = constantPool.utf8("evaluate");
+            int evaluateDescriptor = constantPool.utf8("([D)D");
+            int codeAttribute = constantPool.utf8("Code");
+            
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_FILE_VERSION);
+            constantPool.write(out);
+            out.writeShort(ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(interfaceClass);
+            
+            // private final Operation[] operations;
+            out.writeShort(1);
+            out.writeShort(ACC_PRIVATE | ACC_FINAL);
+            out.writeShort(fieldName);
+            out.writeShort(fieldDescriptor);
+            out.writeShort(0);
+            
+            out.writeShort(2);
+            
+            // Constructor storing the operations array
+            byte[] initCode = {
+                0x2A,                                                       // aload_0
+                (byte) 0xB7, (byte) (objectInit >>> 8), (byte) objectInit,  // invokespecial Object.<init>
+                0x2A,                                                       // aload_0
+                0x2B,                                                       // aload_1
+                (byte) 0xB5, (byte) (fieldRef >>> 8), (byte) fieldRef,      // putfield operations
+                (byte) 0xB1                                                 // return
+            };
+            writeMethod(out, ACC_PUBLIC, initName, initDescriptor, codeAttribute, 2, 2, initCode);
+            
+            // public double evaluate(double[] variables)
+            writeMethod(out, ACC_PUBLIC, evaluateName, evaluateDescriptor, codeAttribute,
+                Math.max(maxStack, 1), 2, code.toByteArray());
+            
+            out.writeShort(0);
+            return bytes.toByteArray();
+        }
+        
+        private static void writeMethod(DataOutputStream out, int access, int name, int descriptor,
+                                        int codeAttribute, int maxStack, int maxLocals, byte[] code)
+                throws IOException {
+            out.writeShort(access);
+            out.writeShort(name);
+            out.writeShort(descriptor);
+            out.writeShort(1);
+            out.writeShort(codeAttribute);
+            out.writeInt(12 + code.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0);  // exception table
+            out.writeShort(0);  // attributes
+        }
+    }
+    
+    /**
+     * Constant pool with de-duplicated entries.
+     */
+    private static final class ConstantPool {
+        private static final int UTF8 = 1;
+        private static final int INTEGER = 3;
+        private static final int DOUBLE = 6;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int INTERFACE_METHOD_REF = 11;
+        private static final int NAME_AND_TYPE = 12;
+        
+        private final ByteArrayOutputStream entries = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(entries);
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int count = 1;
+        
+        int utf8(String value) {
+            return entry("U" + value, 1, () -> {
+                out.writeByte(UTF8);
+                out.writeUTF(value);
+            });
+        }
+        
+        int integerConstant(int value) {
+            return entry("I" + value, 1, () -> {
+                out.writeByte(INTEGER);
+                out.writeInt(value);
+            });
+        }
+        
+        int doubleConstant(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            // Double entries take two constant pool slots
+            return entry("D" + bits, 2, () -> {
+                out.writeByte(DOUBLE);
+                out.writeLong(bits);
+            });
+        }
+        
+        int classRef(String name) {
+            int nameIndex = utf8(name);
+            return entry("C" + name, 1, () -> {
+                out.writeByte(CLASS);
+                out.writeShort(nameIndex);
+            });
+        }
+        
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(FIELD_REF, owner, name, descriptor);
+        }
+        
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(METHOD_REF, owner, name, descriptor);
+        }
+        
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(INTERFACE_METHOD_REF, owner, name, descriptor);
+        }
+        
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + ":" + descriptor, 1, () -> {
+                out.writeByte(NAME_AND_TYPE);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return entry("M" + tag + owner + "." + name + ":" + descriptor, 1, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+        
+        private int entry(String key, int slots, EntryWriter writer) {
+            Integer existing = indexes.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            int index = count;
+            count += slots;
+            indexes.put(key, index);
+            return index;
+        }
+        
+        void write(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            entries.writeTo(target);
+        }
+        
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.calculator.expression;
+
+/**
+ * Node of an immutable expression tree.
+ */
+interface ExpressionNode {
+    
+    /**
+     * Evaluates this node.
+     * 
+     * @param variables the variable values, indexed by variable slot
+     * @return the value of this node
+     * @throws ArithmeticException if an operation cannot be performed (e.g., division by zero)
+     */
+    double evaluate(double[] variables);
+    
+    /**
+     * Returns the number of operation nodes on the longest path from this node to a leaf,
+     * which bounds the recursion depth of evaluating or compiling it.
+     * 
+     * @return the depth, 0 for numbers and variables
+     */
+    default int depth() {
+        return 0;
+    }
+}
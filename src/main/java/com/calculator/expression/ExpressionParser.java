@@ -0,0 +1,258 @@
+package com.calculator.expression;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.factory.OperatorRegistry;
+import com.calculator.operation.Operation;
+import com.calculator.util.FastDoubleParser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recursive-descent parser for arithmetic expressions.
+ * Supports numbers, variables, parentheses, unary minus and every operator in
+ * the {@link OperatorRegistry}. "+" and "-" bind weaker than all other
+ * operators, and operators of equal precedence associate to the left, so
+ * "2 + 3 * 4 - 1" is parsed as "(2 + (3 * 4)) - 1".
+ * 
+ * <pre>
+ * expression := term (("+" | "-") term)*
+ * term       := unary (operator unary)*
+ * unary      := ("-" | "+") unary | primary
+ * primary    := number | variable | "(" expression ")"
+ * </pre>
+ * 
+ * Parentheses and signs may be nested at most {@link #MAX_NESTING} levels deep,
+ * and the resulting tree may be at most {@link #MAX_DEPTH} operations deep, so
+ * that neither parsing nor evaluating an expression can overflow the stack; a
+ * chain of operators such as "1 + 1 + ... + 1" is one operation deeper per operator.
+ */
+public class ExpressionParser {
+    
+    /**
+     * The maximum number of nested parentheses and signs.
+     */
+    public static final int MAX_NESTING = 1000;
+    
+    /**
+     * The maximum number of operations on a path from the root of an expression tree to a leaf.
+     */
+    public static final int MAX_DEPTH = 2000;
+    
+    private final OperatorRegistry registry;
+    private final FastDoubleParser doubleParser = new FastDoubleParser();
+    
+    /**
+     * Constructs an ExpressionParser backed by the default operator registry.
+     */
+    public ExpressionParser() {
+        this(OperatorRegistry.getDefault());
+    }
+    
+    /**
+     * Constructs an ExpressionParser backed by a custom operator registry.
+     * 
+     * @param registry the registry defining the supported operators
+     */
+    public ExpressionParser(OperatorRegistry registry) {
+        this.registry = registry;
+    }
+    
+    /**
+     * Parses an expression.
+     * 
+     * @param text the expression text
+     * @return the compiled expression
+     * @throws InvalidArgumentException if the text is not a valid expression
+     */
+    public Expression parse(String text) throws InvalidArgumentException {
+        if (text == null || text.isBlank()) {
+            throw new InvalidArgumentException("Expression cannot be empty");
+        }
+        
+        Parser parser = new Parser(text);
+        ExpressionNode root = parser.parseExpression();
+        parser.skipWhitespace();
+        if (parser.position < text.length()) {
+            throw parser.unexpected();
+        }
+        return new Expression(text, root, parser.variableNames);
+    }
+    
+    /**
+     * Parsing state for a single expression.
+     */
+    private final class Parser {
+        private final String text;
+        private final List<String> variableNames = new ArrayList<>();
+        private int position;
+        private int depth;
+        
+        Parser(String text) {
+            this.text = text;
+        }
+        
+        ExpressionNode parseExpression() throws InvalidArgumentException {
+            ExpressionNode node = parseTerm();
+            while (true) {
+                Operation operation = peekOperator();
+                if (operation == null || !isAdditive(operation)) {
+                    return node;
+                }
+                position++;
+                node = checkDepth(new BinaryOperationNode(operation, node, parseTerm()));
+            }
+        }
+        
+        ExpressionNode parseTerm() throws InvalidArgumentException {
+            ExpressionNode node = parseUnary();
+            while (true) {
+                Operation operation = peekOperator();
+                if (operation == null || isAdditive(operation)) {
+                    return node;
+                }
+                position++;
+                node = checkDepth(new BinaryOperationNode(operation, node, parseUnary()));
+            }
+        }
+        
+        ExpressionNode parseUnary() throws InvalidArgumentException {
+            skipWhitespace();
+            if (position < text.length()) {
+                char c = text.charAt(position);
+                if (c == '-') {
+                    enter();
+                    ExpressionNode operand = parseUnary();
+                    depth--;
+                    // Fold negative literals so "-5" stays a single number
+                    if (operand instanceof NumberNode) {
+                        return new NumberNode(-((NumberNode) operand).getValue());
+                    }
+                    return checkDepth(new NegationNode(operand));
+                }
+                if (c == '+') {
+                    enter();
+                    ExpressionNode operand = parseUnary();
+                    depth--;
+                    return operand;
+                }
+            }
+            return parsePrimary();
+        }
+        
+        ExpressionNode parsePrimary() throws InvalidArgumentException {
+            skipWhitespace();
+            if (position >= text.length()) {
+                throw new InvalidArgumentException("Invalid expression: unexpected end of input");
+            }
+            
+            char c = text.charAt(position);
+            if (c == '(') {
+                enter();
+                ExpressionNode node = parseExpression();
+                depth--;
+                skipWhitespace();
+                if (position >= text.length() || text.charAt(position) != ')') {
+                    throw new InvalidArgumentException("Invalid expression: missing ')' at position " + (position + 1));
+                }
+                position++;
+                return node;
+            }
+            if (Character.isDigit(c) || c == '.') {
+                return parseNumber();
+            }
+            if (Character.isLetter(c) || c == '_') {
+                return parseVariable();
+            }
+            throw unexpected();
+        }
+        
+        ExpressionNode parseNumber() throws InvalidArgumentException {
+            int start = position;
+            while (position < text.length() && (Character.isDigit(text.charAt(position)) || text.charAt(position) == '.')) {
+                position++;
+            }
+            if (position < text.length() && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+                int exponent = position + 1;
+                if (exponent < text.length() && (text.charAt(exponent) == '+' || text.charAt(exponent) == '-')) {
+                    exponent++;
+                }
+                if (exponent < text.length() && Character.isDigit(text.charAt(exponent))) {
+                    position = exponent;
+                    while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                        position++;
+                    }
+                }
+            }
+            
+            try {
+                double value = doubleParser.parse(text, start, position);
+                if (Double.isInfinite(value)) {
+                    throw new InvalidArgumentException(
+                        "Invalid expression: number out of range: " + text.substring(start, position));
+                }
+                return new NumberNode(value);
+            } catch (NumberFormatException e) {
+                throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+            }
+        }
+        
+        ExpressionNode parseVariable() {
+            int start = position;
+            while (position < text.length()
+                    && (Character.isLetterOrDigit(text.charAt(position)) || text.charAt(position) == '_')) {
+                position++;
+            }
+            
+            String name = text.substring(start, position);
+            int slot = variableNames.indexOf(name);
+            if (slot < 0) {
+                slot = variableNames.size();
+                variableNames.add(name);
+            }
+            return new VariableNode(name, slot);
+        }
+        
+        Operation peekOperator() {
+            skipWhitespace();
+            return position < text.length() ? registry.lookup(text.charAt(position)) : null;
+        }
+        
+        void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+        
+        /**
+         * Consumes the opening parenthesis or sign at the current position,
+         * entering one more level of nesting.
+         */
+        void enter() throws InvalidArgumentException {
+            if (depth == MAX_NESTING) {
+                throw new InvalidArgumentException("Invalid expression: nested deeper than " + MAX_NESTING
+                    + " levels at position " + (position + 1));
+            }
+            depth++;
+            position++;
+        }
+        
+        ExpressionNode checkDepth(ExpressionNode node) throws InvalidArgumentException {
+            if (node.depth() > MAX_DEPTH) {
+                throw new InvalidArgumentException("Invalid expression: more than " + MAX_DEPTH
+                    + " nested operations at position " + position);
+            }
+            return node;
+        }
+        
+        InvalidArgumentException unexpected() {
+            return new InvalidArgumentException("Invalid expression: unexpected '" + text.charAt(position)
+                + "' at position " + (position + 1));
+        }
+    }
+    
+    private static boolean isAdditive(Operation operation) {
+        String symbol = operation.getSymbol();
+        return "+".equals(symbol) || "-".equals(symbol);
+    }
+}
@@ -0,0 +1,34 @@
+package com.calculator.expression;
+
+/**
+ * Unary minus node.
+ */
+final class NegationNode implements ExpressionNode {
+    
+    private final ExpressionNode operand;
+    private final int depth;
+    
+    NegationNode(ExpressionNode operand) {
+        this.operand = operand;
+        this.depth = operand.depth() + 1;
+    }
+    
+    ExpressionNode getOperand() {
+        return operand;
+    }
+    
+    @Override
+    public int depth() {
+        return depth;
+    }
+    
+    @Override
+    public double evaluate(double[] variables) {
+        return -operand.evaluate(variables);
+    }
+    
+    @Override
+    public String toString() {
+        return "(-" + operand + ")";
+    }
+}
@@ -0,0 +1,27 @@
+package com.calculator.expression;
+
+/**
+ * Numeric literal node.
+ */
+final class NumberNode implements ExpressionNode {
+    
+    private final double value;
+    
+    NumberNode(double value) {
+        this.value = value;
+    }
+    
+    double getValue() {
+        return value;
+    }
+    
+    @Override
+    public double evaluate(double[] variables) {
+        return value;
+    }
+    
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
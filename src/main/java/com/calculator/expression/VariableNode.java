@@ -0,0 +1,33 @@
+package com.calculator.expression;
+
+/**
+ * Variable reference node, bound to a slot in the variable array.
+ */
+final class VariableNode implements ExpressionNode {
+    
+    private final String name;
+    private final int slot;
+    
+    VariableNode(String name, int slot) {
+        this.name = name;
+        this.slot = slot;
+    }
+    
+    String getName() {
+        return name;
+    }
+    
+    int getSlot() {
+        return slot;
+    }
+    
+    @Override
+    public double evaluate(double[] variables) {
+        return variables[slot];
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+}
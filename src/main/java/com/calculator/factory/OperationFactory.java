@@ -1,17 +1,69 @@
 package com.calculator.factory;
 
+import com.calculator.operation.DecimalAdditionOperation;
+import com.calculator.operation.DecimalDivisionOperation;
+import com.calculator.operation.DecimalMultiplicationOperation;
+import com.calculator.operation.DecimalOperation;
+import com.calculator.operation.DecimalSubtractionOperation;
+import com.calculator.operation.FixedPointAdditionOperation;
+import com.calculator.operation.FixedPointDivisionOperation;
+import com.calculator.operation.FixedPointMultiplicationOperation;
+import com.calculator.operation.FixedPointOperation;
+import com.calculator.operation.FixedPointSubtractionOperation;
+import com.calculator.operation.FusedOperation;
+import com.calculator.operation.RationalAdditionOperation;
+import com.calculator.operation.RationalDivisionOperation;
+import com.calculator.operation.RationalMultiplicationOperation;
+import com.calculator.operation.RationalOperation;
+import com.calculator.operation.RationalSubtractionOperation;
 import com.calculator.operation.Operation;
-import com.calculator.operation.AdditionOperation;
-import com.calculator.operation.SubtractionOperation;
-import com.calculator.operation.MultiplicationOperation;
-import com.calculator.operation.DivisionOperation;
+
+import java.util.function.Function;
 
 /**
  * Factory class for creating operation instances.
  * Provides a centralized way to create operations based on operator symbols.
+ * Operations are stateless, so the shared instances held by the
+ * {@link OperatorRegistry} are returned instead of allocating new ones.
+ * The decimal, fixed-point and rational counterparts of the built-in operators
+ * are resolved through the same registry for the arbitrary-precision,
+ * fixed-scale and exact-fraction modes, so an operator is accepted by a mode
+ * only if the registry, and therefore the validator, accepts it too.
  */
 public class OperationFactory {
     
+    // The mode counterparts of the built-in operators, indexed by operator character
+    private static final DecimalOperation[] DECIMAL_OPERATIONS = index(
+            new DecimalOperation[OperatorRegistry.TABLE_SIZE], DecimalOperation::getSymbol,
+            new DecimalAdditionOperation(), new DecimalSubtractionOperation(),
+            new DecimalMultiplicationOperation(), new DecimalDivisionOperation());
+    private static final FixedPointOperation[] FIXED_POINT_OPERATIONS = index(
+            new FixedPointOperation[OperatorRegistry.TABLE_SIZE], FixedPointOperation::getSymbol,
+            new FixedPointAdditionOperation(), new FixedPointSubtractionOperation(),
+            new FixedPointMultiplicationOperation(), new FixedPointDivisionOperation());
+    private static final RationalOperation[] RATIONAL_OPERATIONS = index(
+            new RationalOperation[OperatorRegistry.TABLE_SIZE], RationalOperation::getSymbol,
+            new RationalAdditionOperation(), new RationalSubtractionOperation(),
+            new RationalMultiplicationOperation(), new RationalDivisionOperation());
+    
+    private final OperatorRegistry registry;
+    
+    /**
+     * Constructs an OperationFactory backed by the default operator registry.
+     */
+    public OperationFactory() {
+        this(OperatorRegistry.getDefault());
+    }
+    
+    /**
+     * Constructs an OperationFactory backed by a custom operator registry.
+     * 
+     * @param registry the registry to resolve operators from
+     */
+    public OperationFactory(OperatorRegistry registry) {
+        this.registry = registry;
+    }
+    
     /**
      * Creates an operation instance based on the operator symbol.
      * 
@@ -24,17 +76,94 @@ public class OperationFactory {
             throw new IllegalArgumentException("Operator cannot be null");
         }
         
-        switch (operator.trim()) {
-            case "+":
-                return new AdditionOperation();
-            case "-":
-                return new SubtractionOperation();
-            case "*":
-                return new MultiplicationOperation();
-            case "/":
-                return new DivisionOperation();
-            default:
-                throw new IllegalArgumentException("Unsupported operator: " + operator);
+        Operation operation = registry.lookup(operator);
+        if (operation == null) {
+            throw new IllegalArgumentException("Unsupported operator: " + operator);
         }
+        return operation;
+    }
+    
+    /**
+     * Creates the fused form of two operators, applying {@code (a first b) second c} in one pass.
+     * 
+     * @param first the operator applied to the first and second operands
+     * @param second the operator applied to that result and the third operand
+     * @return the fused operation
+     * @throws IllegalArgumentException if either operator is not supported
+     */
+    public FusedOperation createFusedOperation(String first, String second) {
+        return new FusedOperation(createOperation(first), createOperation(second));
+    }
+    
+    /**
+     * Creates the decimal operation for an operator symbol.
+     * 
+     * @param operator the operator symbol (+, -, *, /)
+     * @return the corresponding shared decimal operation instance
+     * @throws IllegalArgumentException if the operator has no decimal counterpart
+     */
+    public DecimalOperation createDecimalOperation(String operator) {
+        return lookup(DECIMAL_OPERATIONS, operator);
+    }
+    
+    /**
+     * Creates the fixed-point operation for an operator symbol.
+     * 
+     * @param operator the operator symbol (+, -, *, /)
+     * @return the corresponding shared fixed-point operation instance
+     * @throws IllegalArgumentException if the operator has no fixed-point counterpart
+     */
+    public FixedPointOperation createFixedPointOperation(String operator) {
+        return lookup(FIXED_POINT_OPERATIONS, operator);
+    }
+    
+    /**
+     * Creates the rational operation for an operator symbol.
+     * 
+     * @param operator the operator symbol (+, -, *, /)
+     * @return the corresponding shared rational operation instance
+     * @throws IllegalArgumentException if the operator has no rational counterpart
+     */
+    public RationalOperation createRationalOperation(String operator) {
+        return lookup(RATIONAL_OPERATIONS, operator);
+    }
+    
+    /**
+     * Resolves an operator through the registry and returns its counterpart in a
+     * mode table, so every mode supports exactly the registered operators it has
+     * an implementation for.
+     * 
+     * @param table the mode operations indexed by operator character
+     * @param operator the operator symbol
+     * @return the mode operation
+     * @throws IllegalArgumentException if the operator is not registered or has no
+     *         counterpart in the table
+     */
+    private <T> T lookup(T[] table, String operator) {
+        T operation = table[createOperation(operator).getSymbol().charAt(0)];
+        if (operation == null) {
+            throw new IllegalArgumentException("Unsupported operator: " + operator);
+        }
+        return operation;
+    }
+    
+    /**
+     * Stores operations in a table at the index of their operator character.
+     */
+    @SafeVarargs
+    private static <T> T[] index(T[] table, Function<T, String> symbol, T... operations) {
+        for (T operation : operations) {
+            table[symbol.apply(operation).charAt(0)] = operation;
+        }
+        return table;
+    }
+    
+    /**
+     * Returns the registry this factory resolves operators from.
+     * 
+     * @return the operator registry
+     */
+    public OperatorRegistry getRegistry() {
+        return registry;
     }
 }
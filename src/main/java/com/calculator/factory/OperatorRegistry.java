@@ -0,0 +1,137 @@
+package com.calculator.factory;
+
+import com.calculator.operation.AdditionOperation;
+import com.calculator.operation.DivisionOperation;
+import com.calculator.operation.MultiplicationOperation;
+import com.calculator.operation.Operation;
+import com.calculator.operation.SubtractionOperation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Registry of supported operators.
+ * Holds one shared, stateless Operation instance per operator and resolves
+ * operator symbols through a table indexed by the operator character.
+ * This is the single source of truth for the factory and the validator.
+ */
+public class OperatorRegistry {
+    
+    // Package-private so the factory indexes its per-mode tables the same way
+    static final int TABLE_SIZE = 128;
+    
+    private static final OperatorRegistry DEFAULT = new OperatorRegistry();
+    
+    // Replaced as a whole on registration so lookups never need locking
+    private volatile Operation[] table = new Operation[TABLE_SIZE];
+    private volatile List<Operation> operations = Collections.emptyList();
+    
+    /**
+     * Constructs a registry containing the built-in operators (+, -, *, /).
+     */
+    public OperatorRegistry() {
+        add(new AdditionOperation());
+        add(new SubtractionOperation());
+        add(new MultiplicationOperation());
+        add(new DivisionOperation());
+    }
+    
+    /**
+     * Returns the registry shared by the default factory and validator.
+     * 
+     * @return the default registry
+     */
+    public static OperatorRegistry getDefault() {
+        return DEFAULT;
+    }
+    
+    /**
+     * Registers an operation under its symbol. Intended to be called at startup.
+     * 
+     * @param operation the stateless operation to register
+     * @throws IllegalArgumentException if the symbol is not a single ASCII character
+     *         or is already registered
+     */
+    public synchronized void register(Operation operation) {
+        add(operation);
+    }
+    
+    // Private so that the constructor does not call a method a subclass may override
+    private void add(Operation operation) {
+        if (operation == null) {
+            throw new IllegalArgumentException("Operation cannot be null");
+        }
+        String symbol = operation.getSymbol();
+        if (symbol == null || symbol.length() != 1 || symbol.charAt(0) >= TABLE_SIZE
+                || Character.isWhitespace(symbol.charAt(0))) {
+            throw new IllegalArgumentException("Operator symbol must be a single ASCII character: " + symbol);
+        }
+        char key = symbol.charAt(0);
+        if (table[key] != null) {
+            throw new IllegalArgumentException("Operator already registered: " + symbol);
+        }
+        
+        Operation[] newTable = table.clone();
+        newTable[key] = operation;
+        List<Operation> newOperations = new ArrayList<>(operations);
+        newOperations.add(operation);
+        
+        table = newTable;
+        operations = Collections.unmodifiableList(newOperations);
+    }
+    
+    /**
+     * Looks up the operation for an operator character.
+     * 
+     * @param operator the operator character
+     * @return the registered operation, or null if none is registered
+     */
+    public Operation lookup(char operator) {
+        return operator < TABLE_SIZE ? table[operator] : null;
+    }
+    
+    /**
+     * Looks up the operation for an operator symbol, ignoring surrounding whitespace.
+     * 
+     * @param operator the operator symbol
+     * @return the registered operation, or null if the operator is null or not registered
+     */
+    public Operation lookup(String operator) {
+        if (operator == null) {
+            return null;
+        }
+        if (operator.length() == 1) {
+            return lookup(operator.charAt(0));
+        }
+        
+        // Slow path: the symbol is surrounded by whitespace
+        String trimmed = operator.trim();
+        return trimmed.length() == 1 ? lookup(trimmed.charAt(0)) : null;
+    }
+    
+    /**
+     * Returns the registered operations in registration order.
+     * 
+     * @return unmodifiable list of registered operations
+     */
+    public List<Operation> getOperations() {
+        return operations;
+    }
+    
+    /**
+     * Returns the registered operator symbols as a comma-separated list.
+     * 
+     * @return the supported operators, e.g. "+, -, *, /"
+     */
+    public String getSupportedOperators() {
+        StringBuilder builder = new StringBuilder();
+        for (Operation operation : operations) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(operation.getSymbol());
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,231 @@
+package com.calculator.metrics;
+
+import com.calculator.util.ErrorCategory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Registry of calculator metrics: calls per operator, errors per category, and
+ * latency histograms of the parse, validate and compute stages.
+ * Recording is disabled by default and then costs a single volatile read per
+ * stage; the daemon and server modes enable it and publish the
+ * {@link #shared() shared} instance as a platform MXBean.
+ * Stages are timed with the pattern:
+ * <pre>
+ * long start = metrics.startTimer();
+ * ... work ...
+ * metrics.recordParse(start);
+ * </pre>
+ */
+public final class CalculatorMetrics implements CalculatorMetricsMXBean {
+    
+    /**
+     * The name the shared instance is registered under.
+     */
+    public static final String OBJECT_NAME = "com.calculator:type=CalculatorMetrics";
+    
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+    
+    private static final CalculatorMetrics SHARED = new CalculatorMetrics();
+    
+    private volatile boolean enabled;
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    private final LatencyHistogram validateLatency = new LatencyHistogram();
+    private final ConcurrentHashMap<String, OperatorStats> operators = new ConcurrentHashMap<>();
+    private final LongAdder[] errors = new LongAdder[ErrorCategory.values().length];
+    
+    /**
+     * Constructs a disabled registry.
+     */
+    public CalculatorMetrics() {
+        for (int i = 0; i < errors.length; i++) {
+            errors[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Returns the registry shared by the whole application.
+     * 
+     * @return the shared registry
+     */
+    public static CalculatorMetrics shared() {
+        return SHARED;
+    }
+    
+    /**
+     * Registers this registry with the platform MBean server under {@link #OBJECT_NAME}.
+     * Does nothing if a registry is already registered under that name.
+     * 
+     * @throws IllegalStateException if the registration fails
+     */
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already published, e.g. by an earlier server in the same JVM
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register metrics MBean: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Starts timing a stage.
+     * 
+     * @return the start time to pass to a record method, or a marker if recording is disabled
+     */
+    public long startTimer() {
+        return enabled ? System.nanoTime() : NOT_TIMED;
+    }
+    
+    /**
+     * Records the duration of parsing the operands of a calculation.
+     * 
+     * @param start the value returned by {@link #startTimer()}
+     */
+    public void recordParse(long start) {
+        if (start != NOT_TIMED) {
+            parseLatency.record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Records the duration of validating a calculation.
+     * 
+     * @param start the value returned by {@link #startTimer()}
+     */
+    public void recordValidate(long start) {
+        if (start != NOT_TIMED) {
+            validateLatency.record(System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * Records a completed calculation and its duration.
+     * 
+     * @param operator the operator symbol
+     * @param start the value returned by {@link #startTimer()}
+     */
+    public void recordCompute(String operator, long start) {
+        if (start != NOT_TIMED) {
+            long elapsed = System.nanoTime() - start;
+            OperatorStats stats = operators.get(operator);
+            if (stats == null) {
+                stats = operators.computeIfAbsent(operator, key -> new OperatorStats());
+            }
+            stats.calls.increment();
+            stats.latency.record(elapsed);
+        }
+    }
+    
+    /**
+     * Records an error reported to the user.
+     * 
+     * @param category the error category
+     */
+    public void recordError(ErrorCategory category) {
+        if (enabled) {
+            errors[category.ordinal()].increment();
+        }
+    }
+    
+    @Override
+    public Map<String, Long> getOperatorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        operators.forEach((operator, stats) -> counts.put(operator, stats.calls.sum()));
+        return counts;
+    }
+    
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (ErrorCategory category : ErrorCategory.values()) {
+            counts.put(category.name(), errors[category.ordinal()].sum());
+        }
+        return counts;
+    }
+    
+    @Override
+    public Map<String, Long> getLatencyMedianNanos() {
+        return latencies(snapshot -> snapshot.getValueAtPercentile(50));
+    }
+    
+    @Override
+    public Map<String, Long> getLatency99thPercentileNanos() {
+        return latencies(snapshot -> snapshot.getValueAtPercentile(99));
+    }
+    
+    @Override
+    public Map<String, Long> getLatency999thPercentileNanos() {
+        return latencies(snapshot -> snapshot.getValueAtPercentile(99.9));
+    }
+    
+    @Override
+    public Map<String, Long> getLatencyMaxNanos() {
+        return latencies(LatencyHistogram.Snapshot::getMax);
+    }
+    
+    /**
+     * Returns a statistic of every stage histogram, keyed by stage name.
+     */
+    private Map<String, Long> latencies(ToLongFunction<LatencyHistogram.Snapshot> statistic) {
+        Map<String, Long> values = new TreeMap<>();
+        values.put("parse", statistic.applyAsLong(parseLatency.snapshot()));
+        values.put("validate", statistic.applyAsLong(validateLatency.snapshot()));
+        operators.forEach((operator, stats) ->
+            values.put("compute " + operator, statistic.applyAsLong(stats.latency.snapshot())));
+        return values;
+    }
+    
+    /**
+     * Returns the latency histogram of a stage.
+     * 
+     * @param stage "parse", "validate", or "compute " followed by an operator symbol
+     * @return the histogram, or null if the stage has not been recorded
+     */
+    public LatencyHistogram getLatencyHistogram(String stage) {
+        if ("parse".equals(stage)) {
+            return parseLatency;
+        }
+        if ("validate".equals(stage)) {
+            return validateLatency;
+        }
+        OperatorStats stats = stage.startsWith("compute ") ? operators.get(stage.substring(8)) : null;
+        return stats != null ? stats.latency : null;
+    }
+    
+    @Override
+    public void reset() {
+        parseLatency.reset();
+        validateLatency.reset();
+        operators.clear();
+        for (LongAdder error : errors) {
+            error.reset();
+        }
+    }
+    
+    /**
+     * Call count and latency of one operator.
+     */
+    private static final class OperatorStats {
+        private final LongAdder calls = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,43 @@
+package com.calculator.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link CalculatorMetrics}, registered with the platform
+ * MBean server as {@value CalculatorMetrics#OBJECT_NAME}.
+ * Latency maps are keyed by stage: "parse", "validate", and "compute " followed
+ * by the operator symbol.
+ */
+public interface CalculatorMetricsMXBean {
+    
+    boolean isEnabled();
+    
+    void setEnabled(boolean enabled);
+    
+    /**
+     * Returns the number of completed calculations per operator symbol.
+     * 
+     * @return the counts by operator
+     */
+    Map<String, Long> getOperatorCounts();
+    
+    /**
+     * Returns the number of reported errors per {@link com.calculator.util.ErrorCategory} name.
+     * 
+     * @return the counts by category
+     */
+    Map<String, Long> getErrorCounts();
+    
+    Map<String, Long> getLatencyMedianNanos();
+    
+    Map<String, Long> getLatency99thPercentileNanos();
+    
+    Map<String, Long> getLatency999thPercentileNanos();
+    
+    Map<String, Long> getLatencyMaxNanos();
+    
+    /**
+     * Clears all counts and histograms.
+     */
+    void reset();
+}
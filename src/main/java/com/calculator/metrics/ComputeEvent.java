@@ -0,0 +1,14 @@
+package com.calculator.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for executing the operation of a calculation.
+ */
+@Name("com.calculator.Compute")
+@Label("Calculator Compute")
+@Description("Executing the operation of a calculation")
+public final class ComputeEvent extends StageEvent {
+}
@@ -0,0 +1,14 @@
+package com.calculator.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for formatting a calculation result; the operator is not set.
+ */
+@Name("com.calculator.Format")
+@Label("Calculator Format")
+@Description("Formatting a calculation result")
+public final class FormatEvent extends StageEvent {
+}
@@ -0,0 +1,141 @@
+package com.calculator.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Concurrent histogram of non-negative values, typically latencies in nanoseconds.
+ * Values are counted in log-linear buckets: each power of two is split into
+ * eight equal sub-buckets, so any recorded value is reported with at most 12.5%
+ * relative error over the whole range of long, in a fixed 488-bucket array.
+ * Counts are striped by thread, so concurrent recorders rarely touch the same
+ * cache line; {@link #snapshot()} sums the stripes.
+ */
+public final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    
+    /**
+     * The number of buckets covering the values from 0 to Long.MAX_VALUE.
+     */
+    static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    
+    private static final int MAX_STRIPES = 8;
+    
+    private final AtomicLongArray counts;
+    private final int stripeMask;
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+    
+    /**
+     * Constructs a histogram with one stripe per processor, up to eight.
+     */
+    public LatencyHistogram() {
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+        this.counts = new AtomicLongArray(stripes * BUCKET_COUNT);
+        this.stripeMask = stripes - 1;
+    }
+    
+    /**
+     * Records one value. Negative values are recorded as zero.
+     * 
+     * @param value the value to record
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        int stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        counts.getAndIncrement(stripe * BUCKET_COUNT + indexOf(value));
+        max.accumulate(value);
+    }
+    
+    /**
+     * Returns the combined counts of all stripes. Values recorded concurrently
+     * may or may not be included.
+     * 
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] buckets = new long[BUCKET_COUNT];
+        for (int i = 0; i < counts.length(); i++) {
+            buckets[i % BUCKET_COUNT] += counts.get(i);
+        }
+        return new Snapshot(buckets, max.get());
+    }
+    
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+        max.reset();
+    }
+    
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((magnitude - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+    
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int magnitude = (index >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << (magnitude - SUB_BUCKET_BITS);
+    }
+    
+    static long highestValueAt(int index) {
+        return index == BUCKET_COUNT - 1 ? Long.MAX_VALUE : lowestValueAt(index + 1) - 1;
+    }
+    
+    /**
+     * Point-in-time copy of the counts of a histogram.
+     */
+    public static final class Snapshot {
+        private final long[] buckets;
+        private final long count;
+        private final long max;
+        
+        Snapshot(long[] buckets, long max) {
+            this.buckets = buckets;
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            this.count = total;
+            this.max = max;
+        }
+        
+        /**
+         * Returns the value below which the given percentage of recorded values fall,
+         * rounded up to the highest value of its bucket and capped at the maximum.
+         * 
+         * @param percentile the percentage, from 0 to 100
+         * @return the value, or 0 if nothing was recorded
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueAt(i), max);
+                }
+            }
+            return max;
+        }
+        
+        public long getCount() { return count; }
+        public long getMax() { return max; }
+    }
+}
@@ -0,0 +1,14 @@
+package com.calculator.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for parsing the operands of a calculation.
+ */
+@Name("com.calculator.Parse")
+@Label("Calculator Parse")
+@Description("Parsing the operands of a calculation")
+public final class ParseEvent extends StageEvent {
+}
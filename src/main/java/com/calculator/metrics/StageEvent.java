@@ -0,0 +1,47 @@
+package com.calculator.metrics;
+
+import com.calculator.util.ErrorCategory;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base of the JFR events emitted for the stages of a calculation.
+ * The events are disabled by default; until a recording enables them, creating,
+ * beginning and completing one is optimized away to nothing by the JIT.
+ * The event duration is the time of the stage.
+ * Stages are recorded with the pattern:
+ * <pre>
+ * ParseEvent event = new ParseEvent();
+ * event.begin();
+ * ... work ...
+ * event.complete(operator, error);
+ * </pre>
+ */
+@Category("Calculator")
+@Enabled(false)
+@StackTrace(false)
+abstract class StageEvent extends Event {
+    
+    @Label("Operator")
+    String operator;
+    
+    @Label("Outcome")
+    String outcome;
+    
+    /**
+     * Ends the event and commits it if it is enabled and passes the recording's threshold.
+     * 
+     * @param operator the operator symbol, or null if the stage does not know it
+     * @param error the category of the failure, or null if the stage succeeded
+     */
+    public final void complete(String operator, ErrorCategory error) {
+        if (shouldCommit()) {
+            this.operator = operator;
+            this.outcome = error == null ? "SUCCESS" : error.name();
+            commit();
+        }
+    }
+}
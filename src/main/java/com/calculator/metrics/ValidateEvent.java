@@ -0,0 +1,14 @@
+package com.calculator.metrics;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for validating a calculation.
+ */
+@Name("com.calculator.Validate")
+@Label("Calculator Validate")
+@Description("Validating the operands and operator of a calculation")
+public final class ValidateEvent extends StageEvent {
+}
@@ -0,0 +1,32 @@
+package com.calculator.operation;
+
+import java.math.MathContext;
+
+/**
+ * Decimal addition, equivalent to {@link java.math.BigDecimal#add(java.math.BigDecimal, MathContext)}.
+ */
+public class DecimalAdditionOperation implements DecimalOperation {
+    
+    @Override
+    public void execute(DecimalValue leftOperand, DecimalValue rightOperand, MathContext mathContext,
+                        DecimalValue result) {
+        if (leftOperand.isCompact() && rightOperand.isCompact()) {
+            int scale = Math.max(leftOperand.getScale(), rightOperand.getScale());
+            long left = DecimalValue.multiplyPowerOfTen(leftOperand.getUnscaled(), (long) scale - leftOperand.getScale());
+            long right = DecimalValue.multiplyPowerOfTen(rightOperand.getUnscaled(), (long) scale - rightOperand.getScale());
+            long sum = left + right;
+            if (left != DecimalValue.OVERFLOW && right != DecimalValue.OVERFLOW
+                    && ((left ^ sum) & (right ^ sum)) >= 0 && sum != DecimalValue.OVERFLOW
+                    && DecimalValue.fitsPrecision(sum, mathContext)) {
+                result.set(sum, scale);
+                return;
+            }
+        }
+        result.set(leftOperand.toBigDecimal().add(rightOperand.toBigDecimal(), mathContext));
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "+";
+    }
+}
@@ -0,0 +1,43 @@
+package com.calculator.operation;
+
+import java.math.MathContext;
+
+/**
+ * Decimal division, equivalent to {@link java.math.BigDecimal#divide(java.math.BigDecimal, MathContext)}.
+ * Quotients that are exact at the preferred scale (the difference of the operand
+ * scales) are computed on the unscaled longs; all others use BigDecimal.
+ */
+public class DecimalDivisionOperation implements DecimalOperation {
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws ArithmeticException if the divisor is zero, or if the precision is
+     *         unlimited and the quotient has a non-terminating decimal expansion
+     */
+    @Override
+    public void execute(DecimalValue leftOperand, DecimalValue rightOperand, MathContext mathContext,
+                        DecimalValue result) {
+        if (rightOperand.isZero()) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        if (leftOperand.isCompact() && rightOperand.isCompact()) {
+            long left = leftOperand.getUnscaled();
+            long right = rightOperand.getUnscaled();
+            long scale = (long) leftOperand.getScale() - rightOperand.getScale();
+            if (left % right == 0 && !(left == Long.MIN_VALUE && right == -1) && scale == (int) scale) {
+                long quotient = left / right;
+                if (DecimalValue.fitsPrecision(quotient, mathContext)) {
+                    result.set(quotient, (int) scale);
+                    return;
+                }
+            }
+        }
+        result.set(leftOperand.toBigDecimal().divide(rightOperand.toBigDecimal(), mathContext));
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "/";
+    }
+}
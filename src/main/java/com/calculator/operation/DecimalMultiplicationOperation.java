@@ -0,0 +1,31 @@
+package com.calculator.operation;
+
+import java.math.MathContext;
+
+/**
+ * Decimal multiplication, equivalent to {@link java.math.BigDecimal#multiply(java.math.BigDecimal, MathContext)}.
+ */
+public class DecimalMultiplicationOperation implements DecimalOperation {
+    
+    @Override
+    public void execute(DecimalValue leftOperand, DecimalValue rightOperand, MathContext mathContext,
+                        DecimalValue result) {
+        if (leftOperand.isCompact() && rightOperand.isCompact()) {
+            long left = leftOperand.getUnscaled();
+            long right = rightOperand.getUnscaled();
+            long product = left * right;
+            long scale = (long) leftOperand.getScale() + rightOperand.getScale();
+            if (Math.multiplyHigh(left, right) == (product >> 63) && scale == (int) scale
+                    && product != DecimalValue.OVERFLOW && DecimalValue.fitsPrecision(product, mathContext)) {
+                result.set(product, (int) scale);
+                return;
+            }
+        }
+        result.set(leftOperand.toBigDecimal().multiply(rightOperand.toBigDecimal(), mathContext));
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "*";
+    }
+}
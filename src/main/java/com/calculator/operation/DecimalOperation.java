@@ -0,0 +1,32 @@
+package com.calculator.operation;
+
+import java.math.MathContext;
+
+/**
+ * Interface for arithmetic operations on decimal numbers at a given precision.
+ * Each operation is the BigDecimal counterpart of a double {@link Operation}
+ * and produces the same result as the corresponding BigDecimal method with the
+ * given MathContext, including the scale of the result. Two compact operands
+ * are computed on their unscaled longs when the result fits exactly.
+ */
+public interface DecimalOperation {
+    
+    /**
+     * Executes the operation on two operands.
+     * The result may be the same instance as either operand.
+     * 
+     * @param leftOperand the left operand
+     * @param rightOperand the right operand
+     * @param mathContext the precision and rounding of the result
+     * @param result receives the result
+     * @throws ArithmeticException if the operation cannot be performed (e.g., division by zero)
+     */
+    void execute(DecimalValue leftOperand, DecimalValue rightOperand, MathContext mathContext, DecimalValue result);
+    
+    /**
+     * Returns the symbol representing this operation.
+     * 
+     * @return the operation symbol (e.g., "+", "-", "*", "/")
+     */
+    String getSymbol();
+}
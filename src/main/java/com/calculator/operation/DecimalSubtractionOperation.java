@@ -0,0 +1,32 @@
+package com.calculator.operation;
+
+import java.math.MathContext;
+
+/**
+ * Decimal subtraction, equivalent to {@link java.math.BigDecimal#subtract(java.math.BigDecimal, MathContext)}.
+ */
+public class DecimalSubtractionOperation implements DecimalOperation {
+    
+    @Override
+    public void execute(DecimalValue leftOperand, DecimalValue rightOperand, MathContext mathContext,
+                        DecimalValue result) {
+        if (leftOperand.isCompact() && rightOperand.isCompact()) {
+            int scale = Math.max(leftOperand.getScale(), rightOperand.getScale());
+            long left = DecimalValue.multiplyPowerOfTen(leftOperand.getUnscaled(), (long) scale - leftOperand.getScale());
+            long right = DecimalValue.multiplyPowerOfTen(rightOperand.getUnscaled(), (long) scale - rightOperand.getScale());
+            long difference = left - right;
+            if (left != DecimalValue.OVERFLOW && right != DecimalValue.OVERFLOW
+                    && ((left ^ right) & (left ^ difference)) >= 0 && difference != DecimalValue.OVERFLOW
+                    && DecimalValue.fitsPrecision(difference, mathContext)) {
+                result.set(difference, scale);
+                return;
+            }
+        }
+        result.set(leftOperand.toBigDecimal().subtract(rightOperand.toBigDecimal(), mathContext));
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "-";
+    }
+}
@@ -0,0 +1,273 @@
+package com.calculator.operation;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * Decimal number operated on by the {@link DecimalOperation}s.
+ * A value that fits is held unboxed as an unscaled long and a scale, meaning
+ * {@code unscaled × 10^-scale}, exactly like the parts of a BigDecimal; larger
+ * values are held as a BigDecimal. Operations on two compact values work on the
+ * longs directly and allocate a BigDecimal only when the result does not fit.
+ * Instances are mutable and meant to be reused, like {@code CalculationResult};
+ * not thread-safe.
+ */
+public final class DecimalValue {
+    
+    /**
+     * Returned by {@link #multiplyPowerOfTen(long, long)} when the result does not fit in a long.
+     * Never held as a compact unscaled value.
+     */
+    static final long OVERFLOW = Long.MIN_VALUE;
+    
+    private static final int MAX_COMPACT_DIGITS = 18;
+    
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+        10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+    
+    private long unscaled;
+    private int scale;
+    private BigDecimal big;
+    
+    /**
+     * Constructs a value of zero.
+     */
+    public DecimalValue() {
+    }
+    
+    /**
+     * Parses a decimal number, as accepted by {@link BigDecimal#BigDecimal(String)}.
+     * 
+     * @param text the number text
+     * @return the parsed value
+     * @throws NumberFormatException if the text is not a valid decimal number
+     */
+    public static DecimalValue parse(String text) {
+        return new DecimalValue().set(text);
+    }
+    
+    /**
+     * Sets this value by parsing a decimal number, as accepted by {@link BigDecimal#BigDecimal(String)}.
+     * Plain numbers with at most 18 significant digits are parsed without allocating.
+     * 
+     * @param text the number text
+     * @return this value
+     * @throws NumberFormatException if the text is not a valid decimal number
+     */
+    public DecimalValue set(String text) {
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            index++;
+        }
+        
+        long digits = 0;
+        int significant = 0;
+        int fraction = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; index < length; index++) {
+            char c = text.charAt(index);
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (significant > 0 || c != '0') {
+                    if (significant == MAX_COMPACT_DIGITS) {
+                        return set(parseBig(text));
+                    }
+                    digits = digits * 10 + (c - '0');
+                    significant++;
+                }
+                if (seenPoint) {
+                    fraction++;
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!seenDigit) {
+            throw invalid(text);
+        }
+        if (index < length) {
+            char c = text.charAt(index);
+            if (c != 'e' && c != 'E') {
+                throw invalid(text);
+            }
+            return set(parseBig(text));
+        }
+        return set(negative ? -digits : digits, fraction);
+    }
+    
+    private static BigDecimal parseBig(String text) {
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw invalid(text);
+        }
+    }
+    
+    private static NumberFormatException invalid(String text) {
+        return new NumberFormatException("For input string: \"" + text + "\"");
+    }
+    
+    /**
+     * Sets this value to {@code unscaled × 10^-scale}.
+     * 
+     * @param unscaled the unscaled value
+     * @param scale the scale
+     * @return this value
+     */
+    public DecimalValue set(long unscaled, int scale) {
+        if (unscaled == OVERFLOW) {
+            return set(BigDecimal.valueOf(unscaled, scale));
+        }
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.big = null;
+        return this;
+    }
+    
+    /**
+     * Sets this value to a BigDecimal.
+     * 
+     * @param value the value
+     * @return this value
+     */
+    public DecimalValue set(BigDecimal value) {
+        this.big = value;
+        return this;
+    }
+    
+    /**
+     * Returns whether this value is held as an unscaled long and a scale.
+     * 
+     * @return true if {@link #getUnscaled()} and {@link #getScale()} describe the value
+     */
+    public boolean isCompact() {
+        return big == null;
+    }
+    
+    /**
+     * Returns the unscaled value of a compact value.
+     * 
+     * @return the unscaled value
+     */
+    public long getUnscaled() {
+        return unscaled;
+    }
+    
+    /**
+     * Returns the scale of this value.
+     * 
+     * @return the scale
+     */
+    public int getScale() {
+        return big == null ? scale : big.scale();
+    }
+    
+    /**
+     * Returns whether this value is zero, at any scale.
+     * 
+     * @return true if the value is zero
+     */
+    public boolean isZero() {
+        return big == null ? unscaled == 0 : big.signum() == 0;
+    }
+    
+    /**
+     * Returns this value as a BigDecimal, creating one for compact values.
+     * 
+     * @return the value
+     */
+    public BigDecimal toBigDecimal() {
+        return big == null ? BigDecimal.valueOf(unscaled, scale) : big;
+    }
+    
+    /**
+     * Returns this value without an exponent, like {@link BigDecimal#toPlainString()}.
+     * 
+     * @return the plain string
+     */
+    public String toPlainString() {
+        if (big != null) {
+            return big.toPlainString();
+        }
+        if (scale == 0) {
+            return Long.toString(unscaled);
+        }
+        if (scale < 0) {
+            if (unscaled == 0) {
+                return "0";
+            }
+            StringBuilder builder = new StringBuilder(20 - scale).append(unscaled);
+            for (int i = scale; i < 0; i++) {
+                builder.append('0');
+            }
+            return builder.toString();
+        }
+        
+        String digits = Long.toString(Math.abs(unscaled));
+        StringBuilder builder = new StringBuilder(digits.length() + Math.max(scale, digits.length()) + 3);
+        if (unscaled < 0) {
+            builder.append('-');
+        }
+        int point = digits.length() - scale;
+        if (point > 0) {
+            builder.append(digits, 0, point).append('.').append(digits, point, digits.length());
+        } else {
+            builder.append("0.");
+            for (int i = point; i < 0; i++) {
+                builder.append('0');
+            }
+            builder.append(digits);
+        }
+        return builder.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return toPlainString();
+    }
+    
+    /**
+     * Multiplies a value by a power of ten.
+     * 
+     * @param value the value
+     * @param exponent the non-negative exponent
+     * @return the product, or {@link #OVERFLOW} if it does not fit in a long
+     */
+    static long multiplyPowerOfTen(long value, long exponent) {
+        if (exponent == 0 || value == 0) {
+            return value;
+        }
+        if (exponent >= POWERS_OF_TEN.length) {
+            return OVERFLOW;
+        }
+        long power = POWERS_OF_TEN[(int) exponent];
+        long product = value * power;
+        return Math.multiplyHigh(value, power) == (product >> 63) ? product : OVERFLOW;
+    }
+    
+    /**
+     * Returns whether an unscaled value has no more digits than the precision of a context,
+     * so that storing it is exact and needs no rounding.
+     * 
+     * @param value the unscaled value, not {@link #OVERFLOW}
+     * @param mathContext the context
+     * @return true if no rounding is needed
+     */
+    static boolean fitsPrecision(long value, MathContext mathContext) {
+        int precision = mathContext.getPrecision();
+        if (precision == 0 || precision > MAX_COMPACT_DIGITS) {
+            return true;
+        }
+        return Math.abs(value) < POWERS_OF_TEN[precision];
+    }
+}
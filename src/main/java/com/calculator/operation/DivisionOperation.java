@@ -1,18 +1,87 @@
 package com.calculator.operation;
 
+import java.math.BigInteger;
+import java.util.Objects;
+
 /**
  * Division operation implementation.
  */
 public class DivisionOperation implements Operation {
     
+    private static final double EPSILON = 1e-10;  // Use epsilon for double comparison
+    
     @Override
     public double execute(double leftOperand, double rightOperand) {
-        if (Math.abs(rightOperand) < 1e-10) {  // Use epsilon for double comparison
+        return divide(leftOperand, rightOperand);
+    }
+    
+    /**
+     * Divides two numbers, rejecting divisors within epsilon of zero.
+     * Shared with code that needs division semantics without an Operation instance.
+     * 
+     * @param dividend the dividend
+     * @param divisor the divisor
+     * @return the quotient
+     * @throws ArithmeticException if the divisor is zero
+     */
+    public static double divide(double dividend, double divisor) {
+        if (Math.abs(divisor) < EPSILON) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        return dividend / divisor;
+    }
+    
+    /**
+     * Divides two integers, producing an integer quotient when the division is exact
+     * and falling back to double division otherwise.
+     */
+    @Override
+    public Number executeExact(long leftOperand, long rightOperand) {
+        if (rightOperand == 0) {
             throw new ArithmeticException("Division by zero is not allowed");
         }
+        if (leftOperand % rightOperand != 0) {
+            return (double) leftOperand / rightOperand;
+        }
+        if (leftOperand == Long.MIN_VALUE && rightOperand == -1) {
+            return BigInteger.valueOf(leftOperand).negate();
+        }
         return leftOperand / rightOperand;
     }
     
+    /**
+     * Divides a range of operand arrays element-wise. All divisors are checked
+     * before any result is written, so a division by zero leaves the results unchanged.
+     */
+    @Override
+    public void execute(double[] leftOperands, double[] rightOperands, double[] results, int from, int to) {
+        Objects.checkFromToIndex(from, to, leftOperands.length);
+        Objects.checkFromToIndex(from, to, rightOperands.length);
+        Objects.checkFromToIndex(from, to, results.length);
+        
+        // Check all divisors up front so the division loop stays branch-free
+        checkDivisors(rightOperands, from, to);
+        for (int i = from; i < to; i++) {
+            results[i] = leftOperands[i] / rightOperands[i];
+        }
+    }
+    
+    /**
+     * Checks a range of divisors, rejecting any within epsilon of zero.
+     * 
+     * @param divisors the divisors
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @throws ArithmeticException if any divisor is zero
+     */
+    static void checkDivisors(double[] divisors, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Math.abs(divisors[i]) < EPSILON) {
+                throw new ArithmeticException("Division by zero is not allowed");
+            }
+        }
+    }
+    
     @Override
     public String getSymbol() {
         return "/";
@@ -0,0 +1,207 @@
+package com.calculator.operation;
+
+/**
+ * Double-double number: the unevaluated sum of two doubles {@code high + low}
+ * with {@code |low| <= ulp(high) / 2}, carrying about 106 significant bits.
+ * The arithmetic follows Joldes, Muller and Popescu, "Tight and rigorous error
+ * bounds for basic building blocks of double-word arithmetic" (2017); the
+ * relative error of each operation is at most the matching {@code *_ERROR}
+ * constant. Instances are mutable and meant to be reused, like
+ * {@link DecimalValue}; the result of an operation may be one of its operands.
+ * Not thread-safe.
+ */
+public final class DoubleDouble {
+    
+    /**
+     * Unit roundoff of double, {@code 2^-53}.
+     */
+    public static final double UNIT_ROUNDOFF = 0x1p-53;
+    
+    /**
+     * Relative error bound of {@link #add} and {@link #subtract}: {@code 3u^2 / (1 - 4u)}, rounded up.
+     */
+    public static final double ADD_ERROR = 0x1p-104;
+    
+    /**
+     * Relative error bound of {@link #multiply}: {@code 4u^2}.
+     */
+    public static final double MULTIPLY_ERROR = 0x1p-104;
+    
+    /**
+     * Relative error bound of {@link #divide}: {@code 15u^2 + 56u^3}, rounded up.
+     */
+    public static final double DIVIDE_ERROR = 0x1p-102;
+    
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    private double high;
+    private double low;
+    
+    /**
+     * Constructs a value of zero.
+     */
+    public DoubleDouble() {
+    }
+    
+    /**
+     * Returns whether {@link #setDecimal(long, int)} accepts a decimal, that is,
+     * whether its unscaled value and its power of ten are exact doubles.
+     * 
+     * @param unscaled the unscaled value
+     * @param scale the scale
+     * @return true if the decimal can be converted
+     */
+    public static boolean isConvertible(long unscaled, int scale) {
+        return Math.abs(unscaled) <= (1L << 53) && scale >= -22 && scale <= 22;
+    }
+    
+    /**
+     * Sets this value to {@code unscaled × 10^-scale}. The result is exact for
+     * scales up to zero and within {@code 2u^2} relative otherwise.
+     * 
+     * @param unscaled the unscaled value, at most {@code 2^53} in magnitude
+     * @param scale the scale, between -22 and 22
+     * @return this value
+     */
+    public DoubleDouble setDecimal(long unscaled, int scale) {
+        double value = unscaled;
+        if (scale <= 0) {
+            double power = POWERS_OF_TEN[-scale];
+            double product = value * power;
+            return set(product, Math.fma(value, power, -product));
+        }
+        double power = POWERS_OF_TEN[scale];
+        double quotient = value / power;
+        // The remainder of a correctly rounded quotient is exact
+        return fastTwoSum(quotient, Math.fma(-quotient, power, value) / power);
+    }
+    
+    /**
+     * Sets this value to a double.
+     * 
+     * @param value the value
+     * @return this value
+     */
+    public DoubleDouble set(double value) {
+        return set(value, 0);
+    }
+    
+    private DoubleDouble set(double high, double low) {
+        this.high = high;
+        this.low = low;
+        return this;
+    }
+    
+    /**
+     * Sets this value to {@code a + b} (AccurateDWPlusDW).
+     * 
+     * @param a the first addend
+     * @param b the second addend
+     * @return this value
+     */
+    public DoubleDouble add(DoubleDouble a, DoubleDouble b) {
+        return add(a.high, a.low, b.high, b.low);
+    }
+    
+    /**
+     * Sets this value to {@code a - b}.
+     * 
+     * @param a the minuend
+     * @param b the subtrahend
+     * @return this value
+     */
+    public DoubleDouble subtract(DoubleDouble a, DoubleDouble b) {
+        return add(a.high, a.low, -b.high, -b.low);
+    }
+    
+    private DoubleDouble add(double ah, double al, double bh, double bl) {
+        double sh = ah + bh;
+        double sl = twoSumError(ah, bh, sh);
+        double th = al + bl;
+        double tl = twoSumError(al, bl, th);
+        double c = sl + th;
+        double vh = sh + c;
+        double vl = c - (vh - sh);
+        double w = tl + vl;
+        return fastTwoSum(vh, w);
+    }
+    
+    /**
+     * Sets this value to {@code a × b} (DWTimesDW3).
+     * 
+     * @param a the first factor
+     * @param b the second factor
+     * @return this value
+     */
+    public DoubleDouble multiply(DoubleDouble a, DoubleDouble b) {
+        double ah = a.high;
+        double al = a.low;
+        double bh = b.high;
+        double bl = b.low;
+        double ch = ah * bh;
+        double cl1 = Math.fma(ah, bh, -ch);
+        double tl0 = al * bl;
+        double tl1 = Math.fma(ah, bl, tl0);
+        double cl2 = Math.fma(al, bh, tl1);
+        return fastTwoSum(ch, cl1 + cl2);
+    }
+    
+    /**
+     * Sets this value to {@code a / b} (DWDivDW2).
+     * 
+     * @param a the dividend
+     * @param b the divisor, not zero
+     * @return this value
+     */
+    public DoubleDouble divide(DoubleDouble a, DoubleDouble b) {
+        double ah = a.high;
+        double al = a.low;
+        double bh = b.high;
+        double bl = b.low;
+        double th = ah / bh;
+        // r = b × th, as a double-double (DWTimesFP3)
+        double rh = bh * th;
+        double rl = Math.fma(bl, th, Math.fma(bh, th, -rh));
+        double sum = rh + rl;
+        rl = rl - (sum - rh);
+        rh = sum;
+        double delta = (ah - rh) + (al - rl);
+        return fastTwoSum(th, delta / bh);
+    }
+    
+    private DoubleDouble fastTwoSum(double a, double b) {
+        double sum = a + b;
+        return set(sum, b - (sum - a));
+    }
+    
+    private static double twoSumError(double a, double b, double sum) {
+        double bb = sum - a;
+        return (a - (sum - bb)) + (b - bb);
+    }
+    
+    /**
+     * Returns the high part, which is this value rounded to a double.
+     * 
+     * @return the high part
+     */
+    public double getHigh() {
+        return high;
+    }
+    
+    /**
+     * Returns the low part, the rounding error of the high part.
+     * 
+     * @return the low part
+     */
+    public double getLow() {
+        return low;
+    }
+    
+    @Override
+    public String toString() {
+        return high + " + " + low;
+    }
+}
@@ -0,0 +1,244 @@
+package com.calculator.operation;
+
+/**
+ * Arithmetic on fixed-point numbers held as a long mantissa with an implied
+ * scale, meaning {@code unscaled × 10^-scale}. All operands of a calculation
+ * share the same scale, so values like money amounts are exact in base 10
+ * and are computed on longs without allocating. Results that do not fit in a
+ * long are reported as an {@link ArithmeticException} instead of wrapping.
+ */
+public final class FixedPoint {
+    
+    /**
+     * The largest supported scale; {@code 10^18} is the largest power of ten in a long.
+     */
+    public static final int MAX_SCALE = 18;
+    
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L,
+        10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+    
+    private static final long LOW_MASK = 0xFFFF_FFFFL;
+    
+    private FixedPoint() {
+    }
+    
+    /**
+     * Checks that a scale is supported.
+     * 
+     * @param scale the number of decimal places
+     * @return the scale
+     * @throws IllegalArgumentException if the scale is negative or greater than {@link #MAX_SCALE}
+     */
+    public static int checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+        return scale;
+    }
+    
+    /**
+     * Returns {@code 10^scale}, the unscaled value of one.
+     * 
+     * @param scale the scale, between 0 and {@link #MAX_SCALE}
+     * @return the power of ten
+     */
+    public static long one(int scale) {
+        return POWERS_OF_TEN[scale];
+    }
+    
+    /**
+     * Parses a plain decimal number, with an optional sign and decimal point, at a scale.
+     * Digits beyond the scale are rounded half-even.
+     * 
+     * @param text the number text
+     * @param scale the scale, between 0 and {@link #MAX_SCALE}
+     * @return the unscaled value
+     * @throws NumberFormatException if the text is not a plain decimal number
+     * @throws ArithmeticException if the value does not fit in a long at the scale
+     */
+    public static long parse(String text, int scale) {
+        int length = text.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            index++;
+        }
+        
+        // Accumulated negatively, as Long.parseLong does, so that Long.MIN_VALUE is in range
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long unscaled = 0;
+        int fraction = 0;
+        int roundingDigit = -1;
+        boolean sticky = false;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; index < length; index++) {
+            char c = text.charAt(index);
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                int digit = c - '0';
+                if (seenPoint && fraction == scale) {
+                    // Beyond the scale: only the first dropped digit and whether any other is nonzero matter
+                    if (roundingDigit < 0) {
+                        roundingDigit = digit;
+                    } else if (digit != 0) {
+                        sticky = true;
+                    }
+                    continue;
+                }
+                if (unscaled < limit / 10 || unscaled * 10 < limit + digit) {
+                    throw outOfRange(text, scale);
+                }
+                unscaled = unscaled * 10 - digit;
+                if (seenPoint) {
+                    fraction++;
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                throw new NumberFormatException("For input string: \"" + text + "\"");
+            }
+        }
+        if (!seenDigit) {
+            throw new NumberFormatException("For input string: \"" + text + "\"");
+        }
+        
+        long power = POWERS_OF_TEN[scale - fraction];
+        if (unscaled < limit / power) {
+            throw outOfRange(text, scale);
+        }
+        unscaled *= power;
+        if (roundingDigit > 5 || (roundingDigit == 5 && (sticky || (unscaled & 1) != 0))) {
+            if (unscaled == limit) {
+                throw outOfRange(text, scale);
+            }
+            unscaled--;
+        }
+        return negative ? unscaled : -unscaled;
+    }
+    
+    /**
+     * Formats a fixed-point value with exactly {@code scale} decimal places.
+     * 
+     * @param unscaled the unscaled value
+     * @param scale the scale
+     * @return the plain string, e.g. {@code "-0.50"} for -50 at scale 2
+     */
+    public static String toPlainString(long unscaled, int scale) {
+        // Math.abs(Long.MIN_VALUE) is still negative but reads correctly as unsigned
+        String digits = Long.toUnsignedString(Math.abs(unscaled));
+        if (scale == 0) {
+            return unscaled < 0 ? "-" + digits : digits;
+        }
+        StringBuilder builder = new StringBuilder(Math.max(digits.length(), scale + 1) + 2);
+        if (unscaled < 0) {
+            builder.append('-');
+        }
+        int point = digits.length() - scale;
+        if (point > 0) {
+            builder.append(digits, 0, point);
+        } else {
+            builder.append('0');
+        }
+        builder.append('.');
+        for (int i = point; i < 0; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits, Math.max(point, 0), digits.length()).toString();
+    }
+    
+    /**
+     * Computes {@code a × b / c} rounded half-even, with a 128-bit intermediate
+     * product so that only the final result has to fit in a long.
+     * 
+     * @param a the first factor
+     * @param b the second factor
+     * @param c the divisor, not zero
+     * @param scale the scale, for the overflow message
+     * @return the rounded quotient
+     * @throws ArithmeticException if the result does not fit in a long
+     */
+    static long multiplyDivide(long a, long b, long c, int scale) {
+        boolean negative = (a ^ b ^ c) < 0;
+        // Magnitudes are handled as unsigned, which also covers Long.MIN_VALUE
+        long left = Math.abs(a);
+        long right = Math.abs(b);
+        long divisor = Math.abs(c);
+        long high = Math.unsignedMultiplyHigh(left, right);
+        long low = left * right;
+        if (Long.compareUnsigned(high, divisor) >= 0) {
+            throw overflow(scale);
+        }
+        
+        long quotient = high == 0 ? Long.divideUnsigned(low, divisor) : divideUnsigned(high, low, divisor);
+        long remainder = low - quotient * divisor;
+        if (Long.compareUnsigned(quotient, Long.MIN_VALUE) > 0) {
+            throw overflow(scale);
+        }
+        int half = Long.compareUnsigned(remainder, divisor - remainder);
+        if (half > 0 || (half == 0 && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        if (negative ? Long.compareUnsigned(quotient, Long.MIN_VALUE) > 0 : quotient < 0) {
+            throw overflow(scale);
+        }
+        return negative ? -quotient : quotient;
+    }
+    
+    /**
+     * Divides the unsigned 128-bit value {@code high:low} by an unsigned divisor,
+     * for {@code high < divisor} so that the quotient fits in 64 bits.
+     * Long division in base 2^32 after Hacker's Delight {@code divlu}.
+     */
+    private static long divideUnsigned(long high, long low, long divisor) {
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long v1 = v >>> 32;
+        long v0 = v & LOW_MASK;
+        long u32 = shift == 0 ? high : (high << shift) | (low >>> (64 - shift));
+        long u10 = low << shift;
+        long u1 = u10 >>> 32;
+        long u0 = u10 & LOW_MASK;
+        
+        long q1 = Long.divideUnsigned(u32, v1);
+        long remainder = u32 - q1 * v1;
+        while (q1 > LOW_MASK || Long.compareUnsigned(q1 * v0, (remainder << 32) | u1) > 0) {
+            q1--;
+            remainder += v1;
+            if (remainder > LOW_MASK) {
+                break;
+            }
+        }
+        
+        long u21 = (u32 << 32) + u1 - q1 * v;
+        long q0 = Long.divideUnsigned(u21, v1);
+        remainder = u21 - q0 * v1;
+        while (q0 > LOW_MASK || Long.compareUnsigned(q0 * v0, (remainder << 32) | u0) > 0) {
+            q0--;
+            remainder += v1;
+            if (remainder > LOW_MASK) {
+                break;
+            }
+        }
+        return (q1 << 32) | q0;
+    }
+    
+    /**
+     * Creates the exception reporting a result that does not fit in a long.
+     * 
+     * @param scale the scale of the calculation
+     * @return the exception
+     */
+    static ArithmeticException overflow(int scale) {
+        return new ArithmeticException("Fixed-point overflow: result out of range at scale " + scale);
+    }
+    
+    private static ArithmeticException outOfRange(String text, int scale) {
+        return new ArithmeticException("Number out of range at scale " + scale + ": " + text);
+    }
+}
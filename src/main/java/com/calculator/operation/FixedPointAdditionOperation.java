@@ -0,0 +1,21 @@
+package com.calculator.operation;
+
+/**
+ * Fixed-point addition; exact unless the sum overflows.
+ */
+public class FixedPointAdditionOperation implements FixedPointOperation {
+    
+    @Override
+    public long execute(long leftOperand, long rightOperand, int scale) {
+        long sum = leftOperand + rightOperand;
+        if (((leftOperand ^ sum) & (rightOperand ^ sum)) < 0) {
+            throw FixedPoint.overflow(scale);
+        }
+        return sum;
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "+";
+    }
+}
@@ -0,0 +1,27 @@
+package com.calculator.operation;
+
+/**
+ * Fixed-point division. The quotient is rounded half-even to the scale,
+ * like {@link java.math.BigDecimal#divide(java.math.BigDecimal, int, java.math.RoundingMode)}
+ * with {@link java.math.RoundingMode#HALF_EVEN}.
+ */
+public class FixedPointDivisionOperation implements FixedPointOperation {
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws ArithmeticException if the divisor is zero or the quotient does not fit in a long
+     */
+    @Override
+    public long execute(long leftOperand, long rightOperand, int scale) {
+        if (rightOperand == 0) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        return FixedPoint.multiplyDivide(leftOperand, FixedPoint.one(scale), rightOperand, scale);
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "/";
+    }
+}
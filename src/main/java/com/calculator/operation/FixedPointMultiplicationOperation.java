@@ -0,0 +1,27 @@
+package com.calculator.operation;
+
+/**
+ * Fixed-point multiplication. The product of the unscaled operands carries
+ * twice the scale and is divided back with half-even rounding; it is formed in
+ * 128 bits, so only the rounded result has to fit in a long.
+ */
+public class FixedPointMultiplicationOperation implements FixedPointOperation {
+    
+    @Override
+    public long execute(long leftOperand, long rightOperand, int scale) {
+        if (scale == 0) {
+            long high = Math.multiplyHigh(leftOperand, rightOperand);
+            long product = leftOperand * rightOperand;
+            if (high != (product >> 63)) {
+                throw FixedPoint.overflow(scale);
+            }
+            return product;
+        }
+        return FixedPoint.multiplyDivide(leftOperand, rightOperand, FixedPoint.one(scale), scale);
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "*";
+    }
+}
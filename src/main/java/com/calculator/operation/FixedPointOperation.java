@@ -0,0 +1,29 @@
+package com.calculator.operation;
+
+/**
+ * Interface for arithmetic operations on fixed-point numbers.
+ * Operands and result are unscaled longs sharing one scale, as described in
+ * {@link FixedPoint}; each operation is the fixed-point counterpart of a
+ * double {@link Operation}. Results are exact except for division and
+ * multiplication, which round half-even to the scale.
+ */
+public interface FixedPointOperation {
+    
+    /**
+     * Executes the operation on two operands.
+     * 
+     * @param leftOperand the unscaled left operand
+     * @param rightOperand the unscaled right operand
+     * @param scale the scale of the operands and the result
+     * @return the unscaled result
+     * @throws ArithmeticException if the result does not fit in a long, or on division by zero
+     */
+    long execute(long leftOperand, long rightOperand, int scale);
+    
+    /**
+     * Returns the symbol representing this operation.
+     * 
+     * @return the operation symbol (e.g., "+", "-", "*", "/")
+     */
+    String getSymbol();
+}
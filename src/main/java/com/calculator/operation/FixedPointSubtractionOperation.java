@@ -0,0 +1,21 @@
+package com.calculator.operation;
+
+/**
+ * Fixed-point subtraction; exact unless the difference overflows.
+ */
+public class FixedPointSubtractionOperation implements FixedPointOperation {
+    
+    @Override
+    public long execute(long leftOperand, long rightOperand, int scale) {
+        long difference = leftOperand - rightOperand;
+        if (((leftOperand ^ rightOperand) & (leftOperand ^ difference)) < 0) {
+            throw FixedPoint.overflow(scale);
+        }
+        return difference;
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "-";
+    }
+}
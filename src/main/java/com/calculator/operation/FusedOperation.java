@@ -0,0 +1,121 @@
+package com.calculator.operation;
+
+import java.util.Objects;
+
+/**
+ * Two operations applied in sequence, {@code (a first b) second c}, as one operation.
+ * A multiplication followed by an addition or subtraction is computed with
+ * {@link Math#fma(double, double, double)}, so the product is not rounded before
+ * the sum and the result is rounded once instead of twice.
+ * Over arrays, other pairs run both bulk kernels block by block, in place in the
+ * results array, so the intermediate values stay in cache instead of being
+ * materialized in a full-length array and read back.
+ */
+public class FusedOperation {
+    
+    private static final int BLOCK_SIZE = 1024;
+    
+    private final Operation first;
+    private final Operation second;
+    private final boolean multiplyAdd;
+    private final boolean multiplySubtract;
+    
+    /**
+     * Constructs the fused form of two operations.
+     * 
+     * @param first the operation applied to the first and second operands
+     * @param second the operation applied to that result and the third operand
+     */
+    public FusedOperation(Operation first, Operation second) {
+        this.first = first;
+        this.second = second;
+        boolean multiply = first instanceof MultiplicationOperation;
+        this.multiplyAdd = multiply && second instanceof AdditionOperation;
+        this.multiplySubtract = multiply && second instanceof SubtractionOperation;
+    }
+    
+    /**
+     * Executes the operations on three operands.
+     * 
+     * @param a the first operand
+     * @param b the second operand
+     * @param c the third operand
+     * @return {@code (a first b) second c}
+     * @throws ArithmeticException if either operation cannot be performed (e.g., division by zero)
+     */
+    public double execute(double a, double b, double c) {
+        if (multiplyAdd) {
+            return Math.fma(a, b, c);
+        }
+        if (multiplySubtract) {
+            return Math.fma(a, b, -c);
+        }
+        return second.execute(first.execute(a, b), c);
+    }
+    
+    /**
+     * Executes the operations element-wise over a range of operand arrays,
+     * storing {@code (a[i] first b[i]) second c[i]} into {@code results[i]}.
+     * The results array may be the same as any operand array.
+     * 
+     * @param a the first operands
+     * @param b the second operands
+     * @param c the third operands
+     * @param results the array receiving the results
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds for any array
+     * @throws ArithmeticException if either operation cannot be performed for an element {@code i}.
+     *         Divisors are checked before any result is written, so a division by zero
+     *         leaves the results unchanged; after a failure of any other operation the
+     *         results in {@code [from, i)} may have been written
+     */
+    public void execute(double[] a, double[] b, double[] c, double[] results, int from, int to) {
+        Objects.checkFromToIndex(from, to, a.length);
+        Objects.checkFromToIndex(from, to, b.length);
+        Objects.checkFromToIndex(from, to, c.length);
+        Objects.checkFromToIndex(from, to, results.length);
+        
+        if (multiplyAdd) {
+            for (int i = from; i < to; i++) {
+                results[i] = Math.fma(a[i], b[i], c[i]);
+            }
+            return;
+        }
+        if (multiplySubtract) {
+            for (int i = from; i < to; i++) {
+                results[i] = Math.fma(a[i], b[i], -c[i]);
+            }
+            return;
+        }
+        
+        // Divisors are checked over the whole range first, so no block is written on failure
+        if (first instanceof DivisionOperation) {
+            DivisionOperation.checkDivisors(b, from, to);
+        }
+        if (second instanceof DivisionOperation) {
+            DivisionOperation.checkDivisors(c, from, to);
+        }
+        if (results == c) {
+            // The intermediate values would overwrite the third operands before they are read
+            for (int i = from; i < to; i++) {
+                results[i] = second.execute(first.execute(a[i], b[i]), c[i]);
+            }
+            return;
+        }
+        for (int start = from; start < to; start += BLOCK_SIZE) {
+            int end = Math.min(start + BLOCK_SIZE, to);
+            first.execute(a, b, results, start, end);
+            second.execute(results, c, results, start, end);
+        }
+    }
+    
+    /**
+     * Returns the symbols of both operations, in order.
+     * 
+     * @return the operation symbols (e.g., "*+")
+     */
+    public String getSymbol() {
+        return first.getSymbol() + second.getSymbol();
+    }
+}
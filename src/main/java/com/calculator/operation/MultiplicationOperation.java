@@ -1,5 +1,8 @@
 package com.calculator.operation;
 
+import java.math.BigInteger;
+import java.util.Objects;
+
 /**
  * Multiplication operation implementation.
  */
@@ -10,6 +13,26 @@ public class MultiplicationOperation implements Operation {
         return leftOperand * rightOperand;
     }
     
+    @Override
+    public Number executeExact(long leftOperand, long rightOperand) {
+        try {
+            return Math.multiplyExact(leftOperand, rightOperand);
+        } catch (ArithmeticException e) {
+            return BigInteger.valueOf(leftOperand).multiply(BigInteger.valueOf(rightOperand));
+        }
+    }
+    
+    @Override
+    public void execute(double[] leftOperands, double[] rightOperands, double[] results, int from, int to) {
+        Objects.checkFromToIndex(from, to, leftOperands.length);
+        Objects.checkFromToIndex(from, to, rightOperands.length);
+        Objects.checkFromToIndex(from, to, results.length);
+        
+        for (int i = from; i < to; i++) {
+            results[i] = leftOperands[i] * rightOperands[i];
+        }
+    }
+    
     @Override
     public String getSymbol() {
         return "*";
@@ -1,5 +1,7 @@
 package com.calculator.operation;
 
+import java.util.Objects;
+
 /**
  * Interface for arithmetic operations.
  * All calculator operations must implement this interface.
@@ -16,6 +18,48 @@ public interface Operation {
      */
     double execute(double leftOperand, double rightOperand);
     
+    /**
+     * Executes the operation exactly on two integer operands.
+     * The result is a Long when it is an integer within the range of long, a
+     * BigInteger when it is an integer outside that range, and a Double when it
+     * is not an integer (e.g., an inexact quotient).
+     * Implementations override this with overflow-checked long arithmetic;
+     * this default computes in double arithmetic through {@link #execute(double, double)}.
+     * 
+     * @param leftOperand the left operand
+     * @param rightOperand the right operand
+     * @return the result of the operation as a Long, BigInteger or Double
+     * @throws ArithmeticException if the operation cannot be performed (e.g., division by zero)
+     */
+    default Number executeExact(long leftOperand, long rightOperand) {
+        return execute((double) leftOperand, (double) rightOperand);
+    }
+    
+    /**
+     * Executes the operation element-wise over a range of operand arrays,
+     * storing {@code leftOperands[i] op rightOperands[i]} into {@code results[i]}.
+     * Implementations override this with a tight loop the JIT can vectorize;
+     * this default falls back to {@link #execute(double, double)} per element.
+     * 
+     * @param leftOperands the left operands
+     * @param rightOperands the right operands
+     * @param results the array receiving the results
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @throws IndexOutOfBoundsException if the range is out of bounds for any array
+     * @throws ArithmeticException if the operation cannot be performed for an element {@code i},
+     *         in which case the results in {@code [from, i)} may have been written
+     */
+    default void execute(double[] leftOperands, double[] rightOperands, double[] results, int from, int to) {
+        Objects.checkFromToIndex(from, to, leftOperands.length);
+        Objects.checkFromToIndex(from, to, rightOperands.length);
+        Objects.checkFromToIndex(from, to, results.length);
+        
+        for (int i = from; i < to; i++) {
+            results[i] = execute(leftOperands[i], rightOperands[i]);
+        }
+    }
+    
     /**
      * Returns the symbol representing this operation.
      * 
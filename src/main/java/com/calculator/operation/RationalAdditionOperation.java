@@ -0,0 +1,68 @@
+package com.calculator.operation;
+
+import java.math.BigInteger;
+
+/**
+ * Exact rational addition.
+ * Compact operands are added as in Knuth's algorithm: with {@code g = gcd(b, d)},
+ * {@code a/b + c/d} is {@code (a·(d/g) + c·(b/g)) / (b/g·d)}, and only the gcd of
+ * that numerator with {@code g} remains to be divided out. This keeps intermediate
+ * products small and the reduction cheap compared to reducing {@code (ad + bc) / bd}.
+ */
+public class RationalAdditionOperation implements RationalOperation {
+    
+    @Override
+    public void execute(RationalValue leftOperand, RationalValue rightOperand, RationalValue result) {
+        if (leftOperand.isCompact() && rightOperand.isCompact()
+                && add(leftOperand.getNumerator(), leftOperand.getDenominator(),
+                       rightOperand.getNumerator(), rightOperand.getDenominator(), result)) {
+            return;
+        }
+        add(leftOperand.toBigNumerator(), leftOperand.toBigDenominator(),
+            rightOperand.toBigNumerator(), rightOperand.toBigDenominator(), result);
+    }
+    
+    /**
+     * Sets the result to {@code a/b + c/d} if it can be computed in longs.
+     * The operands must be in lowest terms with positive denominators.
+     * 
+     * @return false, leaving the result unchanged, if an intermediate value overflows
+     */
+    static boolean add(long a, long b, long c, long d, RationalValue result) {
+        long g = RationalValue.gcd(b, d);
+        if (g == 1) {
+            long numerator = RationalValue.add(RationalValue.multiply(a, d), RationalValue.multiply(b, c));
+            long denominator = RationalValue.multiply(b, d);
+            if (numerator == RationalValue.OVERFLOW || denominator == RationalValue.OVERFLOW) {
+                return false;
+            }
+            result.setReduced(numerator, denominator);
+            return true;
+        }
+        
+        long t = RationalValue.add(RationalValue.multiply(a, d / g), RationalValue.multiply(c, b / g));
+        if (t == RationalValue.OVERFLOW) {
+            return false;
+        }
+        if (t == 0) {
+            result.setReduced(0, 1);
+            return true;
+        }
+        long g2 = RationalValue.gcd(Math.abs(t), g);
+        long denominator = RationalValue.multiply(b / g, d / g2);
+        if (denominator == RationalValue.OVERFLOW) {
+            return false;
+        }
+        result.setReduced(t / g2, denominator);
+        return true;
+    }
+    
+    static void add(BigInteger a, BigInteger b, BigInteger c, BigInteger d, RationalValue result) {
+        result.set(a.multiply(d).add(c.multiply(b)), b.multiply(d));
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "+";
+    }
+}
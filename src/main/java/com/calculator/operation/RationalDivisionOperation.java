@@ -0,0 +1,36 @@
+package com.calculator.operation;
+
+/**
+ * Exact rational division, computed as the multiplication by the reciprocal of
+ * the right operand. Unlike double and decimal division, every quotient is exact.
+ */
+public class RationalDivisionOperation implements RationalOperation {
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @throws ArithmeticException if the divisor is zero
+     */
+    @Override
+    public void execute(RationalValue leftOperand, RationalValue rightOperand, RationalValue result) {
+        if (rightOperand.isZero()) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        if (leftOperand.isCompact() && rightOperand.isCompact()) {
+            // The reciprocal d/c, with its sign moved to the numerator; c is never Long.MIN_VALUE
+            long c = rightOperand.getNumerator();
+            long d = rightOperand.getDenominator();
+            if (RationalMultiplicationOperation.multiply(leftOperand.getNumerator(), leftOperand.getDenominator(),
+                    c < 0 ? -d : d, Math.abs(c), result)) {
+                return;
+            }
+        }
+        RationalMultiplicationOperation.multiply(leftOperand.toBigNumerator(), leftOperand.toBigDenominator(),
+            rightOperand.toBigDenominator(), rightOperand.toBigNumerator(), result);
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "/";
+    }
+}
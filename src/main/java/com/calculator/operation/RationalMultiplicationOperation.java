@@ -0,0 +1,54 @@
+package com.calculator.operation;
+
+import java.math.BigInteger;
+
+/**
+ * Exact rational multiplication.
+ * Compact operands are cross-reduced before multiplying: with {@code g1 = gcd(a, d)}
+ * and {@code g2 = gcd(c, b)}, {@code a/b · c/d} is {@code (a/g1·c/g2) / (b/g2·d/g1)},
+ * which is already in lowest terms and keeps the products as small as possible.
+ */
+public class RationalMultiplicationOperation implements RationalOperation {
+    
+    @Override
+    public void execute(RationalValue leftOperand, RationalValue rightOperand, RationalValue result) {
+        if (leftOperand.isCompact() && rightOperand.isCompact()
+                && multiply(leftOperand.getNumerator(), leftOperand.getDenominator(),
+                            rightOperand.getNumerator(), rightOperand.getDenominator(), result)) {
+            return;
+        }
+        multiply(leftOperand.toBigNumerator(), leftOperand.toBigDenominator(),
+                 rightOperand.toBigNumerator(), rightOperand.toBigDenominator(), result);
+    }
+    
+    /**
+     * Sets the result to {@code a/b · c/d} if it can be computed in longs.
+     * The operands must be in lowest terms with positive denominators.
+     * 
+     * @return false, leaving the result unchanged, if a product overflows
+     */
+    static boolean multiply(long a, long b, long c, long d, RationalValue result) {
+        if (a == 0 || c == 0) {
+            result.setReduced(0, 1);
+            return true;
+        }
+        long g1 = RationalValue.gcd(Math.abs(a), d);
+        long g2 = RationalValue.gcd(Math.abs(c), b);
+        long numerator = RationalValue.multiply(a / g1, c / g2);
+        long denominator = RationalValue.multiply(b / g2, d / g1);
+        if (numerator == RationalValue.OVERFLOW || denominator == RationalValue.OVERFLOW) {
+            return false;
+        }
+        result.setReduced(numerator, denominator);
+        return true;
+    }
+    
+    static void multiply(BigInteger a, BigInteger b, BigInteger c, BigInteger d, RationalValue result) {
+        result.set(a.multiply(c), b.multiply(d));
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "*";
+    }
+}
@@ -0,0 +1,29 @@
+package com.calculator.operation;
+
+/**
+ * Interface for exact arithmetic operations on rational numbers.
+ * Each operation is the exact counterpart of a double {@link Operation}: results
+ * are never rounded and are always reduced to lowest terms. Two compact operands
+ * are computed on their longs, with overflow-checked products, and fall back to
+ * BigInteger only when an intermediate value does not fit.
+ */
+public interface RationalOperation {
+    
+    /**
+     * Executes the operation on two operands.
+     * The result may be the same instance as either operand.
+     * 
+     * @param leftOperand the left operand
+     * @param rightOperand the right operand
+     * @param result receives the result
+     * @throws ArithmeticException if the operation cannot be performed (e.g., division by zero)
+     */
+    void execute(RationalValue leftOperand, RationalValue rightOperand, RationalValue result);
+    
+    /**
+     * Returns the symbol representing this operation.
+     * 
+     * @return the operation symbol (e.g., "+", "-", "*", "/")
+     */
+    String getSymbol();
+}
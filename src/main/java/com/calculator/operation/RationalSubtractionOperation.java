@@ -0,0 +1,24 @@
+package com.calculator.operation;
+
+/**
+ * Exact rational subtraction, computed as the addition of the negated right operand.
+ * Compact numerators are never {@link Long#MIN_VALUE}, so negating one cannot overflow.
+ */
+public class RationalSubtractionOperation implements RationalOperation {
+    
+    @Override
+    public void execute(RationalValue leftOperand, RationalValue rightOperand, RationalValue result) {
+        if (leftOperand.isCompact() && rightOperand.isCompact()
+                && RationalAdditionOperation.add(leftOperand.getNumerator(), leftOperand.getDenominator(),
+                       -rightOperand.getNumerator(), rightOperand.getDenominator(), result)) {
+            return;
+        }
+        RationalAdditionOperation.add(leftOperand.toBigNumerator(), leftOperand.toBigDenominator(),
+            rightOperand.toBigNumerator().negate(), rightOperand.toBigDenominator(), result);
+    }
+    
+    @Override
+    public String getSymbol() {
+        return "-";
+    }
+}
@@ -0,0 +1,327 @@
+package com.calculator.operation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Exact rational number operated on by the {@link RationalOperation}s.
+ * A value is always in lowest terms with a positive denominator. One whose
+ * numerator and denominator fit is held unboxed as a pair of longs; larger
+ * values are held as a pair of BigIntegers and demoted back to longs as soon
+ * as a result fits again. Operations on two compact values work on the longs
+ * directly and allocate only when an intermediate product overflows.
+ * Instances are mutable and meant to be reused, like {@link DecimalValue};
+ * not thread-safe.
+ */
+public final class RationalValue {
+    
+    /**
+     * Returned by {@link #multiply(long, long)} and {@link #add(long, long)} when the
+     * result does not fit in a long, and propagated by them when passed as an operand.
+     * Never held as a compact numerator or denominator, so negating one cannot overflow.
+     */
+    static final long OVERFLOW = Long.MIN_VALUE;
+    
+    /**
+     * Largest decimal exponent magnitude accepted by {@link #set(String)}, bounding
+     * the size of the power of ten an operand such as {@code 1e999999999} would need.
+     */
+    private static final int MAX_EXPONENT = 9999;
+    
+    private long numerator;
+    private long denominator = 1;
+    private BigInteger bigNumerator;
+    private BigInteger bigDenominator;
+    
+    /**
+     * Constructs a value of zero.
+     */
+    public RationalValue() {
+    }
+    
+    /**
+     * Parses a rational number, as accepted by {@link #set(String)}.
+     * 
+     * @param text the number text
+     * @return the parsed value
+     * @throws NumberFormatException if the text is not a valid rational number
+     */
+    public static RationalValue parse(String text) {
+        return new RationalValue().set(text);
+    }
+    
+    /**
+     * Sets this value by parsing a fraction of two integers such as {@code -3/4},
+     * or a decimal number as accepted by {@link BigDecimal#BigDecimal(String)},
+     * which is converted exactly ({@code 0.75} becomes {@code 3/4}).
+     * Fractions of longs and plain decimals with at most 18 significant digits
+     * are parsed without allocating a BigInteger.
+     * 
+     * @param text the number text
+     * @return this value
+     * @throws NumberFormatException if the text is not a valid rational number,
+     *         the denominator is zero, or the exponent exceeds 9999 in magnitude
+     */
+    public RationalValue set(String text) {
+        int slash = text.indexOf('/');
+        if (slash >= 0) {
+            return setFraction(text, slash);
+        }
+        
+        DecimalValue decimal = new DecimalValue().set(text);
+        if (decimal.isCompact()) {
+            long unscaled = decimal.getUnscaled();
+            int scale = decimal.getScale();
+            long power = DecimalValue.multiplyPowerOfTen(1, Math.abs((long) scale));
+            if (power != DecimalValue.OVERFLOW) {
+                if (scale >= 0) {
+                    return set(unscaled, power);
+                }
+                long product = multiply(unscaled, power);
+                if (product != OVERFLOW) {
+                    return set(product, 1);
+                }
+            }
+        }
+        BigDecimal value = decimal.toBigDecimal();
+        int scale = value.scale();
+        if (Math.abs((long) scale) > MAX_EXPONENT) {
+            throw new NumberFormatException("Exponent out of range: \"" + text + "\"");
+        }
+        BigInteger power = BigInteger.TEN.pow(Math.abs(scale));
+        return scale >= 0
+            ? set(value.unscaledValue(), power)
+            : set(value.unscaledValue().multiply(power), BigInteger.ONE);
+    }
+    
+    private RationalValue setFraction(String text, int slash) {
+        String numeratorText = text.substring(0, slash);
+        String denominatorText = text.substring(slash + 1);
+        long parsedNumerator;
+        long parsedDenominator;
+        try {
+            parsedNumerator = Long.parseLong(numeratorText);
+            parsedDenominator = Long.parseLong(denominatorText);
+        } catch (NumberFormatException e) {
+            BigInteger bigParsedDenominator = parseBig(denominatorText, text);
+            if (bigParsedDenominator.signum() == 0) {
+                throw zeroDenominator(text);
+            }
+            return set(parseBig(numeratorText, text), bigParsedDenominator);
+        }
+        if (parsedDenominator == 0) {
+            throw zeroDenominator(text);
+        }
+        return set(parsedNumerator, parsedDenominator);
+    }
+    
+    private static NumberFormatException zeroDenominator(String text) {
+        return new NumberFormatException("Zero denominator: \"" + text + "\"");
+    }
+    
+    private static BigInteger parseBig(String part, String text) {
+        try {
+            return new BigInteger(part);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("For input string: \"" + text + "\"");
+        }
+    }
+    
+    /**
+     * Sets this value to {@code numerator / denominator}, reduced to lowest terms.
+     * 
+     * @param numerator the numerator
+     * @param denominator the denominator
+     * @return this value
+     * @throws ArithmeticException if the denominator is zero
+     */
+    public RationalValue set(long numerator, long denominator) {
+        if (denominator == 0) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        if (numerator == OVERFLOW || denominator == OVERFLOW) {
+            return set(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+        long divisor = gcd(Math.abs(numerator), Math.abs(denominator));
+        numerator /= divisor;
+        denominator /= divisor;
+        return denominator < 0 ? setReduced(-numerator, -denominator) : setReduced(numerator, denominator);
+    }
+    
+    /**
+     * Sets this value to {@code numerator / denominator}, reduced to lowest terms.
+     * The value is held as longs if the reduced numerator and denominator fit.
+     * 
+     * @param numerator the numerator
+     * @param denominator the denominator
+     * @return this value
+     * @throws ArithmeticException if the denominator is zero
+     */
+    public RationalValue set(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() == 0) {
+            throw new ArithmeticException("Division by zero is not allowed");
+        }
+        BigInteger divisor = numerator.gcd(denominator);
+        if (!divisor.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(divisor);
+            denominator = denominator.divide(divisor);
+        }
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        if (fitsCompact(numerator) && fitsCompact(denominator)) {
+            return setReduced(numerator.longValue(), denominator.longValue());
+        }
+        this.bigNumerator = numerator;
+        this.bigDenominator = denominator;
+        return this;
+    }
+    
+    /**
+     * Sets this value from a numerator and denominator already in lowest terms.
+     * 
+     * @param numerator the numerator, not {@link #OVERFLOW}
+     * @param denominator the positive denominator, coprime to the numerator
+     * @return this value
+     */
+    RationalValue setReduced(long numerator, long denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+        return this;
+    }
+    
+    private static boolean fitsCompact(BigInteger value) {
+        return value.bitLength() < Long.SIZE && value.longValue() != OVERFLOW;
+    }
+    
+    /**
+     * Returns whether this value is held as a pair of longs.
+     * 
+     * @return true if {@link #getNumerator()} and {@link #getDenominator()} describe the value
+     */
+    public boolean isCompact() {
+        return bigNumerator == null;
+    }
+    
+    /**
+     * Returns the numerator of a compact value.
+     * 
+     * @return the numerator
+     */
+    public long getNumerator() {
+        return numerator;
+    }
+    
+    /**
+     * Returns the denominator of a compact value, which is always positive.
+     * 
+     * @return the denominator
+     */
+    public long getDenominator() {
+        return denominator;
+    }
+    
+    /**
+     * Returns the numerator as a BigInteger, creating one for compact values.
+     * 
+     * @return the numerator
+     */
+    public BigInteger toBigNumerator() {
+        return bigNumerator == null ? BigInteger.valueOf(numerator) : bigNumerator;
+    }
+    
+    /**
+     * Returns the denominator as a BigInteger, creating one for compact values.
+     * 
+     * @return the positive denominator
+     */
+    public BigInteger toBigDenominator() {
+        return bigDenominator == null ? BigInteger.valueOf(denominator) : bigDenominator;
+    }
+    
+    /**
+     * Returns whether this value is zero.
+     * 
+     * @return true if the value is zero
+     */
+    public boolean isZero() {
+        return bigNumerator == null && numerator == 0;
+    }
+    
+    /**
+     * Returns this value as a fraction {@code numerator/denominator}, or as
+     * the numerator alone if the value is an integer.
+     * 
+     * @return the fraction string
+     */
+    @Override
+    public String toString() {
+        if (bigNumerator != null) {
+            return bigNumerator + "/" + bigDenominator;
+        }
+        return denominator == 1 ? Long.toString(numerator) : numerator + "/" + denominator;
+    }
+    
+    /**
+     * Returns the greatest common divisor of two non-negative values, using the
+     * binary GCD algorithm: common factors of two are removed with shifts and
+     * the rest by subtraction, without any division.
+     * 
+     * @param a a non-negative value
+     * @param b a non-negative value
+     * @return the greatest common divisor, or the other value if one is zero
+     */
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long swap = a;
+                a = b;
+                b = swap;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+    
+    /**
+     * Multiplies two values, checking for overflow.
+     * 
+     * @param a a value, or {@link #OVERFLOW}
+     * @param b a value, or {@link #OVERFLOW}
+     * @return the product, or {@link #OVERFLOW} if either operand is or the product does not fit
+     */
+    static long multiply(long a, long b) {
+        if (a == OVERFLOW || b == OVERFLOW) {
+            return OVERFLOW;
+        }
+        long product = a * b;
+        return Math.multiplyHigh(a, b) == (product >> 63) ? product : OVERFLOW;
+    }
+    
+    /**
+     * Adds two values, checking for overflow.
+     * 
+     * @param a a value, or {@link #OVERFLOW}
+     * @param b a value, or {@link #OVERFLOW}
+     * @return the sum, or {@link #OVERFLOW} if either operand is or the sum does not fit
+     */
+    static long add(long a, long b) {
+        if (a == OVERFLOW || b == OVERFLOW) {
+            return OVERFLOW;
+        }
+        long sum = a + b;
+        return ((a ^ sum) & (b ^ sum)) < 0 ? OVERFLOW : sum;
+    }
+}
@@ -0,0 +1,218 @@
+package com.calculator.server;
+
+import com.calculator.CalculatorApp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Resident server running {@link CalculatorApp} invocations received over a
+ * Unix domain socket, so repeated calls skip JVM startup and reuse warmed code.
+ * Each connection is served on its own virtual thread and may send any number
+ * of requests. A request runs exactly like the command line with the same
+ * arguments, except that standard input is not forwarded, so reading it fails
+ * and --batch without a file exits with an error, relative file paths are
+ * resolved against the working directory sent by the client, and the long-running
+ * --daemon and --serve modes are refused. Output is streamed back while the
+ * request runs, so a large --batch or --parallel result is never held in memory.
+ */
+public final class CalculatorDaemon implements Closeable {
+    
+    private static final String SOCKET_ENVIRONMENT_VARIABLE = "CALCULATOR_SOCKET";
+    
+    /**
+     * Standard input of every request. Failing instead of reading as empty makes
+     * a batch over standard input exit with an error rather than succeed with no output.
+     */
+    private static final InputStream NO_INPUT = new InputStream() {
+        @Override
+        public int read() throws IOException {
+            throw new IOException("Standard input is not forwarded to the calculator daemon; pass a file instead");
+        }
+    };
+    
+    private final ServerSocketChannel server;
+    private final Path socketPath;
+    private final CalculatorApp app;
+    private final ExecutorService executor;
+    private volatile boolean closed;
+    
+    private CalculatorDaemon(ServerSocketChannel server, Path socketPath, CalculatorApp app) {
+        this.server = server;
+        this.socketPath = socketPath;
+        this.app = app;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+    
+    /**
+     * Returns the socket path used when none is given: the CALCULATOR_SOCKET
+     * environment variable if set, otherwise a per-user file in the temporary directory.
+     * 
+     * @return the default socket path
+     */
+    public static Path defaultSocketPath() {
+        String configured = System.getenv(SOCKET_ENVIRONMENT_VARIABLE);
+        if (configured != null && !configured.isBlank()) {
+            return Path.of(configured);
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "calculator-" + System.getProperty("user.name") + ".sock");
+    }
+    
+    /**
+     * Binds a daemon to a socket path. A stale socket file left by a daemon
+     * that is no longer running is replaced.
+     * 
+     * @param socketPath the socket file path
+     * @param app the application running the requests
+     * @return the bound daemon, not yet accepting connections
+     * @throws IOException if another daemon is listening on the path or binding fails
+     */
+    public static CalculatorDaemon bind(Path socketPath, CalculatorApp app) throws IOException {
+        UnixDomainSocketAddress address = UnixDomainSocketAddress.of(socketPath);
+        if (Files.exists(socketPath)) {
+            if (isListening(address)) {
+                throw new IOException("Another daemon is listening on " + socketPath);
+            }
+            Files.delete(socketPath);
+        }
+        
+        ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            server.bind(address);
+        } catch (IOException e) {
+            server.close();
+            throw e;
+        }
+        return new CalculatorDaemon(server, socketPath, app);
+    }
+    
+    private static boolean isListening(UnixDomainSocketAddress address) {
+        SocketChannel probe;
+        try {
+            probe = SocketChannel.open(address);
+        } catch (IOException e) {
+            return false;
+        }
+        try {
+            probe.close();
+        } catch (IOException e) {
+            // The connection succeeded, which is all that was asked
+        }
+        return true;
+    }
+    
+    /**
+     * Accepts and serves connections until the daemon is closed.
+     * 
+     * @throws IOException if accepting a connection fails
+     */
+    public void serve() throws IOException {
+        while (!closed) {
+            SocketChannel channel;
+            try {
+                channel = server.accept();
+            } catch (AsynchronousCloseException e) {
+                return;
+            } catch (IOException e) {
+                if (closed) {
+                    return;
+                }
+                throw e;
+            }
+            executor.execute(() -> handle(channel));
+        }
+    }
+    
+    /**
+     * Serves the requests of one connection until the client disconnects.
+     */
+    private void handle(SocketChannel channel) {
+        try (channel;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            DaemonProtocol.Request request;
+            while ((request = DaemonProtocol.readRequest(in)) != null) {
+                execute(request.args, request.workingDirectory, out);
+            }
+        } catch (IOException e) {
+            // The client disconnected or sent a malformed request; only this connection is affected
+        }
+    }
+    
+    private void execute(String[] args, Path workingDirectory, DataOutputStream out) throws IOException {
+        int exitCode;
+        try (PrintStream outStream = new PrintStream(
+                 new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.OUTPUT_FRAME), false, StandardCharsets.UTF_8);
+             PrintStream errStream = new PrintStream(
+                 new DaemonProtocol.FrameOutputStream(out, DaemonProtocol.ERROR_FRAME), false, StandardCharsets.UTF_8)) {
+            if (isServerMode(args)) {
+                errStream.println("Error: " + args[0] + " cannot be run through the calculator daemon");
+                exitCode = 1;
+            } else {
+                exitCode = app.run(args, workingDirectory, NO_INPUT, outStream, errStream);
+            }
+            // PrintStream swallows write failures; a client that disconnected ends the connection here
+            if (outStream.checkError() || errStream.checkError()) {
+                throw new IOException("Failed to send output to the client");
+            }
+        }
+        DaemonProtocol.writeExit(out, exitCode);
+    }
+    
+    /**
+     * Checks whether the arguments start another server, which would block the
+     * connection forever and bind a second socket or port from inside the daemon.
+     */
+    private static boolean isServerMode(String[] args) {
+        return args.length > 0 && ("--daemon".equals(args[0]) || "--serve".equals(args[0]));
+    }
+    
+    /**
+     * Returns the socket file path the daemon is bound to.
+     * 
+     * @return the socket path
+     */
+    public Path getSocketPath() {
+        return socketPath;
+    }
+    
+    /**
+     * Stops accepting connections, interrupts requests in progress and removes
+     * the socket file. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            server.close();
+        } catch (IOException e) {
+            // Nothing more to release
+        }
+        executor.shutdownNow();
+        try {
+            Files.deleteIfExists(socketPath);
+        } catch (IOException e) {
+            // Left behind as a stale file, which the next bind replaces
+        }
+    }
+}
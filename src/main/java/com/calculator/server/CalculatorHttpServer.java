@@ -0,0 +1,512 @@
+package com.calculator.server;
+
+import com.calculator.ParsedInputCache;
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.util.ErrorCategory;
+import com.calculator.util.ErrorHandler;
+import com.calculator.util.ResultFormatter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP calculation service built on the JDK's {@link HttpServer}.
+ * Every exchange runs on its own virtual thread, so a large number of
+ * concurrent requests does not need a platform thread per connection.
+ * Inputs are resolved through the shared {@link ParsedInputCache}.
+ * 
+ * <ul>
+ *   <li>{@code GET /calculate?left=5&operator=%2B&right=3} or {@code POST /calculate}
+ *       with a "number operator number" body returns {@code {"result":8}}</li>
+ *   <li>{@code POST /calculate/bulk} with one "number operator number" per line
+ *       returns {@code {"results":[...],"failures":n}}, one entry per non-blank
+ *       line in order; blank lines are skipped. Lines are read from the request
+ *       and their results streamed as they are calculated, so neither the
+ *       request nor the response is held in memory.</li>
+ * </ul>
+ * 
+ * Errors are returned as {@code {"error":{"category":...,"message":...}}} with
+ * status 400 for invalid arguments, 422 for invalid input and arithmetic
+ * errors, and 500 for internal errors. A line longer than
+ * {@link #MAX_LINE_LENGTH} characters is an invalid argument. Requests that
+ * declare a body larger than their limit, {@link #MAX_LINE_LENGTH} bytes for a
+ * single calculation and 16 MB for a bulk request, are rejected with status 413.
+ * A bulk body found to exceed 16 MB or {@link #MAX_BULK_LINES} lines while it
+ * is read has its results so far followed by an {@code "error"} member in place
+ * of the remaining entries.
+ */
+public final class CalculatorHttpServer implements Closeable {
+    
+    /** Default port of the service. */
+    public static final int DEFAULT_PORT = 8080;
+    
+    /** Maximum number of lines, blank or not, in one bulk request. */
+    public static final int MAX_BULK_LINES = 100_000;
+    
+    /** Maximum number of characters in one calculation line. */
+    public static final int MAX_LINE_LENGTH = 8192;
+    
+    private static final int MAX_BODY_BYTES = 16 << 20;
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ParsedInputCache parsedInputCache;
+    private final ErrorHandler errorHandler;
+    private final ResultFormatter resultFormatter;
+    private final CalculatorMetrics metrics;
+    
+    private CalculatorHttpServer(HttpServer server, ParsedInputCache parsedInputCache) {
+        this.server = server;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.parsedInputCache = parsedInputCache;
+        this.errorHandler = new ErrorHandler();
+        this.resultFormatter = new ResultFormatter();
+        this.metrics = CalculatorMetrics.shared();
+        
+        server.setExecutor(executor);
+        server.createContext("/calculate", this::handleCalculate);
+        server.createContext("/calculate/bulk", this::handleBulk);
+    }
+    
+    /**
+     * Starts a server on the given port of the loopback address, so that it is
+     * only reachable from this machine.
+     * 
+     * @param port the port, or 0 for any free port
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static CalculatorHttpServer start(int port) throws IOException {
+        return start(InetAddress.getLoopbackAddress(), port);
+    }
+    
+    /**
+     * Starts a server on the given port of a local address. The service has no
+     * authentication; listen on other than the loopback address only on trusted networks.
+     * 
+     * @param address the address, or the wildcard address for all local addresses
+     * @param port the port, or 0 for any free port
+     * @return the running server
+     * @throws IOException if the port cannot be bound
+     */
+    public static CalculatorHttpServer start(InetAddress address, int port) throws IOException {
+        CalculatorHttpServer calculatorServer = new CalculatorHttpServer(
+            HttpServer.create(new InetSocketAddress(address, port), 0), ParsedInputCache.shared());
+        calculatorServer.server.start();
+        return calculatorServer;
+    }
+    
+    /**
+     * Returns the port the server is listening on.
+     * 
+     * @return the bound port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    /**
+     * Returns the base URL of the server, such as {@code http://127.0.0.1:8080}.
+     * 
+     * @return the URL of the bound address and port
+     */
+    public String getUrl() {
+        InetAddress address = server.getAddress().getAddress();
+        String host = address instanceof Inet6Address ? "[" + address.getHostAddress() + "]" : address.getHostAddress();
+        return "http://" + host + ":" + getPort();
+    }
+    
+    /**
+     * Stops the server, letting exchanges in progress finish for up to one second.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.shutdownNow();
+    }
+    
+    private void handleCalculate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"/calculate".equals(exchange.getRequestURI().getPath())) {
+                sendError(exchange, 404, ErrorCategory.INVALID_ARGUMENT, "Not found");
+                return;
+            }
+            
+            String method = exchange.getRequestMethod();
+            Number result;
+            try {
+                if ("GET".equals(method)) {
+                    Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                    result = parsedInputCache.resolve(
+                        requireParameter(query, "left"),
+                        requireParameter(query, "operator"),
+                        requireParameter(query, "right")
+                    ).calculateExact();
+                } else if ("POST".equals(method)) {
+                    result = parsedInputCache.resolveLine(new String(
+                        readBody(exchange, MAX_LINE_LENGTH), StandardCharsets.UTF_8)).calculateExact();
+                } else {
+                    exchange.getResponseHeaders().set("Allow", "GET, POST");
+                    sendError(exchange, 405, ErrorCategory.INVALID_ARGUMENT, "Method not allowed: " + method);
+                    return;
+                }
+            } catch (BodyTooLargeException e) {
+                sendTooLarge(exchange, e.getMessage());
+                return;
+            } catch (Exception e) {
+                ErrorCategory category = errorHandler.categorize(e);
+                metrics.recordError(category);
+                sendError(exchange, statusOf(category), category, errorHandler.describeError(e));
+                return;
+            }
+            
+            StringBuilder json = new StringBuilder(32).append("{\"result\":");
+            Json.appendResult(json, result.doubleValue(), resultFormatter.format(result)).append('}');
+            send(exchange, 200, json);
+        }
+    }
+    
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, 405, ErrorCategory.INVALID_ARGUMENT,
+                    "Method not allowed: " + exchange.getRequestMethod());
+                return;
+            }
+            
+            // Only a declared length can be refused with a status: once streaming starts, it cannot change
+            try {
+                checkDeclaredLength(exchange, MAX_BODY_BYTES);
+            } catch (BodyTooLargeException e) {
+                sendTooLarge(exchange, e.getMessage());
+                return;
+            }
+            
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+            InputStream body = limitedBody(exchange, MAX_BODY_BYTES);
+            LineReader reader = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            try (Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8))) {
+                writer.write("{\"results\":[");
+                StringBuilder entry = new StringBuilder(64);
+                long failures = 0;
+                long lines = 0;
+                boolean first = true;
+                String error = null;
+                try {
+                    while (reader.next()) {
+                        if (++lines > MAX_BULK_LINES) {
+                            error = "Bulk request exceeds " + MAX_BULK_LINES + " lines";
+                            break;
+                        }
+                        if (reader.isBlank()) {
+                            continue;
+                        }
+                        entry.setLength(0);
+                        if (!first) {
+                            entry.append(',');
+                        }
+                        first = false;
+                        if (!appendLineResult(entry, reader)) {
+                            failures++;
+                        }
+                        writer.append(entry);
+                    }
+                } catch (BodyTooLargeException e) {
+                    error = e.getMessage();
+                }
+                writer.append("],\"failures\":").append(Long.toString(failures));
+                if (error != null) {
+                    metrics.recordError(ErrorCategory.INVALID_ARGUMENT);
+                    entry.setLength(0);
+                    appendErrorDetail(entry.append(",\"error\":"), ErrorCategory.INVALID_ARGUMENT, error);
+                    writer.append(entry);
+                    drain(body);
+                }
+                writer.append('}');
+            }
+        }
+    }
+    
+    /**
+     * Appends the result or error object of the current bulk line.
+     * 
+     * @return true if the line was calculated successfully
+     */
+    private boolean appendLineResult(StringBuilder json, LineReader reader) {
+        if (reader.isTooLong()) {
+            metrics.recordError(ErrorCategory.INVALID_ARGUMENT);
+            appendError(json, ErrorCategory.INVALID_ARGUMENT, "Line exceeds " + MAX_LINE_LENGTH + " characters");
+            return false;
+        }
+        try {
+            Number result = parsedInputCache.resolveLine(reader.line()).calculateExact();
+            json.append("{\"result\":");
+            Json.appendResult(json, result.doubleValue(), resultFormatter.format(result)).append('}');
+            return true;
+        } catch (Exception e) {
+            ErrorCategory category = errorHandler.categorize(e);
+            metrics.recordError(category);
+            appendError(json, category, errorHandler.describeError(e));
+            return false;
+        }
+    }
+    
+    /**
+     * Maps an error category to its HTTP status code.
+     * 
+     * @param category the error category
+     * @return the HTTP status code
+     */
+    static int statusOf(ErrorCategory category) {
+        return switch (category) {
+            case INVALID_ARGUMENT -> 400;
+            case INVALID_INPUT, ARITHMETIC -> 422;
+            case INTERNAL -> 500;
+        };
+    }
+    
+    private static String requireParameter(Map<String, String> query, String name) throws InvalidArgumentException {
+        String value = query.get(name);
+        if (value == null) {
+            throw new InvalidArgumentException("Missing query parameter: " + name);
+        }
+        return value;
+    }
+    
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.putIfAbsent(
+                URLDecoder.decode(name, StandardCharsets.UTF_8),
+                URLDecoder.decode(value, StandardCharsets.UTF_8)
+            );
+        }
+        return parameters;
+    }
+    
+    /**
+     * Reads a request body of at most the given number of bytes, rejecting a
+     * larger declared length before reading anything.
+     * 
+     * @throws BodyTooLargeException if the body exceeds the limit
+     */
+    private static byte[] readBody(HttpExchange exchange, int limit) throws IOException {
+        checkDeclaredLength(exchange, limit);
+        // Not closed here: the rest of an oversized body is still to be discarded, and closing the exchange closes it
+        return limitedBody(exchange, limit).readAllBytes();
+    }
+    
+    private static void checkDeclaredLength(HttpExchange exchange, int limit) throws BodyTooLargeException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength.trim()) > limit) {
+                    throw new BodyTooLargeException(limit);
+                }
+            } catch (NumberFormatException e) {
+                // Malformed lengths are left to the limit enforced while reading
+            }
+        }
+    }
+    
+    private static InputStream limitedBody(HttpExchange exchange, int limit) {
+        InputStream body = exchange.getRequestBody();
+        return new InputStream() {
+            private long remaining = limit;
+            
+            @Override
+            public int read() throws IOException {
+                int b = body.read();
+                if (b >= 0 && --remaining < 0) {
+                    throw new BodyTooLargeException(limit);
+                }
+                return b;
+            }
+            
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = body.read(buffer, offset, length);
+                if (count > 0 && (remaining -= count) < 0) {
+                    throw new BodyTooLargeException(limit);
+                }
+                return count;
+            }
+            
+            @Override
+            public void close() throws IOException {
+                body.close();
+            }
+        };
+    }
+    
+    /**
+     * Reads the lines of a bulk body one at a time, splitting them as
+     * {@link java.io.BufferedReader#readLine()} does. A line is held only up to
+     * {@link #MAX_LINE_LENGTH} characters; the rest of a longer one is skipped.
+     */
+    private static final class LineReader {
+        
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder(64);
+        private int position;
+        private int count;
+        private boolean skipLineFeed;
+        private boolean tooLong;
+        
+        LineReader(Reader reader) {
+            this.reader = reader;
+        }
+        
+        /**
+         * Advances to the next line.
+         * 
+         * @return false at the end of the body
+         */
+        boolean next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean any = false;
+            while (true) {
+                if (position == count) {
+                    count = reader.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (count < 0) {
+                        count = 0;
+                        return any;
+                    }
+                }
+                char c = buffer[position++];
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (c == '\n') {
+                        continue;
+                    }
+                }
+                if (c == '\n' || c == '\r') {
+                    skipLineFeed = c == '\r';
+                    return true;
+                }
+                any = true;
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append(c);
+                } else {
+                    tooLong = true;
+                }
+            }
+        }
+        
+        String line() {
+            return line.toString();
+        }
+        
+        boolean isTooLong() {
+            return tooLong;
+        }
+        
+        boolean isBlank() {
+            if (tooLong) {
+                return false;
+            }
+            for (int i = 0; i < line.length(); i++) {
+                if (!Character.isWhitespace(line.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    private static void appendError(StringBuilder json, ErrorCategory category, String message) {
+        appendErrorDetail(json.append("{\"error\":"), category, message).append('}');
+    }
+    
+    private static StringBuilder appendErrorDetail(StringBuilder json, ErrorCategory category, String message) {
+        json.append("{\"category\":");
+        Json.appendString(json, category.name()).append(",\"message\":");
+        return Json.appendString(json, message).append('}');
+    }
+    
+    private static void sendError(HttpExchange exchange, int status, ErrorCategory category, String message)
+            throws IOException {
+        StringBuilder json = new StringBuilder(128);
+        appendError(json, category, message);
+        send(exchange, status, json);
+    }
+    
+    /**
+     * Rejects a request whose body exceeds the size limit.
+     */
+    private static void sendTooLarge(HttpExchange exchange, String message) throws IOException {
+        drain(exchange.getRequestBody());
+        exchange.getResponseHeaders().set("Connection", "close");
+        sendError(exchange, 413, ErrorCategory.INVALID_ARGUMENT, message);
+    }
+    
+    /**
+     * Discards the unread rest of a request body, up to 16 MB, so that closing the
+     * connection does not reset it before the client has read the response.
+     */
+    private static void drain(InputStream body) throws IOException {
+        byte[] buffer = new byte[8192];
+        long remaining = MAX_BODY_BYTES;
+        int read;
+        try {
+            while (remaining > 0 && (read = body.read(buffer, 0, (int) Math.min(buffer.length, remaining))) > 0) {
+                remaining -= read;
+            }
+        } catch (BodyTooLargeException e) {
+            // A limited body over its limit is already known to be too large; stop discarding
+        }
+    }
+    
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    /**
+     * Raised when a request body exceeds the size limit.
+     */
+    private static final class BodyTooLargeException extends IOException {
+        
+        private static final long serialVersionUID = 1L;
+        
+        BodyTooLargeException(int limit) {
+            super("Request body exceeds " + limit + " bytes");
+        }
+    }
+}
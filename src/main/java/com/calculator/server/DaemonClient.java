@@ -0,0 +1,128 @@
+package com.calculator.server;
+
+import com.calculator.CalculatorApp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Client for {@link CalculatorDaemon}.
+ * Forwards command line arguments and the working directory of this process
+ * to a running daemon and returns its exit code, standard output and standard
+ * error. A connection can be reused for any number of calls.
+ */
+public class DaemonClient implements Closeable {
+    
+    /**
+     * Result of one invocation run by the daemon.
+     */
+    public static class Response {
+        
+        private final int exitCode;
+        private final String output;
+        private final String error;
+        
+        public Response(int exitCode, String output, String error) {
+            this.exitCode = exitCode;
+            this.output = output;
+            this.error = error;
+        }
+        
+        public int getExitCode() { return exitCode; }
+        public String getOutput() { return output; }
+        public String getError() { return error; }
+    }
+    
+    private final SocketChannel channel;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    
+    private DaemonClient(SocketChannel channel) {
+        this.channel = channel;
+        this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    }
+    
+    /**
+     * Connects to a daemon.
+     * 
+     * @param socketPath the daemon's socket file path
+     * @return the connected client
+     * @throws IOException if no daemon is listening on the path
+     */
+    public static DaemonClient connect(Path socketPath) throws IOException {
+        return new DaemonClient(SocketChannel.open(UnixDomainSocketAddress.of(socketPath)));
+    }
+    
+    /**
+     * Runs one invocation on the daemon, collecting its output.
+     * 
+     * @param args the command line arguments
+     * @return the exit code and output of the invocation
+     * @throws IOException if the connection fails
+     */
+    public Response call(String... args) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteArrayOutputStream error = new ByteArrayOutputStream();
+        int exitCode = call(args, output, error);
+        return new Response(exitCode, output.toString(StandardCharsets.UTF_8), error.toString(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Runs one invocation on the daemon, copying its output to the given streams
+     * as it arrives.
+     * 
+     * @param args the command line arguments
+     * @param output the stream receiving the standard output
+     * @param error the stream receiving the standard error
+     * @return the exit code of the invocation
+     * @throws IOException if the connection fails
+     */
+    public synchronized int call(String[] args, OutputStream output, OutputStream error) throws IOException {
+        DaemonProtocol.writeRequest(out, Path.of("").toAbsolutePath(), args);
+        return DaemonProtocol.readResponse(in, output, error);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    /**
+     * Command line entry point with the same arguments as {@link CalculatorApp}.
+     * Runs the invocation on the daemon at the default socket path, or in this
+     * process if no daemon is running.
+     * 
+     * @param args command line arguments
+     */
+    public static void main(String[] args) {
+        DaemonClient client;
+        try {
+            client = connect(CalculatorDaemon.defaultSocketPath());
+        } catch (IOException e) {
+            System.exit(new CalculatorApp().run(args));
+            return;
+        }
+        
+        int exitCode;
+        try (client) {
+            exitCode = client.call(args, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Error: Lost connection to calculator daemon: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,224 @@
+package com.calculator.server;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Wire format shared by {@link CalculatorDaemon} and {@link DaemonClient}.
+ * A request is the client's working directory, then the argument count followed
+ * by each argument; a response is a
+ * sequence of frames, each a tag byte followed by its payload: standard output
+ * and standard error frames carry a byte length and the bytes written, and a
+ * final exit frame carries the exit code. Output is therefore forwarded while
+ * the invocation runs instead of being held until it completes.
+ * Integers are big-endian, and strings are a byte length followed by UTF-8 bytes.
+ * The strings of a request may total at most {@link #MAX_REQUEST_BYTES} bytes,
+ * checked before any of them is allocated.
+ * A connection carries any number of request/response pairs in sequence.
+ */
+final class DaemonProtocol {
+    
+    static final int MAX_ARGUMENTS = 4096;
+    
+    /**
+     * Largest total size of the strings of one request, well above any command line.
+     */
+    static final int MAX_REQUEST_BYTES = 1 << 20;
+    
+    static final byte EXIT_FRAME = 0;
+    static final byte OUTPUT_FRAME = 1;
+    static final byte ERROR_FRAME = 2;
+    
+    private static final int FRAME_SIZE = 8192;
+    
+    private DaemonProtocol() {
+    }
+    
+    /**
+     * Request read by the daemon: the arguments of one invocation and the
+     * directory their relative file paths are resolved against.
+     */
+    static final class Request {
+        
+        final Path workingDirectory;
+        final String[] args;
+        
+        Request(Path workingDirectory, String[] args) {
+            this.workingDirectory = workingDirectory;
+            this.args = args;
+        }
+    }
+    
+    static void writeRequest(DataOutputStream out, Path workingDirectory, String[] args) throws IOException {
+        writeString(out, workingDirectory.toString());
+        out.writeInt(args.length);
+        for (String arg : args) {
+            writeString(out, arg);
+        }
+        out.flush();
+    }
+    
+    /**
+     * Reads the next request.
+     * 
+     * @return the request, or null if the peer closed the connection
+     * @throws IOException if reading fails or the request is malformed or too large
+     */
+    static Request readRequest(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        int remaining = MAX_REQUEST_BYTES;
+        remaining = checkLength(length, remaining);
+        Path workingDirectory;
+        try {
+            workingDirectory = Path.of(readString(in, length));
+        } catch (InvalidPathException e) {
+            throw new IOException("Malformed request: " + e.getMessage(), e);
+        }
+        if (!workingDirectory.isAbsolute()) {
+            throw new IOException("Malformed request: relative working directory " + workingDirectory);
+        }
+        
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ARGUMENTS) {
+            throw new IOException("Malformed request: " + count + " arguments");
+        }
+        String[] args = new String[count];
+        for (int i = 0; i < count; i++) {
+            length = in.readInt();
+            remaining = checkLength(length, remaining);
+            args[i] = readString(in, length);
+        }
+        return new Request(workingDirectory, args);
+    }
+    
+    /**
+     * Checks the length of the next string of a request against the bytes the
+     * request has left, before the string is allocated.
+     * 
+     * @return the bytes left after the string
+     */
+    private static int checkLength(int length, int remaining) throws IOException {
+        if (length < 0 || length > remaining) {
+            throw new IOException("Malformed request: strings exceed " + MAX_REQUEST_BYTES + " bytes");
+        }
+        return remaining - length;
+    }
+    
+    static void writeExit(DataOutputStream out, int exitCode) throws IOException {
+        out.writeByte(EXIT_FRAME);
+        out.writeInt(exitCode);
+        out.flush();
+    }
+    
+    /**
+     * Reads the frames of a response, copying their payloads to the given streams.
+     * 
+     * @return the exit code
+     * @throws IOException if reading or copying fails or a frame is malformed
+     */
+    static int readResponse(DataInputStream in, OutputStream output, OutputStream error) throws IOException {
+        byte[] buffer = new byte[FRAME_SIZE];
+        while (true) {
+            byte tag = in.readByte();
+            if (tag == EXIT_FRAME) {
+                return in.readInt();
+            }
+            if (tag != OUTPUT_FRAME && tag != ERROR_FRAME) {
+                throw new IOException("Malformed response: frame tag " + tag);
+            }
+            int length = in.readInt();
+            if (length < 0 || length > FRAME_SIZE) {
+                throw new IOException("Malformed response: frame of " + length + " bytes");
+            }
+            in.readFully(buffer, 0, length);
+            OutputStream target = tag == OUTPUT_FRAME ? output : error;
+            target.write(buffer, 0, length);
+            target.flush();
+        }
+    }
+    
+    /**
+     * Stream sending the bytes written to it as frames of one tag.
+     * Bytes are gathered into frames of at most 8 KB, sent when full and on flush;
+     * frames of the output and error streams of one response may interleave.
+     */
+    static final class FrameOutputStream extends OutputStream {
+        
+        private final DataOutputStream out;
+        private final byte tag;
+        private final byte[] buffer = new byte[FRAME_SIZE];
+        private int count;
+        
+        FrameOutputStream(DataOutputStream out, byte tag) {
+            this.out = out;
+            this.tag = tag;
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length) {
+                flush();
+            }
+            buffer[count++] = (byte) b;
+        }
+        
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (count == buffer.length) {
+                    flush();
+                }
+                int chunk = Math.min(length, buffer.length - count);
+                System.arraycopy(bytes, offset, buffer, count, chunk);
+                count += chunk;
+                offset += chunk;
+                length -= chunk;
+            }
+        }
+        
+        @Override
+        public void flush() throws IOException {
+            if (count == 0) {
+                return;
+            }
+            synchronized (out) {
+                out.writeByte(tag);
+                out.writeInt(count);
+                out.write(buffer, 0, count);
+                out.flush();
+            }
+            count = 0;
+        }
+        
+        /**
+         * Sends any remaining bytes; the underlying connection stays open.
+         */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+    
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
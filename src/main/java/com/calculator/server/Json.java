@@ -0,0 +1,46 @@
+package com.calculator.server;
+
+/**
+ * Minimal JSON text helpers for the HTTP service responses.
+ */
+final class Json {
+    
+    private Json() {
+    }
+    
+    /**
+     * Appends a string as a quoted, escaped JSON string.
+     */
+    static StringBuilder appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"');
+    }
+    
+    /**
+     * Appends a formatted result as a JSON number, or as a string for values
+     * JSON numbers cannot express (infinities and NaN).
+     */
+    static StringBuilder appendResult(StringBuilder builder, double value, String formatted) {
+        if (Double.isFinite(value)) {
+            return builder.append(formatted);
+        }
+        return appendString(builder, formatted);
+    }
+}
@@ -1,11 +1,19 @@
 package com.calculator.util;
 
 import com.calculator.exception.InvalidArgumentException;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ParseEvent;
+import com.calculator.operation.FixedPoint;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
 
 /**
  * Utility class for parsing command line arguments.
  * Handles parsing of calculator commands in the format: "number operator number"
- * Also handles special flags like --help and --version.
+ * Also handles special flags like --help and --version, and the batch,
+ * expression, daemon and server modes.
  */
 public class ArgumentParser {
     
@@ -13,35 +21,291 @@ public class ArgumentParser {
      * Represents parsed calculator arguments.
      */
     public static class ParsedArguments {
+        
+        /**
+         * The kind of request the arguments describe.
+         */
+        private enum Mode { CALCULATION, DECIMAL, FIXED_POINT, ADAPTIVE, RATIONAL, MULTIPLY_ADD, HELP, VERSION, BATCH, PARALLEL_BATCH, EXPRESSION, DAEMON, SERVE }
+        
+        private final Mode mode;
         private final double leftOperand;
         private final String operator;
         private final double rightOperand;
-        private final boolean isHelpRequest;
-        private final boolean isVersionRequest;
+        private final String value;
+        private final boolean integral;
+        private final long leftInteger;
+        private final long rightInteger;
+        private final MathContext mathContext;
+        private final Integer scale;
+        private final Double tolerance;
+        private final String leftText;
+        private final String rightText;
+        private final boolean rational;
+        private final double addend;
         
         public ParsedArguments(double leftOperand, String operator, double rightOperand) {
+            this(Mode.CALCULATION, leftOperand, operator, rightOperand, null);
+        }
+        
+        public ParsedArguments(boolean isHelpRequest, boolean isVersionRequest) {
+            this(isHelpRequest ? Mode.HELP : Mode.VERSION, 0, null, 0, null);
+        }
+        
+        private ParsedArguments(Mode mode, double leftOperand, String operator, double rightOperand, String value) {
+            this(mode, leftOperand, operator, rightOperand, value, false, 0, 0, null, null, null, null, null, false, 0);
+        }
+        
+        private ParsedArguments(Mode mode, double leftOperand, String operator, double rightOperand, String value,
+                                boolean integral, long leftInteger, long rightInteger,
+                                MathContext mathContext, Integer scale, Double tolerance,
+                                String leftText, String rightText, boolean rational, double addend) {
+            this.mode = mode;
             this.leftOperand = leftOperand;
             this.operator = operator;
             this.rightOperand = rightOperand;
-            this.isHelpRequest = false;
-            this.isVersionRequest = false;
+            this.value = value;
+            this.integral = integral;
+            this.leftInteger = leftInteger;
+            this.rightInteger = rightInteger;
+            this.mathContext = mathContext;
+            this.scale = scale;
+            this.tolerance = tolerance;
+            this.leftText = leftText;
+            this.rightText = rightText;
+            this.rational = rational;
+            this.addend = addend;
         }
         
-        public ParsedArguments(boolean isHelpRequest, boolean isVersionRequest) {
-            this.leftOperand = 0;
-            this.operator = null;
-            this.rightOperand = 0;
-            this.isHelpRequest = isHelpRequest;
-            this.isVersionRequest = isVersionRequest;
+        /**
+         * Creates a calculation whose operands were both written as integers,
+         * so it can be computed exactly with long arithmetic.
+         * The double operands hold the same values, rounded if beyond 2^53.
+         * 
+         * @param leftOperand the left operand
+         * @param operator the operator
+         * @param rightOperand the right operand
+         * @return parsed integer calculation
+         */
+        public static ParsedArguments integers(long leftOperand, String operator, long rightOperand) {
+            return new ParsedArguments(Mode.CALCULATION, leftOperand, operator, rightOperand, null,
+                true, leftOperand, rightOperand, null, null, null, null, null, false, 0);
+        }
+        
+        /**
+         * Creates a request to calculate with decimal arithmetic at a given precision.
+         * The operands are kept as text, to be parsed as decimals without rounding.
+         * 
+         * @param mathContext the precision and rounding of the result
+         * @param left the left operand token
+         * @param operator the operator
+         * @param right the right operand token
+         * @return parsed decimal calculation request
+         */
+        public static ParsedArguments decimal(MathContext mathContext, String left, String operator, String right) {
+            return new ParsedArguments(Mode.DECIMAL, 0, operator, 0, null,
+                false, 0, 0, mathContext, null, null, left, right, false, 0);
+        }
+        
+        /**
+         * Creates a request to calculate with fixed-point arithmetic at a given scale.
+         * The operands are kept as text, to be parsed at the scale.
+         * 
+         * @param scale the number of decimal places
+         * @param left the left operand token
+         * @param operator the operator
+         * @param right the right operand token
+         * @return parsed fixed-point calculation request
+         */
+        public static ParsedArguments fixedPoint(int scale, String left, String operator, String right) {
+            return new ParsedArguments(Mode.FIXED_POINT, 0, operator, 0, null,
+                false, 0, 0, null, scale, null, left, right, false, 0);
+        }
+        
+        /**
+         * Creates a request to calculate in double, escalating the precision
+         * when the error bound exceeds a relative tolerance.
+         * The operands are kept as text, to be parsed as decimals.
+         * 
+         * @param tolerance the largest accepted relative error
+         * @param left the left operand token
+         * @param operator the operator
+         * @param right the right operand token
+         * @return parsed adaptive calculation request
+         */
+        public static ParsedArguments adaptive(double tolerance, String left, String operator, String right) {
+            return new ParsedArguments(Mode.ADAPTIVE, 0, operator, 0, null,
+                false, 0, 0, null, null, tolerance, left, right, false, 0);
+        }
+        
+        /**
+         * Creates a request to calculate with exact rational arithmetic.
+         * The operands are kept as text, to be parsed as fractions or decimals.
+         * 
+         * @param left the left operand token
+         * @param operator the operator
+         * @param right the right operand token
+         * @return parsed rational calculation request
+         */
+        public static ParsedArguments rational(String left, String operator, String right) {
+            return new ParsedArguments(Mode.RATIONAL, 0, operator, 0, null,
+                false, 0, 0, null, null, null, left, right, true, 0);
+        }
+        
+        /**
+         * Creates a request to compute {@code a * b + c} with a single rounding.
+         * 
+         * @param a the multiplicand
+         * @param b the multiplier
+         * @param c the addend
+         * @return parsed multiply-add request
+         */
+        public static ParsedArguments multiplyAdd(double a, double b, double c) {
+            return new ParsedArguments(Mode.MULTIPLY_ADD, a, "*", b, null,
+                false, 0, 0, null, null, null, null, null, false, c);
+        }
+        
+        /**
+         * Creates a batch request reading from a file, or from stdin if the file is null.
+         * 
+         * @param batchFile the input file path, or null for stdin
+         * @return parsed batch request
+         */
+        public static ParsedArguments batch(String batchFile) {
+            return new ParsedArguments(Mode.BATCH, 0, null, 0, batchFile);
+        }
+        
+        /**
+         * Creates a batch request calculating with decimal arithmetic at a given precision.
+         * 
+         * @param mathContext the precision and rounding of the results
+         * @param batchFile the input file path, or null for stdin
+         * @return parsed decimal batch request
+         */
+        public static ParsedArguments decimalBatch(MathContext mathContext, String batchFile) {
+            return new ParsedArguments(Mode.BATCH, 0, null, 0, batchFile,
+                false, 0, 0, mathContext, null, null, null, null, false, 0);
+        }
+        
+        /**
+         * Creates a batch request calculating with fixed-point arithmetic at a given scale.
+         * 
+         * @param scale the number of decimal places
+         * @param batchFile the input file path, or null for stdin
+         * @return parsed fixed-point batch request
+         */
+        public static ParsedArguments fixedPointBatch(int scale, String batchFile) {
+            return new ParsedArguments(Mode.BATCH, 0, null, 0, batchFile,
+                false, 0, 0, null, scale, null, null, null, false, 0);
+        }
+        
+        /**
+         * Creates a batch request calculating with adaptive precision.
+         * 
+         * @param tolerance the largest accepted relative error
+         * @param batchFile the input file path, or null for stdin
+         * @return parsed adaptive batch request
+         */
+        public static ParsedArguments adaptiveBatch(double tolerance, String batchFile) {
+            return new ParsedArguments(Mode.BATCH, 0, null, 0, batchFile,
+                false, 0, 0, null, null, tolerance, null, null, false, 0);
+        }
+        
+        /**
+         * Creates a batch request calculating with exact rational arithmetic.
+         * 
+         * @param batchFile the input file path, or null for stdin
+         * @return parsed rational batch request
+         */
+        public static ParsedArguments rationalBatch(String batchFile) {
+            return new ParsedArguments(Mode.BATCH, 0, null, 0, batchFile,
+                false, 0, 0, null, null, null, null, null, true, 0);
+        }
+        
+        /**
+         * Creates a parallel batch request over a memory-mapped file.
+         * 
+         * @param batchFile the input file path
+         * @return parsed parallel batch request
+         */
+        public static ParsedArguments parallelBatch(String batchFile) {
+            return new ParsedArguments(Mode.PARALLEL_BATCH, 0, null, 0, batchFile);
+        }
+        
+        /**
+         * Creates a request to evaluate a multi-term expression.
+         * 
+         * @param expression the expression text
+         * @return parsed expression request
+         */
+        public static ParsedArguments expression(String expression) {
+            return new ParsedArguments(Mode.EXPRESSION, 0, null, 0, expression);
+        }
+        
+        /**
+         * Creates a request to serve calculations over a Unix domain socket.
+         * 
+         * @param socketPath the socket file path, or null for the default path
+         * @return parsed daemon request
+         */
+        public static ParsedArguments daemon(String socketPath) {
+            return new ParsedArguments(Mode.DAEMON, 0, null, 0, socketPath);
+        }
+        
+        /**
+         * Creates a request to serve calculations over HTTP.
+         * 
+         * @param port the port to listen on, or null for the default port
+         * @param address the address to listen on, or null for the loopback address
+         * @return parsed serve request
+         */
+        public static ParsedArguments serve(String port, String address) {
+            return new ParsedArguments(Mode.SERVE, 0, null, 0, port,
+                false, 0, 0, null, null, null, address, null, false, 0);
         }
         
         public double getLeftOperand() { return leftOperand; }
         public String getOperator() { return operator; }
         public double getRightOperand() { return rightOperand; }
-        public boolean isHelpRequest() { return isHelpRequest; }
-        public boolean isVersionRequest() { return isVersionRequest; }
+        public boolean isIntegral() { return integral; }
+        public long getLeftInteger() { return leftInteger; }
+        public long getRightInteger() { return rightInteger; }
+        public boolean isDecimalRequest() { return mode == Mode.DECIMAL; }
+        public MathContext getMathContext() { return mathContext; }
+        public boolean isFixedPointRequest() { return mode == Mode.FIXED_POINT; }
+        public Integer getScale() { return scale; }
+        public boolean isAdaptiveRequest() { return mode == Mode.ADAPTIVE; }
+        public Double getTolerance() { return tolerance; }
+        public boolean isRationalRequest() { return mode == Mode.RATIONAL; }
+        public boolean isRational() { return rational; }
+        public boolean isMultiplyAddRequest() { return mode == Mode.MULTIPLY_ADD; }
+        public double getAddend() { return addend; }
+        public String getLeftText() { return leftText; }
+        public String getRightText() { return rightText; }
+        public boolean isHelpRequest() { return mode == Mode.HELP; }
+        public boolean isVersionRequest() { return mode == Mode.VERSION; }
+        public boolean isBatchRequest() { return mode == Mode.BATCH || mode == Mode.PARALLEL_BATCH; }
+        public String getBatchFile() { return isBatchRequest() ? value : null; }
+        public boolean isParallelBatch() { return mode == Mode.PARALLEL_BATCH; }
+        public boolean isExpressionRequest() { return mode == Mode.EXPRESSION; }
+        public String getExpression() { return isExpressionRequest() ? value : null; }
+        public boolean isDaemonRequest() { return mode == Mode.DAEMON; }
+        public String getSocketPath() { return isDaemonRequest() ? value : null; }
+        public boolean isServeRequest() { return mode == Mode.SERVE; }
+        public String getServePort() { return isServeRequest() ? value : null; }
+        public String getServeAddress() { return isServeRequest() ? leftText : null; }
     }
     
+    private static final String INVALID_ARGUMENT_COUNT_MESSAGE =
+        "Invalid number of arguments. Expected format: <number> <operator> <number>";
+    
+    /**
+     * The smallest tolerance of the adaptive mode, as in {@code AdaptiveCalculator.MIN_TOLERANCE}.
+     */
+    private static final double MIN_TOLERANCE = 0x1p-52;
+    
+    private final FastDoubleParser doubleParser = new FastDoubleParser();
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    
     /**
      * Parses command line arguments into a structured format.
      * 
@@ -64,19 +328,358 @@ public class ArgumentParser {
             }
         }
         
+        if ("--batch".equals(args[0]) || "-b".equals(args[0])) {
+            if (args.length > 2) {
+                throw new InvalidArgumentException("Invalid batch arguments. Expected format: --batch [file]");
+            }
+            return ParsedArguments.batch(args.length == 2 ? args[1] : null);
+        }
+        
+        if ("--parallel".equals(args[0]) || "-p".equals(args[0])) {
+            if (args.length != 2) {
+                throw new InvalidArgumentException("Invalid parallel arguments. Expected format: --parallel <file>");
+            }
+            return ParsedArguments.parallelBatch(args[1]);
+        }
+        
+        if ("--precision".equals(args[0])) {
+            return parsePrecision(args);
+        }
+        
+        if ("--scale".equals(args[0])) {
+            return parseScale(args);
+        }
+        
+        if ("--tolerance".equals(args[0])) {
+            return parseTolerance(args);
+        }
+        
+        if ("--rational".equals(args[0])) {
+            return parseRational(args);
+        }
+        
+        if ("--fma".equals(args[0])) {
+            return parseMultiplyAdd(args);
+        }
+        
+        if ("--daemon".equals(args[0])) {
+            if (args.length > 2) {
+                throw new InvalidArgumentException("Invalid daemon arguments. Expected format: --daemon [socket]");
+            }
+            return ParsedArguments.daemon(args.length == 2 ? args[1] : null);
+        }
+        
+        if ("--serve".equals(args[0])) {
+            if (args.length > 3) {
+                throw new InvalidArgumentException("Invalid serve arguments. Expected format: --serve [port [address]]");
+            }
+            if (args.length >= 2 && !isPort(args[1])) {
+                throw new InvalidArgumentException("Invalid port: " + args[1]);
+            }
+            if (args.length == 3 && args[2].isBlank()) {
+                throw new InvalidArgumentException("Invalid address: \"" + args[2] + "\"");
+            }
+            return ParsedArguments.serve(args.length >= 2 ? args[1] : null, args.length == 3 ? args[2] : null);
+        }
+        
+        if ("--expr".equals(args[0]) || "-e".equals(args[0])) {
+            if (args.length < 2) {
+                throw new InvalidArgumentException("Invalid expression arguments. Expected format: --expr <expression>");
+            }
+            // Allow the expression to be given as one quoted argument or as separate tokens
+            return ParsedArguments.expression(String.join(" ", Arrays.copyOfRange(args, 1, args.length)));
+        }
+        
         // Handle calculation arguments
         if (args.length != 3) {
-            throw new InvalidArgumentException("Invalid number of arguments. Expected format: <number> <operator> <number>");
+            throw new InvalidArgumentException(INVALID_ARGUMENT_COUNT_MESSAGE);
+        }
+        
+        return parseCalculation(args[0], args[1], args[2]);
+    }
+    
+    /**
+     * Parses the arguments of the decimal mode:
+     * {@code --precision <digits> <number> <operator> <number>} or
+     * {@code --precision <digits> --batch [file]}.
+     */
+    private ParsedArguments parsePrecision(String[] args) throws InvalidArgumentException {
+        if (args.length < 2 || !isDigits(args[1], 4)) {
+            throw new InvalidArgumentException(
+                "Invalid precision arguments. Expected format: --precision <digits> <number> <operator> <number>");
+        }
+        MathContext mathContext = new MathContext(Integer.parseInt(args[1]), RoundingMode.HALF_EVEN);
+        
+        if (args.length >= 3 && ("--batch".equals(args[2]) || "-b".equals(args[2]))) {
+            if (args.length > 4) {
+                throw new InvalidArgumentException(
+                    "Invalid batch arguments. Expected format: --precision <digits> --batch [file]");
+            }
+            return ParsedArguments.decimalBatch(mathContext, args.length == 4 ? args[3] : null);
+        }
+        if (args.length != 5) {
+            throw new InvalidArgumentException(INVALID_ARGUMENT_COUNT_MESSAGE);
+        }
+        return ParsedArguments.decimal(mathContext, args[2], args[3], args[4]);
+    }
+    
+    /**
+     * Parses the arguments of the fixed-point mode:
+     * {@code --scale <places> <number> <operator> <number>} or
+     * {@code --scale <places> --batch [file]}.
+     */
+    private ParsedArguments parseScale(String[] args) throws InvalidArgumentException {
+        if (args.length < 2 || !isDigits(args[1], 2) || Integer.parseInt(args[1]) > FixedPoint.MAX_SCALE) {
+            throw new InvalidArgumentException(
+                "Invalid scale arguments. Expected format: --scale <0-" + FixedPoint.MAX_SCALE
+                    + "> <number> <operator> <number>");
         }
+        int scale = Integer.parseInt(args[1]);
         
+        if (args.length >= 3 && ("--batch".equals(args[2]) || "-b".equals(args[2]))) {
+            if (args.length > 4) {
+                throw new InvalidArgumentException(
+                    "Invalid batch arguments. Expected format: --scale <places> --batch [file]");
+            }
+            return ParsedArguments.fixedPointBatch(scale, args.length == 4 ? args[3] : null);
+        }
+        if (args.length != 5) {
+            throw new InvalidArgumentException(INVALID_ARGUMENT_COUNT_MESSAGE);
+        }
+        return ParsedArguments.fixedPoint(scale, args[2], args[3], args[4]);
+    }
+    
+    /**
+     * Parses the arguments of the adaptive mode:
+     * {@code --tolerance <relative> <number> <operator> <number>} or
+     * {@code --tolerance <relative> --batch [file]}.
+     */
+    private ParsedArguments parseTolerance(String[] args) throws InvalidArgumentException {
+        double tolerance = args.length >= 2 && doubleParser.isParsable(args[1]) ? doubleParser.parse(args[1]) : Double.NaN;
+        if (!(tolerance >= MIN_TOLERANCE) || Double.isInfinite(tolerance)) {
+            throw new InvalidArgumentException(
+                "Invalid tolerance arguments. Expected format: --tolerance <relative error, at least 2.3e-16>"
+                    + " <number> <operator> <number>");
+        }
+        
+        if (args.length >= 3 && ("--batch".equals(args[2]) || "-b".equals(args[2]))) {
+            if (args.length > 4) {
+                throw new InvalidArgumentException(
+                    "Invalid batch arguments. Expected format: --tolerance <relative> --batch [file]");
+            }
+            return ParsedArguments.adaptiveBatch(tolerance, args.length == 4 ? args[3] : null);
+        }
+        if (args.length != 5) {
+            throw new InvalidArgumentException(INVALID_ARGUMENT_COUNT_MESSAGE);
+        }
+        return ParsedArguments.adaptive(tolerance, args[2], args[3], args[4]);
+    }
+    
+    /**
+     * Splits an expression line in the format "number operator number" into its
+     * three tokens, without parsing the operands.
+     * 
+     * @param line the expression line
+     * @return the left operand, operator and right operand tokens
+     * @throws InvalidArgumentException if the line does not have exactly three tokens
+     */
+    public String[] splitLine(String line) throws InvalidArgumentException {
+        String[] tokens = new String[3];
+        if (tokenize(line, tokens) != tokens.length) {
+            throw new InvalidArgumentException(INVALID_ARGUMENT_COUNT_MESSAGE);
+        }
+        return tokens;
+    }
+    
+    /**
+     * Parses a single expression line in the format "number operator number".
+     * Tokens are separated by one or more whitespace characters.
+     * 
+     * @param line the expression line
+     * @return parsed arguments object
+     * @throws InvalidArgumentException if the line is not a valid expression
+     */
+    public ParsedArguments parseLine(String line) throws InvalidArgumentException {
+        String[] tokens = splitLine(line);
+        return parseCalculation(tokens[0], tokens[1], tokens[2]);
+    }
+    
+    /**
+     * Parses a single expression line without throwing.
+     * 
+     * @param line the expression line
+     * @param result receives the error if the line is not a valid expression
+     * @return parsed arguments object, or null if the line is not a valid expression
+     */
+    public ParsedArguments tryParseLine(String line, CalculationResult result) {
+        String[] tokens = new String[3];
+        if (tokenize(line, tokens) != tokens.length) {
+            result.failure(ErrorCategory.INVALID_ARGUMENT, INVALID_ARGUMENT_COUNT_MESSAGE);
+            return null;
+        }
+        return tryParseCalculation(tokens[0], tokens[1], tokens[2], result);
+    }
+    
+    /**
+     * Splits a line into whitespace-separated tokens.
+     * 
+     * @return the number of tokens, or -1 if there are more tokens than fit in the array
+     */
+    private static int tokenize(String line, String[] tokens) {
+        int count = 0;
+        int length = line.length();
+        int index = 0;
+        
+        while (index < length) {
+            while (index < length && Character.isWhitespace(line.charAt(index))) {
+                index++;
+            }
+            if (index == length) {
+                break;
+            }
+            int start = index;
+            while (index < length && !Character.isWhitespace(line.charAt(index))) {
+                index++;
+            }
+            if (count == tokens.length) {
+                return -1;
+            }
+            tokens[count++] = line.substring(start, index);
+        }
+        return count;
+    }
+    
+    /**
+     * Parses the arguments of the rational mode:
+     * {@code --rational <number> <operator> <number>} or {@code --rational --batch [file]}.
+     */
+    private ParsedArguments parseRational(String[] args) throws InvalidArgumentException {
+        if (args.length >= 2 && ("--batch".equals(args[1]) || "-b".equals(args[1]))) {
+            if (args.length > 3) {
+                throw new InvalidArgumentException(
+                    "Invalid batch arguments. Expected format: --rational --batch [file]");
+            }
+            return ParsedArguments.rationalBatch(args.length == 3 ? args[2] : null);
+        }
+        if (args.length != 4) {
+            throw new InvalidArgumentException(INVALID_ARGUMENT_COUNT_MESSAGE);
+        }
+        return ParsedArguments.rational(args[1], args[2], args[3]);
+    }
+    
+    /**
+     * Parses the arguments of the fused multiply-add: {@code --fma <number> <number> <number>}.
+     */
+    private ParsedArguments parseMultiplyAdd(String[] args) throws InvalidArgumentException {
+        if (args.length != 4) {
+            throw new InvalidArgumentException(
+                "Invalid fma arguments. Expected format: --fma <number> <number> <number>");
+        }
         try {
-            double leftOperand = Double.parseDouble(args[0]);
-            String operator = args[1];
-            double rightOperand = Double.parseDouble(args[2]);
+            return ParsedArguments.multiplyAdd(doubleParser.parse(args[1]), doubleParser.parse(args[2]),
+                doubleParser.parse(args[3]));
+        } catch (NumberFormatException e) {
+            throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Checks whether the arguments are a plain "number operator number" calculation
+     * rather than a mode flag with its parameters.
+     * 
+     * @param args command line arguments
+     * @return true if the arguments are three calculation tokens
+     */
+    public boolean isCalculation(String[] args) {
+        if (args == null || args.length != 3) {
+            return false;
+        }
+        String first = args[0];
+        return !("--batch".equals(first) || "-b".equals(first)
+            || "--parallel".equals(first) || "-p".equals(first)
+            || "--expr".equals(first) || "-e".equals(first)
+            || "--precision".equals(first) || "--scale".equals(first) || "--tolerance".equals(first)
+            || "--rational".equals(first) || "--fma".equals(first)
+            || "--daemon".equals(first) || "--serve".equals(first));
+    }
+    
+    private static boolean isPort(String text) {
+        return isDigits(text, 5) && Integer.parseInt(text) <= 65535;
+    }
+    
+    /**
+     * Checks whether a text is a non-empty run of at most the given number of decimal digits.
+     */
+    private static boolean isDigits(String text, int maxLength) {
+        if (text.isEmpty() || text.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < '0' || text.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Parses the three tokens of a calculation.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @return parsed arguments object
+     * @throws InvalidArgumentException if an operand is not a valid number
+     */
+    public ParsedArguments parseCalculation(String left, String operator, String right) 
+            throws InvalidArgumentException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            ParsedArguments parsed;
+            if (IntegerParser.isInteger(left) && IntegerParser.isInteger(right)) {
+                parsed = ParsedArguments.integers(Long.parseLong(left), operator, Long.parseLong(right));
+            } else {
+                parsed = new ParsedArguments(doubleParser.parse(left), operator, doubleParser.parse(right));
+            }
             
-            return new ParsedArguments(leftOperand, operator, rightOperand);
+            event.complete(operator, null);
+            return parsed;
         } catch (NumberFormatException e) {
+            event.complete(operator, ErrorCategory.INVALID_ARGUMENT);
             throw new InvalidArgumentException("Invalid number format: " + e.getMessage());
+        } finally {
+            metrics.recordParse(start);
+        }
+    }
+    
+    /**
+     * Parses the three tokens of a calculation without throwing.
+     * Reports the same messages as {@link #parseCalculation(String, String, String)}.
+     * 
+     * @param left the left operand token
+     * @param operator the operator token
+     * @param right the right operand token
+     * @param result receives the error if an operand is not a valid number
+     * @return parsed arguments object, or null if an operand is not a valid number
+     */
+    public ParsedArguments tryParseCalculation(String left, String operator, String right,
+                                               CalculationResult result) {
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        ParsedArguments parsed = null;
+        if (IntegerParser.isInteger(left) && IntegerParser.isInteger(right)) {
+            parsed = ParsedArguments.integers(Long.parseLong(left), operator, Long.parseLong(right));
+        } else if (doubleParser.parse(left, result)) {
+            double leftOperand = result.getValue();
+            if (doubleParser.parse(right, result)) {
+                parsed = new ParsedArguments(leftOperand, operator, result.getValue());
+            }
         }
+        metrics.recordParse(start);
+        event.complete(operator, parsed != null ? null : result.getErrorCategory());
+        return parsed;
     }
 }
@@ -0,0 +1,66 @@
+package com.calculator.util;
+
+/**
+ * Outcome of a calculation step reported without exceptions: either a value,
+ * or an error category with its message. Values computed exactly from integer
+ * operands are kept as the Long or BigInteger produced, alongside their double value.
+ * Instances are mutable and meant to be reused for every row of a batch, so
+ * reporting a bad row costs neither an exception nor an allocation. Not
+ * thread-safe; use one instance per thread.
+ */
+public final class CalculationResult {
+    
+    private double value;
+    private Number exactValue;
+    private ErrorCategory errorCategory;
+    private String errorMessage;
+    
+    /**
+     * Records a successful outcome.
+     * 
+     * @param value the resulting value
+     * @return true, so that callers can return the outcome directly
+     */
+    public boolean success(double value) {
+        this.value = value;
+        this.exactValue = null;
+        this.errorCategory = null;
+        this.errorMessage = null;
+        return true;
+    }
+    
+    /**
+     * Records a successful outcome computed exactly.
+     * 
+     * @param value the resulting value, a Long, BigInteger or Double
+     * @return true, so that callers can return the outcome directly
+     */
+    public boolean success(Number value) {
+        this.value = value.doubleValue();
+        this.exactValue = value;
+        this.errorCategory = null;
+        this.errorMessage = null;
+        return true;
+    }
+    
+    /**
+     * Records a failed outcome.
+     * 
+     * @param errorCategory the category of the error
+     * @param errorMessage the error message, without the "Error: " prefix
+     * @return false, so that callers can return the outcome directly
+     */
+    public boolean failure(ErrorCategory errorCategory, String errorMessage) {
+        this.value = Double.NaN;
+        this.exactValue = null;
+        this.errorCategory = errorCategory;
+        this.errorMessage = errorMessage;
+        return false;
+    }
+    
+    public boolean isSuccess() { return errorCategory == null; }
+    public double getValue() { return value; }
+    public Number getExactValue() { return exactValue; }
+    public ErrorCategory getErrorCategory() { return errorCategory; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,21 @@
+package com.calculator.util;
+
+/**
+ * Categories of errors reported by the calculator.
+ * Lets callers that do not print text, such as the HTTP service, react to
+ * the kind of failure without inspecting exception types or messages.
+ */
+public enum ErrorCategory {
+    
+    /** The request could not be parsed: wrong argument count, bad number or flag. */
+    INVALID_ARGUMENT,
+    
+    /** The request was well-formed but its values are not acceptable, e.g. an unknown operator. */
+    INVALID_INPUT,
+    
+    /** The calculation itself failed, e.g. division by zero. */
+    ARITHMETIC,
+    
+    /** An unexpected internal failure. */
+    INTERNAL
+}
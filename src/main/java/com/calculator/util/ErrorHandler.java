@@ -2,15 +2,28 @@ package com.calculator.util;
 
 import com.calculator.exception.InvalidArgumentException;
 import com.calculator.exception.InvalidInputException;
+import com.calculator.metrics.CalculatorMetrics;
 
 /**
  * Utility class for handling and formatting errors.
  * Provides consistent error messages and handling across the application.
+ * Every error handled here is counted by category in the shared
+ * {@link CalculatorMetrics}.
  */
 public class ErrorHandler {
     
     private static final String USAGE_MESSAGE = 
         "Usage: calculator <number> <operator> <number>\n" +
+        "       calculator --batch [file]\n" +
+        "       calculator --parallel <file>\n" +
+        "       calculator --expr <expression>\n" +
+        "       calculator --precision <digits> <number> <operator> <number>\n" +
+        "       calculator --scale <places> <number> <operator> <number>\n" +
+        "       calculator --tolerance <error> <number> <operator> <number>\n" +
+        "       calculator --rational <number> <operator> <number>\n" +
+        "       calculator --fma <number> <number> <number>\n" +
+        "       calculator --daemon [socket]\n" +
+        "       calculator --serve [port]\n" +
         "       calculator --help\n" +
         "       calculator --version\n\n" +
         "Operators: +, -, *, /\n" +
@@ -20,6 +33,8 @@ public class ErrorHandler {
         "  calculator 4 * 7\n" +
         "  calculator 15 / 3";
     
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    
     /**
      * Handles exceptions and returns appropriate error messages.
      * 
@@ -27,6 +42,7 @@ public class ErrorHandler {
      * @return formatted error message
      */
     public String handleError(Throwable throwable) {
+        metrics.recordError(categorize(throwable));
         if (throwable instanceof InvalidArgumentException) {
             return formatArgumentError((InvalidArgumentException) throwable);
         } else if (throwable instanceof InvalidInputException) {
@@ -40,6 +56,68 @@ public class ErrorHandler {
         }
     }
     
+    /**
+     * Handles exceptions raised while processing a single batch line.
+     * Returns a one-line message without usage information, so that
+     * batch output keeps exactly one line per input line.
+     * 
+     * @param throwable the exception to handle
+     * @return single-line error message
+     */
+    public String handleBatchError(Throwable throwable) {
+        metrics.recordError(categorize(throwable));
+        return "Error: " + describeError(throwable);
+    }
+    
+    /**
+     * Formats the failure recorded in a result as a single-line batch error,
+     * matching {@link #handleBatchError(Throwable)} for the equivalent exception.
+     * 
+     * @param result a failed result
+     * @return single-line error message
+     */
+    public String handleBatchError(CalculationResult result) {
+        metrics.recordError(result.getErrorCategory());
+        return "Error: " + result.getErrorMessage();
+    }
+    
+    /**
+     * Returns a one-line description of an error, without the "Error: " prefix
+     * or usage information.
+     * 
+     * @param throwable the exception to describe
+     * @return single-line error description
+     */
+    public String describeError(Throwable throwable) {
+        if (throwable instanceof InvalidArgumentException
+                || throwable instanceof InvalidInputException
+                || throwable instanceof ArithmeticException) {
+            return throwable.getMessage();
+        } else if (throwable instanceof NumberFormatException) {
+            return "Invalid number format. Please provide valid numbers.";
+        } else {
+            return "An unexpected error occurred: " + throwable.getMessage();
+        }
+    }
+    
+    /**
+     * Classifies an exception into an error category.
+     * 
+     * @param throwable the exception to classify
+     * @return the error category
+     */
+    public ErrorCategory categorize(Throwable throwable) {
+        if (throwable instanceof InvalidArgumentException || throwable instanceof NumberFormatException) {
+            return ErrorCategory.INVALID_ARGUMENT;
+        } else if (throwable instanceof InvalidInputException) {
+            return ErrorCategory.INVALID_INPUT;
+        } else if (throwable instanceof ArithmeticException) {
+            return ErrorCategory.ARITHMETIC;
+        } else {
+            return ErrorCategory.INTERNAL;
+        }
+    }
+    
     /**
      * Formats argument-related errors.
      * 
@@ -0,0 +1,273 @@
+package com.calculator.util;
+
+import java.math.BigInteger;
+
+/**
+ * Utility class for formatting doubles directly into byte arrays.
+ * Produces exactly the text of {@link Double#toString(double)}: the shortest
+ * decimal that rounds back to the same double, computed with the Schubfach
+ * algorithm, laid out as a plain decimal between 10^-3 and 10^7 and in
+ * scientific notation otherwise. The output is ASCII and needs no String or
+ * intermediate char array.
+ */
+public class FastDoubleFormatter {
+    
+    /**
+     * The maximum number of bytes written for one value, e.g. "-2.2250738585072014E-308".
+     */
+    public static final int MAX_LENGTH = 24;
+    
+    private static final int PRECISION = 53;
+    private static final long MIN_SIGNIFICAND = 1L << (PRECISION - 1);
+    private static final long FRACTION_MASK = MIN_SIGNIFICAND - 1;
+    private static final int MIN_EXPONENT = -1074;
+    private static final int EXPONENT_MASK = 0x7FF;
+    private static final long MASK_63 = Long.MAX_VALUE;
+    
+    // Subnormal significands below this value have too few digits for the
+    // decimal interval to be computed precisely enough; they are scaled by ten first
+    private static final long TINY_SIGNIFICAND = 3;
+    
+    private static final byte[] NAN = {'N', 'a', 'N'};
+    private static final byte[] INFINITY = {'I', 'n', 'f', 'i', 'n', 'i', 't', 'y'};
+    
+    /**
+     * Writes the text of {@link Double#toString(double)} for a value into an array.
+     * 
+     * @param value the value to format
+     * @param buffer the destination array
+     * @param offset the position of the first byte to write
+     * @return the position just after the last byte written
+     * @throws ArrayIndexOutOfBoundsException if fewer than {@link #MAX_LENGTH}
+     *         bytes are available and the text does not fit
+     */
+    public int format(double value, byte[] buffer, int offset) {
+        long bits = Double.doubleToRawLongBits(value);
+        long fraction = bits & FRACTION_MASK;
+        int biasedExponent = (int) (bits >>> (PRECISION - 1)) & EXPONENT_MASK;
+        
+        if (biasedExponent == EXPONENT_MASK) {
+            if (fraction != 0) {
+                return copy(NAN, buffer, offset);
+            }
+            if (bits < 0) {
+                buffer[offset++] = '-';
+            }
+            return copy(INFINITY, buffer, offset);
+        }
+        
+        if (bits < 0) {
+            buffer[offset++] = '-';
+        }
+        if (biasedExponent != 0) {
+            int negatedExponent = -MIN_EXPONENT + 1 - biasedExponent;
+            long significand = MIN_SIGNIFICAND | fraction;
+            // Integers below 2^53 are their own shortest representation
+            if (0 < negatedExponent && negatedExponent < PRECISION) {
+                long integer = significand >> negatedExponent;
+                if (integer << negatedExponent == significand) {
+                    return writeDecimal(integer, 0, buffer, offset);
+                }
+            }
+            return toDecimal(-negatedExponent, significand, 0, buffer, offset);
+        }
+        if (fraction != 0) {
+            return fraction < TINY_SIGNIFICAND
+                ? toDecimal(MIN_EXPONENT, 10 * fraction, -1, buffer, offset)
+                : toDecimal(MIN_EXPONENT, fraction, 0, buffer, offset);
+        }
+        buffer[offset++] = '0';
+        buffer[offset++] = '.';
+        buffer[offset++] = '0';
+        return offset;
+    }
+    
+    /**
+     * Writes the shortest decimal in the rounding interval of significand * 2^exponent.
+     * The Schubfach algorithm scales the interval bounds by a 126-bit power of ten
+     * chosen so that the candidates are the one- and two-digit-shorter neighbours
+     * of the scaled value, and picks the shortest candidate inside the interval.
+     * 
+     * @param decimalAdjustment added to the decimal exponent when the significand was pre-scaled
+     */
+    private static int toDecimal(int exponent, long significand, int decimalAdjustment, byte[] buffer, int offset) {
+        int odd = (int) significand & 0x1;
+        long center = significand << 2;
+        long right = center + 2;
+        long left;
+        int k;
+        if (significand != MIN_SIGNIFICAND | exponent == MIN_EXPONENT) {
+            left = center - 2;
+            k = floorLog10Pow2(exponent);
+        } else {
+            // At a power of two the interval below is half as wide as the one above
+            left = center - 1;
+            k = floorLog10ThreeQuartersPow2(exponent);
+        }
+        int shift = exponent + floorLog2Pow10(-k) + 2;
+        long g1 = PowersOfTen.TABLE[2 * (k - PowersOfTen.MIN_K)];
+        long g0 = PowersOfTen.TABLE[2 * (k - PowersOfTen.MIN_K) + 1];
+        long scaledCenter = roundToOdd(g1, g0, center << shift);
+        long scaledLeft = roundToOdd(g1, g0, left << shift);
+        long scaledRight = roundToOdd(g1, g0, right << shift);
+        
+        long s = scaledCenter >> 2;
+        if (s >= 100) {
+            // Try one digit fewer first: s and t rounded to a multiple of ten
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean lowerInside = scaledLeft + odd <= sp10 << 2;
+            boolean upperInside = (tp10 << 2) + odd <= scaledRight;
+            if (lowerInside != upperInside) {
+                return writeDecimal(lowerInside ? sp10 : tp10, k, buffer, offset);
+            }
+        }
+        long t = s + 1;
+        boolean lowerInside = scaledLeft + odd <= s << 2;
+        boolean upperInside = (t << 2) + odd <= scaledRight;
+        if (lowerInside != upperInside) {
+            return writeDecimal(lowerInside ? s : t, k + decimalAdjustment, buffer, offset);
+        }
+        // Both or neither are inside: take the closer one, breaking ties to even
+        long comparison = scaledCenter - ((s + t) << 1);
+        boolean lower = comparison < 0 || comparison == 0 && (s & 0x1) == 0;
+        return writeDecimal(lower ? s : t, k + decimalAdjustment, buffer, offset);
+    }
+    
+    /**
+     * Multiplies by the 126-bit g = g1 * 2^63 + g0 and keeps the high bits,
+     * rounding to odd so that inexact products never compare equal to a bound.
+     */
+    private static long roundToOdd(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long high = y1 + (z >>> 63);
+        return high | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+    
+    /**
+     * Writes digits * 10^exponent in the layout of {@link Double#toString(double)}.
+     */
+    private static int writeDecimal(long digits, int exponent, byte[] buffer, int offset) {
+        while (digits % 10 == 0) {
+            digits /= 10;
+            exponent++;
+        }
+        int count = digitCount(digits);
+        // The value is 0.d1d2...dn * 10^scale
+        int scale = count + exponent;
+        
+        if (0 < scale && scale <= 7) {
+            if (count <= scale) {
+                offset = writeDigits(digits, count, buffer, offset);
+                for (int i = count; i < scale; i++) {
+                    buffer[offset++] = '0';
+                }
+                buffer[offset++] = '.';
+                buffer[offset++] = '0';
+                return offset;
+            }
+            // Write the digits one position late and shift the integer part back in front of the point
+            writeDigits(digits, count, buffer, offset + 1);
+            System.arraycopy(buffer, offset + 1, buffer, offset, scale);
+            buffer[offset + scale] = '.';
+            return offset + count + 1;
+        }
+        if (-3 < scale && scale <= 0) {
+            buffer[offset++] = '0';
+            buffer[offset++] = '.';
+            for (int i = scale; i < 0; i++) {
+                buffer[offset++] = '0';
+            }
+            return writeDigits(digits, count, buffer, offset);
+        }
+        
+        // Scientific notation: d.ddd followed by the exponent of the first digit
+        writeDigits(digits, count, buffer, offset + 1);
+        buffer[offset] = buffer[offset + 1];
+        buffer[offset + 1] = '.';
+        offset += count + 1;
+        if (count == 1) {
+            buffer[offset++] = '0';
+        }
+        buffer[offset++] = 'E';
+        int decimalExponent = scale - 1;
+        if (decimalExponent < 0) {
+            buffer[offset++] = '-';
+            decimalExponent = -decimalExponent;
+        }
+        return writeDigits(decimalExponent, digitCount(decimalExponent), buffer, offset);
+    }
+    
+    /**
+     * Writes the decimal digits of a non-negative value.
+     * 
+     * @return the position just after the last digit
+     */
+    static int writeDigits(long value, int count, byte[] buffer, int offset) {
+        int end = offset + count;
+        for (int i = end - 1; i >= offset; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+    
+    static int digitCount(long value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+    
+    private static int copy(byte[] text, byte[] buffer, int offset) {
+        System.arraycopy(text, 0, buffer, offset, text.length);
+        return offset + text.length;
+    }
+    
+    static int floorLog10Pow2(int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+    
+    static int floorLog10ThreeQuartersPow2(int e) {
+        return (int) (e * 661_971_961_083L - 274_743_187_321L >> 41);
+    }
+    
+    static int floorLog2Pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+    
+    /**
+     * The 126-bit values g = floor(10^-k * 2^-r) + 1, with r chosen so that
+     * 2^125 <= g < 2^126, stored as the upper and lower 63 bits. Built on
+     * first use, so whole-number output never pays for the table.
+     */
+    private static final class PowersOfTen {
+        static final int MIN_K = -324;
+        static final int MAX_K = 292;
+        static final long[] TABLE = new long[2 * (MAX_K - MIN_K + 1)];
+        
+        static {
+            BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+            for (int k = MIN_K; k <= MAX_K; k++) {
+                int e = -k;
+                int r = floorLog2Pow10(e) - 125;
+                BigInteger numerator = e >= 0 ? BigInteger.TEN.pow(e) : BigInteger.ONE;
+                BigInteger denominator = e >= 0 ? BigInteger.ONE : BigInteger.TEN.pow(-e);
+                if (r >= 0) {
+                    denominator = denominator.shiftLeft(r);
+                } else {
+                    numerator = numerator.shiftLeft(-r);
+                }
+                BigInteger g = numerator.divide(denominator).add(BigInteger.ONE);
+                int row = 2 * (k - MIN_K);
+                TABLE[row] = g.shiftRight(63).longValue();
+                TABLE[row + 1] = g.and(mask63).longValue();
+            }
+        }
+    }
+}
@@ -0,0 +1,625 @@
+package com.calculator.util;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility class for parsing decimal numbers directly from byte arrays, buffers
+ * and character sequences, without creating a String per number.
+ * Plain decimal input is converted with Clinger's fast path when the digits fit
+ * in 53 bits and the exponent is small, and otherwise with the Eisel-Lemire
+ * algorithm, which multiplies the digits by a 128-bit approximation of the power
+ * of ten and only gives up when that approximation cannot decide the rounding.
+ * Every other input, and the rare undecided case, falls back to
+ * {@link Double#parseDouble(String)}, so the results are identical to it,
+ * including the exceptions thrown.
+ * The {@link CalculationResult} overloads report invalid input without
+ * throwing, so rejecting a malformed number costs no more than parsing one.
+ */
+public class FastDoubleParser {
+    
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_EXACT_EXPONENT = 22;
+    private static final int MAX_MANTISSA_DIGITS = 19;
+    private static final int MAX_EXPONENT_DIGITS_VALUE = 99_999;
+    
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    /**
+     * Parses a character sequence as a double.
+     * 
+     * @param text the text to parse
+     * @return the parsed value
+     * @throws NumberFormatException if the text is not a valid number
+     */
+    public double parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+    
+    /**
+     * Parses the characters between two positions of a sequence as a double.
+     * 
+     * @param text the text containing the number
+     * @param from the first character, inclusive
+     * @param to the last character, exclusive
+     * @return the parsed value
+     * @throws NumberFormatException if the characters are not a valid number
+     */
+    public double parse(CharSequence text, int from, int to) {
+        int index = from;
+        boolean negative = false;
+        
+        if (index < to && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+            negative = text.charAt(index) == '-';
+            index++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean sawDigit = false;
+        
+        // Integer part; digits beyond the first 19 significant ones only scale the value
+        for (; index < to && isDigit(text.charAt(index)); index++) {
+            int digit = text.charAt(index) - '0';
+            if (digits < MAX_MANTISSA_DIGITS) {
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+            sawDigit = true;
+        }
+        
+        // Fraction part
+        if (index < to && text.charAt(index) == '.') {
+            for (index++; index < to && isDigit(text.charAt(index)); index++) {
+                int digit = text.charAt(index) - '0';
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    if (mantissa != 0 || digit != 0) {
+                        mantissa = mantissa * 10 + digit;
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+                sawDigit = true;
+            }
+        }
+        
+        // Exponent part
+        if (sawDigit && index < to && (text.charAt(index) == 'e' || text.charAt(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < to && (text.charAt(index) == '-' || text.charAt(index) == '+')) {
+                negativeExponent = text.charAt(index) == '-';
+                index++;
+            }
+            int exponentStart = index;
+            int explicitExponent = 0;
+            for (; index < to && isDigit(text.charAt(index)); index++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (text.charAt(index) - '0'), MAX_EXPONENT_DIGITS_VALUE);
+            }
+            if (index == exponentStart) {
+                sawDigit = false;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        
+        double value = sawDigit && index == to ? toDouble(negative, mantissa, exponent, truncated) : Double.NaN;
+        return Double.isNaN(value) ? Double.parseDouble(text.subSequence(from, to).toString()) : value;
+    }
+    
+    /**
+     * Parses the bytes between two positions of an array as a double.
+     * 
+     * @param bytes the array containing ASCII digits
+     * @param from the first byte, inclusive
+     * @param to the last byte, exclusive
+     * @return the parsed value
+     * @throws NumberFormatException if the bytes are not a valid number
+     */
+    public double parse(byte[] bytes, int from, int to) {
+        int index = from;
+        boolean negative = false;
+        
+        if (index < to && (bytes[index] == '-' || bytes[index] == '+')) {
+            negative = bytes[index] == '-';
+            index++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean sawDigit = false;
+        
+        // Integer part; digits beyond the first 19 significant ones only scale the value
+        for (; index < to && isDigit(bytes[index]); index++) {
+            int digit = bytes[index] - '0';
+            if (digits < MAX_MANTISSA_DIGITS) {
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+            sawDigit = true;
+        }
+        
+        // Fraction part
+        if (index < to && bytes[index] == '.') {
+            for (index++; index < to && isDigit(bytes[index]); index++) {
+                int digit = bytes[index] - '0';
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    if (mantissa != 0 || digit != 0) {
+                        mantissa = mantissa * 10 + digit;
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+                sawDigit = true;
+            }
+        }
+        
+        // Exponent part
+        if (sawDigit && index < to && (bytes[index] == 'e' || bytes[index] == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < to && (bytes[index] == '-' || bytes[index] == '+')) {
+                negativeExponent = bytes[index] == '-';
+                index++;
+            }
+            int exponentStart = index;
+            int explicitExponent = 0;
+            for (; index < to && isDigit(bytes[index]); index++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (bytes[index] - '0'), MAX_EXPONENT_DIGITS_VALUE);
+            }
+            if (index == exponentStart) {
+                sawDigit = false;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        
+        double value = sawDigit && index == to ? toDouble(negative, mantissa, exponent, truncated) : Double.NaN;
+        return Double.isNaN(value)
+            ? Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.UTF_8))
+            : value;
+    }
+    
+    /**
+     * Parses the bytes between two absolute positions of a buffer as a double.
+     * The buffer's position and limit are not modified.
+     * 
+     * @param buffer the buffer containing ASCII digits
+     * @param from the first byte, inclusive
+     * @param to the last byte, exclusive
+     * @return the parsed value
+     * @throws NumberFormatException if the bytes are not a valid number
+     */
+    public double parse(ByteBuffer buffer, int from, int to) {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + from, buffer.arrayOffset() + to);
+        }
+        
+        int index = from;
+        boolean negative = false;
+        
+        if (index < to && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+            negative = buffer.get(index) == '-';
+            index++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean truncated = false;
+        boolean sawDigit = false;
+        
+        // Integer part; digits beyond the first 19 significant ones only scale the value
+        for (; index < to && isDigit(buffer.get(index)); index++) {
+            int digit = buffer.get(index) - '0';
+            if (digits < MAX_MANTISSA_DIGITS) {
+                if (mantissa != 0 || digit != 0) {
+                    mantissa = mantissa * 10 + digit;
+                    digits++;
+                }
+            } else {
+                exponent++;
+                truncated |= digit != 0;
+            }
+            sawDigit = true;
+        }
+        
+        // Fraction part
+        if (index < to && buffer.get(index) == '.') {
+            for (index++; index < to && isDigit(buffer.get(index)); index++) {
+                int digit = buffer.get(index) - '0';
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    if (mantissa != 0 || digit != 0) {
+                        mantissa = mantissa * 10 + digit;
+                        digits++;
+                    }
+                    exponent--;
+                } else {
+                    truncated |= digit != 0;
+                }
+                sawDigit = true;
+            }
+        }
+        
+        // Exponent part
+        if (sawDigit && index < to && (buffer.get(index) == 'e' || buffer.get(index) == 'E')) {
+            index++;
+            boolean negativeExponent = false;
+            if (index < to && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+                negativeExponent = buffer.get(index) == '-';
+                index++;
+            }
+            int exponentStart = index;
+            int explicitExponent = 0;
+            for (; index < to && isDigit(buffer.get(index)); index++) {
+                explicitExponent = Math.min(explicitExponent * 10 + (buffer.get(index) - '0'), MAX_EXPONENT_DIGITS_VALUE);
+            }
+            if (index == exponentStart) {
+                sawDigit = false;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        
+        double value = sawDigit && index == to ? toDouble(negative, mantissa, exponent, truncated) : Double.NaN;
+        return Double.isNaN(value) ? fallback(buffer, from, to) : value;
+    }
+    
+    /**
+     * Converts scanned decimal digits to the nearest double.
+     * 
+     * @param mantissa the first 19 significant digits, as an unsigned value
+     * @param exponent the power of ten the digits are scaled by
+     * @param truncated whether nonzero digits were dropped after the first 19
+     * @return the value, or NaN if the fast algorithms cannot decide it
+     */
+    private static double toDouble(boolean negative, long mantissa, int exponent, boolean truncated) {
+        if (mantissa == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (truncated) {
+            // The exact value lies between the truncated digits and the next value up;
+            // if both round to the same double, so does the exact value
+            double lower = eiselLemire(negative, mantissa, exponent);
+            double upper = eiselLemire(negative, mantissa + 1, exponent);
+            return lower == upper ? lower : Double.NaN;
+        }
+        if (mantissa > 0 && mantissa <= MAX_EXACT_MANTISSA
+                && exponent >= -MAX_EXACT_EXPONENT && exponent <= MAX_EXACT_EXPONENT) {
+            double value = exponent < 0
+                ? (double) mantissa / POWERS_OF_TEN[-exponent]
+                : (double) mantissa * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return eiselLemire(negative, mantissa, exponent);
+    }
+    
+    /**
+     * Computes the double nearest to mantissa * 10^exponent with the Eisel-Lemire
+     * algorithm. Gives up on subnormal and overflowing results and when the
+     * truncated power of ten leaves the rounding direction undecided.
+     * 
+     * @param mantissa a nonzero unsigned mantissa
+     * @return the value, or NaN if it could not be decided
+     */
+    private static double eiselLemire(boolean negative, long mantissa, int exponent) {
+        if (exponent < PowersOfTen.MIN_EXPONENT || exponent > PowersOfTen.MAX_EXPONENT) {
+            return Double.NaN;
+        }
+        int shift = Long.numberOfLeadingZeros(mantissa);
+        long normalized = mantissa << shift;
+        // floor(exponent * log2(10)) computed in fixed point
+        long binaryExponent = ((217706L * exponent) >> 16) + 64 + 1023 - shift;
+        
+        int row = 2 * (exponent - PowersOfTen.MIN_EXPONENT);
+        long high = Math.unsignedMultiplyHigh(normalized, PowersOfTen.TABLE[row]);
+        long low = normalized * PowersOfTen.TABLE[row];
+        
+        // When the bits below the result are all ones, the low half of the power can still carry into them
+        if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            long nextHigh = Math.unsignedMultiplyHigh(normalized, PowersOfTen.TABLE[row + 1]);
+            long nextLow = normalized * PowersOfTen.TABLE[row + 1];
+            long mergedLow = low + nextHigh;
+            long mergedHigh = Long.compareUnsigned(mergedLow, low) < 0 ? high + 1 : high;
+            if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1
+                    && Long.compareUnsigned(nextLow + normalized, normalized) < 0) {
+                return Double.NaN;
+            }
+            high = mergedHigh;
+            low = mergedLow;
+        }
+        
+        long upperBit = high >>> 63;
+        long significand = high >>> (upperBit + 9);
+        binaryExponent -= 1 ^ upperBit;
+        
+        // Exactly halfway between two doubles: the truncated power cannot tell which way to round
+        if (low == 0 && (high & 0x1FF) == 0 && (significand & 3) == 1) {
+            return Double.NaN;
+        }
+        
+        significand += significand & 1;
+        significand >>>= 1;
+        if (significand >>> 53 > 0) {
+            significand >>>= 1;
+            binaryExponent++;
+        }
+        if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            return Double.NaN;
+        }
+        long bits = binaryExponent << 52 | significand & 0x000F_FFFF_FFFF_FFFFL;
+        return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+    }
+    
+    /**
+     * Parses the bytes between two absolute positions of a buffer without throwing.
+     * 
+     * @param buffer the buffer containing ASCII digits
+     * @param from the first byte, inclusive
+     * @param to the last byte, exclusive
+     * @param result receives the parsed value, or an INVALID_ARGUMENT error with the
+     *        same message {@link ArgumentParser} reports for the number
+     * @return true if the bytes are a valid number
+     */
+    public boolean parse(ByteBuffer buffer, int from, int to, CalculationResult result) {
+        if (isPlainDecimal(buffer, from, to)) {
+            return result.success(parse(buffer, from, to));
+        }
+        // Anything else may be invalid or use the rest of the Java syntax
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return parse(new String(bytes, StandardCharsets.UTF_8), result);
+    }
+    
+    /**
+     * Parses text as a double without throwing.
+     * 
+     * @param text the text to parse
+     * @param result receives the parsed value, or an INVALID_ARGUMENT error with the
+     *        same message {@link ArgumentParser} reports for the number
+     * @return true if the text is a valid number
+     */
+    public boolean parse(String text, CalculationResult result) {
+        if (!isParsable(text)) {
+            return result.failure(ErrorCategory.INVALID_ARGUMENT, "Invalid number format: " + describeInvalid(text));
+        }
+        return result.success(parse(text));
+    }
+    
+    /**
+     * Checks whether {@link Double#parseDouble(String)} accepts the text, without
+     * parsing it. Accepts the full syntax of {@link Double#valueOf(String)}:
+     * surrounding control characters and spaces, an optional sign, "NaN",
+     * "Infinity", decimal and hexadecimal significands with optional exponents,
+     * and a trailing type suffix.
+     * 
+     * @param text the text to check
+     * @return true if parsing the text would not throw
+     */
+    public boolean isParsable(CharSequence text) {
+        int end = text.length();
+        int index = 0;
+        while (index < end && text.charAt(index) <= ' ') {
+            index++;
+        }
+        while (end > index && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (index == end) {
+            return false;
+        }
+        
+        if (text.charAt(index) == '+' || text.charAt(index) == '-') {
+            index++;
+        }
+        if (matches(text, index, end, "NaN") || matches(text, index, end, "Infinity")) {
+            return true;
+        }
+        
+        boolean hex = end - index > 2 && text.charAt(index) == '0'
+            && (text.charAt(index + 1) == 'x' || text.charAt(index + 1) == 'X');
+        if (hex) {
+            index += 2;
+        }
+        
+        int digits = 0;
+        while (index < end && isDigit(text.charAt(index), hex)) {
+            index++;
+            digits++;
+        }
+        if (index < end && text.charAt(index) == '.') {
+            index++;
+            while (index < end && isDigit(text.charAt(index), hex)) {
+                index++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        
+        // Hexadecimal significands require a binary exponent; decimal exponents are optional
+        char exponentMarker = index < end ? Character.toLowerCase(text.charAt(index)) : 0;
+        if (hex && exponentMarker != 'p') {
+            return false;
+        }
+        if (exponentMarker == (hex ? 'p' : 'e')) {
+            index++;
+            if (index < end && (text.charAt(index) == '+' || text.charAt(index) == '-')) {
+                index++;
+            }
+            int exponentDigits = 0;
+            while (index < end && isDigit(text.charAt(index), false)) {
+                index++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        
+        if (index < end && "fFdD".indexOf(text.charAt(index)) >= 0) {
+            index++;
+        }
+        return index == end;
+    }
+    
+    /**
+     * Returns the message of the NumberFormatException that
+     * {@link Double#parseDouble(String)} throws for text it rejects.
+     * 
+     * @param text text for which {@link #isParsable(CharSequence)} is false
+     * @return the exception message
+     */
+    public String describeInvalid(String text) {
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            return "empty String";
+        }
+        return hasMultiplePoints(trimmed) ? "multiple points" : "For input string: \"" + trimmed + "\"";
+    }
+    
+    /**
+     * Checks for the case Double.parseDouble reports specially: a second decimal
+     * point within the leading run of digits and points of a decimal significand.
+     */
+    private static boolean hasMultiplePoints(String trimmed) {
+        int index = trimmed.charAt(0) == '+' || trimmed.charAt(0) == '-' ? 1 : 0;
+        if (index + 1 < trimmed.length() && trimmed.charAt(index) == '0'
+                && (trimmed.charAt(index + 1) == 'x' || trimmed.charAt(index + 1) == 'X')) {
+            return false;
+        }
+        int points = 0;
+        for (; index < trimmed.length(); index++) {
+            char c = trimmed.charAt(index);
+            if (c == '.') {
+                if (++points == 2) {
+                    return true;
+                }
+            } else if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks for the plain decimal form the fast path parses, which is always valid:
+     * an optional sign, digits with an optional fraction, and an optional exponent.
+     */
+    private static boolean isPlainDecimal(ByteBuffer buffer, int from, int to) {
+        int index = from;
+        if (index < to && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+            index++;
+        }
+        int digits = 0;
+        while (index < to && isDigit(buffer.get(index))) {
+            index++;
+            digits++;
+        }
+        if (index < to && buffer.get(index) == '.') {
+            index++;
+            while (index < to && isDigit(buffer.get(index))) {
+                index++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (index < to && (buffer.get(index) == 'e' || buffer.get(index) == 'E')) {
+            index++;
+            if (index < to && (buffer.get(index) == '-' || buffer.get(index) == '+')) {
+                index++;
+            }
+            int exponentStart = index;
+            while (index < to && isDigit(buffer.get(index))) {
+                index++;
+            }
+            if (index == exponentStart) {
+                return false;
+            }
+        }
+        return index == to;
+    }
+    
+    private static boolean matches(CharSequence text, int from, int to, String word) {
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (text.charAt(from + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean isDigit(char c, boolean hex) {
+        return (c >= '0' && c <= '9') || (hex && ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')));
+    }
+    
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    /**
+     * 128-bit approximations of the powers of ten, rounded down and normalized so
+     * that the top bit is set, stored as high and low halves. Built on first use,
+     * so inputs handled by the exact fast path never pay for the table.
+     */
+    private static final class PowersOfTen {
+        static final int MIN_EXPONENT = -348;
+        static final int MAX_EXPONENT = 347;
+        static final long[] TABLE = new long[2 * (MAX_EXPONENT - MIN_EXPONENT + 1)];
+        
+        static {
+            for (int exponent = MIN_EXPONENT; exponent <= MAX_EXPONENT; exponent++) {
+                BigInteger approximation;
+                if (exponent >= 0) {
+                    BigInteger power = BigInteger.TEN.pow(exponent);
+                    int excess = power.bitLength() - 128;
+                    approximation = excess > 0 ? power.shiftRight(excess) : power.shiftLeft(-excess);
+                } else {
+                    BigInteger power = BigInteger.TEN.pow(-exponent);
+                    approximation = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power);
+                }
+                int row = 2 * (exponent - MIN_EXPONENT);
+                TABLE[row] = approximation.shiftRight(64).longValue();
+                TABLE[row + 1] = approximation.longValue();
+            }
+        }
+    }
+    
+    /**
+     * Parses the range with the JDK parser, for input outside the fast path.
+     */
+    private static double fallback(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        return Double.parseDouble(new String(bytes, StandardCharsets.UTF_8));
+    }
+}
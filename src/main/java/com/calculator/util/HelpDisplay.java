@@ -9,6 +9,31 @@ public class HelpDisplay {
         "Calculator - A simple command-line calculator\n\n" +
         "Usage:\n" +
         "  calculator <number> <operator> <number>  Perform calculation\n" +
+        "  calculator --batch [file]                Evaluate one expression per line\n" +
+        "                                           from a file or stdin\n" +
+        "  calculator --parallel <file>             Evaluate a large file in parallel\n" +
+        "  calculator --expr <expression>           Evaluate an expression with precedence\n" +
+        "                                           and parentheses, e.g. \"2 + 3 * (4 - 1)\"\n" +
+        "  calculator --precision <digits> <number> <operator> <number>\n" +
+        "                                           Calculate exactly in decimal, rounding to\n" +
+        "                                           <digits> significant digits (0 = unlimited);\n" +
+        "                                           also with --batch [file]\n" +
+        "  calculator --scale <places> <number> <operator> <number>\n" +
+        "                                           Calculate in fixed point with <places>\n" +
+        "                                           decimal places (0-18), rounding half-even\n" +
+        "                                           and reporting overflow; also with --batch\n" +
+        "  calculator --tolerance <error> <number> <operator> <number>\n" +
+        "                                           Calculate in double, recomputing in higher\n" +
+        "                                           precision when the relative error bound\n" +
+        "                                           exceeds <error>; also with --batch [file]\n" +
+        "  calculator --rational <number> <operator> <number>\n" +
+        "                                           Calculate exactly with fractions such as 1/3,\n" +
+        "                                           in lowest terms; also with --batch [file]\n" +
+        "  calculator --fma <a> <b> <c>             Calculate a * b + c with a single rounding\n" +
+        "                                           (fused multiply-add)\n" +
+        "  calculator --daemon [socket]             Serve calculations over a Unix domain socket\n" +
+        "  calculator --serve [port [address]]      Serve calculations over HTTP (default 8080),\n" +
+        "                                           on the loopback address unless one is given\n" +
         "  calculator --help                        Show this help message\n" +
         "  calculator --version                     Show version information\n\n" +
         "Operators:\n" +
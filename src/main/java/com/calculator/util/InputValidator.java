@@ -1,6 +1,11 @@
 package com.calculator.util;
 
 import com.calculator.exception.InvalidInputException;
+import com.calculator.factory.OperatorRegistry;
+import com.calculator.metrics.CalculatorMetrics;
+import com.calculator.metrics.ValidateEvent;
+import com.calculator.operation.DivisionOperation;
+import com.calculator.operation.Operation;
 
 /**
  * Utility class for validating calculator inputs.
@@ -8,7 +13,26 @@ import com.calculator.exception.InvalidInputException;
  */
 public class InputValidator {
     
-    private static final String[] VALID_OPERATORS = {"+", "-", "*", "/"};
+    private static final String DIVISION_BY_ZERO_MESSAGE = "Division by zero is not allowed";
+    
+    private final OperatorRegistry registry;
+    private final CalculatorMetrics metrics = CalculatorMetrics.shared();
+    
+    /**
+     * Constructs an InputValidator backed by the default operator registry.
+     */
+    public InputValidator() {
+        this(OperatorRegistry.getDefault());
+    }
+    
+    /**
+     * Constructs an InputValidator backed by a custom operator registry.
+     * 
+     * @param registry the registry defining the supported operators
+     */
+    public InputValidator(OperatorRegistry registry) {
+        this.registry = registry;
+    }
     
     /**
      * Validates that a number is valid for calculations.
@@ -17,12 +41,25 @@ public class InputValidator {
      * @throws InvalidInputException if the number is invalid
      */
     public void validateNumber(double number) throws InvalidInputException {
+        String message = describeInvalidNumber(number);
+        if (message != null) {
+            throw new InvalidInputException(message);
+        }
+    }
+    
+    /**
+     * Returns why a number is invalid for calculations.
+     * 
+     * @return the error message, or null if the number is valid
+     */
+    private static String describeInvalidNumber(double number) {
         if (Double.isNaN(number)) {
-            throw new InvalidInputException("Number cannot be NaN (Not a Number)");
+            return "Number cannot be NaN (Not a Number)";
         }
         if (Double.isInfinite(number)) {
-            throw new InvalidInputException("Number cannot be infinite");
+            return "Number cannot be infinite";
         }
+        return null;
     }
     
     /**
@@ -32,17 +69,29 @@ public class InputValidator {
      * @throws InvalidInputException if the operator is not supported
      */
     public void validateOperator(String operator) throws InvalidInputException {
-        if (operator == null || operator.trim().isEmpty()) {
-            throw new InvalidInputException("Operator cannot be null or empty");
+        resolveOperator(operator);
+    }
+    
+    /**
+     * Resolves an operator through the registry, validating that it is supported.
+     * 
+     * @param operator the operator to resolve
+     * @return the registered operation
+     * @throws InvalidInputException if the operator is not supported
+     */
+    private Operation resolveOperator(String operator) throws InvalidInputException {
+        Operation operation = registry.lookup(operator);
+        if (operation != null) {
+            return operation;
         }
-        
-        for (String validOp : VALID_OPERATORS) {
-            if (validOp.equals(operator.trim())) {
-                return;
-            }
+        throw new InvalidInputException(describeUnsupportedOperator(operator));
+    }
+    
+    private String describeUnsupportedOperator(String operator) {
+        if (operator == null || operator.trim().isEmpty()) {
+            return "Operator cannot be null or empty";
         }
-        
-        throw new InvalidInputException("Unsupported operator: " + operator + ". Supported operators: +, -, *, /");
+        return "Unsupported operator: " + operator + ". Supported operators: " + registry.getSupportedOperators();
     }
     
     /**
@@ -52,11 +101,15 @@ public class InputValidator {
      * @throws InvalidInputException if divisor is zero
      */
     public void validateDivision(double divisor) throws InvalidInputException {
-        if (Math.abs(divisor) < 1e-10) {  // Use epsilon for double comparison
-            throw new InvalidInputException("Division by zero is not allowed");
+        if (isZeroDivisor(divisor)) {
+            throw new InvalidInputException(DIVISION_BY_ZERO_MESSAGE);
         }
     }
     
+    private static boolean isZeroDivisor(double divisor) {
+        return Math.abs(divisor) < 1e-10;  // Use epsilon for double comparison
+    }
+    
     /**
      * Validates all components of a calculation.
      * 
@@ -67,12 +120,68 @@ public class InputValidator {
      */
     public void validateCalculation(double leftOperand, String operator, double rightOperand) 
             throws InvalidInputException {
-        validateNumber(leftOperand);
-        validateNumber(rightOperand);
-        validateOperator(operator);
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        try {
+            validateNumber(leftOperand);
+            validateNumber(rightOperand);
+            Operation operation = resolveOperator(operator);
+            
+            if (operation instanceof DivisionOperation) {
+                validateDivision(rightOperand);
+            }
+            event.complete(operator, null);
+        } catch (InvalidInputException e) {
+            event.complete(operator, ErrorCategory.INVALID_INPUT);
+            throw e;
+        } finally {
+            metrics.recordValidate(start);
+        }
+    }
+    
+    /**
+     * Validates all components of a calculation without throwing.
+     * Performs the same checks in the same order as
+     * {@link #validateCalculation(double, String, double)} and reports the same messages.
+     * 
+     * @param leftOperand the left operand
+     * @param operator the operator
+     * @param rightOperand the right operand
+     * @param result receives the error if a component is invalid
+     * @return the registered operation, or null if a component is invalid
+     */
+    public Operation tryValidateCalculation(double leftOperand, String operator, double rightOperand,
+                                            CalculationResult result) {
+        ValidateEvent event = new ValidateEvent();
+        event.begin();
+        long start = metrics.startTimer();
+        Operation operation = checkCalculation(leftOperand, operator, rightOperand, result);
+        metrics.recordValidate(start);
+        event.complete(operator, operation != null ? null : result.getErrorCategory());
+        return operation;
+    }
+    
+    private Operation checkCalculation(double leftOperand, String operator, double rightOperand,
+                                       CalculationResult result) {
+        String message = describeInvalidNumber(leftOperand);
+        if (message == null) {
+            message = describeInvalidNumber(rightOperand);
+        }
+        if (message != null) {
+            result.failure(ErrorCategory.INVALID_INPUT, message);
+            return null;
+        }
         
-        if ("/".equals(operator.trim())) {
-            validateDivision(rightOperand);
+        Operation operation = registry.lookup(operator);
+        if (operation == null) {
+            result.failure(ErrorCategory.INVALID_INPUT, describeUnsupportedOperator(operator));
+            return null;
+        }
+        if (operation instanceof DivisionOperation && isZeroDivisor(rightOperand)) {
+            result.failure(ErrorCategory.INVALID_INPUT, DIVISION_BY_ZERO_MESSAGE);
+            return null;
         }
+        return operation;
     }
 }
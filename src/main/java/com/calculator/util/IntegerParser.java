@@ -0,0 +1,108 @@
+package com.calculator.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Utility class recognizing the integer operands that are calculated exactly
+ * instead of through double: an optional sign followed by decimal digits only,
+ * whose value is within the range of long. As in {@link Long#parseLong(String)},
+ * leading zeros count toward the value and not toward a length limit.
+ * The sequential parser and the memory-mapped batch processor both use this
+ * class, so a line is integral in --batch exactly when it is in --parallel.
+ */
+public final class IntegerParser {
+    
+    /**
+     * Returned by {@link #append(long, int, long)} for a digit that is not one or
+     * would leave the range; values accumulated negatively are never positive.
+     */
+    private static final long NOT_INTEGER = 1;
+    
+    private IntegerParser() {
+    }
+    
+    /**
+     * Checks whether a token is an integer within the range of long.
+     * 
+     * @param token the token
+     * @return true if the token can be parsed by {@link Long#parseLong(String)}
+     */
+    public static boolean isInteger(CharSequence token) {
+        int length = token.length();
+        boolean negative = length > 0 && token.charAt(0) == '-';
+        int start = negative || (length > 0 && token.charAt(0) == '+') ? 1 : 0;
+        if (start == length) {
+            return false;
+        }
+        long limit = limit(negative);
+        long value = 0;
+        for (int i = start; i < length && value != NOT_INTEGER; i++) {
+            value = append(value, token.charAt(i) - '0', limit);
+        }
+        return value != NOT_INTEGER;
+    }
+    
+    /**
+     * Checks whether the bytes of a buffer in {@code [from, to)} are an integer
+     * within the range of long. The buffer position is not modified.
+     * 
+     * @param buffer the buffer
+     * @param from the index of the first byte, inclusive
+     * @param to the index of the last byte, exclusive
+     * @return true if the bytes are an integer accepted by {@link #parse(ByteBuffer, int, int)}
+     */
+    public static boolean isInteger(ByteBuffer buffer, int from, int to) {
+        boolean negative = from < to && buffer.get(from) == '-';
+        int start = negative || (from < to && buffer.get(from) == '+') ? from + 1 : from;
+        if (start == to) {
+            return false;
+        }
+        long limit = limit(negative);
+        long value = 0;
+        for (int i = start; i < to && value != NOT_INTEGER; i++) {
+            value = append(value, buffer.get(i) - '0', limit);
+        }
+        return value != NOT_INTEGER;
+    }
+    
+    /**
+     * Parses the bytes of a buffer in {@code [from, to)} accepted by
+     * {@link #isInteger(ByteBuffer, int, int)}. The buffer position is not modified.
+     * 
+     * @param buffer the buffer
+     * @param from the index of the first byte, inclusive
+     * @param to the index of the last byte, exclusive
+     * @return the value of the integer
+     */
+    public static long parse(ByteBuffer buffer, int from, int to) {
+        boolean negative = buffer.get(from) == '-';
+        int start = negative || buffer.get(from) == '+' ? from + 1 : from;
+        long value = 0;
+        for (int i = start; i < to; i++) {
+            value = value * 10 - (buffer.get(i) - '0');
+        }
+        return negative ? value : -value;
+    }
+    
+    /**
+     * Returns the negated bound of the range for a sign. Values are accumulated
+     * negatively, as {@link Long#parseLong(String)} does, so that
+     * {@link Long#MIN_VALUE} needs no special case.
+     */
+    private static long limit(boolean negative) {
+        return negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    }
+    
+    /**
+     * Appends a decimal digit to a negatively accumulated value.
+     * 
+     * @return the new value, or {@link #NOT_INTEGER} if the digit is not one
+     *         or the value would pass the limit
+     */
+    private static long append(long value, int digit, long limit) {
+        if (digit < 0 || digit > 9 || value < limit / 10 || value * 10 < limit + digit) {
+            return NOT_INTEGER;
+        }
+        return value * 10 - digit;
+    }
+}
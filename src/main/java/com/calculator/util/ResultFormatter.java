@@ -0,0 +1,184 @@
+package com.calculator.util;
+
+import com.calculator.metrics.FormatEvent;
+import com.calculator.operation.DecimalValue;
+import com.calculator.operation.FixedPoint;
+import com.calculator.operation.RationalValue;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Utility class for formatting calculation results for output.
+ * Whole numbers are printed without a decimal point.
+ * Results can also be written as ASCII straight into a byte array or buffer,
+ * producing the same text as {@link #format(double)} without creating a String.
+ */
+public class ResultFormatter {
+    
+    /**
+     * The maximum number of bytes written for one result.
+     */
+    public static final int MAX_LENGTH = FastDoubleFormatter.MAX_LENGTH;
+    
+    private static final byte[] LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    
+    private final FastDoubleFormatter doubleFormatter = new FastDoubleFormatter();
+    
+    /**
+     * Formats a calculation result.
+     * 
+     * @param result the calculation result
+     * @return formatted result string
+     */
+    public String format(double result) {
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        String text;
+        // Check if the result is a whole number
+        if (result == Math.floor(result) && !Double.isInfinite(result)) {
+            text = String.valueOf((long) result);
+        } else {
+            text = String.valueOf(result);
+        }
+        event.complete(null, null);
+        return text;
+    }
+    
+    /**
+     * Formats an exactly computed calculation result.
+     * Long and BigInteger results are printed with all their digits, without
+     * going through double formatting; other results are formatted as doubles.
+     * 
+     * @param result the calculation result
+     * @return formatted result string
+     */
+    public String format(Number result) {
+        if (result instanceof Long || result instanceof BigInteger) {
+            FormatEvent event = new FormatEvent();
+            event.begin();
+            String text = result.toString();
+            event.complete(null, null);
+            return text;
+        }
+        return format(result.doubleValue());
+    }
+    
+    /**
+     * Formats a decimal calculation result without an exponent, keeping its scale.
+     * 
+     * @param result the calculation result
+     * @return formatted result string
+     */
+    public String format(DecimalValue result) {
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        String text = result.toPlainString();
+        event.complete(null, null);
+        return text;
+    }
+    
+    /**
+     * Formats a fixed-point calculation result with exactly {@code scale} decimal places.
+     * 
+     * @param unscaled the unscaled calculation result
+     * @param scale the number of decimal places
+     * @return formatted result string
+     */
+    public String formatFixedPoint(long unscaled, int scale) {
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        String text = FixedPoint.toPlainString(unscaled, scale);
+        event.complete(null, null);
+        return text;
+    }
+    
+    /**
+     * Formats a rational calculation result as a fraction in lowest terms,
+     * or as an integer if the denominator is one.
+     * 
+     * @param result the calculation result
+     * @return the formatted result string, e.g. "-7/12"
+     */
+    public String format(RationalValue result) {
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        String text = result.toString();
+        event.complete(null, null);
+        return text;
+    }
+    
+    /**
+     * Writes a calculation result into an array.
+     * 
+     * @param result the calculation result
+     * @param buffer the destination array
+     * @param offset the position of the first byte to write
+     * @return the position just after the last byte written
+     * @throws ArrayIndexOutOfBoundsException if fewer than {@link #MAX_LENGTH}
+     *         bytes are available and the text does not fit
+     */
+    public int format(double result, byte[] buffer, int offset) {
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        int end;
+        if (result == Math.floor(result) && !Double.isInfinite(result)) {
+            end = formatWhole((long) result, buffer, offset);
+        } else {
+            end = doubleFormatter.format(result, buffer, offset);
+        }
+        event.complete(null, null);
+        return end;
+    }
+    
+    /**
+     * Writes an integer calculation result into an array.
+     * 
+     * @param result the calculation result
+     * @param buffer the destination array
+     * @param offset the position of the first byte to write
+     * @return the position just after the last byte written
+     * @throws ArrayIndexOutOfBoundsException if fewer than {@link #MAX_LENGTH}
+     *         bytes are available and the text does not fit
+     */
+    public int format(long result, byte[] buffer, int offset) {
+        FormatEvent event = new FormatEvent();
+        event.begin();
+        int end = formatWhole(result, buffer, offset);
+        event.complete(null, null);
+        return end;
+    }
+    
+    /**
+     * Writes a calculation result at the position of a buffer and advances the position.
+     * Heap buffers are written in place; for direct buffers the text is staged
+     * in a small temporary array first.
+     * 
+     * @param result the calculation result
+     * @param buffer the destination buffer
+     * @throws java.nio.BufferOverflowException if the text does not fit in the remaining bytes
+     */
+    public void format(double result, ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.remaining() >= MAX_LENGTH) {
+            int start = buffer.arrayOffset() + buffer.position();
+            int end = format(result, buffer.array(), start);
+            buffer.position(buffer.position() + end - start);
+        } else {
+            byte[] scratch = new byte[MAX_LENGTH];
+            buffer.put(scratch, 0, format(result, scratch, 0));
+        }
+    }
+    
+    private static int formatWhole(long value, byte[] buffer, int offset) {
+        if (value == Long.MIN_VALUE) {
+            System.arraycopy(LONG_MIN_VALUE, 0, buffer, offset, LONG_MIN_VALUE.length);
+            return offset + LONG_MIN_VALUE.length;
+        }
+        if (value < 0) {
+            buffer[offset++] = '-';
+            value = -value;
+        }
+        return FastDoubleFormatter.writeDigits(value, FastDoubleFormatter.digitCount(value), buffer, offset);
+    }
+}
@@ -0,0 +1,22 @@
+/**
+ * CLI Calculator module.
+ * Depends only on java.base, the JDK HTTP server, java.management and JFR, so
+ * a runtime image linked from this module contains just those modules.
+ */
+module com.calculator {
+    requires java.management;
+    requires jdk.httpserver;
+    requires jdk.jfr;
+
+    exports com.calculator;
+    exports com.calculator.batch;
+    exports com.calculator.cache;
+    exports com.calculator.column;
+    exports com.calculator.exception;
+    exports com.calculator.expression;
+    exports com.calculator.factory;
+    exports com.calculator.metrics;
+    exports com.calculator.operation;
+    exports com.calculator.server;
+    exports com.calculator.util;
+}
@@ -0,0 +1,134 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveCalculator class.
+ * Tests which precision calculations are computed in and that results stay within the tolerance.
+ */
+@DisplayName("Adaptive Calculator Tests")
+class AdaptiveCalculatorTest {
+    
+    @Test
+    @DisplayName("Should accept typical calculations in double")
+    void shouldAcceptTypicalCalculationsInDouble() throws Exception {
+        AdaptiveCalculator calculator = new AdaptiveCalculator(1e-15);
+        
+        assertEquals(3.0, calculator.calculate("1", "+", "2"));
+        assertEquals(0.1 + 0.2, calculator.calculate("0.1", "+", "0.2"));
+        assertEquals(1.0 / 3, calculator.calculate("1", "/", "3"));
+        
+        assertEquals(0, calculator.getEscalationCount(AdaptiveCalculator.Escalation.DOUBLE_DOUBLE));
+        assertEquals(0, calculator.getEscalationCount(AdaptiveCalculator.Escalation.DECIMAL));
+    }
+    
+    @Test
+    @DisplayName("Should escalate to double-double on cancellation")
+    void shouldEscalateToDoubleDoubleOnCancellation() throws Exception {
+        AdaptiveCalculator calculator = new AdaptiveCalculator(1e-15);
+        
+        assertNotEquals(1e-15, 1.000000000000001 - 1);
+        assertEquals(1e-15, calculator.calculate("1.000000000000001", "-", "1"));
+        assertEquals(1, calculator.getEscalationCount(AdaptiveCalculator.Escalation.DOUBLE_DOUBLE));
+    }
+    
+    @Test
+    @DisplayName("Should escalate to BigDecimal for operands beyond double-double conversion")
+    void shouldEscalateToDecimal() throws Exception {
+        AdaptiveCalculator calculator = new AdaptiveCalculator(1e-15);
+        
+        assertEquals(0.1, calculator.calculate("10000000000000000.1", "-", "10000000000000000"));
+        assertEquals(1, calculator.getEscalationCount(AdaptiveCalculator.Escalation.DECIMAL));
+    }
+    
+    @Test
+    @DisplayName("Should round correctly at the smallest tolerance")
+    void shouldRoundCorrectlyAtSmallestTolerance() throws Exception {
+        AdaptiveCalculator calculator = new AdaptiveCalculator(AdaptiveCalculator.MIN_TOLERANCE);
+        
+        assertEquals(0.30000000000000004, 0.1 * 3);
+        assertEquals(0.3, calculator.calculate("0.1", "*", "3"));
+        assertEquals(6.0, calculator.calculate("2", "*", "3"));
+        assertEquals(1, calculator.getEscalationCount(AdaptiveCalculator.Escalation.DOUBLE_DOUBLE));
+    }
+    
+    @Test
+    @DisplayName("Should report invalid input like the other calculators")
+    void shouldReportInvalidInput() {
+        AdaptiveCalculator calculator = new AdaptiveCalculator(1e-12);
+        
+        assertThrows(InvalidArgumentException.class, () -> calculator.calculate("abc", "+", "1"));
+        assertThrows(InvalidInputException.class, () -> calculator.calculate("1", "^", "1"));
+        InvalidInputException exception = assertThrows(InvalidInputException.class,
+            () -> calculator.calculate("1", "/", "0.0"));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveCalculator(1e-17));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveCalculator(Double.NaN));
+    }
+    
+    @Test
+    @DisplayName("Should stay within the tolerance of the exact decimal result")
+    void shouldStayWithinTolerance() throws Exception {
+        Random random = new Random(22);
+        String[] operators = {"+", "-", "*", "/"};
+        double[] tolerances = {AdaptiveCalculator.MIN_TOLERANCE, 1e-15, 1e-12, 1e-6};
+        for (int i = 0; i < 20_000; i++) {
+            AdaptiveCalculator calculator = new AdaptiveCalculator(tolerances[random.nextInt(tolerances.length)]);
+            String left = randomDecimal(random);
+            String right = random.nextInt(4) == 0 ? nearby(left, random) : randomDecimal(random);
+            String operator = operators[random.nextInt(operators.length)];
+            BigDecimal exact = exact(new BigDecimal(left), operator, new BigDecimal(right));
+            if (exact == null) {
+                continue;
+            }
+            
+            double result = calculator.calculate(left, operator, right);
+            
+            if (exact.signum() == 0) {
+                assertEquals(0.0, result, 0.0);
+            } else {
+                double error = new BigDecimal(result).subtract(exact).divide(exact, MathContext.DECIMAL64).abs().doubleValue();
+                assertTrue(error <= calculator.getTolerance(),
+                    () -> left + " " + operator + " " + right + " = " + result + ", error " + error);
+            }
+        }
+    }
+    
+    private static BigDecimal exact(BigDecimal left, String operator, BigDecimal right) {
+        switch (operator) {
+            case "+": return left.add(right);
+            case "-": return left.subtract(right);
+            case "*": return left.multiply(right);
+            default: return right.signum() == 0 ? null : left.divide(right, new MathContext(60));
+        }
+    }
+    
+    private static String randomDecimal(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return Integer.toString(random.nextInt(2001) - 1000);
+            case 1:
+                return BigDecimal.valueOf(random.nextInt(2_000_001) - 1_000_000, random.nextInt(8)).toPlainString();
+            case 2:
+                return BigDecimal.valueOf(random.nextLong(1L << 53), random.nextInt(30) - 5).toString();
+            default:
+                return BigDecimal.valueOf(random.nextLong(), random.nextInt(25)).toPlainString();
+        }
+    }
+    
+    /**
+     * Returns a decimal close to another, so that subtracting them cancels most digits.
+     */
+    private static String nearby(String text, Random random) {
+        BigDecimal value = new BigDecimal(text);
+        BigDecimal ulp = value.ulp().multiply(BigDecimal.valueOf(random.nextInt(21) - 10));
+        return value.add(ulp).toString();
+    }
+}
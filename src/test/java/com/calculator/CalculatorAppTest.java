@@ -4,7 +4,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.io.PrintStream;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -204,4 +211,178 @@ class CalculatorAppTest {
         assertEquals(0, exitCode);
         assertEquals("5", outputStream.toString().trim());
     }
+    
+    @Test
+    @DisplayName("Should calculate integer operands exactly beyond 2^53")
+    void shouldCalculateIntegersExactly() {
+        int exitCode = calculatorApp.run(new String[] {"9007199254740993", "+", "0"});
+        
+        assertEquals(0, exitCode);
+        assertEquals("9007199254740993", outputStream.toString().trim());
+    }
+    
+    @Test
+    @DisplayName("Should promote overflowing integer results to arbitrary precision")
+    void shouldPromoteOverflowingIntegers() {
+        int exitCode = calculatorApp.run(new String[] {"9223372036854775807", "+", "1"});
+        
+        assertEquals(0, exitCode);
+        assertEquals("9223372036854775808", outputStream.toString().trim());
+    }
+    
+    @Test
+    @DisplayName("Should evaluate a batch file line by line")
+    void shouldEvaluateBatchFile(@TempDir Path tempDir) throws IOException {
+        Path input = tempDir.resolve("input.txt");
+        Files.writeString(input, "5 + 3\n9 / 0\n2.5 * 4\n");
+        
+        int exitCode = calculatorApp.run(new String[] {"--batch", input.toString()});
+        
+        assertEquals(1, exitCode);
+        assertEquals("8\nError: Division by zero is not allowed\n10\n", outputStream.toString());
+        assertEquals("", errorStream.toString());
+    }
+    
+    @Test
+    @DisplayName("Should calculate integer lines identically in batch and parallel mode")
+    void shouldCalculateIntegersIdenticallyInBatchAndParallelMode(@TempDir Path tempDir) throws IOException {
+        Path input = tempDir.resolve("input.txt");
+        Files.writeString(input, "000000000000000000009223372036854775807 + 1\n"
+            + "-000000000000000000009223372036854775808 - 1\n"
+            + "00000000000000000000009007199254740993 + 0\n");
+        String expected = "9223372036854775808\n-9223372036854775809\n9007199254740993\n";
+        
+        assertEquals(0, calculatorApp.run(new String[] {"--batch", input.toString()}));
+        assertEquals(expected, outputStream.toString());
+        outputStream.reset();
+        assertEquals(0, calculatorApp.run(new String[] {"--parallel", input.toString()}));
+        assertEquals(expected, outputStream.toString());
+    }
+    
+    @Test
+    @DisplayName("Should return 1 for a missing batch file")
+    void shouldReturnOneForMissingBatchFile(@TempDir Path tempDir) {
+        int exitCode = calculatorApp.run(new String[] {"--batch", tempDir.resolve("missing.txt").toString()});
+        
+        assertEquals(1, exitCode);
+        assertTrue(errorStream.toString().contains("Error: Cannot read batch input"));
+    }
+    
+    @Test
+    @DisplayName("Should evaluate a multi-term expression")
+    void shouldEvaluateExpression() {
+        int exitCode = calculatorApp.run(new String[] {"--expr", "2 + 3 * (4 - 1.5)"});
+        
+        assertEquals(0, exitCode);
+        assertEquals("9.5", outputStream.toString().trim());
+    }
+    
+    @Test
+    @DisplayName("Should return 1 for an expression with unknown names")
+    void shouldReturnOneForExpressionWithUnknownNames() {
+        int exitCode = calculatorApp.run(new String[] {"--expr", "2 * x"});
+        
+        assertEquals(1, exitCode);
+        assertTrue(errorStream.toString().contains("Error: Invalid expression: unknown names [x]"));
+    }
+    
+    @Test
+    @DisplayName("Should write to the given streams instead of the standard streams")
+    void shouldWriteToGivenStreams() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        
+        int success = calculatorApp.run(new String[] {"6", "*", "7"},
+            InputStream.nullInputStream(), new PrintStream(out), new PrintStream(err));
+        int failure = calculatorApp.run(new String[] {"1", "/", "0"},
+            InputStream.nullInputStream(), new PrintStream(out), new PrintStream(err));
+        
+        assertEquals(0, success);
+        assertEquals(1, failure);
+        assertEquals("42", out.toString().trim());
+        assertTrue(err.toString().startsWith("Error: "));
+        assertEquals("", outputStream.toString());
+        assertEquals("", errorStream.toString());
+    }
+    
+    @Test
+    @DisplayName("Should read batch input from the given input stream")
+    void shouldReadBatchInputFromGivenStream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = new ByteArrayInputStream("1 + 2\n3 * 4\n".getBytes(StandardCharsets.UTF_8));
+        
+        int exitCode = calculatorApp.run(new String[] {"--batch"}, in, new PrintStream(out), new PrintStream(out));
+        
+        assertEquals(0, exitCode);
+        assertEquals("3\n12\n", out.toString());
+    }
+    
+    @Test
+    @DisplayName("Should calculate in decimal at the requested precision")
+    void shouldCalculateAtRequestedPrecision() {
+        assertEquals(0, calculatorApp.run(new String[] {"--precision", "34", "0.1", "+", "0.2"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--precision", "5", "1", "/", "3"}));
+        assertEquals(1, calculatorApp.run(new String[] {"--precision", "5", "1", "/", "0"}));
+        
+        assertEquals("0.3\n0.33333", outputStream.toString().trim());
+        assertEquals("Error: Division by zero is not allowed", errorStream.toString().trim());
+    }
+    
+    @Test
+    @DisplayName("Should evaluate batch input in decimal at the requested precision")
+    void shouldEvaluateDecimalBatch() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = new ByteArrayInputStream("0.1 + 0.2\n2 / 3\n".getBytes(StandardCharsets.UTF_8));
+        
+        int exitCode = calculatorApp.run(new String[] {"--precision", "4", "--batch"}, in, new PrintStream(out), new PrintStream(out));
+        
+        assertEquals(0, exitCode);
+        assertEquals("0.3\n0.6667\n", out.toString());
+    }
+    
+    @Test
+    @DisplayName("Should calculate in fixed point at the requested scale")
+    void shouldCalculateAtRequestedScale() {
+        assertEquals(0, calculatorApp.run(new String[] {"--scale", "2", "19.99", "*", "3"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--scale", "4", "10", "/", "3"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--scale", "0", "-9223372036854775808", "+", "0"}));
+        assertEquals(1, calculatorApp.run(new String[] {"--scale", "0", "9223372036854775807", "+", "1"}));
+        
+        assertEquals("59.97\n3.3333\n-9223372036854775808", outputStream.toString().trim());
+        assertEquals("Error: Fixed-point overflow: result out of range at scale 0", errorStream.toString().trim());
+    }
+    
+    @Test
+    @DisplayName("Should recompute in higher precision when the error bound exceeds the tolerance")
+    void shouldCalculateWithAdaptivePrecision() {
+        assertEquals(0, calculatorApp.run(new String[] {"--tolerance", "1e-15", "10000000000000000.1", "-", "10000000000000000"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--tolerance", "1e-15", "1", "/", "4"}));
+        assertEquals(1, calculatorApp.run(new String[] {"--tolerance", "1e-20", "1", "+", "1"}));
+        
+        assertEquals("0.1\n0.25", outputStream.toString().trim());
+        assertTrue(errorStream.toString().startsWith("Error: Invalid tolerance arguments"));
+    }
+    
+    @Test
+    @DisplayName("Should calculate exact fractions in rational mode")
+    void shouldCalculateRationals() {
+        assertEquals(0, calculatorApp.run(new String[] {"--rational", "1/3", "+", "1/6"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--rational", "1", "/", "3"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--rational", "0.1", "*", "3"}));
+        assertEquals(1, calculatorApp.run(new String[] {"--rational", "1", "/", "0/2"}));
+        
+        assertEquals("1/2\n1/3\n3/10", outputStream.toString().trim());
+        assertEquals("Error: Division by zero is not allowed", errorStream.toString().trim());
+    }
+    
+    @Test
+    @DisplayName("Should calculate a fused multiply-add with a single rounding")
+    void shouldCalculateMultiplyAdd() {
+        assertEquals(0, calculatorApp.run(new String[] {"--fma", "2", "3", "4"}));
+        assertEquals(0, calculatorApp.run(new String[] {"--fma", "0.1", "10", "-1"}));
+        assertEquals(1, calculatorApp.run(new String[] {"--fma", "1", "2"}));
+        
+        assertEquals("10\n5.551115123125783E-17", outputStream.toString().trim());
+        assertTrue(errorStream.toString().startsWith("Error: Invalid fma arguments"));
+    }
 }
@@ -117,4 +117,43 @@ class CalculatorIntegrationTest {
         result = calculator.calculate(0.0, "/", 5.0);
         assertEquals(0.0, result, 0.001);
     }
+    
+    @Test
+    @DisplayName("Should calculate over arrays of operands")
+    void shouldCalculateOverArrays() {
+        double[] left = {6.0, 7.5, -4.0};
+        double[] right = {3.0, 2.5, 2.0};
+        double[] results = new double[3];
+        
+        calculator.calculate(left, "*", right, results);
+        assertArrayEquals(new double[] {18.0, 18.75, -8.0}, results, 0.001);
+        
+        calculator.calculate(left, " / ", right, results);
+        assertArrayEquals(new double[] {2.0, 3.0, -2.0}, results, 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should multiply and add with a single rounding")
+    void shouldMultiplyAdd() {
+        assertEquals(1.0, calculator.calculate(calculator.calculate(0.1, "*", 10), "+", 0.0));
+        assertEquals(0x1p-54, calculator.multiplyAdd(0.1, 10, -1));
+        
+        double[] results = new double[2];
+        calculator.multiplyAdd(new double[] {0.1, 2}, new double[] {10, 3}, new double[] {-1, 1}, results);
+        assertArrayEquals(new double[] {0x1p-54, 7}, results);
+        
+        calculator.calculate(new double[] {6, 9}, "/", new double[] {3, 3}, "-", new double[] {1, 1}, results);
+        assertArrayEquals(new double[] {1, 2}, results);
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(new double[2], "*", new double[2], "+", new double[3], new double[2]));
+    }
+    
+    @Test
+    @DisplayName("Should reject arrays of different lengths")
+    void shouldRejectArraysOfDifferentLengths() {
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(new double[2], "+", new double[3], new double[2]));
+        assertThrows(IllegalArgumentException.class,
+            () -> calculator.calculate(new double[2], "^", new double[2], new double[2]));
+    }
 }
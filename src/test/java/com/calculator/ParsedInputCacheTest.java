@@ -0,0 +1,111 @@
+package com.calculator;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.ErrorCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ParsedInputCache.
+ * Tests resolution, normalization and caching of valid and invalid inputs.
+ */
+@DisplayName("Parsed Input Cache Tests")
+class ParsedInputCacheTest {
+    
+    private ParsedInputCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new ParsedInputCache(100);
+    }
+    
+    @Test
+    @DisplayName("Should resolve and calculate valid inputs")
+    void shouldResolveValidInputs() throws Exception {
+        ResolvedCalculation calculation = cache.resolve("10.5", "*", "3");
+        
+        assertTrue(calculation.isValid());
+        assertEquals(10.5, calculation.getLeftOperand());
+        assertEquals("*", calculation.getOperation().getSymbol());
+        assertEquals(3.0, calculation.getRightOperand());
+        assertEquals(31.5, calculation.calculate());
+    }
+    
+    @Test
+    @DisplayName("Should serve repeated inputs from the cache")
+    void shouldServeRepeatedInputsFromCache() {
+        ResolvedCalculation first = cache.resolve("1", "+", "2");
+        ResolvedCalculation second = cache.resolveLine("  1   +\t2 ");
+        
+        assertSame(first, second);
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    @DisplayName("Should cache parse and validation failures")
+    void shouldCacheFailures() {
+        ResolvedCalculation badNumber = cache.resolveLine("abc + 2");
+        ResolvedCalculation badOperator = cache.resolve("1", "^", "2");
+        
+        assertFalse(badNumber.isValid());
+        assertThrows(InvalidArgumentException.class, badNumber::calculate);
+        assertThrows(InvalidInputException.class, badOperator::calculate);
+        assertSame(badOperator, cache.resolve("1", "^", "2"));
+    }
+    
+    @Test
+    @DisplayName("Should evaluate resolved calculations without throwing")
+    void shouldEvaluateWithoutThrowing() {
+        CalculationResult result = new CalculationResult();
+        
+        assertTrue(cache.resolveLine("7 - 2").evaluate(result));
+        assertEquals(5.0, result.getValue());
+        
+        assertFalse(cache.resolveLine("abc + 2").evaluate(result));
+        assertEquals(ErrorCategory.INVALID_ARGUMENT, result.getErrorCategory());
+        assertEquals("Invalid number format: For input string: \"abc\"", result.getErrorMessage());
+        
+        assertFalse(cache.resolve("1", "^", "2").evaluate(result));
+        assertEquals(ErrorCategory.INVALID_INPUT, result.getErrorCategory());
+        
+        assertTrue(cache.resolve("1", "+", "1").evaluate(result));
+        assertTrue(result.isSuccess());
+    }
+    
+    @Test
+    @DisplayName("Should report division by zero when calculated")
+    void shouldReportDivisionByZero() {
+        ResolvedCalculation calculation = cache.resolve("5", "/", "0");
+        
+        assertFalse(calculation.isValid());
+        assertEquals(ErrorCategory.INVALID_INPUT, calculation.getErrorCategory());
+        InvalidInputException e = assertThrows(InvalidInputException.class, calculation::calculate);
+        assertEquals("Division by zero is not allowed", e.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should resolve tokens containing whitespace without caching them")
+    void shouldResolveWhitespaceTokensUncached() {
+        ResolvedCalculation calculation = cache.resolve(" 1", "+", "2");
+        
+        assertTrue(calculation.isValid());
+        assertEquals(0, cache.size());
+        assertThrows(InvalidArgumentException.class, () -> cache.resolve("1 2", "+", "3").calculate());
+    }
+    
+    @Test
+    @DisplayName("Should normalize whitespace without copying normalized lines")
+    void shouldNormalizeWhitespace() {
+        String normalized = "1 + 2";
+        
+        assertSame(normalized, ParsedInputCache.normalize(normalized));
+        assertEquals("1 + 2", ParsedInputCache.normalize("\t1  +   2\n"));
+        assertEquals("", ParsedInputCache.normalize("   "));
+    }
+}
@@ -0,0 +1,119 @@
+package com.calculator;
+
+import com.calculator.column.ColumnEvaluator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigDecimal;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Reducer}.
+ */
+@DisplayName("Reducer Tests")
+class ReducerTest {
+    
+    private final Reducer reducer = new Reducer();
+    
+    @Test
+    @DisplayName("Should compensate sums that a plain loop rounds away")
+    void shouldCompensateSums() {
+        double[] values = {1e16, 1, -1e16};
+        double plain = 0;
+        for (double value : values) {
+            plain += value;
+        }
+        
+        assertEquals(0.0, plain);
+        assertEquals(1.0, reducer.reduce(values, "+"));
+    }
+    
+    @Test
+    @DisplayName("Should compute products, minimums and maximums")
+    void shouldComputeOtherReductions() {
+        double[] values = {3, -0.5, 8, 2};
+        
+        assertEquals(-24.0, reducer.reduce(values, "*"));
+        assertEquals(-0.5, reducer.reduce(values, Reducer.Reduction.MIN));
+        assertEquals(8.0, reducer.reduce(values, Reducer.Reduction.MAX));
+        assertEquals(7.5, reducer.reduce(values, 1, 3, Reducer.Reduction.SUM));
+    }
+    
+    @Test
+    @DisplayName("Should return the identity for no elements")
+    void shouldReturnIdentityForEmptyRange() {
+        double[] values = {};
+        
+        assertEquals(0.0, reducer.reduce(values, Reducer.Reduction.SUM));
+        assertEquals(1.0, reducer.reduce(values, Reducer.Reduction.PRODUCT));
+        assertEquals(Double.POSITIVE_INFINITY, reducer.reduce(values, Reducer.Reduction.MIN));
+        assertEquals(Double.NEGATIVE_INFINITY, reducer.reduce(values, Reducer.Reduction.MAX));
+    }
+    
+    @Test
+    @DisplayName("Should propagate infinities and NaN like plain arithmetic")
+    void shouldHandleSpecialValues() {
+        assertEquals(Double.POSITIVE_INFINITY, reducer.reduce(new double[] {Double.MAX_VALUE, Double.MAX_VALUE, 1}, "+"));
+        assertEquals(Double.NEGATIVE_INFINITY, reducer.reduce(new double[] {1, Double.NEGATIVE_INFINITY}, "+"));
+        assertTrue(Double.isNaN(reducer.reduce(new double[] {1, Double.NaN, 2}, "+")));
+        assertTrue(Double.isNaN(reducer.reduce(new double[] {1, Double.NaN, 2}, Reducer.Reduction.MAX)));
+    }
+    
+    @Test
+    @DisplayName("Should reject operators that are not associative")
+    void shouldRejectNonAssociativeOperators() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> reducer.reduce(new double[] {1, 2}, "-"));
+        assertEquals("Operator cannot be used as a reduction: -", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> reducer.reduce(new double[] {1, 2}, "/"));
+        assertThrows(IndexOutOfBoundsException.class, () -> reducer.reduce(new double[2], 1, 3, Reducer.Reduction.SUM));
+    }
+    
+    @Test
+    @DisplayName("Should sum within one ulp of the exact sum")
+    void shouldSumAccurately() {
+        Random random = new Random(24);
+        double[] values = new double[100_003];
+        BigDecimal exact = BigDecimal.ZERO;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10);
+            exact = exact.add(new BigDecimal(values[i]));
+        }
+        double expected = exact.doubleValue();
+        
+        double sum = new Reducer(ForkJoinPool.commonPool(), 64).reduce(values, Reducer.Reduction.SUM);
+        assertEquals(expected, sum, Math.ulp(expected));
+    }
+    
+    @Test
+    @DisplayName("Should give bit-identical results for any parallelism and for arrays and columns")
+    void shouldBeReproducible() {
+        Random random = new Random(24);
+        double[] values = new double[50_001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * Math.pow(2, random.nextInt(80) - 40);
+        }
+        DoubleBuffer column = ColumnEvaluator.allocateColumn(values.length + 3);
+        column.position(3);
+        column.put(values).position(3);
+        
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(8);
+        try {
+            for (Reducer.Reduction reduction : Reducer.Reduction.values()) {
+                double expected = new Reducer(single, 100).reduce(values, reduction);
+                for (int run = 0; run < 5; run++) {
+                    assertEquals(expected, new Reducer(many, 100).reduce(values, reduction), reduction::name);
+                    assertEquals(expected, new Reducer(ForkJoinPool.commonPool(), 100).reduce(column, reduction),
+                        reduction::name);
+                }
+            }
+            assertEquals(3, column.position());
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.calculator.batch;
+
+import com.calculator.AdaptiveCalculator;
+import com.calculator.DecimalCalculator;
+import com.calculator.FixedPointCalculator;
+import com.calculator.RationalCalculator;
+import com.calculator.util.ErrorHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchProcessor class.
+ * Tests line-by-line evaluation, per-line errors and output ordering.
+ */
+@DisplayName("Batch Processor Tests")
+class BatchProcessorTest {
+    
+    private BatchProcessor batchProcessor;
+    
+    @BeforeEach
+    void setUp() {
+        batchProcessor = new BatchProcessor();
+    }
+    
+    private String process(String input, long expectedFailures) throws IOException {
+        StringWriter writer = new StringWriter();
+        long failures = batchProcessor.process(new BufferedReader(new StringReader(input)), writer);
+        assertEquals(expectedFailures, failures);
+        return writer.toString();
+    }
+    
+    @Test
+    @DisplayName("Should evaluate one expression per line in input order")
+    void shouldEvaluateOneExpressionPerLine() throws IOException {
+        String output = process("5 + 3\n10 - 4\n6 * 7\n7 / 2\n", 0);
+        assertEquals("8\n6\n42\n3.5\n", output);
+    }
+    
+    @Test
+    @DisplayName("Should tolerate extra whitespace and a missing final newline")
+    void shouldTolerateWhitespace() throws IOException {
+        String output = process("  5   +\t3  \n-2.5 * 2", 0);
+        assertEquals("8\n-5\n", output);
+    }
+    
+    @Test
+    @DisplayName("Should report errors on their own line and continue")
+    void shouldReportErrorsAndContinue() throws IOException {
+        String output = process("5 / 0\nabc + 1\n5 ^ 2\n5 +\n1 + 1\n", 4);
+        String[] lines = output.split("\n", -1);
+        
+        assertEquals(6, lines.length);
+        assertEquals("Error: Division by zero is not allowed", lines[0]);
+        assertTrue(lines[1].startsWith("Error: Invalid number format"));
+        assertEquals("Error: Unsupported operator: ^. Supported operators: +, -, *, /", lines[2]);
+        assertEquals("Error: Invalid number of arguments. Expected format: <number> <operator> <number>", lines[3]);
+        assertEquals("2", lines[4]);
+        assertEquals("", lines[5]);
+    }
+    
+    @Test
+    @DisplayName("Should echo blank lines to keep output aligned with input")
+    void shouldEchoBlankLines() throws IOException {
+        String output = process("1 + 1\n\n2 + 2\n", 0);
+        assertEquals("2\n\n4\n", output);
+    }
+    
+    @Test
+    @DisplayName("Should calculate integer lines exactly beyond 2^53 and the range of long")
+    void shouldCalculateIntegerLinesExactly() throws IOException {
+        String output = process("9007199254740993 + 0\n9223372036854775807 * 2\n7 / 2\n", 0);
+        assertEquals("9007199254740993\n18446744073709551614\n3.5\n", output);
+    }
+    
+    @Test
+    @DisplayName("Should calculate lines in decimal at the precision of a decimal calculator")
+    void shouldCalculateDecimalLines() throws IOException {
+        batchProcessor = new BatchProcessor(new DecimalCalculator(new MathContext(6, RoundingMode.HALF_EVEN)), new ErrorHandler());
+        
+        String output = process("0.1 + 0.2\n\n1 / 3\n1 / 0\n1.10 * 3\nabc + 1\n", 2);
+        String[] lines = output.split("\n", -1);
+        
+        assertEquals("0.3", lines[0]);
+        assertEquals("", lines[1]);
+        assertEquals("0.333333", lines[2]);
+        assertEquals("Error: Division by zero is not allowed", lines[3]);
+        assertEquals("3.30", lines[4]);
+        assertTrue(lines[5].startsWith("Error: Invalid number format"));
+    }
+    
+    @Test
+    @DisplayName("Should calculate lines in fixed point at the scale of a fixed-point calculator")
+    void shouldCalculateFixedPointLines() throws IOException {
+        batchProcessor = new BatchProcessor(new FixedPointCalculator(2), new ErrorHandler());
+        
+        String output = process("0.1 + 0.2\n19.99 * 3\n1 / 3\n1 / 0\n92233720368547758 * 10\n", 2);
+        String[] lines = output.split("\n", -1);
+        
+        assertEquals("0.30", lines[0]);
+        assertEquals("59.97", lines[1]);
+        assertEquals("0.33", lines[2]);
+        assertEquals("Error: Division by zero is not allowed", lines[3]);
+        assertTrue(lines[4].startsWith("Error: Fixed-point overflow"));
+    }
+    
+    @Test
+    @DisplayName("Should recompute only lines exceeding the tolerance of an adaptive calculator")
+    void shouldCalculateAdaptiveLines() throws IOException {
+        AdaptiveCalculator adaptiveCalculator = new AdaptiveCalculator(1e-15);
+        batchProcessor = new BatchProcessor(adaptiveCalculator, new ErrorHandler());
+        
+        String output = process("1 + 2\n1.000000000000001 - 1\n1 / 0\n", 1);
+        
+        assertEquals("3\n1.0E-15\nError: Division by zero is not allowed\n", output);
+        assertEquals(1, adaptiveCalculator.getEscalationCount(AdaptiveCalculator.Escalation.DOUBLE_DOUBLE));
+    }
+    
+    @Test
+    @DisplayName("Should calculate lines exactly with a rational calculator")
+    void shouldCalculateRationalLines() throws IOException {
+        batchProcessor = new BatchProcessor(new RationalCalculator(), new ErrorHandler());
+        
+        String output = process("1 / 3\n1/3 - 0.25\n1 / 0\n", 1);
+        
+        assertEquals("1/3\n1/12\nError: Division by zero is not allowed\n", output);
+    }
+}
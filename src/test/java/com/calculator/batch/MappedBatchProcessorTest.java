@@ -0,0 +1,109 @@
+package com.calculator.batch;
+
+import com.calculator.Calculator;
+import com.calculator.factory.OperatorRegistry;
+import com.calculator.util.ErrorHandler;
+import com.calculator.util.InputValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MappedBatchProcessor class.
+ * Tests chunked parallel evaluation against the sequential BatchProcessor.
+ */
+@DisplayName("Mapped Batch Processor Tests")
+class MappedBatchProcessorTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private MappedBatchProcessor processor(int chunkSize, int parallelism) {
+        return new MappedBatchProcessor(new Calculator(), OperatorRegistry.getDefault(),
+            new InputValidator(), new ErrorHandler(), chunkSize, parallelism);
+    }
+    
+    private String process(MappedBatchProcessor processor, String input) throws IOException {
+        Path file = tempDir.resolve("input.txt");
+        Files.writeString(file, input);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        processor.process(file, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+    
+    @Test
+    @DisplayName("Should evaluate lines in order")
+    void shouldEvaluateLinesInOrder() throws IOException {
+        String output = process(processor(8, 3), "5 + 3\n10 - 4\n6 * 7\n7 / 2\n1e3 * 2\n");
+        assertEquals("8\n6\n42\n3.5\n2000\n", output);
+    }
+    
+    @Test
+    @DisplayName("Should calculate integer operands exactly beyond 2^53")
+    void shouldCalculateIntegersExactly() throws IOException {
+        String output = process(processor(16, 2),
+            "9223372036854775807 * 2\n9007199254740993 + 0\n9007199254740993 / 3\n-9223372036854775808 + 0\n7 / 2\n");
+        assertEquals("18446744073709551614\n9007199254740993\n3002399751580331\n-9223372036854775808\n3.5\n", output);
+    }
+    
+    @Test
+    @DisplayName("Should report errors and count failures")
+    void shouldReportErrorsAndCountFailures() throws IOException {
+        Path file = tempDir.resolve("errors.txt");
+        Files.writeString(file, "5 / 0\r\nabc + 1\n5 ^ 2\n5 +\n\n1 + 1");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        long failures = processor(4, 2).process(file, output);
+        
+        assertEquals(4, failures);
+        assertEquals("Error: Division by zero is not allowed\n"
+            + "Error: Invalid number format: For input string: \"abc\"\n"
+            + "Error: Unsupported operator: ^. Supported operators: +, -, *, /\n"
+            + "Error: Invalid number of arguments. Expected format: <number> <operator> <number>\n"
+            + "\n"
+            + "2\n", output.toString(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    @DisplayName("Should handle an empty file")
+    void shouldHandleEmptyFile() throws IOException {
+        assertEquals("", process(processor(16, 2), ""));
+    }
+    
+    @Test
+    @DisplayName("Should match the sequential batch processor on random input")
+    void shouldMatchSequentialBatchProcessor() throws IOException {
+        Random random = new Random(42);
+        String[] operators = {"+", "-", "*", "/", "%", "**"};
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            input.append(random.nextInt(2000) - 1000).append(' ')
+                .append(operators[random.nextInt(operators.length)]).append(' ')
+                .append(random.nextInt(5) == 0 ? "0" : String.valueOf(random.nextDouble() * 100 - 50))
+                .append('\n');
+        }
+        // Integers beyond 2^53 are calculated exactly, not rounded through double
+        input.append("9223372036854775807 * 2\n")
+            .append("9007199254740993 + 0\n")
+            .append("9007199254740993 / 3\n")
+            .append("-9223372036854775808 - 1\n")
+            .append("-9223372036854775808 / -1\n")
+            .append("9223372036854775808 + 0\n")
+            .append("+7 - -3\n");
+        
+        StringWriter expected = new StringWriter();
+        new BatchProcessor().process(new BufferedReader(new StringReader(input.toString())), expected);
+        
+        assertEquals(expected.toString(), process(processor(1024, 4), input.toString()));
+    }
+}
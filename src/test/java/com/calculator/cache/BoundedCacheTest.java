@@ -0,0 +1,116 @@
+package com.calculator.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedCache.
+ * Tests loading, statistics, the size bound and frequency-aware eviction.
+ */
+@DisplayName("Bounded Cache Tests")
+class BoundedCacheTest {
+    
+    @Test
+    @DisplayName("Should load missing values once and count hits and misses")
+    void shouldLoadMissingValuesOnce() {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+        int[] loads = new int[1];
+        
+        assertEquals(3, cache.get("abc", key -> { loads[0]++; return key.length(); }));
+        assertEquals(3, cache.get("abc", key -> { loads[0]++; return key.length(); }));
+        assertEquals(3, cache.getIfPresent("abc"));
+        assertNull(cache.getIfPresent("missing"));
+        
+        assertEquals(1, loads[0]);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+    
+    @Test
+    @DisplayName("Should never hold more than the maximum size")
+    void shouldStayWithinMaximumSize() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(i, key -> key * 2);
+            assertTrue(cache.size() <= 100);
+        }
+        
+        assertEquals(100, cache.getMaximumSize());
+        assertEquals(10_000 - cache.size(), cache.getEvictionCount());
+    }
+    
+    @Test
+    @DisplayName("Should keep frequently used entries during a scan of one-off keys")
+    void shouldKeepFrequentEntriesDuringScan() {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(100);
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                cache.get(hot, key -> key);
+            }
+        }
+        
+        for (int cold = 1_000; cold < 11_000; cold++) {
+            cache.get(cold, key -> key);
+        }
+        
+        // A plain LRU cache would retain none of them
+        int retained = 0;
+        for (int hot = 0; hot < 50; hot++) {
+            if (cache.getIfPresent(hot) != null) {
+                retained++;
+            }
+        }
+        assertTrue(retained >= 45, "only " + retained + " hot entries retained");
+    }
+    
+    @Test
+    @DisplayName("Should work with a single entry")
+    void shouldWorkWithSingleEntry() {
+        BoundedCache<String, String> cache = new BoundedCache<>(1);
+        
+        cache.get("a", key -> key);
+        cache.get("b", key -> key);
+        
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid sizes and null values")
+    void shouldRejectInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+        
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        assertThrows(NullPointerException.class, () -> cache.get("a", key -> null));
+    }
+    
+    @Test
+    @DisplayName("Should stay consistent under concurrent access")
+    void shouldStayConsistentUnderConcurrentAccess() throws InterruptedException {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(64);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int seed = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    int key = (i * 31 + seed) % 200;
+                    assertEquals(key + 1, cache.get(key, k -> k + 1));
+                }
+            });
+            threads[t].setUncaughtExceptionHandler((thread, e) -> failure.compareAndSet(null, e));
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertNull(failure.get());
+        assertTrue(cache.size() <= 64);
+        assertEquals(80_000, cache.getHitCount() + cache.getMissCount());
+    }
+}
@@ -0,0 +1,143 @@
+package com.calculator.column;
+
+import com.calculator.factory.OperationFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ColumnEvaluator class.
+ * Tests evaluation over direct buffers and memory-mapped column files.
+ */
+@DisplayName("Column Evaluator Tests")
+class ColumnEvaluatorTest {
+    
+    private ColumnEvaluator columnEvaluator;
+    
+    @TempDir
+    Path tempDir;
+    
+    @BeforeEach
+    void setUp() {
+        columnEvaluator = new ColumnEvaluator();
+    }
+    
+    private static DoubleBuffer column(double... values) {
+        DoubleBuffer column = ColumnEvaluator.allocateColumn(values.length);
+        column.put(0, values);
+        return column;
+    }
+    
+    private Path columnFile(String name, double... values) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Double.BYTES).order(ByteOrder.nativeOrder());
+        bytes.asDoubleBuffer().put(values);
+        Path file = tempDir.resolve(name);
+        Files.write(file, bytes.array());
+        return file;
+    }
+    
+    private static double[] readColumnFile(Path file) throws IOException {
+        DoubleBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        double[] values = new double[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+    
+    @Test
+    @DisplayName("Should evaluate direct columns")
+    void shouldEvaluateDirectColumns() {
+        DoubleBuffer results = ColumnEvaluator.allocateColumn(3);
+        
+        columnEvaluator.evaluate(column(1.5, 2.0, -3.0), "*", column(2.0, 4.0, 3.0), results);
+        
+        assertTrue(results.isDirect());
+        assertEquals(3.0, results.get(0), 0.001);
+        assertEquals(8.0, results.get(1), 0.001);
+        assertEquals(-9.0, results.get(2), 0.001);
+        assertEquals(0, results.position());
+    }
+    
+    @Test
+    @DisplayName("Should evaluate a two-step formula over columns in one pass")
+    void shouldEvaluateFusedColumns() {
+        DoubleBuffer results = ColumnEvaluator.allocateColumn(3);
+        
+        columnEvaluator.evaluate(column(0.1, 2.0, -3.0), "*", column(10, 4.0, 3.0), "+", column(-1, 1, 0.5), results);
+        assertArrayEquals(new double[] {0x1p-54, 9.0, -8.5}, new double[] {results.get(0), results.get(1), results.get(2)});
+        
+        columnEvaluator.evaluate(column(1, 2, 3), "-", column(1, 1, 1), "/", column(2, 2, 2), results);
+        assertArrayEquals(new double[] {0.0, 0.5, 1.0}, new double[] {results.get(0), results.get(1), results.get(2)});
+        assertEquals(0, results.position());
+        
+        assertThrows(IllegalArgumentException.class, () -> columnEvaluator.evaluate(
+            column(1, 2), "*", column(1, 2), "+", column(1), ColumnEvaluator.allocateColumn(2)));
+    }
+    
+    @Test
+    @DisplayName("Should evaluate columns larger than one block")
+    void shouldEvaluateColumnsLargerThanOneBlock() {
+        int length = 10_000;
+        DoubleBuffer left = ColumnEvaluator.allocateColumn(length);
+        DoubleBuffer right = ColumnEvaluator.allocateColumn(length);
+        DoubleBuffer results = ColumnEvaluator.allocateColumn(length);
+        for (int i = 0; i < length; i++) {
+            left.put(i, i);
+            right.put(i, 2);
+        }
+        
+        columnEvaluator.evaluate(left, "/", right, results);
+        
+        for (int i = 0; i < length; i++) {
+            assertEquals(i / 2.0, results.get(i), 0.001);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should reject columns of different lengths and zero divisors")
+    void shouldRejectInvalidColumns() {
+        assertThrows(IllegalArgumentException.class,
+            () -> columnEvaluator.evaluate(column(1, 2), "+", column(1), ColumnEvaluator.allocateColumn(2)));
+        assertThrows(ArithmeticException.class,
+            () -> columnEvaluator.evaluate(column(1, 2), "/", column(1, 0), ColumnEvaluator.allocateColumn(2)));
+    }
+    
+    @Test
+    @DisplayName("Should evaluate mapped column files across several windows")
+    void shouldEvaluateColumnFiles() throws IOException {
+        ColumnEvaluator windowed = new ColumnEvaluator(new OperationFactory(), 2);
+        Path left = columnFile("left.bin", 1, 2, 3, 4, 5);
+        Path right = columnFile("right.bin", 10, 20, 30, 40, 50);
+        Path results = tempDir.resolve("results.bin");
+        
+        long count = windowed.evaluate(left, "+", right, results);
+        
+        assertEquals(5, count);
+        assertArrayEquals(new double[] {11, 22, 33, 44, 55}, readColumnFile(results), 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should validate column files before truncating the result file")
+    void shouldValidateBeforeTruncatingResults() throws IOException {
+        Path left = columnFile("left.bin", 1, 2, 3);
+        Path right = columnFile("right.bin", 10, 20);
+        Path results = columnFile("results.bin", 7, 8);
+        
+        assertThrows(IllegalArgumentException.class, () -> columnEvaluator.evaluate(left, "+", right, results));
+        assertArrayEquals(new double[] {7, 8}, readColumnFile(results), 0.001);
+        
+        Path sameLength = columnFile("same.bin", 10, 20, 30);
+        assertThrows(IllegalArgumentException.class, () -> columnEvaluator.evaluate(left, "+", sameLength, left));
+        assertThrows(IllegalArgumentException.class,
+            () -> columnEvaluator.evaluate(left, "+", sameLength, tempDir.resolve(".").resolve("same.bin")));
+        assertArrayEquals(new double[] {1, 2, 3}, readColumnFile(left), 0.001);
+        assertArrayEquals(new double[] {10, 20, 30}, readColumnFile(sameLength), 0.001);
+    }
+}
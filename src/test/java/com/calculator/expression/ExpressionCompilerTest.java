@@ -0,0 +1,105 @@
+package com.calculator.expression;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.factory.OperatorRegistry;
+import com.calculator.operation.Operation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpressionCompiler class.
+ * Tests that compiled expressions match the tree-walking interpreter exactly.
+ */
+@DisplayName("Expression Compiler Tests")
+class ExpressionCompilerTest {
+    
+    private ExpressionParser expressionParser;
+    private ExpressionCompiler expressionCompiler;
+    
+    @BeforeEach
+    void setUp() {
+        expressionParser = new ExpressionParser();
+        expressionCompiler = new ExpressionCompiler();
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "1", "-0", "2 + 3 * 4", "(a + b) * (a - b) / 3", "-a * -(b + 0.1)",
+        "a / b / c + a * b * c - 1e-3", "x0+x1+x2+x3+x4+x5+x6+x7+x8"})
+    @DisplayName("Should produce bit-identical results to the interpreter")
+    void shouldMatchInterpreter(String text) throws InvalidArgumentException {
+        Expression expression = expressionParser.parse(text);
+        CompiledExpression compiled = expressionCompiler.compile(expression);
+        Random random = new Random(7);
+        double[] variables = new double[expression.getVariableNames().size()];
+        
+        for (int run = 0; run < 100; run++) {
+            for (int i = 0; i < variables.length; i++) {
+                variables[i] = random.nextDouble() * 200 - 100;
+            }
+            assertEquals(Double.doubleToRawLongBits(expression.evaluate(variables)),
+                Double.doubleToRawLongBits(compiled.evaluate(variables)));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should keep division-by-zero semantics")
+    void shouldKeepDivisionByZeroSemantics() throws InvalidArgumentException {
+        CompiledExpression compiled = expressionCompiler.compile(expressionParser.parse("1 / (x - 2)"));
+        
+        assertEquals(1.0, compiled.evaluate(3), 1e-9);
+        ArithmeticException exception = assertThrows(ArithmeticException.class, () -> compiled.evaluate(2));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+        assertThrows(ArithmeticException.class, () -> compiled.evaluate(2 + 1e-11));
+    }
+    
+    @Test
+    @DisplayName("Should call registered operators through their Operation")
+    void shouldCallRegisteredOperators() throws InvalidArgumentException {
+        OperatorRegistry registry = new OperatorRegistry();
+        registry.register(new Operation() {
+            @Override
+            public double execute(double leftOperand, double rightOperand) {
+                return Math.max(leftOperand, rightOperand);
+            }
+            
+            @Override
+            public String getSymbol() {
+                return "|";
+            }
+        });
+        
+        Expression expression = new ExpressionParser(registry).parse("(a | b) * 2 + (b | 1)");
+        CompiledExpression compiled = expressionCompiler.compile(expression);
+        
+        assertEquals(expression.evaluate(3, -4), compiled.evaluate(3, -4));
+        assertEquals(15.0, compiled.evaluate(3, 5), 1e-9);
+    }
+    
+    @Test
+    @DisplayName("Should compile long expressions with many constants")
+    void shouldCompileLongExpressions() throws InvalidArgumentException {
+        StringBuilder text = new StringBuilder("x");
+        for (int i = 1; i <= 2000; i++) {
+            text.append(i % 2 == 0 ? " + " : " * ").append(i).append(".5");
+        }
+        Expression expression = expressionParser.parse(text.toString());
+        
+        assertEquals(expression.evaluate(1.25), expressionCompiler.compile(expression).evaluate(1.25));
+    }
+    
+    @Test
+    @DisplayName("Should compile expressions of the maximum depth")
+    void shouldCompileDeepestExpressions() throws InvalidArgumentException {
+        int depth = ExpressionParser.MAX_DEPTH;
+        Expression leftDeep = expressionParser.parse("x" + " - 1".repeat(depth));
+        Expression rightDeep = expressionParser.parse("(x - ".repeat(ExpressionParser.MAX_NESTING) + "1" + ")".repeat(ExpressionParser.MAX_NESTING));
+        
+        assertEquals(-depth, expressionCompiler.compile(leftDeep).evaluate(0));
+        assertEquals(rightDeep.evaluate(3), expressionCompiler.compile(rightDeep).evaluate(3));
+    }
+}
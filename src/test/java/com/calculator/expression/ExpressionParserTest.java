@@ -0,0 +1,132 @@
+package com.calculator.expression;
+
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.factory.OperatorRegistry;
+import com.calculator.operation.Operation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpressionParser and Expression classes.
+ * Tests precedence, associativity, parentheses, variables and error reporting.
+ */
+@DisplayName("Expression Parser Tests")
+class ExpressionParserTest {
+    
+    private ExpressionParser expressionParser;
+    
+    @BeforeEach
+    void setUp() {
+        expressionParser = new ExpressionParser();
+    }
+    
+    @ParameterizedTest
+    @CsvSource({
+        "'2 + 3 * 4', 14",
+        "'(2 + 3) * 4', 20",
+        "'10 - 4 - 3', 3",
+        "'100 / 10 / 5', 2",
+        "'2 * 3 + 4 * 5', 26",
+        "'-2 * -3', 6",
+        "'-(2 + 3)', -5",
+        "'+7 - -3', 10",
+        "'1.5e2 / 3', 50",
+        "'((1))', 1",
+        "'2+3*4-6/2', 11"
+    })
+    @DisplayName("Should evaluate expressions with precedence and parentheses")
+    void shouldEvaluateExpressions(String text, double expected) throws InvalidArgumentException {
+        assertEquals(expected, expressionParser.parse(text).evaluate(), 1e-9);
+    }
+    
+    @Test
+    @DisplayName("Should produce a left-associative tree")
+    void shouldProduceLeftAssociativeTree() throws InvalidArgumentException {
+        assertEquals("((2.0 + (3.0 * 4.0)) - 1.0)", expressionParser.parse("2 + 3 * 4 - 1").toString());
+    }
+    
+    @Test
+    @DisplayName("Should bind variables by first appearance and evaluate repeatedly")
+    void shouldBindVariables() throws InvalidArgumentException {
+        Expression expression = expressionParser.parse("price * quantity + price / 2");
+        
+        assertEquals(List.of("price", "quantity"), expression.getVariableNames());
+        assertEquals(35.0, expression.evaluate(10, 3), 1e-9);
+        assertEquals(4.5, expression.evaluate(3, 1), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> expression.evaluate(1));
+    }
+    
+    @Test
+    @DisplayName("Should throw ArithmeticException for division by zero at evaluation")
+    void shouldThrowForDivisionByZero() throws InvalidArgumentException {
+        Expression expression = expressionParser.parse("1 / (x - 2)");
+        
+        assertEquals(1.0, expression.evaluate(3), 1e-9);
+        ArithmeticException exception = assertThrows(ArithmeticException.class, () -> expression.evaluate(2));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should reject expressions nested deeper than the limit instead of overflowing the stack")
+    void shouldRejectDeepNesting() throws InvalidArgumentException {
+        int nesting = ExpressionParser.MAX_NESTING;
+        int depth = ExpressionParser.MAX_DEPTH;
+        
+        assertEquals(1.0, expressionParser.parse("(".repeat(nesting) + "1" + ")".repeat(nesting)).evaluate());
+        assertEquals(-1.0, expressionParser.parse("-".repeat(nesting - 1) + "1").evaluate());
+        assertEquals(depth + 1.0, expressionParser.parse("1" + " + 1".repeat(depth)).evaluate());
+        
+        InvalidArgumentException exception = assertThrows(InvalidArgumentException.class,
+            () -> expressionParser.parse("(".repeat(nesting + 1) + "1" + ")".repeat(nesting + 1)));
+        assertEquals("Invalid expression: nested deeper than 1000 levels at position 1001", exception.getMessage());
+        exception = assertThrows(InvalidArgumentException.class,
+            () -> expressionParser.parse("1" + "+1".repeat(depth + 1)));
+        assertEquals("Invalid expression: more than 2000 nested operations at position 4003", exception.getMessage());
+        for (String text : new String[] {
+                "(".repeat(100_000) + "1" + ")".repeat(100_000),
+                "-".repeat(100_000) + "x",
+                "2" + " * 2".repeat(100_000)}) {
+            assertThrows(InvalidArgumentException.class, () -> expressionParser.parse(text));
+        }
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ", "2 +", "(2 + 3", "2 + 3)", "2 ^ 3", "2 3", "1..2", "1e400", "* 2"})
+    @DisplayName("Should reject invalid expressions")
+    void shouldRejectInvalidExpressions(String text) {
+        assertThrows(InvalidArgumentException.class, () -> expressionParser.parse(text));
+    }
+    
+    @Test
+    @DisplayName("Should report the position of an unexpected character")
+    void shouldReportPosition() {
+        InvalidArgumentException exception = assertThrows(InvalidArgumentException.class,
+            () -> expressionParser.parse("2 + 3 ^ 4"));
+        assertEquals("Invalid expression: unexpected '^' at position 7", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should support registered operators at multiplicative precedence")
+    void shouldSupportRegisteredOperators() throws InvalidArgumentException {
+        OperatorRegistry registry = new OperatorRegistry();
+        registry.register(new Operation() {
+            @Override
+            public double execute(double leftOperand, double rightOperand) {
+                return leftOperand % rightOperand;
+            }
+            
+            @Override
+            public String getSymbol() {
+                return "%";
+            }
+        });
+        
+        assertEquals(3.0, new ExpressionParser(registry).parse("1 + 10 % 4 * 1").evaluate(), 1e-9);
+    }
+}
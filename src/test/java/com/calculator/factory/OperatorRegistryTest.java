@@ -0,0 +1,126 @@
+package com.calculator.factory;
+
+import com.calculator.Calculator;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.operation.Operation;
+import com.calculator.util.InputValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OperatorRegistry and the factory and validator built on it.
+ * Tests shared instance lookup and registration of additional operators.
+ */
+@DisplayName("Operator Registry Tests")
+class OperatorRegistryTest {
+    
+    private OperatorRegistry registry;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new OperatorRegistry();
+    }
+    
+    private static Operation modulo() {
+        return new Operation() {
+            @Override
+            public double execute(double leftOperand, double rightOperand) {
+                return leftOperand % rightOperand;
+            }
+            
+            @Override
+            public String getSymbol() {
+                return "%";
+            }
+        };
+    }
+    
+    @Test
+    @DisplayName("Should resolve built-in operators by character")
+    void shouldResolveBuiltInOperators() {
+        assertEquals("+", registry.lookup('+').getSymbol());
+        assertEquals("-", registry.lookup('-').getSymbol());
+        assertEquals("*", registry.lookup('*').getSymbol());
+        assertEquals("/", registry.lookup('/').getSymbol());
+        assertNull(registry.lookup('^'));
+        assertNull(registry.lookup('é'));
+    }
+    
+    @Test
+    @DisplayName("Should resolve operator strings with surrounding whitespace")
+    void shouldResolveOperatorStringsWithWhitespace() {
+        assertSame(registry.lookup('+'), registry.lookup(" + "));
+        assertNull(registry.lookup("++"));
+        assertNull(registry.lookup(" "));
+        assertNull(registry.lookup((String) null));
+    }
+    
+    @Test
+    @DisplayName("Factory should return the same instance for repeated calls")
+    void factoryShouldReturnSharedInstances() {
+        OperationFactory factory = new OperationFactory(registry);
+        assertSame(factory.createOperation("*"), factory.createOperation("*"));
+        assertSame(factory.createOperation("/"), factory.createOperation(" / "));
+    }
+    
+    @Test
+    @DisplayName("Mode factories should accept exactly the registered operators they implement")
+    void modeFactoriesShouldFollowRegistry() {
+        registry.register(modulo());
+        OperationFactory factory = new OperationFactory(registry);
+        
+        assertEquals("+", factory.createDecimalOperation(" + ").getSymbol());
+        assertSame(factory.createFixedPointOperation("*"), factory.createFixedPointOperation("*"));
+        assertEquals("/", factory.createRationalOperation("/").getSymbol());
+        
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> factory.createDecimalOperation("%"));
+        assertEquals("Unsupported operator: %", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> factory.createFixedPointOperation("^"));
+        exception = assertThrows(IllegalArgumentException.class, () -> factory.createRationalOperation(null));
+        assertEquals("Operator cannot be null", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should list supported operators in registration order")
+    void shouldListSupportedOperators() {
+        assertEquals("+, -, *, /", registry.getSupportedOperators());
+        assertEquals(4, registry.getOperations().size());
+    }
+    
+    @Test
+    @DisplayName("Should register additional operators")
+    void shouldRegisterAdditionalOperators() throws InvalidInputException {
+        registry.register(modulo());
+        
+        Calculator calculator = new Calculator(new OperationFactory(registry));
+        assertEquals(1.0, calculator.calculate(10.0, "%", 3.0), 0.001);
+        
+        InputValidator validator = new InputValidator(registry);
+        validator.validateCalculation(10.0, "%", 3.0);
+        InvalidInputException exception = assertThrows(InvalidInputException.class,
+            () -> validator.validateOperator("^"));
+        assertEquals("Unsupported operator: ^. Supported operators: +, -, *, /, %", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should reject duplicate and invalid symbols")
+    void shouldRejectDuplicateAndInvalidSymbols() {
+        registry.register(modulo());
+        assertThrows(IllegalArgumentException.class, () -> registry.register(modulo()));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.register(new Operation() {
+            @Override
+            public double execute(double leftOperand, double rightOperand) {
+                return Math.pow(leftOperand, rightOperand);
+            }
+            
+            @Override
+            public String getSymbol() {
+                return "**";
+            }
+        }));
+    }
+}
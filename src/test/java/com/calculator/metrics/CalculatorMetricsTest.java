@@ -0,0 +1,82 @@
+package com.calculator.metrics;
+
+import com.calculator.util.ErrorCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CalculatorMetrics.
+ * Tests recording while enabled and disabled, and the platform MXBean.
+ */
+@DisplayName("Calculator Metrics Tests")
+class CalculatorMetricsTest {
+    
+    private CalculatorMetrics metrics;
+    
+    @BeforeEach
+    void setUp() {
+        metrics = new CalculatorMetrics();
+    }
+    
+    @Test
+    @DisplayName("Should ignore recordings while disabled")
+    void shouldIgnoreRecordingsWhileDisabled() {
+        long start = metrics.startTimer();
+        metrics.recordParse(start);
+        metrics.recordCompute("+", start);
+        metrics.recordError(ErrorCategory.ARITHMETIC);
+        
+        assertFalse(metrics.isEnabled());
+        assertTrue(metrics.getOperatorCounts().isEmpty());
+        assertEquals(0L, metrics.getErrorCounts().get("ARITHMETIC"));
+        assertEquals(0, metrics.getLatencyHistogram("parse").snapshot().getCount());
+    }
+    
+    @Test
+    @DisplayName("Should count operators, errors and stage latencies while enabled")
+    void shouldRecordWhileEnabled() {
+        metrics.setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            metrics.recordCompute("+", metrics.startTimer());
+        }
+        metrics.recordCompute("/", metrics.startTimer());
+        metrics.recordParse(metrics.startTimer());
+        metrics.recordValidate(metrics.startTimer());
+        metrics.recordError(ErrorCategory.INVALID_INPUT);
+        metrics.recordError(ErrorCategory.INVALID_INPUT);
+        
+        assertEquals(Map.of("+", 3L, "/", 1L), metrics.getOperatorCounts());
+        assertEquals(2L, metrics.getErrorCounts().get("INVALID_INPUT"));
+        assertEquals(4, metrics.getErrorCounts().size());
+        assertEquals(3, metrics.getLatencyHistogram("compute +").snapshot().getCount());
+        assertEquals(1, metrics.getLatencyHistogram("validate").snapshot().getCount());
+        assertEquals(Map.of("parse", 0L, "validate", 0L, "compute +", 0L, "compute /", 0L).keySet(),
+            metrics.getLatencyMaxNanos().keySet());
+        
+        metrics.reset();
+        assertTrue(metrics.getOperatorCounts().isEmpty());
+        assertEquals(0L, metrics.getErrorCounts().get("INVALID_INPUT"));
+    }
+    
+    @Test
+    @DisplayName("Should expose the shared registry as a platform MXBean")
+    void shouldExposeSharedRegistryAsMXBean() throws Exception {
+        CalculatorMetrics shared = CalculatorMetrics.shared();
+        shared.registerMBean();
+        shared.registerMBean();
+        
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CalculatorMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+        assertEquals(shared.isEnabled(), server.getAttribute(name, "Enabled"));
+        assertInstanceOf(TabularData.class, server.getAttribute(name, "ErrorCounts"));
+        assertInstanceOf(TabularData.class, server.getAttribute(name, "Latency99thPercentileNanos"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.calculator.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ * Tests the bucket layout, percentile accuracy and concurrent recording.
+ */
+@DisplayName("Latency Histogram Tests")
+class LatencyHistogramTest {
+    
+    @Test
+    @DisplayName("Should map values to contiguous buckets covering every long")
+    void shouldMapValuesToContiguousBuckets() {
+        assertEquals(0, LatencyHistogram.lowestValueAt(0));
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+            assertEquals(LatencyHistogram.highestValueAt(i) + 1, LatencyHistogram.lowestValueAt(i + 1));
+            assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.lowestValueAt(i)));
+            assertEquals(i, LatencyHistogram.indexOf(LatencyHistogram.highestValueAt(i)));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+    }
+    
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision")
+    void shouldReportPercentilesWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 100);
+        }
+        
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMax());
+        assertEquals(500_000, snapshot.getValueAtPercentile(50), 500_000 * 0.125);
+        assertEquals(990_000, snapshot.getValueAtPercentile(99), 990_000 * 0.125);
+        assertEquals(1_000_000, snapshot.getValueAtPercentile(100));
+        assertTrue(snapshot.getValueAtPercentile(50) >= 500_000);
+    }
+    
+    @Test
+    @DisplayName("Should report zero for an empty histogram and clear on reset")
+    void shouldHandleEmptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(99));
+        
+        histogram.record(-5);
+        histogram.record(42);
+        assertEquals(2, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getValueAtPercentile(50));
+        
+        histogram.reset();
+        assertEquals(0, histogram.snapshot().getCount());
+        assertEquals(0, histogram.snapshot().getMax());
+    }
+    
+    @Test
+    @DisplayName("Should count every value recorded concurrently")
+    void shouldCountConcurrentRecords() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 50_000; i++) {
+                    histogram.record(random.nextInt(1_000_000));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        assertEquals(200_000, histogram.snapshot().getCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.calculator.metrics;
+
+import com.calculator.Calculator;
+import com.calculator.exception.InvalidArgumentException;
+import com.calculator.exception.InvalidInputException;
+import com.calculator.util.ArgumentParser;
+import com.calculator.util.CalculationResult;
+import com.calculator.util.InputValidator;
+import com.calculator.util.ResultFormatter;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the JFR events of the calculation stages.
+ * Runs each stage inside a recording and checks the events it emitted.
+ */
+@DisplayName("Stage Event Tests")
+class StageEventTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    @DisplayName("Should emit parse, validate, compute and format events with operator and outcome")
+    void shouldEmitStageEvents() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            ArgumentParser.ParsedArguments parsed = new ArgumentParser().parseCalculation("10", "/", "4");
+            new InputValidator().validateCalculation(parsed.getLeftOperand(), "/", parsed.getRightOperand());
+            double value = new Calculator().calculate(parsed.getLeftOperand(), "/", parsed.getRightOperand());
+            new ResultFormatter().format(value);
+        });
+        
+        assertEvent(events, "com.calculator.Parse", "/", "SUCCESS");
+        assertEvent(events, "com.calculator.Validate", "/", "SUCCESS");
+        assertEvent(events, "com.calculator.Compute", "/", "SUCCESS");
+        assertEvent(events, "com.calculator.Format", null, "SUCCESS");
+    }
+    
+    @Test
+    @DisplayName("Should report the error category of failed stages as the outcome")
+    void shouldReportFailedOutcomes() throws Exception {
+        List<RecordedEvent> events = record(() -> {
+            assertThrows(InvalidArgumentException.class,
+                () -> new ArgumentParser().parseCalculation("abc", "+", "1"));
+            assertThrows(InvalidInputException.class,
+                () -> new InputValidator().validateCalculation(1, "/", 0));
+            assertThrows(ArithmeticException.class, () -> new Calculator().calculate(1, "/", 0));
+            assertNull(new InputValidator().tryValidateCalculation(1, "^", 2, new CalculationResult()));
+        });
+        
+        assertEvent(events, "com.calculator.Parse", "+", "INVALID_ARGUMENT");
+        assertEvent(events, "com.calculator.Validate", "/", "INVALID_INPUT");
+        assertEvent(events, "com.calculator.Validate", "^", "INVALID_INPUT");
+        assertEvent(events, "com.calculator.Compute", "/", "ARITHMETIC");
+    }
+    
+    @Test
+    @DisplayName("Should be disabled unless a recording enables them")
+    void shouldBeDisabledByDefault() {
+        assertFalse(new ComputeEvent().isEnabled());
+    }
+    
+    private List<RecordedEvent> record(Stage stage) throws Exception {
+        Path file = tempDir.resolve("stages.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ParseEvent.class);
+            recording.enable(ValidateEvent.class);
+            recording.enable(ComputeEvent.class);
+            recording.enable(FormatEvent.class);
+            recording.start();
+            stage.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+    
+    private static void assertEvent(List<RecordedEvent> events, String name, String operator, String outcome) {
+        boolean found = events.stream().anyMatch(event -> event.getEventType().getName().equals(name)
+            && Objects.equals(event.getString("operator"), operator)
+            && event.getString("outcome").equals(outcome)
+            && !event.getDuration().isNegative());
+        assertTrue(found, "Missing " + name + " event with operator " + operator + " and outcome " + outcome);
+    }
+    
+    @FunctionalInterface
+    private interface Stage {
+        void run() throws Exception;
+    }
+}
@@ -3,6 +3,7 @@ package com.calculator.operation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.math.BigInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -76,4 +77,24 @@ class AdditionOperationTest {
         double result = additionOperation.execute(0.0001, 0.0002);
         assertEquals(0.0003, result, 0.00001);
     }
+    
+    @Test
+    @DisplayName("Should add arrays element-wise within the given range")
+    void shouldAddArraysElementWise() {
+        double[] left = {99.0, 5.0, 10.0, 0.5, 0.0, 99.0};
+        double[] right = {99.0, 3.0, -3.0, -3.0, 7.0, 99.0};
+        double[] results = new double[6];
+        
+        additionOperation.execute(left, right, results, 1, 5);
+        
+        assertArrayEquals(new double[] {0.0, 8.0, 7.0, -2.5, 7.0, 0.0}, results, 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should add integers exactly and promote overflowing sums to BigInteger")
+    void shouldAddIntegersExactly() {
+        assertEquals(9007199254740993L, additionOperation.executeExact(9007199254740992L, 1));
+        assertEquals(new BigInteger("9223372036854775808"), additionOperation.executeExact(Long.MAX_VALUE, 1));
+        assertEquals(new BigInteger("-18446744073709551616"), additionOperation.executeExact(Long.MIN_VALUE, Long.MIN_VALUE));
+    }
 }
@@ -0,0 +1,154 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the decimal operations.
+ * Compares every result, including its scale, with BigDecimal arithmetic on the same operands.
+ */
+@DisplayName("Decimal Operation Tests")
+class DecimalOperationTest {
+    
+    private static final MathContext[] CONTEXTS = {
+        MathContext.DECIMAL32,
+        MathContext.DECIMAL64,
+        MathContext.DECIMAL128,
+        new MathContext(5, RoundingMode.HALF_EVEN),
+        new MathContext(18, RoundingMode.HALF_EVEN),
+        new MathContext(19, RoundingMode.HALF_EVEN),
+        new MathContext(50, RoundingMode.HALF_EVEN),
+        MathContext.UNLIMITED
+    };
+    
+    @Test
+    @DisplayName("Should return correct symbols")
+    void shouldReturnCorrectSymbols() {
+        assertEquals("+", new DecimalAdditionOperation().getSymbol());
+        assertEquals("-", new DecimalSubtractionOperation().getSymbol());
+        assertEquals("*", new DecimalMultiplicationOperation().getSymbol());
+        assertEquals("/", new DecimalDivisionOperation().getSymbol());
+    }
+    
+    @Test
+    @DisplayName("Should add decimals exactly without binary rounding")
+    void shouldAddDecimalsExactly() {
+        DecimalValue result = new DecimalValue();
+        new DecimalAdditionOperation().execute(DecimalValue.parse("0.1"), DecimalValue.parse("0.2"),
+            MathContext.DECIMAL128, result);
+        
+        assertTrue(result.isCompact());
+        assertEquals("0.3", result.toPlainString());
+    }
+    
+    @Test
+    @DisplayName("Should round quotients to the precision with half-even rounding")
+    void shouldRoundQuotients() {
+        DecimalValue result = new DecimalValue();
+        DecimalDivisionOperation division = new DecimalDivisionOperation();
+        MathContext mathContext = new MathContext(5, RoundingMode.HALF_EVEN);
+        
+        division.execute(DecimalValue.parse("1"), DecimalValue.parse("3"), mathContext, result);
+        assertEquals("0.33333", result.toPlainString());
+        
+        division.execute(DecimalValue.parse("2"), DecimalValue.parse("3"), mathContext, result);
+        assertEquals("0.66667", result.toPlainString());
+        
+        division.execute(DecimalValue.parse("6"), DecimalValue.parse("3"), mathContext, result);
+        assertEquals("2", result.toPlainString());
+    }
+    
+    @Test
+    @DisplayName("Should throw for division by zero and non-terminating unlimited quotients")
+    void shouldThrowForInvalidDivision() {
+        DecimalValue result = new DecimalValue();
+        DecimalDivisionOperation division = new DecimalDivisionOperation();
+        
+        ArithmeticException exception = assertThrows(ArithmeticException.class,
+            () -> division.execute(DecimalValue.parse("1"), DecimalValue.parse("0.0"), MathContext.DECIMAL64, result));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+        assertThrows(ArithmeticException.class,
+            () -> division.execute(DecimalValue.parse("1"), DecimalValue.parse("3"), MathContext.UNLIMITED, result));
+    }
+    
+    @Test
+    @DisplayName("Should fall back to BigDecimal when the unscaled value overflows a long")
+    void shouldFallBackOnOverflow() {
+        DecimalValue result = new DecimalValue();
+        new DecimalMultiplicationOperation().execute(DecimalValue.parse("9223372036854775807"),
+            DecimalValue.parse("10"), MathContext.UNLIMITED, result);
+        
+        assertFalse(result.isCompact());
+        assertEquals("92233720368547758070", result.toPlainString());
+    }
+    
+    @Test
+    @DisplayName("Should allow the result to be one of the operands")
+    void shouldAllowResultToAliasOperand() {
+        DecimalValue left = DecimalValue.parse("1.5");
+        DecimalValue right = DecimalValue.parse("2.25");
+        
+        new DecimalMultiplicationOperation().execute(left, right, MathContext.DECIMAL64, right);
+        
+        assertEquals("3.375", right.toPlainString());
+        assertEquals("1.5", left.toPlainString());
+    }
+    
+    @Test
+    @DisplayName("Should match BigDecimal arithmetic for random operands")
+    void shouldMatchBigDecimalForRandomOperands() {
+        Random random = new Random(20);
+        DecimalValue result = new DecimalValue();
+        for (int i = 0; i < 20_000; i++) {
+            String left = randomDecimal(random);
+            String right = randomDecimal(random);
+            MathContext mathContext = CONTEXTS[random.nextInt(CONTEXTS.length)];
+            
+            assertMatches(new DecimalAdditionOperation(), (a, b) -> a.add(b, mathContext), left, right, mathContext, result);
+            assertMatches(new DecimalSubtractionOperation(), (a, b) -> a.subtract(b, mathContext), left, right, mathContext, result);
+            assertMatches(new DecimalMultiplicationOperation(), (a, b) -> a.multiply(b, mathContext), left, right, mathContext, result);
+            if (new BigDecimal(right).signum() != 0) {
+                assertMatches(new DecimalDivisionOperation(), (a, b) -> a.divide(b, mathContext), left, right, mathContext, result);
+            }
+        }
+    }
+    
+    private static void assertMatches(DecimalOperation operation, BinaryOperator<BigDecimal> reference,
+            String left, String right, MathContext mathContext, DecimalValue result) {
+        BigDecimal expected;
+        try {
+            expected = reference.apply(new BigDecimal(left), new BigDecimal(right));
+        } catch (ArithmeticException e) {
+            assertThrows(ArithmeticException.class,
+                () -> operation.execute(DecimalValue.parse(left), DecimalValue.parse(right), mathContext, result));
+            return;
+        }
+        operation.execute(DecimalValue.parse(left), DecimalValue.parse(right), mathContext, result);
+        assertEquals(expected, result.toBigDecimal(),
+            () -> left + " " + operation.getSymbol() + " " + right + " with " + mathContext);
+        assertEquals(expected.toPlainString(), result.toPlainString());
+    }
+    
+    private static String randomDecimal(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return Integer.toString(random.nextInt(201) - 100);
+            case 1:
+                return BigDecimal.valueOf(random.nextInt(2_000_001) - 1_000_000, random.nextInt(7)).toPlainString();
+            case 2:
+                return BigDecimal.valueOf(random.nextLong(), random.nextInt(25)).toPlainString();
+            case 3:
+                return BigDecimal.valueOf(random.nextLong(1_000_000_000_000_000_000L), random.nextInt(40) - 10).toString();
+            case 4:
+                return new BigDecimal(new java.math.BigInteger(100, random), random.nextInt(30)).negate().toPlainString();
+            default:
+                return random.nextBoolean() ? "0" : "0.000";
+        }
+    }
+}
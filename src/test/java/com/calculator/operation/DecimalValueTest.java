@@ -0,0 +1,66 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigDecimal;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DecimalValue class.
+ * Tests parsing into the compact and BigDecimal representations and plain formatting.
+ */
+@DisplayName("Decimal Value Tests")
+class DecimalValueTest {
+    
+    @Test
+    @DisplayName("Should parse plain numbers into a scaled long")
+    void shouldParsePlainNumbersCompactly() {
+        DecimalValue value = DecimalValue.parse("-12.500");
+        
+        assertTrue(value.isCompact());
+        assertEquals(-12500, value.getUnscaled());
+        assertEquals(3, value.getScale());
+        assertEquals(new BigDecimal("-12.500"), value.toBigDecimal());
+    }
+    
+    @Test
+    @DisplayName("Should parse the same numbers as BigDecimal")
+    void shouldParseLikeBigDecimal() {
+        String[] inputs = {
+            "0", "+7", "-0.0", ".5", "5.", "000123.4500", "1e3", "-2.5E-4",
+            "123456789012345678", "1234567890123456789", "0.000000000000000000000001",
+            "99999999999999999999999999.99"
+        };
+        for (String input : inputs) {
+            DecimalValue value = DecimalValue.parse(input);
+            assertEquals(new BigDecimal(input), value.toBigDecimal(), input);
+            assertEquals(new BigDecimal(input).toPlainString(), value.toPlainString(), input);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid numbers")
+    void shouldRejectInvalidNumbers() {
+        String[] inputs = {"", "-", ".", "abc", "1.2.3", "1e", "12a", "--1", "1,5"};
+        for (String input : inputs) {
+            assertThrows(NumberFormatException.class, () -> DecimalValue.parse(input), input);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should format negative scales without an exponent")
+    void shouldFormatNegativeScales() {
+        assertEquals("1200", new DecimalValue().set(12, -2).toPlainString());
+        assertEquals("0", new DecimalValue().set(0, -2).toPlainString());
+        assertEquals("-0.0012", new DecimalValue().set(-12, 4).toPlainString());
+    }
+    
+    @Test
+    @DisplayName("Should hold Long.MIN_VALUE as a BigDecimal")
+    void shouldHoldMinimumLongAsBigDecimal() {
+        DecimalValue value = new DecimalValue().set(Long.MIN_VALUE, 0);
+        
+        assertFalse(value.isCompact());
+        assertEquals(Long.toString(Long.MIN_VALUE), value.toPlainString());
+    }
+}
@@ -101,4 +101,20 @@ class DivisionByZeroTest {
         // Should NOT throw for values larger than epsilon
         assertDoesNotThrow(() -> divisionOperation.execute(10.0, epsilon * 2));
     }
+    
+    @Test
+    @DisplayName("Should reject a zero divisor anywhere in an array without writing results")
+    void shouldRejectZeroDivisorInArray() {
+        double[] left = {1.0, 2.0, 3.0};
+        double[] right = {1.0, 2.0, 1e-11};
+        double[] results = new double[3];
+        
+        ArithmeticException exception = assertThrows(ArithmeticException.class,
+            () -> divisionOperation.execute(left, right, results, 0, 3));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+        assertArrayEquals(new double[3], results);
+        
+        // A zero divisor outside the range is ignored
+        assertDoesNotThrow(() -> divisionOperation.execute(left, right, results, 0, 2));
+    }
 }
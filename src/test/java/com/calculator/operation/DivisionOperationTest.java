@@ -3,6 +3,7 @@ package com.calculator.operation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.math.BigInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -96,4 +97,36 @@ class DivisionOperationTest {
         double result = divisionOperation.execute(2000000.0, 1000.0);
         assertEquals(2000.0, result, 0.001);
     }
+    
+    @Test
+    @DisplayName("Should divide arrays element-wise within the given range")
+    void shouldDivideArraysElementWise() {
+        double[] left = {99.0, 5.0, 10.0, 0.5, 0.0, 99.0};
+        double[] right = {99.0, 3.0, -3.0, -3.0, 7.0, 99.0};
+        double[] results = new double[6];
+        
+        divisionOperation.execute(left, right, results, 1, 5);
+        
+        assertArrayEquals(new double[] {0.0, 1.667, -3.333, -0.167, 0.0, 0.0}, results, 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should leave array results unchanged when any divisor is zero")
+    void shouldLeaveArrayResultsUnchangedOnDivisionByZero() {
+        double[] left = {1.0, 2.0, 3.0, 4.0};
+        double[] right = {1.0, 2.0, 3.0, 0.0};
+        double[] results = {-1.0, -1.0, -1.0, -1.0};
+        
+        assertThrows(ArithmeticException.class, () -> divisionOperation.execute(left, right, results, 0, 4));
+        assertArrayEquals(new double[] {-1.0, -1.0, -1.0, -1.0}, results);
+    }
+    
+    @Test
+    @DisplayName("Should divide integers exactly and fall back to double for inexact quotients")
+    void shouldDivideIntegersExactly() {
+        assertEquals(3_000_000_000_000_000_001L, divisionOperation.executeExact(9_000_000_000_000_000_003L, 3));
+        assertEquals(3.5, divisionOperation.executeExact(7, 2));
+        assertEquals(new BigInteger("9223372036854775808"), divisionOperation.executeExact(Long.MIN_VALUE, -1));
+        assertThrows(ArithmeticException.class, () -> divisionOperation.executeExact(1, 0));
+    }
 }
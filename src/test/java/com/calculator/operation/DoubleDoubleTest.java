@@ -0,0 +1,108 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DoubleDouble class.
+ * Checks decimal conversion and the arithmetic against their documented error bounds.
+ */
+@DisplayName("Double-Double Tests")
+class DoubleDoubleTest {
+    
+    private static final MathContext EXACT_ENOUGH = new MathContext(80);
+    
+    @Test
+    @DisplayName("Should hold decimals more precisely than a double")
+    void shouldHoldDecimalsPrecisely() {
+        DoubleDouble value = new DoubleDouble().setDecimal(1, 1);
+        
+        assertEquals(0.1, value.getHigh());
+        assertNotEquals(0.0, value.getLow());
+        assertTrue(relativeError(value, new BigDecimal("0.1")) <= 2 * DoubleDouble.UNIT_ROUNDOFF * DoubleDouble.UNIT_ROUNDOFF);
+    }
+    
+    @Test
+    @DisplayName("Should hold scaled-up integers exactly")
+    void shouldHoldScaledUpIntegersExactly() {
+        DoubleDouble value = new DoubleDouble().setDecimal((1L << 53) - 1, -22);
+        
+        assertEquals(0, exact(value).compareTo(BigDecimal.valueOf((1L << 53) - 1).scaleByPowerOfTen(22)));
+    }
+    
+    @Test
+    @DisplayName("Should only convert decimals with exact unscaled values and powers of ten")
+    void shouldReportConvertibleDecimals() {
+        assertTrue(DoubleDouble.isConvertible(1L << 53, 22));
+        assertFalse(DoubleDouble.isConvertible((1L << 53) + 1, 0));
+        assertFalse(DoubleDouble.isConvertible(1, 23));
+        assertFalse(DoubleDouble.isConvertible(1, -23));
+    }
+    
+    @Test
+    @DisplayName("Should cancel without losing the low-order digits")
+    void shouldCancelWithoutLoss() {
+        DoubleDouble a = new DoubleDouble().setDecimal(1_000_000_000_000_001L, 15);
+        DoubleDouble b = new DoubleDouble().set(1);
+        
+        DoubleDouble difference = new DoubleDouble().subtract(a, b);
+        
+        assertEquals(1e-15, difference.getHigh(), 1e-30);
+    }
+    
+    @Test
+    @DisplayName("Should stay within the error bounds for random operands")
+    void shouldStayWithinErrorBounds() {
+        Random random = new Random(22);
+        DoubleDouble a = new DoubleDouble();
+        DoubleDouble b = new DoubleDouble();
+        DoubleDouble result = new DoubleDouble();
+        for (int i = 0; i < 20_000; i++) {
+            a.setDecimal(random.nextLong(1L << 53) - (1L << 52), random.nextInt(45) - 22);
+            b.setDecimal(random.nextLong(1L << 53) - (1L << 52), random.nextInt(45) - 22);
+            BigDecimal x = exact(a);
+            BigDecimal y = exact(b);
+            
+            assertWithin(DoubleDouble.ADD_ERROR, x.add(y), result.add(a, b));
+            assertWithin(DoubleDouble.ADD_ERROR, x.subtract(y), result.subtract(a, b));
+            assertWithin(DoubleDouble.MULTIPLY_ERROR, x.multiply(y), result.multiply(a, b));
+            if (y.signum() != 0) {
+                assertWithin(DoubleDouble.DIVIDE_ERROR, x.divide(y, EXACT_ENOUGH), result.divide(a, b));
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should allow the result to be one of the operands")
+    void shouldAllowResultToAliasOperand() {
+        DoubleDouble a = new DoubleDouble().setDecimal(3, 0);
+        DoubleDouble b = new DoubleDouble().setDecimal(4, 0);
+        
+        a.multiply(a, b);
+        b.divide(a, b);
+        
+        assertEquals(12.0, a.getHigh());
+        assertEquals(3.0, b.getHigh());
+    }
+    
+    private static void assertWithin(double bound, BigDecimal expected, DoubleDouble actual) {
+        if (expected.signum() == 0) {
+            assertEquals(0.0, actual.getHigh() + actual.getLow());
+            return;
+        }
+        double error = relativeError(actual, expected);
+        assertTrue(error <= bound, () -> actual + " vs " + expected + ": " + error);
+    }
+    
+    private static double relativeError(DoubleDouble actual, BigDecimal expected) {
+        return exact(actual).subtract(expected).divide(expected, EXACT_ENOUGH).abs().doubleValue();
+    }
+    
+    private static BigDecimal exact(DoubleDouble value) {
+        return new BigDecimal(value.getHigh()).add(new BigDecimal(value.getLow()));
+    }
+}
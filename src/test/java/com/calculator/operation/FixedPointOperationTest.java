@@ -0,0 +1,164 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the fixed-point operations and the FixedPoint helpers.
+ * Compares results with BigDecimal arithmetic rounded half-even to the scale.
+ */
+@DisplayName("Fixed-Point Operation Tests")
+class FixedPointOperationTest {
+    
+    private static final BigDecimal MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+    
+    private final FixedPointOperation addition = new FixedPointAdditionOperation();
+    private final FixedPointOperation subtraction = new FixedPointSubtractionOperation();
+    private final FixedPointOperation multiplication = new FixedPointMultiplicationOperation();
+    private final FixedPointOperation division = new FixedPointDivisionOperation();
+    
+    @Test
+    @DisplayName("Should return correct symbols")
+    void shouldReturnCorrectSymbols() {
+        assertEquals("+", addition.getSymbol());
+        assertEquals("-", subtraction.getSymbol());
+        assertEquals("*", multiplication.getSymbol());
+        assertEquals("/", division.getSymbol());
+    }
+    
+    @Test
+    @DisplayName("Should calculate money amounts exactly")
+    void shouldCalculateMoneyExactly() {
+        assertEquals(30, addition.execute(10, 20, 2));
+        assertEquals(5997, multiplication.execute(1999, 300, 2));
+        assertEquals(33333, division.execute(100000, 30000, 4));
+    }
+    
+    @Test
+    @DisplayName("Should round products and quotients half-even to the scale")
+    void shouldRoundHalfEven() {
+        // 0.25 * 0.5 = 0.125 -> 0.12, 0.35 * 0.5 = 0.175 -> 0.18
+        assertEquals(12, multiplication.execute(25, 50, 2));
+        assertEquals(18, multiplication.execute(35, 50, 2));
+        assertEquals(-12, multiplication.execute(-25, 50, 2));
+        // 1 / 8 = 0.125 -> 0.12, 3 / 8 = 0.375 -> 0.38
+        assertEquals(12, division.execute(100, 800, 2));
+        assertEquals(38, division.execute(300, 800, 2));
+        assertEquals(-38, division.execute(300, -800, 2));
+    }
+    
+    @Test
+    @DisplayName("Should report overflow instead of wrapping")
+    void shouldReportOverflow() {
+        assertThrows(ArithmeticException.class, () -> addition.execute(Long.MAX_VALUE, 1, 0));
+        assertThrows(ArithmeticException.class, () -> subtraction.execute(Long.MIN_VALUE, 1, 0));
+        assertThrows(ArithmeticException.class, () -> multiplication.execute(Long.MAX_VALUE, 2, 0));
+        assertThrows(ArithmeticException.class, () -> multiplication.execute(Long.MAX_VALUE, 200, 2));
+        assertThrows(ArithmeticException.class, () -> division.execute(Long.MAX_VALUE, 1, 2));
+        
+        ArithmeticException exception = assertThrows(ArithmeticException.class, () -> division.execute(1, 0, 2));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should multiply when only the intermediate product exceeds a long")
+    void shouldMultiplyBeyondLongIntermediate() {
+        long hundredThousand = 100_000L * FixedPoint.one(8);
+        
+        assertEquals(10_000_000_000L * FixedPoint.one(8), multiplication.execute(hundredThousand, hundredThousand, 8));
+    }
+    
+    @Test
+    @DisplayName("Should match BigDecimal arithmetic for random operands")
+    void shouldMatchBigDecimalForRandomOperands() {
+        Random random = new Random(21);
+        for (int i = 0; i < 50_000; i++) {
+            int scale = random.nextInt(FixedPoint.MAX_SCALE + 1);
+            long left = randomUnscaled(random);
+            long right = randomUnscaled(random);
+            BigDecimal a = BigDecimal.valueOf(left, scale);
+            BigDecimal b = BigDecimal.valueOf(right, scale);
+            
+            assertMatches(a.add(b), addition, left, right, scale);
+            assertMatches(a.subtract(b), subtraction, left, right, scale);
+            assertMatches(a.multiply(b).setScale(scale, RoundingMode.HALF_EVEN), multiplication, left, right, scale);
+            if (right != 0) {
+                assertMatches(a.divide(b, scale, RoundingMode.HALF_EVEN), division, left, right, scale);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should parse plain decimals at the scale with half-even rounding")
+    void shouldParseAtScale() {
+        assertEquals(1999, FixedPoint.parse("19.99", 2));
+        assertEquals(-1900, FixedPoint.parse("-19", 2));
+        assertEquals(50, FixedPoint.parse("+.5", 2));
+        assertEquals(12, FixedPoint.parse("0.125", 2));
+        assertEquals(13, FixedPoint.parse("0.12501", 2));
+        assertEquals(14, FixedPoint.parse("0.135", 2));
+        assertEquals(Long.MAX_VALUE, FixedPoint.parse("9223372036854775807", 0));
+        
+        assertEquals(Long.MIN_VALUE, FixedPoint.parse("-9223372036854775808", 0));
+        assertEquals(Long.MIN_VALUE, FixedPoint.parse("-9.223372036854775808", 18));
+        assertEquals(Long.MIN_VALUE, FixedPoint.parse("-92233720368547758.075", 2));
+        
+        assertThrows(ArithmeticException.class, () -> FixedPoint.parse("9223372036854775808", 0));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.parse("-9223372036854775809", 0));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.parse("-92233720368547758.0851", 2));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.parse("9223372036854775807.5", 0));
+        assertThrows(ArithmeticException.class, () -> FixedPoint.parse("100", 17));
+        for (String invalid : new String[] {"", "-", ".", "1e3", "1.2.3", "abc"}) {
+            assertThrows(NumberFormatException.class, () -> FixedPoint.parse(invalid, 2), invalid);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should format with exactly the scale decimal places")
+    void shouldFormatAtScale() {
+        assertEquals("19.99", FixedPoint.toPlainString(1999, 2));
+        assertEquals("-0.05", FixedPoint.toPlainString(-5, 2));
+        assertEquals("0.00", FixedPoint.toPlainString(0, 2));
+        assertEquals("42", FixedPoint.toPlainString(42, 0));
+        assertEquals("-9.223372036854775808", FixedPoint.toPlainString(Long.MIN_VALUE, 18));
+    }
+    
+    @Test
+    @DisplayName("Should reject unsupported scales")
+    void shouldRejectUnsupportedScales() {
+        assertEquals(18, FixedPoint.checkScale(18));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.checkScale(-1));
+        assertThrows(IllegalArgumentException.class, () -> FixedPoint.checkScale(19));
+    }
+    
+    private static void assertMatches(BigDecimal expected, FixedPointOperation operation, long left, long right, int scale) {
+        BigDecimal unscaled = expected.movePointRight(scale);
+        if (unscaled.compareTo(MIN) < 0 || unscaled.compareTo(MAX) > 0) {
+            assertThrows(ArithmeticException.class, () -> operation.execute(left, right, scale),
+                () -> left + " " + operation.getSymbol() + " " + right + " at scale " + scale);
+        } else {
+            assertEquals(unscaled.longValueExact(), operation.execute(left, right, scale),
+                () -> left + " " + operation.getSymbol() + " " + right + " at scale " + scale);
+        }
+    }
+    
+    private static long randomUnscaled(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return random.nextInt(20_001) - 10_000;
+            case 1:
+                return random.nextLong() >> random.nextInt(64);
+            case 2:
+                return random.nextBoolean() ? Long.MAX_VALUE - random.nextInt(3) : Long.MIN_VALUE + random.nextInt(3);
+            case 3:
+                return FixedPoint.one(random.nextInt(FixedPoint.MAX_SCALE + 1)) * (random.nextInt(19) - 9);
+            default:
+                return random.nextLong();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FusedOperation}.
+ */
+@DisplayName("Fused Operation Tests")
+class FusedOperationTest {
+    
+    private final FusedOperation multiplyAdd =
+        new FusedOperation(new MultiplicationOperation(), new AdditionOperation());
+    
+    @Test
+    @DisplayName("Should round a multiply-add once")
+    void shouldRoundMultiplyAddOnce() {
+        // 0.1 * 10 rounds to exactly 1 on its own, losing the error of the product
+        assertEquals(1.0, 0.1 * 10);
+        assertEquals(0x1p-54, multiplyAdd.execute(0.1, 10, -1));
+        assertEquals(-0x1p-54, new FusedOperation(new MultiplicationOperation(), new SubtractionOperation())
+            .execute(-0.1, 10, -1));
+        assertEquals("*+", multiplyAdd.getSymbol());
+    }
+    
+    @Test
+    @DisplayName("Should apply other operation pairs in sequence")
+    void shouldApplyOtherPairs() {
+        FusedOperation divideSubtract = new FusedOperation(new DivisionOperation(), new SubtractionOperation());
+        
+        assertEquals(2.5, divideSubtract.execute(9, 2, 2));
+        assertEquals("/-", divideSubtract.getSymbol());
+    }
+    
+    @Test
+    @DisplayName("Should match the scalar form over arrays longer than a block, in place")
+    void shouldMatchScalarOverArrays() {
+        Random random = new Random(25);
+        int length = 2500;
+        double[] a = new double[length];
+        double[] b = new double[length];
+        double[] c = new double[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = random.nextDouble() * 100 - 50;
+            b[i] = random.nextDouble() * 100 + 1;
+            c[i] = random.nextDouble() * 100 - 50;
+        }
+        
+        Operation[] operations = {
+            new AdditionOperation(), new SubtractionOperation(), new MultiplicationOperation(), new DivisionOperation()
+        };
+        for (Operation first : operations) {
+            for (Operation second : operations) {
+                FusedOperation fused = new FusedOperation(first, second);
+                double[] results = new double[length];
+                fused.execute(a, b, c, results, 0, length);
+                double[] inPlace = c.clone();
+                fused.execute(a, b, inPlace, inPlace, 0, length);
+                
+                for (int i = 0; i < length; i++) {
+                    double expected = fused.execute(a[i], b[i], c[i]);
+                    assertEquals(expected, results[i], fused.getSymbol());
+                    assertEquals(expected, inPlace[i], fused.getSymbol());
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should write no result when a divisor in any block is zero")
+    void shouldWriteNoResultOnDivisionByZero() {
+        double[] a = new double[3000];
+        double[] b = new double[3000];
+        double[] c = new double[3000];
+        Arrays.fill(a, 1);
+        Arrays.fill(b, 2);
+        Arrays.fill(c, 4);
+        c[2999] = 0;
+        double[] results = new double[3000];
+        
+        FusedOperation addDivide = new FusedOperation(new AdditionOperation(), new DivisionOperation());
+        assertThrows(ArithmeticException.class, () -> addDivide.execute(a, b, c, results, 0, 3000));
+        assertArrayEquals(new double[3000], results);
+    }
+}
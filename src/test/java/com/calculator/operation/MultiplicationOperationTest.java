@@ -3,6 +3,7 @@ package com.calculator.operation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.math.BigInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -86,4 +87,24 @@ class MultiplicationOperationTest {
         double result = multiplicationOperation.execute(0.5, 0.5);
         assertEquals(0.25, result, 0.001);
     }
+    
+    @Test
+    @DisplayName("Should multiply arrays element-wise within the given range")
+    void shouldMultiplyArraysElementWise() {
+        double[] left = {99.0, 5.0, 10.0, 0.5, 0.0, 99.0};
+        double[] right = {99.0, 3.0, -3.0, -3.0, 7.0, 99.0};
+        double[] results = new double[6];
+        
+        multiplicationOperation.execute(left, right, results, 1, 5);
+        
+        assertArrayEquals(new double[] {0.0, 15.0, -30.0, -1.5, 0.0, 0.0}, results, 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should multiply integers exactly and promote overflowing products to BigInteger")
+    void shouldMultiplyIntegersExactly() {
+        assertEquals(3_000_000_000_000_000_003L, multiplicationOperation.executeExact(1_000_000_000_000_000_001L, 3));
+        assertEquals(new BigInteger("85070591730234615847396907784232501249"),
+            multiplicationOperation.executeExact(Long.MAX_VALUE, Long.MAX_VALUE));
+    }
 }
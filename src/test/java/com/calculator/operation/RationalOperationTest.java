@@ -0,0 +1,135 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigInteger;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the rational operations.
+ * Compares every result with fraction arithmetic on BigIntegers reduced by {@link BigInteger#gcd}.
+ */
+@DisplayName("Rational Operation Tests")
+class RationalOperationTest {
+    
+    @Test
+    @DisplayName("Should return correct symbols")
+    void shouldReturnCorrectSymbols() {
+        assertEquals("+", new RationalAdditionOperation().getSymbol());
+        assertEquals("-", new RationalSubtractionOperation().getSymbol());
+        assertEquals("*", new RationalMultiplicationOperation().getSymbol());
+        assertEquals("/", new RationalDivisionOperation().getSymbol());
+    }
+    
+    @Test
+    @DisplayName("Should divide exactly and keep chained divisions exact")
+    void shouldDivideExactly() {
+        RationalValue result = RationalValue.parse("1");
+        RationalDivisionOperation division = new RationalDivisionOperation();
+        RationalMultiplicationOperation multiplication = new RationalMultiplicationOperation();
+        
+        division.execute(result, RationalValue.parse("3"), result);
+        assertEquals("1/3", result.toString());
+        division.execute(result, RationalValue.parse("7"), result);
+        multiplication.execute(result, RationalValue.parse("21"), result);
+        assertEquals("1", result.toString());
+    }
+    
+    @Test
+    @DisplayName("Should reduce sums to lowest terms with a positive denominator")
+    void shouldReduceSums() {
+        RationalValue result = new RationalValue();
+        
+        new RationalAdditionOperation().execute(RationalValue.parse("1/6"), RationalValue.parse("1/3"), result);
+        assertEquals("1/2", result.toString());
+        
+        new RationalSubtractionOperation().execute(RationalValue.parse("1/4"), RationalValue.parse("3/4"), result);
+        assertEquals("-1/2", result.toString());
+        
+        new RationalSubtractionOperation().execute(RationalValue.parse("5/12"), RationalValue.parse("5/12"), result);
+        assertEquals("0", result.toString());
+        
+        new RationalDivisionOperation().execute(RationalValue.parse("2/3"), RationalValue.parse("-4/9"), result);
+        assertEquals("-3/2", result.toString());
+    }
+    
+    @Test
+    @DisplayName("Should throw for division by zero")
+    void shouldThrowForDivisionByZero() {
+        ArithmeticException exception = assertThrows(ArithmeticException.class,
+            () -> new RationalDivisionOperation().execute(RationalValue.parse("1/2"), RationalValue.parse("0/5"),
+                new RationalValue()));
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+    }
+    
+    @Test
+    @DisplayName("Should promote to BigInteger on overflow and demote when the result fits again")
+    void shouldPromoteAndDemote() {
+        RationalValue value = RationalValue.parse("1/3037000499");
+        RationalMultiplicationOperation multiplication = new RationalMultiplicationOperation();
+        
+        multiplication.execute(value, value, value);
+        multiplication.execute(value, value, value);
+        assertFalse(value.isCompact());
+        assertEquals("1/" + BigInteger.valueOf(3037000499L).pow(4), value.toString());
+        
+        new RationalDivisionOperation().execute(value, RationalValue.parse("1/3037000499"), value);
+        new RationalDivisionOperation().execute(value, RationalValue.parse("1/3037000499"), value);
+        assertTrue(value.isCompact());
+        assertEquals("1/9223372030926249001", value.toString());
+    }
+    
+    @Test
+    @DisplayName("Should match BigInteger fraction arithmetic for random operands")
+    void shouldMatchBigIntegerForRandomOperands() {
+        Random random = new Random(23);
+        RationalValue result = new RationalValue();
+        for (int i = 0; i < 20_000; i++) {
+            BigInteger a = randomInteger(random);
+            BigInteger b = randomInteger(random).abs().add(BigInteger.ONE);
+            BigInteger c = randomInteger(random);
+            BigInteger d = randomInteger(random).abs().add(BigInteger.ONE);
+            String left = a + "/" + b;
+            String right = c + "/" + d;
+            
+            assertMatches(new RationalAdditionOperation(), a.multiply(d).add(c.multiply(b)), b.multiply(d), left, right, result);
+            assertMatches(new RationalSubtractionOperation(), a.multiply(d).subtract(c.multiply(b)), b.multiply(d), left, right, result);
+            assertMatches(new RationalMultiplicationOperation(), a.multiply(c), b.multiply(d), left, right, result);
+            if (c.signum() != 0) {
+                assertMatches(new RationalDivisionOperation(), a.multiply(d), b.multiply(c), left, right, result);
+            }
+        }
+    }
+    
+    private static void assertMatches(RationalOperation operation, BigInteger numerator, BigInteger denominator,
+            String left, String right, RationalValue result) {
+        BigInteger divisor = numerator.gcd(denominator);
+        if (denominator.signum() < 0) {
+            divisor = divisor.negate();
+        }
+        String expected = numerator.divide(divisor) + "/" + denominator.divide(divisor);
+        
+        operation.execute(RationalValue.parse(left), RationalValue.parse(right), result);
+        String actual = result.toBigNumerator() + "/" + result.toBigDenominator();
+        assertEquals(expected, actual, () -> left + " " + operation.getSymbol() + " " + right);
+        assertEquals(result.toBigNumerator().bitLength() < 64 && result.toBigDenominator().bitLength() < 64
+            && result.toBigNumerator().longValue() != Long.MIN_VALUE, result.isCompact());
+    }
+    
+    private static BigInteger randomInteger(Random random) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return BigInteger.valueOf(random.nextInt(25) - 12);
+            case 1:
+                // Values sharing many small factors exercise the gcd reductions
+                return BigInteger.valueOf((random.nextBoolean() ? -1L : 1L) * (1L << random.nextInt(20)) * (1 + random.nextInt(720)));
+            case 2:
+                return BigInteger.valueOf(random.nextInt());
+            case 3:
+                return BigInteger.valueOf(random.nextLong() >> random.nextInt(64));
+            default:
+                return new BigInteger(70 + random.nextInt(60), random).subtract(BigInteger.ONE.shiftLeft(64));
+        }
+    }
+}
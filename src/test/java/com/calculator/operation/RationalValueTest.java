@@ -0,0 +1,84 @@
+package com.calculator.operation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import java.math.BigInteger;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RationalValue}.
+ */
+@DisplayName("Rational Value Tests")
+class RationalValueTest {
+    
+    @Test
+    @DisplayName("Should parse fractions, integers and decimals into lowest terms")
+    void shouldParseIntoLowestTerms() {
+        assertEquals("3/4", RationalValue.parse("6/8").toString());
+        assertEquals("-3/4", RationalValue.parse("6/-8").toString());
+        assertEquals("42", RationalValue.parse("42").toString());
+        assertEquals("3/4", RationalValue.parse("0.75").toString());
+        assertEquals("-1/8", RationalValue.parse("-0.125").toString());
+        assertEquals("1200", RationalValue.parse("1.2e3").toString());
+        assertEquals("0", RationalValue.parse("-0/7").toString());
+        assertTrue(RationalValue.parse("0.000").isZero());
+    }
+    
+    @Test
+    @DisplayName("Should hold values beyond the range of long as BigIntegers")
+    void shouldParseLargeValues() {
+        RationalValue value = RationalValue.parse("-9223372036854775808/2");
+        assertTrue(value.isCompact());
+        assertEquals("-4611686018427387904", value.toString());
+        
+        value = RationalValue.parse("1/-9223372036854775808");
+        assertFalse(value.isCompact());
+        assertEquals("-1/9223372036854775808", value.toString());
+        
+        value = RationalValue.parse("0.1234567890123456789");
+        assertFalse(value.isCompact());
+        assertEquals("1234567890123456789/10000000000000000000", value.toString());
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid numbers and zero denominators")
+    void shouldRejectInvalidNumbers() {
+        assertThrows(NumberFormatException.class, () -> RationalValue.parse("abc"));
+        assertThrows(NumberFormatException.class, () -> RationalValue.parse("1/"));
+        assertThrows(NumberFormatException.class, () -> RationalValue.parse("1.5/2"));
+        assertThrows(NumberFormatException.class, () -> RationalValue.parse("1/0"));
+        assertThrows(NumberFormatException.class, () -> RationalValue.parse("1/00000000000000000000000"));
+        assertThrows(NumberFormatException.class, () -> RationalValue.parse("1e100000"));
+        assertThrows(ArithmeticException.class, () -> new RationalValue().set(1, 0));
+    }
+    
+    @Test
+    @DisplayName("Should compute the binary gcd like BigInteger")
+    void shouldComputeGcd() {
+        assertEquals(6, RationalValue.gcd(0, 6));
+        assertEquals(6, RationalValue.gcd(6, 0));
+        assertEquals(12, RationalValue.gcd(48, 180));
+        assertEquals(Long.MAX_VALUE, RationalValue.gcd(Long.MAX_VALUE, Long.MAX_VALUE));
+        
+        Random random = new Random(23);
+        for (int i = 0; i < 10_000; i++) {
+            long a = (random.nextLong() >>> 1) >> random.nextInt(63) << random.nextInt(8);
+            long b = (random.nextLong() >>> 1) >> random.nextInt(63);
+            a = Math.max(a, 0);
+            assertEquals(BigInteger.valueOf(a).gcd(BigInteger.valueOf(b)).longValue(), RationalValue.gcd(a, b),
+                "gcd(" + a + ", " + b + ")");
+        }
+    }
+    
+    @Test
+    @DisplayName("Should report overflow of checked products and sums")
+    void shouldCheckOverflow() {
+        assertEquals(6, RationalValue.multiply(2, 3));
+        assertEquals(RationalValue.OVERFLOW, RationalValue.multiply(Long.MAX_VALUE, 2));
+        assertEquals(RationalValue.OVERFLOW, RationalValue.multiply(RationalValue.OVERFLOW, 1));
+        assertEquals(RationalValue.OVERFLOW, RationalValue.add(Long.MAX_VALUE, 1));
+        assertEquals(RationalValue.OVERFLOW, RationalValue.add(1, RationalValue.OVERFLOW));
+        assertEquals(0, RationalValue.add(Long.MAX_VALUE, -Long.MAX_VALUE));
+    }
+}
@@ -3,6 +3,7 @@ package com.calculator.operation;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.math.BigInteger;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -80,4 +81,23 @@ class SubtractionOperationTest {
         double result = subtractionOperation.execute(5.0, 5.0);
         assertEquals(0.0, result, 0.001);
     }
+    
+    @Test
+    @DisplayName("Should subtract arrays element-wise within the given range")
+    void shouldSubtractArraysElementWise() {
+        double[] left = {99.0, 5.0, 10.0, 0.5, 0.0, 99.0};
+        double[] right = {99.0, 3.0, -3.0, -3.0, 7.0, 99.0};
+        double[] results = new double[6];
+        
+        subtractionOperation.execute(left, right, results, 1, 5);
+        
+        assertArrayEquals(new double[] {0.0, 2.0, 13.0, 3.5, -7.0, 0.0}, results, 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should subtract integers exactly and promote overflowing differences to BigInteger")
+    void shouldSubtractIntegersExactly() {
+        assertEquals(-9007199254740993L, subtractionOperation.executeExact(-9007199254740992L, 1));
+        assertEquals(new BigInteger("-9223372036854775809"), subtractionOperation.executeExact(Long.MIN_VALUE, 1));
+    }
 }
@@ -0,0 +1,233 @@
+package com.calculator.server;
+
+import com.calculator.CalculatorApp;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CalculatorDaemon and DaemonClient.
+ * Tests round-trips, error reporting, connection reuse and socket file handling.
+ */
+@DisplayName("Calculator Daemon Tests")
+class CalculatorDaemonTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private Path socketPath;
+    private CalculatorDaemon daemon;
+    private Thread serverThread;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        socketPath = tempDir.resolve("calc.sock");
+        daemon = CalculatorDaemon.bind(socketPath, new CalculatorApp());
+        serverThread = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        serverThread.start();
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        daemon.close();
+        serverThread.join(5_000);
+    }
+    
+    @Test
+    @DisplayName("Should return output and exit code of a calculation")
+    void shouldReturnOutputOfCalculation() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            DaemonClient.Response response = client.call("5", "+", "3");
+            
+            assertEquals(0, response.getExitCode());
+            assertEquals("8" + System.lineSeparator(), response.getOutput());
+            assertEquals("", response.getError());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should return error output and exit code of a failed calculation")
+    void shouldReturnErrorOfFailedCalculation() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            DaemonClient.Response response = client.call("10", "/", "0");
+            
+            assertEquals(1, response.getExitCode());
+            assertEquals("", response.getOutput());
+            assertTrue(response.getError().startsWith("Error: "));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should serve several requests on one connection")
+    void shouldServeSeveralRequestsOnOneConnection() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(String.valueOf(i * 2), client.call(String.valueOf(i), "*", "2").getOutput().trim());
+            }
+            assertTrue(client.call("--help").getOutput().contains("Usage:"));
+            assertEquals("14", client.call("--expr", "2 + 3 * 4").getOutput().trim());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should refuse to start another server from inside the daemon")
+    void shouldRefuseServerModes() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            for (String mode : new String[] {"--daemon", "--serve"}) {
+                DaemonClient.Response response = client.call(mode);
+                
+                assertEquals(1, response.getExitCode());
+                assertEquals("", response.getOutput());
+                assertTrue(response.getError().startsWith("Error: " + mode + " cannot be run"));
+            }
+            assertEquals("8", client.call("5", "+", "3").getOutput().trim());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should fail a batch over standard input, which is not forwarded")
+    void shouldFailBatchOverStandardInput() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            for (String[] args : new String[][] {{"--batch"}, {"--batch", "-"}, {"--precision", "10", "--batch"}}) {
+                DaemonClient.Response response = client.call(args);
+                
+                assertEquals(1, response.getExitCode());
+                assertEquals("", response.getOutput());
+                assertTrue(response.getError().contains("Standard input is not forwarded to the calculator daemon"),
+                    response.getError());
+            }
+            assertEquals("8", client.call("5", "+", "3").getOutput().trim());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should stream batch output larger than one frame")
+    void shouldStreamLargeBatchOutput() throws IOException {
+        Path input = tempDir.resolve("input.txt");
+        StringBuilder lines = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            lines.append(i).append(" + 1\n");
+            expected.append(i + 1).append('\n');
+        }
+        lines.append("1 / 0\n");
+        expected.append("Error: Division by zero is not allowed\n");
+        Files.writeString(input, lines);
+        
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            ByteArrayOutputStream error = new ByteArrayOutputStream();
+            int exitCode = client.call(new String[] {"--batch", input.toString()}, output, error);
+            
+            assertEquals(1, exitCode);
+            assertEquals(expected.toString(), output.toString(StandardCharsets.UTF_8));
+            assertEquals("14", client.call("--expr", "2 + 3 * 4").getOutput().trim());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should close the connection of a request larger than the limit before reading it")
+    void shouldRejectOversizedRequest() throws IOException {
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+            out.writeInt(1);
+            out.writeByte('/');
+            out.writeInt(2);
+            out.writeInt(DaemonProtocol.MAX_REQUEST_BYTES - 1);
+            out.write(new byte[DaemonProtocol.MAX_REQUEST_BYTES - 1]);
+            out.writeInt(1);
+            out.flush();
+            
+            assertEquals(-1, Channels.newInputStream(channel).read());
+        }
+        try (DaemonClient client = DaemonClient.connect(socketPath)) {
+            assertEquals("8", client.call("5", "+", "3").getOutput().trim());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should resolve relative file paths against the client's working directory")
+    void shouldResolveRelativePathsAgainstClientDirectory() throws IOException {
+        Files.writeString(tempDir.resolve("input.txt"), "5 + 3\n");
+        
+        try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+            DataOutputStream out = new DataOutputStream(Channels.newOutputStream(channel));
+            DataInputStream in = new DataInputStream(Channels.newInputStream(channel));
+            for (String mode : new String[] {"--batch", "--parallel"}) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                DaemonProtocol.writeRequest(out, tempDir, new String[] {mode, "input.txt"});
+                
+                assertEquals(0, DaemonProtocol.readResponse(in, output, OutputStream.nullOutputStream()));
+                assertEquals("8", output.toString(StandardCharsets.UTF_8).trim());
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should serve concurrent clients")
+    void shouldServeConcurrentClients() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                String operand = String.valueOf(i);
+                results.add(executor.submit(() -> {
+                    try (DaemonClient client = DaemonClient.connect(socketPath)) {
+                        return client.call(operand, "+", "1").getOutput().trim();
+                    }
+                }));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(String.valueOf(i + 1), results.get(i).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Should refuse to bind while another daemon is listening")
+    void shouldRefuseToBindWhileListening() {
+        IOException e = assertThrows(IOException.class, () -> CalculatorDaemon.bind(socketPath, new CalculatorApp()));
+        assertTrue(e.getMessage().contains("Another daemon"));
+    }
+    
+    @Test
+    @DisplayName("Should replace a stale socket file and remove it on close")
+    void shouldReplaceStaleSocketFile() throws IOException {
+        Path stalePath = tempDir.resolve("stale.sock");
+        Files.createFile(stalePath);
+        
+        CalculatorDaemon other = CalculatorDaemon.bind(stalePath, new CalculatorApp());
+        assertTrue(Files.exists(stalePath));
+        other.close();
+        
+        assertFalse(Files.exists(stalePath));
+    }
+}
@@ -0,0 +1,232 @@
+package com.calculator.server;
+
+import com.calculator.util.ErrorCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CalculatorHttpServer.
+ * Tests single and bulk calculations and the mapping of errors to status codes.
+ */
+@DisplayName("Calculator HTTP Server Tests")
+class CalculatorHttpServerTest {
+    
+    private CalculatorHttpServer server;
+    private HttpClient client;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        server = CalculatorHttpServer.start(0);
+        client = HttpClient.newHttpClient();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+    
+    private HttpResponse<String> get(String pathAndQuery) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(pathAndQuery)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private URI uri(String pathAndQuery) {
+        return URI.create("http://localhost:" + server.getPort() + pathAndQuery);
+    }
+    
+    @Test
+    @DisplayName("Should calculate from query parameters")
+    void shouldCalculateFromQueryParameters() throws Exception {
+        HttpResponse<String> response = get("/calculate?left=10.5&operator=*&right=2");
+        
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"result\":21}", response.body());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+    }
+    
+    @Test
+    @DisplayName("Should calculate from a posted expression line")
+    void shouldCalculateFromPostedLine() throws Exception {
+        HttpResponse<String> response = post("/calculate", "7 / 2");
+        
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"result\":3.5}", response.body());
+    }
+    
+    @Test
+    @DisplayName("Should map errors to status codes and categories")
+    void shouldMapErrorsToStatusCodes() throws Exception {
+        HttpResponse<String> divisionByZero = get("/calculate?left=1&operator=/&right=0");
+        assertEquals(422, divisionByZero.statusCode());
+        assertTrue(divisionByZero.body().contains("\"message\":"));
+        
+        HttpResponse<String> badOperator = post("/calculate", "1 ^ 2");
+        assertEquals(422, badOperator.statusCode());
+        assertTrue(badOperator.body().contains("\"category\":\"INVALID_INPUT\""));
+        
+        HttpResponse<String> badNumber = post("/calculate", "abc + 2");
+        assertEquals(400, badNumber.statusCode());
+        assertTrue(badNumber.body().contains("\"category\":\"INVALID_ARGUMENT\""));
+        
+        HttpResponse<String> missing = get("/calculate?left=1&operator=%2B");
+        assertEquals(400, missing.statusCode());
+        assertTrue(missing.body().contains("Missing query parameter: right"));
+    }
+    
+    @Test
+    @DisplayName("Should reject unsupported methods and paths")
+    void shouldRejectUnsupportedMethodsAndPaths() throws Exception {
+        HttpRequest delete = HttpRequest.newBuilder(uri("/calculate")).DELETE().build();
+        HttpResponse<String> response = client.send(delete, HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, response.statusCode());
+        assertEquals("GET, POST", response.headers().firstValue("Allow").orElse(""));
+        
+        assertEquals(405, get("/calculate/bulk").statusCode());
+        assertEquals(404, get("/calculate/other").statusCode());
+    }
+    
+    @Test
+    @DisplayName("Should calculate bulk lines with per-line results")
+    void shouldCalculateBulkLines() throws Exception {
+        HttpResponse<String> response = post("/calculate/bulk", "1 + 2\n\n3 * 4\n5 / 0\n");
+        
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"results\":[{\"result\":3},{\"result\":12},{\"error\":{\"category\":\"INVALID_INPUT\""),
+            response.body());
+        assertTrue(response.body().endsWith("],\"failures\":1}"));
+    }
+    
+    @Test
+    @DisplayName("Should stream bulk results for many lines")
+    void shouldStreamBulkResults() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < CalculatorHttpServer.MAX_BULK_LINES; i++) {
+            body.append(i).append(" + 1\n");
+        }
+        
+        HttpResponse<String> response = post("/calculate/bulk", body.toString());
+        
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"results\":[{\"result\":1},{\"result\":2},"));
+        assertTrue(response.body().endsWith(",{\"result\":" + CalculatorHttpServer.MAX_BULK_LINES + "}],\"failures\":0}"));
+    }
+    
+    @Test
+    @DisplayName("Should reject requests declaring an oversized body with status 413")
+    void shouldRejectOversizedRequests() throws Exception {
+        String oversized = "1".repeat((16 << 20) + 1);
+        HttpResponse<String> tooLarge = post("/calculate/bulk", oversized);
+        assertEquals(413, tooLarge.statusCode());
+        assertTrue(tooLarge.body().contains("Request body exceeds 16777216 bytes"));
+        
+        HttpResponse<String> longCalculation = post("/calculate", "1".repeat(CalculatorHttpServer.MAX_LINE_LENGTH) + " + 1");
+        assertEquals(413, longCalculation.statusCode());
+        assertTrue(longCalculation.body().contains("Request body exceeds " + CalculatorHttpServer.MAX_LINE_LENGTH + " bytes"));
+    }
+    
+    @Test
+    @DisplayName("Should end a bulk response with an error once the line limit is exceeded")
+    void shouldEndBulkResponseAtLineLimit() throws Exception {
+        HttpResponse<String> response = post("/calculate/bulk", "1 + 1\n".repeat(CalculatorHttpServer.MAX_BULK_LINES + 1));
+        
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().endsWith(",{\"result\":2}],\"failures\":0,\"error\":{\"category\":\"INVALID_ARGUMENT\","
+            + "\"message\":\"Bulk request exceeds 100000 lines\"}}"));
+        assertEquals(CalculatorHttpServer.MAX_BULK_LINES, response.body().split("\\{\"result\":2}", -1).length - 1);
+    }
+    
+    @Test
+    @DisplayName("Should read a bulk body of unknown length as it arrives and stop at the size limit")
+    void shouldReadChunkedBulkBody() throws Exception {
+        byte[] lines = "2 * 3\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+        HttpRequest request = HttpRequest.newBuilder(uri("/calculate/bulk"))
+            .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new ByteArrayInputStream(lines)))
+            .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"results\":[{\"result\":6}],\"failures\":0}", response.body());
+        
+        // A single endless line is never held beyond the line length, and ends at the body limit
+        HttpRequest endless = HttpRequest.newBuilder(uri("/calculate/bulk"))
+            .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new InputStream() {
+                private long remaining = (16 << 20) + 1;
+                
+                @Override
+                public int read() {
+                    return remaining-- > 0 ? '1' : -1;
+                }
+            }))
+            .build();
+        response = client.send(endless, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"results\":[],\"failures\":0,\"error\":{\"category\":\"INVALID_ARGUMENT\","
+            + "\"message\":\"Request body exceeds 16777216 bytes\"}}", response.body());
+    }
+    
+    @Test
+    @DisplayName("Should report a bulk line longer than the limit as an invalid argument")
+    void shouldRejectLongBulkLine() throws Exception {
+        String body = "1 + 1\n" + "1".repeat(CalculatorHttpServer.MAX_LINE_LENGTH + 1) + " + 1\n2 + 2";
+        HttpResponse<String> response = post("/calculate/bulk", body);
+        
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"results\":[{\"result\":2},{\"error\":{\"category\":\"INVALID_ARGUMENT\",\"message\":"
+            + "\"Line exceeds " + CalculatorHttpServer.MAX_LINE_LENGTH + " characters\"}},{\"result\":4}],\"failures\":1}",
+            response.body());
+    }
+    
+    @Test
+    @DisplayName("Should listen on the loopback address unless another is given")
+    void shouldListenOnLoopbackByDefault() throws Exception {
+        assertEquals("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort(), server.getUrl());
+        
+        try (CalculatorHttpServer wildcard = CalculatorHttpServer.start(new InetSocketAddress(0).getAddress(), 0)) {
+            assertTrue(wildcard.getUrl().endsWith(":" + wildcard.getPort()));
+            assertFalse(wildcard.getUrl().contains(InetAddress.getLoopbackAddress().getHostAddress()));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should serve concurrent requests")
+    void shouldServeConcurrentRequests() {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            HttpRequest request = HttpRequest.newBuilder(uri("/calculate?left=" + i + "&operator=%2B&right=1")).build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            assertEquals("{\"result\":" + (i + 1) + "}", responses.get(i).join().body());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should map each error category to an HTTP status")
+    void shouldMapEachCategoryToStatus() {
+        assertEquals(400, CalculatorHttpServer.statusOf(ErrorCategory.INVALID_ARGUMENT));
+        assertEquals(422, CalculatorHttpServer.statusOf(ErrorCategory.INVALID_INPUT));
+        assertEquals(422, CalculatorHttpServer.statusOf(ErrorCategory.ARITHMETIC));
+        assertEquals(500, CalculatorHttpServer.statusOf(ErrorCategory.INTERNAL));
+    }
+}
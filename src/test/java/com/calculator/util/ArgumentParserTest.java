@@ -4,6 +4,8 @@ import com.calculator.exception.InvalidArgumentException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -169,4 +171,224 @@ class ArgumentParserTest {
         assertEquals("/", result.getOperator());
         assertEquals(2000000.0, result.getRightOperand(), 0.001);
     }
+    
+    @Test
+    @DisplayName("Should parse batch flag with and without a file")
+    void shouldParseBatchFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--batch"});
+        assertTrue(result.isBatchRequest());
+        assertNull(result.getBatchFile());
+        
+        result = argumentParser.parse(new String[] {"--batch", "input.txt"});
+        assertTrue(result.isBatchRequest());
+        assertEquals("input.txt", result.getBatchFile());
+        
+        assertThrows(InvalidArgumentException.class,
+            () -> argumentParser.parse(new String[] {"--batch", "a.txt", "b.txt"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse daemon flag with and without a socket path")
+    void shouldParseDaemonFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--daemon"});
+        assertTrue(result.isDaemonRequest());
+        assertNull(result.getSocketPath());
+        
+        result = argumentParser.parse(new String[] {"--daemon", "/tmp/calc.sock"});
+        assertTrue(result.isDaemonRequest());
+        assertEquals("/tmp/calc.sock", result.getSocketPath());
+        
+        assertFalse(argumentParser.isCalculation(new String[] {"--daemon", "a", "b"}));
+        assertThrows(InvalidArgumentException.class,
+            () -> argumentParser.parse(new String[] {"--daemon", "a", "b"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse serve flag with and without a port and an address")
+    void shouldParseServeFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--serve"});
+        assertTrue(result.isServeRequest());
+        assertNull(result.getServePort());
+        assertNull(result.getServeAddress());
+        
+        result = argumentParser.parse(new String[] {"--serve", "9090"});
+        assertEquals("9090", result.getServePort());
+        assertNull(result.getServeAddress());
+        
+        result = argumentParser.parse(new String[] {"--serve", "9090", "0.0.0.0"});
+        assertEquals("9090", result.getServePort());
+        assertEquals("0.0.0.0", result.getServeAddress());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--serve", "9090", " "}));
+        assertThrows(InvalidArgumentException.class,
+            () -> argumentParser.parse(new String[] {"--serve", "9090", "0.0.0.0", "x"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--serve", "http"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--serve", "70000"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse precision flag with a calculation or a batch")
+    void shouldParsePrecisionFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--precision", "20", "0.1", "+", "0.2"});
+        assertTrue(result.isDecimalRequest());
+        assertEquals(new MathContext(20, RoundingMode.HALF_EVEN), result.getMathContext());
+        assertEquals("0.1", result.getLeftText());
+        assertEquals("+", result.getOperator());
+        assertEquals("0.2", result.getRightText());
+        
+        result = argumentParser.parse(new String[] {"--precision", "0", "--batch", "input.txt"});
+        assertTrue(result.isBatchRequest());
+        assertEquals(MathContext.UNLIMITED.getPrecision(), result.getMathContext().getPrecision());
+        assertEquals("input.txt", result.getBatchFile());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--precision", "x", "1", "+", "2"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--precision", "10", "1", "+"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--precision"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse scale flag with a calculation or a batch")
+    void shouldParseScaleFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--scale", "4", "1.5", "/", "3"});
+        assertTrue(result.isFixedPointRequest());
+        assertEquals(4, result.getScale());
+        assertEquals("1.5", result.getLeftText());
+        assertEquals("/", result.getOperator());
+        assertEquals("3", result.getRightText());
+        
+        result = argumentParser.parse(new String[] {"--scale", "2", "-b"});
+        assertTrue(result.isBatchRequest());
+        assertEquals(2, result.getScale());
+        assertNull(result.getMathContext());
+        assertNull(result.getBatchFile());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--scale", "19", "1", "+", "2"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--scale", "-1", "1", "+", "2"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--scale", "2", "1", "+"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse tolerance flag with a calculation or a batch")
+    void shouldParseToleranceFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--tolerance", "1e-12", "0.1", "-", "0.3"});
+        assertTrue(result.isAdaptiveRequest());
+        assertEquals(1e-12, result.getTolerance());
+        assertEquals("0.1", result.getLeftText());
+        assertEquals("0.3", result.getRightText());
+        
+        result = argumentParser.parse(new String[] {"--tolerance", "0.001", "--batch", "data.txt"});
+        assertTrue(result.isBatchRequest());
+        assertEquals(0.001, result.getTolerance());
+        assertNull(result.getScale());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--tolerance", "1e-17", "1", "+", "2"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--tolerance", "tiny", "1", "+", "2"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--tolerance"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse rational flag with a calculation or a batch")
+    void shouldParseRationalFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--rational", "1/3", "/", "2"});
+        assertTrue(result.isRationalRequest());
+        assertEquals("1/3", result.getLeftText());
+        assertEquals("/", result.getOperator());
+        assertEquals("2", result.getRightText());
+        
+        result = argumentParser.parse(new String[] {"--rational", "--batch", "data.txt"});
+        assertTrue(result.isBatchRequest());
+        assertTrue(result.isRational());
+        assertEquals("data.txt", result.getBatchFile());
+        assertFalse(argumentParser.parse(new String[] {"--batch"}).isRational());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--rational", "1", "+"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--rational", "--batch", "a", "b"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse fma flag with three numbers")
+    void shouldParseMultiplyAddFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--fma", "1.5", "-2", "3e2"});
+        assertTrue(result.isMultiplyAddRequest());
+        assertEquals(1.5, result.getLeftOperand());
+        assertEquals(-2.0, result.getRightOperand());
+        assertEquals(300.0, result.getAddend());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--fma", "1", "2"}));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--fma", "1", "2", "x"}));
+        assertFalse(argumentParser.isCalculation(new String[] {"--fma", "1", "2"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse a whitespace-separated expression line")
+    void shouldParseExpressionLine() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parseLine("  12.5\t*  -2 ");
+        
+        assertEquals(12.5, result.getLeftOperand(), 0.001);
+        assertEquals("*", result.getOperator());
+        assertEquals(-2.0, result.getRightOperand(), 0.001);
+        assertFalse(result.isBatchRequest());
+    }
+    
+    @Test
+    @DisplayName("Should reject expression lines with the wrong number of tokens")
+    void shouldRejectExpressionLinesWithWrongTokenCount() {
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parseLine("5 +"));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parseLine("5 + 3 4"));
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parseLine(""));
+    }
+    
+    @Test
+    @DisplayName("Should parse expression flag with one or several arguments")
+    void shouldParseExpressionFlag() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"--expr", "2 + 3 * 4"});
+        assertTrue(result.isExpressionRequest());
+        assertEquals("2 + 3 * 4", result.getExpression());
+        
+        result = argumentParser.parse(new String[] {"-e", "(2", "+", "3)", "*", "4"});
+        assertEquals("(2 + 3) * 4", result.getExpression());
+        assertFalse(result.isBatchRequest());
+        
+        assertThrows(InvalidArgumentException.class, () -> argumentParser.parse(new String[] {"--expr"}));
+    }
+    
+    @Test
+    @DisplayName("Should parse expression lines without throwing")
+    void shouldTryParseExpressionLine() {
+        CalculationResult result = new CalculationResult();
+        
+        ArgumentParser.ParsedArguments parsed = argumentParser.tryParseLine(" 12.5\t* -2 ", result);
+        assertNotNull(parsed);
+        assertEquals(12.5, parsed.getLeftOperand(), 0.001);
+        assertEquals("*", parsed.getOperator());
+        assertEquals(-2.0, parsed.getRightOperand(), 0.001);
+    }
+    
+    @Test
+    @DisplayName("Should report the same errors as parseLine without throwing")
+    void shouldTryParseWithSameErrorsAsParseLine() {
+        CalculationResult result = new CalculationResult();
+        
+        for (String line : new String[] {"5 +", "5 + 3 4", "", "abc + 2", "2 + x", "1e + 2"}) {
+            InvalidArgumentException expected = assertThrows(InvalidArgumentException.class,
+                () -> argumentParser.parseLine(line));
+            
+            assertNull(argumentParser.tryParseLine(line, result));
+            assertEquals(ErrorCategory.INVALID_ARGUMENT, result.getErrorCategory());
+            assertEquals(expected.getMessage(), result.getErrorMessage());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should keep integer operands as longs for exact calculation")
+    void shouldParseIntegerOperandsExactly() throws InvalidArgumentException {
+        ArgumentParser.ParsedArguments result = argumentParser.parse(new String[] {"9007199254740993", "+", "-7"});
+        
+        assertTrue(result.isIntegral());
+        assertEquals(9007199254740993L, result.getLeftInteger());
+        assertEquals(-7L, result.getRightInteger());
+        assertEquals(9.007199254740992E15, result.getLeftOperand());
+        assertFalse(argumentParser.parse(new String[] {"5", "+", "2.0"}).isIntegral());
+        assertTrue(argumentParser.tryParseCalculation("+5", "*", "2", new CalculationResult()).isIntegral());
+    }
 }
@@ -136,4 +136,35 @@ class ErrorHandlerTest {
         
         assertTrue(result.contains(originalMessage));
     }
+    
+    @Test
+    @DisplayName("Should categorize exceptions")
+    void shouldCategorizeExceptions() {
+        assertEquals(ErrorCategory.INVALID_ARGUMENT, errorHandler.categorize(new InvalidArgumentException("x")));
+        assertEquals(ErrorCategory.INVALID_ARGUMENT, errorHandler.categorize(new NumberFormatException("x")));
+        assertEquals(ErrorCategory.INVALID_INPUT, errorHandler.categorize(new InvalidInputException("x")));
+        assertEquals(ErrorCategory.ARITHMETIC, errorHandler.categorize(new ArithmeticException("x")));
+        assertEquals(ErrorCategory.INTERNAL, errorHandler.categorize(new IllegalStateException("x")));
+    }
+    
+    @Test
+    @DisplayName("Should describe errors in one line without prefix")
+    void shouldDescribeErrorsInOneLine() {
+        assertEquals("Division by zero is not allowed",
+            errorHandler.describeError(new ArithmeticException("Division by zero is not allowed")));
+        assertEquals("Invalid number format. Please provide valid numbers.",
+            errorHandler.describeError(new NumberFormatException("x")));
+        assertEquals("An unexpected error occurred: boom",
+            errorHandler.describeError(new IllegalStateException("boom")));
+    }
+    
+    @Test
+    @DisplayName("Should format failed results like the equivalent exception")
+    void shouldFormatFailedResultsLikeExceptions() {
+        CalculationResult result = new CalculationResult();
+        result.failure(ErrorCategory.INVALID_INPUT, "Division by zero is not allowed");
+        
+        assertEquals(errorHandler.handleBatchError(new InvalidInputException("Division by zero is not allowed")),
+            errorHandler.handleBatchError(result));
+    }
 }
@@ -0,0 +1,66 @@
+package com.calculator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FastDoubleFormatter class.
+ * Tests that the formatted bytes are identical to Double.toString.
+ */
+@DisplayName("Fast Double Formatter Tests")
+class FastDoubleFormatterTest {
+    
+    private FastDoubleFormatter formatter;
+    
+    @BeforeEach
+    void setUp() {
+        formatter = new FastDoubleFormatter();
+    }
+    
+    private String format(double value) {
+        // Write after a prefix to check that the offset is respected
+        byte[] buffer = new byte[2 + FastDoubleFormatter.MAX_LENGTH];
+        buffer[0] = 'x';
+        buffer[1] = 'y';
+        int end = formatter.format(value, buffer, 2);
+        assertEquals('x', buffer[0]);
+        return new String(buffer, 2, end - 2, StandardCharsets.US_ASCII);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 1.0, -1.0, 100.0, 0.1, 0.3, 123.456, 1e7, 9999999.999, 1e-3, 9.99e-4,
+        1e10, 1e23, 2e-323, 4.9e-324, 1.7976931348623157e308, 2.2250738585072014e-308, -2.2250738585072014E-308,
+        4503599627370496.5, 9007199254740993.0, 0.0012345678901234567, 5e-324, 1.0E-5, 3.0E-44})
+    @DisplayName("Should match Double.toString on boundary values")
+    void shouldMatchDoubleToString(double value) {
+        assertEquals(Double.toString(value), format(value));
+    }
+    
+    @Test
+    @DisplayName("Should format NaN and infinities like Double.toString")
+    void shouldFormatSpecialValues() {
+        assertEquals("NaN", format(Double.NaN));
+        assertEquals("Infinity", format(Double.POSITIVE_INFINITY));
+        assertEquals("-Infinity", format(Double.NEGATIVE_INFINITY));
+    }
+    
+    @Test
+    @DisplayName("Should match Double.toString on random bit patterns and decimals")
+    void shouldMatchDoubleToStringOnRandomValues() {
+        Random random = new Random(42);
+        
+        for (int i = 0; i < 200_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            assertEquals(Double.toString(value), format(value));
+            
+            double decimal = random.nextInt(1_000_000) / 1000.0;
+            assertEquals(Double.toString(decimal), format(decimal));
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.calculator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FastDoubleParser class.
+ * Tests that parsing byte ranges is bit-identical to Double.parseDouble.
+ */
+@DisplayName("Fast Double Parser Tests")
+class FastDoubleParserTest {
+    
+    private FastDoubleParser parser;
+    
+    @BeforeEach
+    void setUp() {
+        parser = new FastDoubleParser();
+    }
+    
+    private double parseBuffer(String text) {
+        // Surround the number with other bytes to check that the range is respected
+        ByteBuffer buffer = ByteBuffer.wrap(("x " + text + " y").getBytes(StandardCharsets.UTF_8));
+        return parser.parse(buffer, 2, buffer.limit() - 2);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+5", "42", "-17", "3.14159", ".5", "5.", "0.1", "1e10", "1E-5",
+        "-2.5e+3", "123456789012345678", "1234567890123456789012", "9007199254740993", "1e22", "1e23",
+        "4.9e-324", "1.7976931348623157e308", "1e400", "000123.4500", "12d", "1.5f", "NaN", "-Infinity",
+        "0x1p3"})
+    @DisplayName("Should match Double.parseDouble bit for bit")
+    void shouldMatchDoubleParseDouble(String text) {
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(text)),
+            Double.doubleToRawLongBits(parseBuffer(text)));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "abc", "1e", "1.2.3", "--1", "1e+"})
+    @DisplayName("Should reject invalid numbers like Double.parseDouble")
+    void shouldRejectInvalidNumbers(String text) {
+        NumberFormatException expected = assertThrows(NumberFormatException.class, () -> Double.parseDouble(text));
+        NumberFormatException actual = assertThrows(NumberFormatException.class, () -> parseBuffer(text));
+        assertEquals(expected.getMessage(), actual.getMessage());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ", "-", ".", "abc", "1e", "1.2.3", "--1", "1e+", "0x", "0x1", "0x.p1", "NaNd",
+        "Infinityf", "1ee2", "1f2", "e5", " 1 2 ", "nan", "1\u00e9", "\u0001", "0x1.8p", "1.5fd", "..", "-1..e", "1.2e3.4", "0x1.2.3p1"})
+    @DisplayName("Should report invalid numbers without throwing, with the exception's message")
+    void shouldReportInvalidNumbersWithoutThrowing(String text) {
+        NumberFormatException expected = assertThrows(NumberFormatException.class, () -> Double.parseDouble(text));
+        CalculationResult result = new CalculationResult();
+        
+        assertFalse(parser.isParsable(text));
+        assertFalse(parser.parse(text, result));
+        assertEquals(ErrorCategory.INVALID_ARGUMENT, result.getErrorCategory());
+        assertEquals("Invalid number format: " + expected.getMessage(), result.getErrorMessage());
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"42", " 42\t", "-.5", "1e-3", "1.5f", "7D", "NaN", "+Infinity", "0x1p3", "0X1.8P-1d",
+        "0xa.p0", "\u00011\u0001"})
+    @DisplayName("Should parse valid numbers without throwing")
+    void shouldParseValidNumbersWithoutThrowing(String text) {
+        CalculationResult result = new CalculationResult();
+        
+        assertTrue(parser.parse(text, result));
+        assertTrue(result.isSuccess());
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(text)), Double.doubleToRawLongBits(result.getValue()));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"3.25", "-1e3", "0x1p3", "1.2.3", "abc", "--1", "\u00e9"})
+    @DisplayName("Should report buffer ranges like text")
+    void shouldReportBufferRangesLikeText(String text) {
+        ByteBuffer buffer = ByteBuffer.wrap(("x " + text + " y").getBytes(StandardCharsets.UTF_8));
+        CalculationResult fromBuffer = new CalculationResult();
+        CalculationResult fromText = new CalculationResult();
+        
+        assertEquals(parser.parse(text, fromText), parser.parse(buffer, 2, buffer.limit() - 2, fromBuffer));
+        assertEquals(fromText.getErrorMessage(), fromBuffer.getErrorMessage());
+        assertEquals(Double.doubleToRawLongBits(fromText.getValue()), Double.doubleToRawLongBits(fromBuffer.getValue()));
+    }
+    
+    @Test
+    @DisplayName("Should agree with Double.parseDouble on random number-like text")
+    void shouldAgreeWithDoubleParseDoubleOnRandomText() {
+        String alphabet = "0123456789+-.eExXpPfFdDaAbN \t";
+        Random random = new Random(42);
+        
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(8);
+            if (random.nextInt(8) == 0) {
+                builder.append(random.nextBoolean() ? "0x" : "-0X");
+            }
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = builder.toString();
+            
+            String message;
+            try {
+                Double.parseDouble(text);
+                message = null;
+            } catch (NumberFormatException e) {
+                message = e.getMessage();
+            }
+            assertEquals(message == null, parser.isParsable(text), () -> "Disagreement on \"" + text + "\"");
+            if (message != null) {
+                assertEquals(message, parser.describeInvalid(text));
+            }
+        }
+    }
+    
+    private void assertAllOverloadsMatch(String text) {
+        long expected = Double.doubleToRawLongBits(Double.parseDouble(text));
+        byte[] bytes = ("x" + text + "y").getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+        
+        assertEquals(expected, Double.doubleToRawLongBits(parser.parse(text)), text);
+        assertEquals(expected, Double.doubleToRawLongBits(parser.parse(bytes, 1, bytes.length - 1)), text);
+        assertEquals(expected, Double.doubleToRawLongBits(parser.parse(direct, 1, bytes.length - 1)), text);
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"9999999999999999999", "18446744073709551615", "3.141592653589793238462643383279",
+        "2.2250738585072014e-308", "2.2250738585072011e-308", "4.9406564584124654e-324", "1.7976931348623158e308",
+        "9007199254740993", "9007199254740992.5", "0.1000000000000000055511151231257827", "123456789e-300",
+        "1e-400", "7.2057594037927933e16", "1e308", "2.5e-324", "0.000000000000000000000000000001"})
+    @DisplayName("Should match Double.parseDouble on hard cases for every input type")
+    void shouldMatchOnHardCases(String text) {
+        assertAllOverloadsMatch(text);
+    }
+    
+    @Test
+    @DisplayName("Should match Double.parseDouble on random doubles and digit strings")
+    void shouldMatchOnRandomInput() {
+        Random random = new Random(7);
+        
+        for (int i = 0; i < 100_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                assertAllOverloadsMatch(Double.toString(value));
+            }
+            
+            StringBuilder digits = new StringBuilder();
+            int length = 1 + random.nextInt(25);
+            for (int j = 0; j < length; j++) {
+                digits.append((char) ('0' + random.nextInt(10)));
+            }
+            digits.insert(random.nextInt(length + 1), '.');
+            if (digits.length() == 1) {
+                digits.append('0');
+            }
+            digits.append('e').append(random.nextInt(700) - 350);
+            assertAllOverloadsMatch(digits.toString());
+        }
+    }
+    
+    @Test
+    @DisplayName("Should round values halfway between two doubles like Double.parseDouble")
+    void shouldRoundHalfwayValues() {
+        Random random = new Random(11);
+        
+        for (int i = 0; i < 5_000; i++) {
+            double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+            if (!Double.isFinite(value) || value == Double.MAX_VALUE) {
+                continue;
+            }
+            // The exact midpoint, and values just below and above it in the 17th digit
+            BigDecimal midpoint = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value)))
+                .divide(BigDecimal.valueOf(2));
+            assertAllOverloadsMatch(midpoint.toString());
+            assertAllOverloadsMatch(midpoint.round(new MathContext(17)).toString());
+            assertAllOverloadsMatch(midpoint.round(new MathContext(19)).toString());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.calculator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntegerParser class.
+ * Tests that tokens and byte ranges are integral exactly when Long.parseLong accepts them.
+ */
+@DisplayName("Integer Parser Tests")
+class IntegerParserTest {
+    
+    private static ByteBuffer surrounded(String token) {
+        // Surround the token with other bytes to check that the range is respected
+        return ByteBuffer.wrap(("9" + token + "9").getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    @Test
+    @DisplayName("Should recognize integer tokens only within the range of long")
+    void shouldRecognizeIntegerTokens() {
+        assertTrue(IntegerParser.isInteger("9223372036854775807"));
+        assertTrue(IntegerParser.isInteger("-9223372036854775808"));
+        assertTrue(IntegerParser.isInteger("+0000000000000000001"));
+        assertFalse(IntegerParser.isInteger("9223372036854775808"));
+        assertFalse(IntegerParser.isInteger("-9223372036854775809"));
+        assertFalse(IntegerParser.isInteger("10000000000000000000"));
+        assertFalse(IntegerParser.isInteger("-"));
+        assertFalse(IntegerParser.isInteger(""));
+        assertFalse(IntegerParser.isInteger("1e3"));
+    }
+    
+    @Test
+    @DisplayName("Should count leading zeros toward the value, not the length")
+    void shouldIgnoreLeadingZeros() {
+        assertTrue(IntegerParser.isInteger("000000000000000000009223372036854775807"));
+        assertTrue(IntegerParser.isInteger("-000000000000000000009223372036854775808"));
+        assertFalse(IntegerParser.isInteger("000000000000000000009223372036854775808"));
+        assertEquals(Long.MAX_VALUE, IntegerParser.parse(surrounded("000000000000000000009223372036854775807"), 1, 40));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "+7", "42", "-9223372036854775808", "9223372036854775807",
+        "00000000000000000000000000001", "9223372036854775808", "-9223372036854775809",
+        "99999999999999999999", "+", "-", "", "1.0", "1e3", "12a", "--1", " 1"})
+    @DisplayName("Should agree with Long.parseLong on tokens and on byte ranges")
+    void shouldAgreeWithParseLong(String token) {
+        boolean expected;
+        try {
+            Long.parseLong(token);
+            expected = true;
+        } catch (NumberFormatException e) {
+            expected = false;
+        }
+        ByteBuffer buffer = surrounded(token);
+        
+        assertEquals(expected, IntegerParser.isInteger(token));
+        assertEquals(expected, IntegerParser.isInteger(buffer, 1, 1 + token.length()));
+        if (expected) {
+            assertEquals(Long.parseLong(token), IntegerParser.parse(buffer, 1, 1 + token.length()));
+        }
+        assertEquals(0, buffer.position());
+    }
+}
@@ -0,0 +1,88 @@
+package com.calculator.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.math.BigInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResultFormatter class.
+ * Tests the whole-number rule and that byte output matches the String output.
+ */
+@DisplayName("Result Formatter Tests")
+class ResultFormatterTest {
+    
+    private ResultFormatter formatter;
+    
+    @BeforeEach
+    void setUp() {
+        formatter = new ResultFormatter();
+    }
+    
+    private String formatBytes(double value) {
+        byte[] buffer = new byte[ResultFormatter.MAX_LENGTH];
+        return new String(buffer, 0, formatter.format(value, buffer, 0), StandardCharsets.US_ASCII);
+    }
+    
+    @Test
+    @DisplayName("Should print whole numbers without a decimal point")
+    void shouldPrintWholeNumbersWithoutPoint() {
+        assertEquals("42", formatter.format(42.0));
+        assertEquals("-7", formatter.format(-7.0));
+        assertEquals("0", formatter.format(-0.0));
+        assertEquals("10000000000", formatter.format(1e10));
+        assertEquals("2.5", formatter.format(2.5));
+    }
+    
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -0.0, 42.0, -7.0, 2.5, -0.125, 1e10, 1e20, -1e300, 9.223372036854776E18,
+        -9.223372036854776E18, 1.5e-10, 3.5e15, Double.MAX_VALUE, Double.MIN_VALUE, Double.NaN,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    @DisplayName("Should write the same text into arrays as format returns")
+    void shouldWriteSameTextIntoArrays(double value) {
+        assertEquals(formatter.format(value), formatBytes(value));
+    }
+    
+    @Test
+    @DisplayName("Should write the same text as format for random results")
+    void shouldWriteSameTextForRandomResults() {
+        Random random = new Random(42);
+        
+        for (int i = 0; i < 100_000; i++) {
+            double value = random.nextBoolean()
+                ? Double.longBitsToDouble(random.nextLong())
+                : (random.nextInt(2_000_000) - 1_000_000) / 100.0;
+            assertEquals(formatter.format(value), formatBytes(value));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should write into heap and direct buffers and advance the position")
+    void shouldWriteIntoBuffers() {
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(64), ByteBuffer.allocateDirect(64)}) {
+            formatter.format(31.5, buffer);
+            buffer.put((byte) ' ');
+            formatter.format(-4.0, buffer);
+            
+            byte[] written = new byte[buffer.flip().remaining()];
+            buffer.get(written);
+            assertEquals("31.5 -4", new String(written, StandardCharsets.US_ASCII));
+        }
+    }
+    
+    @Test
+    @DisplayName("Should print exact integer results with all their digits")
+    void shouldFormatExactResults() {
+        assertEquals("9007199254740993", formatter.format((Number) 9007199254740993L));
+        assertEquals("-9223372036854775808", formatter.format((Number) Long.MIN_VALUE));
+        assertEquals("18446744073709551616", formatter.format(BigInteger.ONE.shiftLeft(64)));
+        assertEquals("3.5", formatter.format((Number) 3.5));
+        assertEquals("4", formatter.format((Number) 4.0));
+    }
+}
@@ -1,5 +1,7 @@
 package com.calculator.validation;
 
+import com.calculator.util.CalculationResult;
+import com.calculator.util.ErrorCategory;
 import com.calculator.util.InputValidator;
 import com.calculator.exception.InvalidInputException;
 import org.junit.jupiter.api.Test;
@@ -160,4 +162,33 @@ class InputValidationTest {
             () -> inputValidator.validateCalculation(5.0, "/", 0.0));
         assertEquals("Division by zero is not allowed", exception.getMessage());
     }
+    
+    @Test
+    @DisplayName("Should return the operation of valid calculations without throwing")
+    void shouldTryValidateValidCalculations() {
+        CalculationResult result = new CalculationResult();
+        
+        assertEquals("/", inputValidator.tryValidateCalculation(6.0, "/", 2.0, result).getSymbol());
+        assertEquals("+", inputValidator.tryValidateCalculation(6.0, " + ", 2.0, result).getSymbol());
+    }
+    
+    @Test
+    @DisplayName("Should report the same errors as validateCalculation without throwing")
+    void shouldTryValidateWithSameErrors() {
+        double[][] operands = {{Double.NaN, 1}, {1, Double.POSITIVE_INFINITY}, {1, 0}, {1, 1e-11}, {1, 1}, {1, 1}};
+        String[] operators = {"+", "+", "/", "/", "^", " "};
+        CalculationResult result = new CalculationResult();
+        
+        for (int i = 0; i < operators.length; i++) {
+            double left = operands[i][0];
+            double right = operands[i][1];
+            String operator = operators[i];
+            InvalidInputException expected = assertThrows(InvalidInputException.class,
+                () -> inputValidator.validateCalculation(left, operator, right));
+            
+            assertNull(inputValidator.tryValidateCalculation(left, operator, right, result));
+            assertEquals(ErrorCategory.INVALID_INPUT, result.getErrorCategory());
+            assertEquals(expected.getMessage(), result.getErrorMessage());
+        }
+    }
 }